@@ -3,6 +3,7 @@ package de.uni_hannover.sra.minimax_simulator;
 import de.uni_hannover.sra.minimax_simulator.config.Config;
 import de.uni_hannover.sra.minimax_simulator.config.ConfigurationLoader;
 import de.uni_hannover.sra.minimax_simulator.config.PropertiesFileConfigLoader;
+import de.uni_hannover.sra.minimax_simulator.model.user.ProjectAutosave;
 import de.uni_hannover.sra.minimax_simulator.model.user.Workspace;
 import de.uni_hannover.sra.minimax_simulator.resources.DefaultResourceBundleLoader;
 import de.uni_hannover.sra.minimax_simulator.resources.PropertyResourceControl;
@@ -21,6 +22,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -42,6 +44,8 @@ public class Main extends javafx.application.Application {
 
     /** the {@link Workspace} used - initializes an empty workspace (no project loaded) */
     private static Workspace workspace = new Workspace();
+    /** the {@link ProjectAutosave} journaling the changes of the workspace's project, {@code null} if disabled */
+    private static ProjectAutosave autosave;
     /** object for loading resources */
     private static ResourceBundleLoader resourceLoader;
 
@@ -89,6 +93,16 @@ public class Main extends javafx.application.Application {
         }
         LOG.info("Configuration loaded.");
 
+        if (Config.getIsAutosave()) {
+            try {
+                autosave = new ProjectAutosave(workspace, new File(Config.getAutosaveDirectory()), Config.getAutosaveCompactionSize(), Platform::runLater);
+                workspace.addListener(autosave);
+            } catch (IOException e) {
+                // e.g. another instance is running, its journal must not be touched
+                LOG.log(Level.WARNING, "Autosave disabled", e);
+            }
+        }
+
         // Initialize resource loader for clients (text boxes etc...)
         getResourceLoader();
 
@@ -121,6 +135,23 @@ public class Main extends javafx.application.Application {
 
         Main.primaryStage.setResizable(true);
         Main.primaryStage.show();
+
+        if (autosave != null) {
+            mainController.offerRecovery(autosave);
+        }
+    }
+
+    /**
+     * Stops the JavaFX application.<br>
+     * <br>
+     * The autosave journal is deleted since the user already decided about unsaved changes.
+     */
+    @Override
+    public void stop() {
+        if (autosave != null) {
+            workspace.removeListener(autosave);
+            autosave.shutdown();
+        }
     }
 
     /**
@@ -127,6 +127,128 @@ public class Config {
         return PROPERTIES.containsKey("debug.schematics") && toBoolean(PROPERTIES.getProperty("debug.schematics"));
     }
 
+    /**
+     * Gets the value of the {@code isSimulationDetectLoops} property.<br>
+     * <br>
+     * Default value: false
+     *
+     * @return
+     *         {@code true} if the simulation should halt on non-terminating loops, {@code false} otherwise
+     */
+    public static boolean getIsSimulationDetectLoops() {
+        return PROPERTIES.containsKey("simulation.detect-loops") && toBoolean(PROPERTIES.getProperty("simulation.detect-loops"));
+    }
+
+    /**
+     * Gets the value of the {@code isSimulationProfile} property.<br>
+     * <br>
+     * Default value: false
+     *
+     * @return
+     *         {@code true} if the execution of the microprogram should be profiled, {@code false} otherwise
+     */
+    public static boolean getIsSimulationProfile() {
+        return PROPERTIES.containsKey("simulation.profile") && toBoolean(PROPERTIES.getProperty("simulation.profile"));
+    }
+
+    /**
+     * Gets the value of the {@code isSimulationShowDatapath} property.<br>
+     * <br>
+     * Default value: false
+     *
+     * @return
+     *         {@code true} if the values of the datapath should be shown in the schematics, {@code false} otherwise
+     */
+    public static boolean getIsSimulationShowDatapath() {
+        return PROPERTIES.containsKey("simulation.show-datapath") && toBoolean(PROPERTIES.getProperty("simulation.show-datapath"));
+    }
+
+    /**
+     * Gets the maximum count of datapath frames per second shown while the simulation is running.<br>
+     * <br>
+     * Default value: 20
+     *
+     * @return
+     *         the maximum frame rate of the datapath display
+     */
+    public static int getSimulationDatapathFrameRate() {
+        return PROPERTIES.containsKey("simulation.datapath-fps") ? Integer.parseInt(PROPERTIES.getProperty("simulation.datapath-fps")) : 20;
+    }
+
+    /**
+     * Gets the maximum count of cycles a simulation may run before it is halted, or 0 for no limit.<br>
+     * <br>
+     * Default value: 0
+     *
+     * @return
+     *         the cycle limit of the simulation
+     */
+    public static long getSimulationCycleLimit() {
+        return PROPERTIES.containsKey("simulation.cycle-limit") ? Long.parseLong(PROPERTIES.getProperty("simulation.cycle-limit")) : 0L;
+    }
+
+    /**
+     * Gets the file periodic checkpoints of a running simulation are written to, or {@code null} if no
+     * checkpoints should be written.<br>
+     * <br>
+     * Default value: null
+     *
+     * @return
+     *         the path of the checkpoint file
+     */
+    public static String getSimulationAutoCheckpoint() {
+        return PROPERTIES.getProperty("simulation.auto-checkpoint", null);
+    }
+
+    /**
+     * Gets the minimum time between two periodic checkpoints of a running simulation in seconds.<br>
+     * <br>
+     * Default value: 300
+     *
+     * @return
+     *         the checkpoint interval in seconds
+     */
+    public static long getSimulationAutoCheckpointInterval() {
+        return PROPERTIES.containsKey("simulation.auto-checkpoint-interval") ? Long.parseLong(PROPERTIES.getProperty("simulation.auto-checkpoint-interval")) : 300L;
+    }
+
+    /**
+     * Gets the value of the {@code isAutosave} property.<br>
+     * <br>
+     * Default value: true
+     *
+     * @return
+     *         {@code true} if changes of the project should be journaled for crash recovery, {@code false} otherwise
+     */
+    public static boolean getIsAutosave() {
+        return !PROPERTIES.containsKey("autosave.enabled") || toBoolean(PROPERTIES.getProperty("autosave.enabled"));
+    }
+
+    /**
+     * Gets the directory of the autosave journal. It is locked by the running instance of the simulator.<br>
+     * <br>
+     * Default value: .minimax/autosave in the home directory of the user
+     *
+     * @return
+     *         the path of the autosave directory
+     */
+    public static String getAutosaveDirectory() {
+        return PROPERTIES.getProperty("autosave.directory",
+                new File(new File(System.getProperty("user.home"), ".minimax"), "autosave").getPath());
+    }
+
+    /**
+     * Gets the size of the autosave journal in bytes from which on it is compacted.<br>
+     * <br>
+     * Default value: 4194304
+     *
+     * @return
+     *         the compaction size of the autosave journal
+     */
+    public static long getAutosaveCompactionSize() {
+        return PROPERTIES.containsKey("autosave.compaction-size") ? Long.parseLong(PROPERTIES.getProperty("autosave.compaction-size")) : 4194304L;
+    }
+
     /**
      * Changes the value of specified property and saves the changes to the properties file.
      *
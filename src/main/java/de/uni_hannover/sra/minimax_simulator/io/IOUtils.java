@@ -1,6 +1,7 @@
 package de.uni_hannover.sra.minimax_simulator.io;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -199,4 +200,45 @@ public final class IOUtils {
     public static String readFile(String path) throws IOException {
         return readFile(path, StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes the specified value as unsigned variable length integer. Each byte holds seven bits of the value
+     * starting with the lowest ones; the highest bit of a byte is set if another byte follows.
+     *
+     * @param out
+     *          the {@code DataOutput} to write to
+     * @param value
+     *          the value to write, treated as unsigned
+     * @throws IOException
+     *          thrown if the value could not be written
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an unsigned variable length integer written by {@link #writeVarInt(DataOutput, int)}.
+     *
+     * @param in
+     *          the {@code ByteBuffer} to read from
+     * @return
+     *          the value
+     * @throws IOException
+     *          thrown if the encoding is longer than five bytes
+     */
+    public static int readVarInt(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("malformed variable length integer");
+    }
+}
@@ -0,0 +1,55 @@
+package de.uni_hannover.sra.minimax_simulator.io;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * A {@code ProgressMonitor} receives the progress of a long running import or export and
+ * tells it whether it should stop.
+ *
+ * @author agent
+ */
+public interface ProgressMonitor {
+
+    /** A {@code ProgressMonitor} ignoring the progress and never canceling. */
+    public static final ProgressMonitor NONE = new ProgressMonitor() {
+        @Override
+        public void progress(long done, long total) {
+            // ignored
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return false;
+        }
+    };
+
+    /**
+     * Reports the progress of the work.
+     *
+     * @param done
+     *          the amount of work done
+     * @param total
+     *          the total amount of work
+     */
+    public void progress(long done, long total);
+
+    /**
+     * Checks whether the work should be canceled.
+     *
+     * @return
+     *          {@code true} if the work should be canceled, {@code false} otherwise
+     */
+    public boolean isCanceled();
+
+    /**
+     * Stops the work by throwing an exception if it should be canceled.
+     *
+     * @throws CancellationException
+     *          thrown if the work should be canceled
+     */
+    public default void checkCanceled() {
+        if (isCanceled()) {
+            throw new CancellationException();
+        }
+    }
+}
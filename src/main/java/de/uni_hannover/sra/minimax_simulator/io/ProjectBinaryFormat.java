@@ -0,0 +1,117 @@
+package de.uni_hannover.sra.minimax_simulator.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Constants of the binary project format.<br>
+ * <br>
+ * A binary project starts with a header of the magic number, the format version and a table of sections.
+ * Each entry of the table holds the ID, the offset and the length of a section, so every section can be
+ * read on its own:
+ * <ul>
+ *     <li>{@link #SECTION_MACHINE}: the machine configuration as UTF-8 encoded JSON document</li>
+ *     <li>{@link #SECTION_SIGNALS}: the signal table, column by column as variable length integers</li>
+ *     <li>{@link #SECTION_MEMORY}: the optional memory image, page by page</li>
+ * </ul>
+ * All numbers except the variable length integers are big endian.
+ *
+ * @author agent
+ */
+public final class ProjectBinaryFormat {
+
+    /** The magic number at the start of a binary project, "MMPB". */
+    public static final int MAGIC = 0x4D4D5042;
+    /** The version of the format. */
+    public static final short VERSION = 1;
+    /** The file extension of binary projects. */
+    public static final String FILE_EXTENSION = ".mmpb";
+
+    /** The ID of the section holding the machine configuration. */
+    public static final int SECTION_MACHINE = 1;
+    /** The ID of the section holding the signal table. */
+    public static final int SECTION_SIGNALS = 2;
+    /** The ID of the section holding the memory image. */
+    public static final int SECTION_MEMORY = 3;
+
+    /** The size of the fixed part of the header: magic number, version and count of sections. */
+    public static final int HEADER_SIZE = 8;
+    /** The size of an entry of the section table: ID, offset and length. */
+    public static final int SECTION_ENTRY_SIZE = 20;
+
+    /** Marks a signal that is not set. */
+    public static final int SIGNAL_UNSET = 0;
+    /** Marks a signal that is set to don't care. */
+    public static final int SIGNAL_DONT_CARE = 1;
+    /** The offset added to the value of a set signal. */
+    public static final int SIGNAL_VALUE_OFFSET = 2;
+
+    /** Marks a row continuing with the next row. */
+    public static final byte JUMP_DEFAULT = 0;
+    /** Marks a row with an unconditional jump. */
+    public static final byte JUMP_UNCONDITIONAL = 1;
+    /** Marks a row with a conditional jump. */
+    public static final byte JUMP_CONDITIONAL = 2;
+
+    /** Marks the end of the memory pages. */
+    public static final int END_OF_PAGES = -1;
+
+    /**
+     * Prevents creating instances of the utility class.
+     */
+    private ProjectBinaryFormat() {
+        // not instantiable
+        throw new AssertionError();
+    }
+
+    /**
+     * Checks whether the specified file starts with the magic number of a binary project.
+     *
+     * @param file
+     *          the {@code File} to check
+     * @return
+     *          {@code true} if the file is a binary project, {@code false} otherwise
+     * @throws IOException
+     *          thrown if the file could not be read
+     */
+    public static boolean isBinaryProject(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            while (magic.hasRemaining()) {
+                if (channel.read(magic) < 0) {
+                    return false;
+                }
+            }
+            magic.flip();
+            return magic.getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Encodes a signed value for writing it as unsigned variable length integer,
+     * so small negative values stay short.
+     *
+     * @param value
+     *          the signed value
+     * @return
+     *          the encoded value
+     */
+    public static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Decodes a value encoded by {@link #zigZag(int)}.
+     *
+     * @param value
+     *          the encoded value
+     * @return
+     *          the signed value
+     */
+    public static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
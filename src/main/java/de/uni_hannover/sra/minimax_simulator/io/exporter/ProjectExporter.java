@@ -1,12 +1,19 @@
 package de.uni_hannover.sra.minimax_simulator.io.exporter;
 
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
 import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImporter;
 import de.uni_hannover.sra.minimax_simulator.model.user.Project;
+import de.uni_hannover.sra.minimax_simulator.model.user.ProjectSnapshot;
+
+import java.util.concurrent.CancellationException;
 
 /**
  * A {@code ProjectExporter} is an entity that represents some kind of data sink, like
  * a project file, folder or database, being the converse of a {@link ProjectImporter}.<br>
- * It is able to export a {@link Project}.
+ * It is able to export a {@link Project}.<br>
+ * <br>
+ * The export works on a {@link ProjectSnapshot}, so it can run in the background while the
+ * project is edited.
  * 
  * @author Martin L&uuml;ck
  */
@@ -24,5 +31,24 @@ public interface ProjectExporter {
      * @throws ProjectExportException
      *          thrown if the export failed
      */
-    public void exportProject(Project project) throws ProjectExportException;
+    public default void exportProject(Project project) throws ProjectExportException {
+        exportProject(new ProjectSnapshot(project, true), ProgressMonitor.NONE);
+    }
+
+    /**
+     * Exports a snapshot of a project into this data sink. Calling this method successfully will overwrite
+     * previously exported projects.<br>
+     * A failed or canceled export will leave the exporter in a undetermined, possibly corrupted, state.
+     * This behaviour is implementation dependent.
+     *
+     * @param snapshot
+     *          the {@link ProjectSnapshot} to export. May not be null.
+     * @param monitor
+     *          the {@link ProgressMonitor} receiving the progress of the export
+     * @throws ProjectExportException
+     *          thrown if the export failed
+     * @throws CancellationException
+     *          thrown if the export was canceled by the {@code ProgressMonitor}
+     */
+    public void exportProject(ProjectSnapshot snapshot, ProgressMonitor monitor) throws ProjectExportException;
 }
\ No newline at end of file
@@ -0,0 +1,293 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.binary;
+
+import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExportException;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExporter;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.json.MachineJsonExporter;
+import de.uni_hannover.sra.minimax_simulator.io.importer.binary.ProjectBinaryImporter;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.PagedMemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.user.ProjectSnapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static de.uni_hannover.sra.minimax_simulator.io.ProjectBinaryFormat.*;
+
+/**
+ * A {@link ProjectExporter} that writes a project in the binary project format described by
+ * {@link de.uni_hannover.sra.minimax_simulator.io.ProjectBinaryFormat}.<br>
+ * <br>
+ * The sections are streamed to the file one after another and the header is written last,
+ * when the offsets of the sections are known.
+ *
+ * @see ProjectBinaryImporter
+ *
+ * @author agent
+ */
+public class ProjectBinaryExporter implements ProjectExporter {
+
+    private final File file;
+    private final boolean embedMemory;
+
+    /**
+     * Prepares a new exporter that will write a project in the binary format to the given file.
+     *
+     * @param file
+     *            the (non-null) file that will be (over-)written
+     * @param embedMemory
+     *            whether the memory content of the snapshot is written as well
+     */
+    public ProjectBinaryExporter(File file, boolean embedMemory) {
+        this.file = checkNotNull(file, "Invalid Null argument: file");
+        this.embedMemory = embedMemory;
+    }
+
+    @Override
+    public void exportProject(ProjectSnapshot snapshot, ProgressMonitor monitor) throws ProjectExportException {
+        checkNotNull(snapshot);
+        checkNotNull(monitor);
+
+        MemoryState memory = embedMemory ? snapshot.getMemoryState() : null;
+        int sectionCount = memory == null ? 2 : 3;
+        int headerSize = HEADER_SIZE + sectionCount * SECTION_ENTRY_SIZE;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(headerSize);
+            // not closed, as closing would close the channel before the header is written
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+
+            ByteBuffer header = ByteBuffer.allocate(headerSize);
+            header.putInt(MAGIC);
+            header.putShort(VERSION);
+            header.putShort((short) sectionCount);
+
+            // the machine and the signal table count as one memory page each
+            long totalWork = memory instanceof PagedMemoryState ? ((PagedMemoryState) memory).getPageCount() + 2 : 2;
+            monitor.progress(0, totalWork);
+
+            long start = channel.position();
+            new MachineJsonExporter().write(new OutputStreamWriter(out, StandardCharsets.UTF_8), snapshot.getMachineConfiguration());
+            start = putSection(header, SECTION_MACHINE, start, out, channel);
+            monitor.checkCanceled();
+            monitor.progress(1, totalWork);
+
+            writeSignalTable(out, snapshot.getSignalTable());
+            start = putSection(header, SECTION_SIGNALS, start, out, channel);
+            monitor.checkCanceled();
+            monitor.progress(2, totalWork);
+
+            if (memory != null) {
+                writeMemory(out, memory, monitor, totalWork);
+                putSection(header, SECTION_MEMORY, start, out, channel);
+            }
+            monitor.progress(totalWork, totalWork);
+
+            header.flip();
+            channel.write(header, 0);
+        } catch (IOException e) {
+            throw new ProjectExportException("I/O Error while exporting project into file: " + file.getPath(), e);
+        }
+    }
+
+    /**
+     * Flushes the section just written and adds its entry to the section table.
+     *
+     * @param header
+     *            the header holding the section table
+     * @param id
+     *            the ID of the section
+     * @param start
+     *            the offset of the section
+     * @param out
+     *            the stream the section was written to
+     * @param channel
+     *            the {@code FileChannel} of the file
+     * @return
+     *            the offset of the next section
+     * @throws IOException
+     *            thrown if the section could not be written
+     */
+    private static long putSection(ByteBuffer header, int id, long start, DataOutputStream out, FileChannel channel) throws IOException {
+        out.flush();
+        long end = channel.position();
+        header.putInt(id);
+        header.putLong(start);
+        header.putLong(end - start);
+        return end;
+    }
+
+    /**
+     * Writes the {@link SignalTable} column by column, as stored in the signal section.
+     *
+     * @param out
+     *            the stream to write to
+     * @param table
+     *            the {@code SignalTable} to write
+     * @throws IOException
+     *            thrown if the table could not be written
+     */
+    public static void writeSignalTable(DataOutputStream out, SignalTable table) throws IOException {
+        int rowCount = table.getRowCount();
+        IOUtils.writeVarInt(out, rowCount);
+
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < rowCount; i++) {
+            names.addAll(table.getRow(i).getSignalValues().keySet());
+        }
+        List<byte[]> encodedNames = new ArrayList<>(names.size());
+        for (String name : names) {
+            encodedNames.add(name.getBytes(StandardCharsets.UTF_8));
+        }
+
+        IOUtils.writeVarInt(out, names.size());
+        for (byte[] name : encodedNames) {
+            IOUtils.writeVarInt(out, name.length);
+            out.write(name);
+        }
+
+        // the signal columns
+        for (String name : names) {
+            for (int i = 0; i < rowCount; i++) {
+                SignalValue value = table.getRow(i).getSignal(name, null);
+                if (value == null) {
+                    IOUtils.writeVarInt(out, SIGNAL_UNSET);
+                }
+                else if (value.isDontCare()) {
+                    IOUtils.writeVarInt(out, SIGNAL_DONT_CARE);
+                }
+                else {
+                    IOUtils.writeVarInt(out, value.intValue() + SIGNAL_VALUE_OFFSET);
+                }
+            }
+        }
+
+        // the labels, with 0 for rows without label and the length + 1 otherwise
+        for (int i = 0; i < rowCount; i++) {
+            String label = table.getRow(i).getLabel();
+            if (label == null) {
+                IOUtils.writeVarInt(out, 0);
+            }
+            else {
+                byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+                IOUtils.writeVarInt(out, bytes.length + 1);
+                out.write(bytes);
+            }
+        }
+
+        // the breakpoints as bit mask
+        for (int i = 0; i < rowCount; i += 8) {
+            int bits = 0;
+            for (int j = i; j < Math.min(i + 8, rowCount); j++) {
+                if (table.getRow(j).isBreakpoint()) {
+                    bits |= 1 << (j - i);
+                }
+            }
+            out.writeByte(bits);
+        }
+
+        // the jumps
+        for (int i = 0; i < rowCount; i++) {
+            SignalRow row = table.getRow(i);
+            Jump jump = row.getJump();
+            if (jump instanceof UnconditionalJump) {
+                out.writeByte(JUMP_UNCONDITIONAL);
+                IOUtils.writeVarInt(out, zigZag(((UnconditionalJump) jump).getTargetRow()));
+            }
+            else if (jump instanceof ConditionalJump) {
+                out.writeByte(JUMP_CONDITIONAL);
+                IOUtils.writeVarInt(out, zigZag(((ConditionalJump) jump).getTargetRow(0)));
+                IOUtils.writeVarInt(out, zigZag(((ConditionalJump) jump).getTargetRow(1)));
+            }
+            else {
+                out.writeByte(JUMP_DEFAULT);
+            }
+        }
+    }
+
+    /**
+     * Writes the pages of the specified {@link MemoryState} that are not zero, as stored in the memory section.
+     *
+     * @param out
+     *            the stream to write to
+     * @param memory
+     *            the {@code MemoryState} to write
+     * @throws IOException
+     *            thrown if the memory could not be written
+     */
+    public static void writeMemory(DataOutputStream out, MemoryState memory) throws IOException {
+        writeMemory(out, memory, ProgressMonitor.NONE, 0);
+    }
+
+    /**
+     * Writes the pages of the specified {@link MemoryState} that are not zero.
+     *
+     * @param out
+     *            the stream to write to
+     * @param memory
+     *            the {@code MemoryState} to write
+     * @param monitor
+     *            the {@code ProgressMonitor} receiving the progress
+     * @param totalWork
+     *            the total amount of work of the export
+     * @throws IOException
+     *            thrown if the memory could not be written
+     */
+    private static void writeMemory(DataOutputStream out, MemoryState memory, ProgressMonitor monitor, long totalWork) throws IOException {
+        if (!(memory instanceof PagedMemoryState)) {
+            throw new IOException("memory image needs paged memory");
+        }
+        PagedMemoryState pagedMemory = (PagedMemoryState) memory;
+        int pageSize = pagedMemory.getPageSize();
+        out.writeInt(pageSize);
+
+        int[] page = new int[pageSize];
+        for (int p = 0; p < pagedMemory.getPageCount(); p++) {
+            if ((p & 0xFF) == 0) {
+                monitor.checkCanceled();
+                monitor.progress(p + 2, totalWork);
+            }
+            if (!pagedMemory.isPageAllocated(p)) {
+                continue;
+            }
+            pagedMemory.readPage(p, page);
+            boolean zero = true;
+            for (int value : page) {
+                if (value != 0) {
+                    zero = false;
+                    break;
+                }
+            }
+            if (zero) {
+                continue;
+            }
+
+            out.writeInt(p);
+            for (int value : page) {
+                out.writeInt(value);
+            }
+        }
+        out.writeInt(END_OF_PAGES);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains all classes for exporting a whole project in the binary project format.
+ */
+package de.uni_hannover.sra.minimax_simulator.io.exporter.binary;
\ No newline at end of file
@@ -0,0 +1,99 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.csv;
+
+import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.ExecutionProfile;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@code ProfileCsvExporter} exports an {@link ExecutionProfile} to a csv file.<br>
+ * <br>
+ * The file consists of three tables separated by an empty line: the signal rows with their hit counts,
+ * the ALU operations with their execution counts and the accessed memory pages with their access counts.
+ *
+ * @author agent
+ */
+public class ProfileCsvExporter {
+
+    private final File file;
+
+    /**
+     * Creates a new instance of the {@code ProfileCsvExporter} and sets the file.
+     *
+     * @param file
+     *          the {@code File} to save to
+     */
+    public ProfileCsvExporter(File file) {
+        this.file = checkNotNull(file, "Invalid Null argument: file");
+    }
+
+    /**
+     * Exports the specified {@link ExecutionProfile} of the microprogram in the specified {@link SignalTable}.
+     *
+     * @param profile
+     *          the {@code ExecutionProfile} to export
+     * @param table
+     *          the {@code SignalTable} the profile was collected for
+     * @throws IOException
+     *          thrown if the file could not be written
+     */
+    public void exportProfile(ExecutionProfile profile, SignalTable table) throws IOException {
+        String lineSeparator = System.getProperty("line.separator");
+        if (lineSeparator.isEmpty()) {
+            lineSeparator = "\n";
+        }
+
+        Writer wr = null;
+        try {
+            wr = IOUtils.toBufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+
+            wr.append("#,Label,Hits,Cond0,Cond1").append(lineSeparator);
+            for (int i = 0, n = Math.min(table.getRowCount(), profile.getRowCount()); i < n; i++) {
+                SignalRow row = table.getRow(i);
+                wr.append(Integer.toString(i)).append(',');
+                if (row.getLabel() != null) {
+                    wr.append(row.getLabel());
+                }
+                wr.append(',').append(Long.toString(profile.getRowHits(i))).append(',');
+                if (row.getJump() instanceof ConditionalJump) {
+                    wr.append(Long.toString(profile.getBranchCount(i, 0))).append(',');
+                    wr.append(Long.toString(profile.getBranchCount(i, 1)));
+                }
+                else {
+                    wr.append(',');
+                }
+                wr.append(lineSeparator);
+            }
+
+            wr.append(lineSeparator);
+            wr.append("Code,Operation,Count").append(lineSeparator);
+            for (int i = 0; i < profile.getAluOperations().size(); i++) {
+                wr.append(Integer.toString(i)).append(',');
+                wr.append(profile.getAluOperations().get(i).getOperationName()).append(',');
+                wr.append(Long.toString(profile.getAluOperationCount(i)));
+                wr.append(lineSeparator);
+            }
+
+            wr.append(lineSeparator);
+            wr.append("Page,Address,Reads,Writes").append(lineSeparator);
+            for (int i = 0; i < profile.getPageCount(); i++) {
+                if (profile.getPageReads(i) == 0 && profile.getPageWrites(i) == 0) {
+                    continue;
+                }
+                wr.append(Integer.toString(i)).append(',');
+                wr.append(String.format("0x%06X", i * profile.getPageSize())).append(',');
+                wr.append(Long.toString(profile.getPageReads(i))).append(',');
+                wr.append(Long.toString(profile.getPageWrites(i)));
+                wr.append(lineSeparator);
+            }
+        } finally {
+            IOUtils.closeQuietly(wr);
+        }
+    }
+}
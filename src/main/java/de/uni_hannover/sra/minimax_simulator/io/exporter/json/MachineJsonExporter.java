@@ -6,6 +6,7 @@ import de.uni_hannover.sra.minimax_simulator.model.configuration.alu.AluOperatio
 import de.uni_hannover.sra.minimax_simulator.model.configuration.mux.*;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.register.RegisterExtension;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
@@ -16,7 +17,7 @@ import java.io.Writer;
  *
  * @author Philipp Rohde
  */
-class MachineJsonExporter {
+public class MachineJsonExporter {
 
     /** The {@code MachineConfiguration} to export. */
     private MachineConfiguration machineConf;
@@ -31,7 +32,7 @@ class MachineJsonExporter {
      * @throws ProjectExportException
      *             thrown if there is an I/O error during export
      */
-    void write(Writer wr, MachineConfiguration machineConf) throws ProjectExportException {
+    public void write(Writer wr, MachineConfiguration machineConf) throws ProjectExportException {
         this.machineConf = machineConf;
 
         JSONObject root = new JSONObject();
@@ -47,9 +48,9 @@ class MachineJsonExporter {
         root.put("machine", machine);
 
         try {
-            wr.write(root.toString(2));
+            root.write(wr, 2, 0);
             wr.flush();
-        } catch (IOException e) {
+        } catch (IOException | JSONException e) {
             throw new ProjectExportException("Cannot export due to I/O error: " + e.getMessage(), e);
         }
     }
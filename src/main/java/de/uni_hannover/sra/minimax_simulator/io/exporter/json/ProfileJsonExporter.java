@@ -0,0 +1,103 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.json;
+
+import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.ExecutionProfile;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An Exporter that writes an {@link ExecutionProfile} as a JSON file.
+ *
+ * @author agent
+ */
+public class ProfileJsonExporter {
+
+    private final File file;
+
+    /**
+     * Creates a new instance of the {@code ProfileJsonExporter} and sets the file.
+     *
+     * @param file
+     *          the {@code File} to save to
+     */
+    public ProfileJsonExporter(File file) {
+        this.file = checkNotNull(file, "Invalid Null argument: file");
+    }
+
+    /**
+     * Exports the specified {@link ExecutionProfile} of the microprogram in the specified {@link SignalTable}.
+     *
+     * @param profile
+     *          the {@code ExecutionProfile} to export
+     * @param table
+     *          the {@code SignalTable} the profile was collected for
+     * @throws IOException
+     *          thrown if the file could not be written
+     */
+    public void exportProfile(ExecutionProfile profile, SignalTable table) throws IOException {
+        JSONArray rows = new JSONArray();
+        for (int i = 0, n = Math.min(table.getRowCount(), profile.getRowCount()); i < n; i++) {
+            SignalRow row = table.getRow(i);
+            JSONObject rowObj = new JSONObject();
+            rowObj.put("row", i);
+            if (row.getLabel() != null) {
+                rowObj.put("label", row.getLabel());
+            }
+            rowObj.put("hits", profile.getRowHits(i));
+            if (row.getJump() instanceof ConditionalJump) {
+                rowObj.put("cond0", profile.getBranchCount(i, 0));
+                rowObj.put("cond1", profile.getBranchCount(i, 1));
+            }
+            rows.put(rowObj);
+        }
+
+        JSONArray alu = new JSONArray();
+        for (int i = 0; i < profile.getAluOperations().size(); i++) {
+            JSONObject opObj = new JSONObject();
+            opObj.put("code", i);
+            opObj.put("operation", profile.getAluOperations().get(i).getOperationName());
+            opObj.put("count", profile.getAluOperationCount(i));
+            alu.put(opObj);
+        }
+
+        JSONArray memory = new JSONArray();
+        for (int i = 0; i < profile.getPageCount(); i++) {
+            if (profile.getPageReads(i) == 0 && profile.getPageWrites(i) == 0) {
+                continue;
+            }
+            JSONObject pageObj = new JSONObject();
+            pageObj.put("page", i);
+            pageObj.put("address", i * profile.getPageSize());
+            pageObj.put("reads", profile.getPageReads(i));
+            pageObj.put("writes", profile.getPageWrites(i));
+            memory.put(pageObj);
+        }
+
+        JSONObject profileObj = new JSONObject();
+        profileObj.put("rows", rows);
+        profileObj.put("alu", alu);
+        profileObj.put("memory", memory);
+        JSONObject root = new JSONObject();
+        root.put("profile", profileObj);
+
+        Writer wr = null;
+        try {
+            wr = IOUtils.toBufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+            wr.write(root.toString(2));
+        } finally {
+            IOUtils.closeQuietly(wr);
+        }
+    }
+}
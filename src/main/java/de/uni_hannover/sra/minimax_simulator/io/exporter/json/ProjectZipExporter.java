@@ -1,10 +1,11 @@
 package de.uni_hannover.sra.minimax_simulator.io.exporter.json;
 
 import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExportException;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExporter;
 import de.uni_hannover.sra.minimax_simulator.io.importer.json.ProjectZipImporter;
-import de.uni_hannover.sra.minimax_simulator.model.user.Project;
+import de.uni_hannover.sra.minimax_simulator.model.user.ProjectSnapshot;
 
 import java.io.*;
 import java.nio.charset.Charset;
@@ -43,15 +44,16 @@ public class ProjectZipExporter implements ProjectExporter {
     }
 
     @Override
-    public void exportProject(Project project) throws ProjectExportException {
-        checkNotNull(project);
+    public void exportProject(ProjectSnapshot snapshot, ProgressMonitor monitor) throws ProjectExportException {
+        checkNotNull(snapshot);
+        checkNotNull(monitor);
 
         FileOutputStream fos = null;
         try {
             fos = new FileOutputStream(file);
 
             ZipOutputStream zos = new ZipOutputStream(fos);
-            writeZipEntries(zos, project);
+            writeZipEntries(zos, snapshot, monitor);
         } catch (FileNotFoundException e) {
             throw new ProjectExportException("Target file for export of project cannot be opened: " + file.getPath(), e);
         } finally {
@@ -60,27 +62,33 @@ public class ProjectZipExporter implements ProjectExporter {
     }
 
     /**
-     * Actually writes the specified {@link Project} to disk. The method creates an own {@code ZipEntry} for the
+     * Actually writes the specified {@link ProjectSnapshot} to disk. The method creates an own {@code ZipEntry} for the
      * {@code MachineConfiguration} and {@code SignalTable}.
      *
      * @param zos
      *          the {@code ZipOutputStream} used for writing
-     * @param project
-     *          the {@code Project} to export
+     * @param snapshot
+     *          the {@code ProjectSnapshot} to export
+     * @param monitor
+     *          the {@code ProgressMonitor} receiving the progress
      * @throws ProjectExportException
      *          thrown if the project could not be saved
      */
-    private void writeZipEntries(ZipOutputStream zos, Project project) throws ProjectExportException {
+    private void writeZipEntries(ZipOutputStream zos, ProjectSnapshot snapshot, ProgressMonitor monitor) throws ProjectExportException {
         try {
+            monitor.progress(0, 2);
             ZipEntry machineFile = new ZipEntry("machine.json");
             zos.putNextEntry(machineFile);
-            new MachineJsonExporter().write(new OutputStreamWriter(zos, CHARSET), project.getMachineConfiguration());
+            new MachineJsonExporter().write(new BufferedWriter(new OutputStreamWriter(zos, CHARSET)), snapshot.getMachineConfiguration());
             zos.closeEntry();
+            monitor.checkCanceled();
+            monitor.progress(1, 2);
 
             ZipEntry signalTableEntry = new ZipEntry("signal.json");
             zos.putNextEntry(signalTableEntry);
-            new SignalJsonExporter().write(new OutputStreamWriter(zos, CHARSET), project.getSignalTable());
+            new SignalJsonExporter().write(new BufferedWriter(new OutputStreamWriter(zos, CHARSET)), snapshot.getSignalTable());
             zos.closeEntry();
+            monitor.progress(2, 2);
         } catch (IOException ioe) {
             throw new ProjectExportException("I/O Error while exporting project into file: " + file.getPath(), ioe);
         } finally {
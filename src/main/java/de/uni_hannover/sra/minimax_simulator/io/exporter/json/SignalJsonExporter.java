@@ -8,6 +8,7 @@ import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
@@ -15,12 +16,17 @@ import java.io.Writer;
 import java.util.Map.Entry;
 
 /**
- * An Exporter that writes a {@link SignalTable} as a JSON string.
+ * An Exporter that writes a {@link SignalTable} as a JSON string.<br>
+ * <br>
+ * The rows are streamed to the {@link Writer} one by one instead of building the whole document first.
  *
  * @author Philipp Rohde
  */
 class SignalJsonExporter {
 
+    /** The count of spaces each nesting level is indented by. */
+    private static final int INDENT = 2;
+
     /**
      * Writes the {@link SignalTable} as a JSON string using the given {@link Writer}.
      *
@@ -32,25 +38,33 @@ class SignalJsonExporter {
      *              thrown if there is an I/O error during export
      */
     void write(Writer wr, SignalTable table) throws ProjectExportException {
+        try {
+            // the document is written in the layout of JSONObject.toString(2), but only the object
+            // of a single row exists at a time
+            wr.write("{\"signaltable\": {\"row\": ");
 
-        JSONObject root = new JSONObject();
-        JSONObject signaltable = new JSONObject();
-
-        int rowCount = table.getRowCount();
-        if (rowCount == 0) {
-            signaltable.put("row", new JSONArray());                // add empty JSONArray if there is no signal row
-        }
-        else {
-            for (int i = 0; i < rowCount; i++) {
-                signaltable.accumulate("row", createRowElement(table.getRow(i)));
+            int rowCount = table.getRowCount();
+            if (rowCount == 0) {
+                wr.write("[]");                                 // add empty JSONArray if there is no signal row
+            }
+            else if (rowCount == 1) {
+                createRowElement(table.getRow(0)).write(wr, INDENT, 0);      // a single row is not wrapped in an array
+            }
+            else {
+                wr.write('[');
+                for (int i = 0; i < rowCount; i++) {
+                    if (i > 0) {
+                        wr.write(',');
+                    }
+                    wr.write("\n  ");
+                    createRowElement(table.getRow(i)).write(wr, INDENT, INDENT);
+                }
+                wr.write("\n]");
             }
-        }
-        root.put("signaltable", signaltable);
 
-        try {
-            wr.write(root.toString(2));
+            wr.write("}}");
             wr.flush();
-        } catch (IOException e) {
+        } catch (IOException | JSONException e) {
             throw new ProjectExportException("Cannot export due to I/O error: " + e.getMessage(), e);
         }
     }
@@ -0,0 +1,44 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.schematics;
+
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.SchematicsRenderer;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A {@code SchematicsExporter} writes the schematics drawn by a {@link SchematicsRenderer} to a file.<br>
+ * <br>
+ * Exporting does not need a JavaFX stage, so it can be done in a worker thread or by a batch tool.
+ *
+ * @author agent
+ */
+public interface SchematicsExporter {
+
+    /**
+     * Exports the schematics.
+     *
+     * @param renderer
+     *          the {@code SchematicsRenderer} drawing the schematics
+     * @throws IOException
+     *          thrown if the file could not be written
+     */
+    public void exportSchematics(SchematicsRenderer renderer) throws IOException;
+
+    /**
+     * Creates the {@code SchematicsExporter} for the format given by the file extension, i.e.
+     * {@link SchematicsSvgExporter} for {@code .svg} files and {@link SchematicsImageExporter} otherwise.
+     *
+     * @param file
+     *          the {@code File} to export to
+     * @return
+     *          the {@code SchematicsExporter} for the file
+     */
+    public static SchematicsExporter forFile(File file) {
+        String name = file.getName();
+        String ending = name.substring(name.lastIndexOf('.') + 1).toLowerCase();
+        if ("svg".equals(ending)) {
+            return new SchematicsSvgExporter(file);
+        }
+        return new SchematicsImageExporter(file, ending);
+    }
+}
@@ -0,0 +1,47 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.schematics;
+
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.SchematicsRenderer;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@code SchematicsImageExporter} exports the schematics to a raster image, e.g. PNG or JPG.<br>
+ * <br>
+ * The image is drawn in horizontal strips on demand while the image writer encodes it,
+ * so only one strip is held in memory instead of the whole image.
+ *
+ * @author agent
+ */
+public class SchematicsImageExporter implements SchematicsExporter {
+
+    /** The number of rows drawn at once. */
+    private static final int STRIP_HEIGHT = 256;
+
+    private final File file;
+    private final String format;
+
+    /**
+     * Creates a new instance of the {@code SchematicsImageExporter} and sets the file and format.
+     *
+     * @param file
+     *          the {@code File} to save to
+     * @param format
+     *          the informal name of the image format, e.g. {@code png}
+     */
+    public SchematicsImageExporter(File file, String format) {
+        this.file = checkNotNull(file, "Invalid Null argument: file");
+        this.format = checkNotNull(format, "Invalid Null argument: format");
+    }
+
+    @Override
+    public void exportSchematics(SchematicsRenderer renderer) throws IOException {
+        StripImage image = new StripImage(renderer.getWidth(), renderer.getHeight(), STRIP_HEIGHT, renderer::render);
+        if (!ImageIO.write(image, format, file)) {
+            throw new IOException("No writer for image format: " + format);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.schematics;
+
+import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.SchematicsRenderer;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SvgSpriteGraphics;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@code SchematicsSvgExporter} exports the schematics to an SVG file.<br>
+ * The shapes are written while they are drawn, so the whole document is never held in memory.
+ *
+ * @author agent
+ */
+public class SchematicsSvgExporter implements SchematicsExporter {
+
+    private final File file;
+
+    /**
+     * Creates a new instance of the {@code SchematicsSvgExporter} and sets the file.
+     *
+     * @param file
+     *          the {@code File} to save to
+     */
+    public SchematicsSvgExporter(File file) {
+        this.file = checkNotNull(file, "Invalid Null argument: file");
+    }
+
+    @Override
+    public void exportSchematics(SchematicsRenderer renderer) throws IOException {
+        try (Writer wr = IOUtils.toBufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            SvgSpriteGraphics g = new SvgSpriteGraphics(wr);
+            g.startDocument(renderer.getWidth(), renderer.getHeight());
+            renderer.render(g, new Bounds(0, 0, renderer.getWidth(), renderer.getHeight()));
+            g.endDocument();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.schematics;
+
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.AwtSpriteGraphics;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Vector;
+import java.util.function.BiConsumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link RenderedImage} whose tiles are horizontal strips drawn on demand.<br>
+ * <br>
+ * Image writers like the PNG writer request the image row by row, so only the strip containing
+ * the requested rows is drawn and kept. The memory needed depends on the width of the image
+ * but not on its height.
+ *
+ * @author agent
+ */
+class StripImage implements RenderedImage {
+
+    private final int width;
+    private final int height;
+    private final int stripHeight;
+    private final BiConsumer<SpriteGraphics, Bounds> painter;
+
+    private final ColorModel colorModel;
+    private final SampleModel sampleModel;
+
+    private BufferedImage strip;
+    private int stripIndex = -1;
+
+    /**
+     * Constructs a new {@code StripImage}.
+     *
+     * @param width
+     *          the width of the image
+     * @param height
+     *          the height of the image
+     * @param stripHeight
+     *          the number of rows drawn at once
+     * @param painter
+     *          draws the requested region in image coordinates on the {@link SpriteGraphics}
+     */
+    StripImage(int width, int height, int stripHeight, BiConsumer<SpriteGraphics, Bounds> painter) {
+        checkArgument(stripHeight > 0, "Invalid strip height: " + stripHeight);
+        this.width = Math.max(1, width);
+        this.height = Math.max(1, height);
+        this.stripHeight = stripHeight;
+        this.painter = checkNotNull(painter);
+
+        strip = new BufferedImage(this.width, stripHeight, BufferedImage.TYPE_INT_RGB);
+        colorModel = strip.getColorModel();
+        sampleModel = strip.getSampleModel();
+    }
+
+    /**
+     * Gets the strip with the specified index, drawing it if it is not the current one.
+     *
+     * @param index
+     *          the index of the strip
+     * @return
+     *          the strip as {@code BufferedImage}
+     */
+    private synchronized BufferedImage getStrip(int index) {
+        if (index != stripIndex) {
+            int top = index * stripHeight;
+            Graphics2D g = strip.createGraphics();
+            try {
+                SpriteGraphics graphics = new AwtSpriteGraphics(g);
+                graphics.translate(0, -top);
+                painter.accept(graphics, new Bounds(0, top, width, stripHeight));
+            } finally {
+                g.dispose();
+            }
+            stripIndex = index;
+        }
+        return strip;
+    }
+
+    @Override
+    public Vector<RenderedImage> getSources() {
+        return null;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return Image.UndefinedProperty;
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        return null;
+    }
+
+    @Override
+    public ColorModel getColorModel() {
+        return colorModel;
+    }
+
+    @Override
+    public SampleModel getSampleModel() {
+        return sampleModel;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getMinX() {
+        return 0;
+    }
+
+    @Override
+    public int getMinY() {
+        return 0;
+    }
+
+    @Override
+    public int getNumXTiles() {
+        return 1;
+    }
+
+    @Override
+    public int getNumYTiles() {
+        return (height + stripHeight - 1) / stripHeight;
+    }
+
+    @Override
+    public int getMinTileX() {
+        return 0;
+    }
+
+    @Override
+    public int getMinTileY() {
+        return 0;
+    }
+
+    @Override
+    public int getTileWidth() {
+        return width;
+    }
+
+    @Override
+    public int getTileHeight() {
+        return stripHeight;
+    }
+
+    @Override
+    public int getTileGridXOffset() {
+        return 0;
+    }
+
+    @Override
+    public int getTileGridYOffset() {
+        return 0;
+    }
+
+    @Override
+    public Raster getTile(int tileX, int tileY) {
+        WritableRaster tile = colorModel.createCompatibleWritableRaster(width, stripHeight)
+                .createWritableTranslatedChild(0, tileY * stripHeight);
+        copyData(tile);
+        return tile;
+    }
+
+    @Override
+    public Raster getData() {
+        return getData(new Rectangle(0, 0, width, height));
+    }
+
+    @Override
+    public Raster getData(Rectangle rect) {
+        WritableRaster raster = colorModel.createCompatibleWritableRaster(rect.width, rect.height)
+                .createWritableTranslatedChild(rect.x, rect.y);
+        return copyData(raster);
+    }
+
+    @Override
+    public WritableRaster copyData(WritableRaster raster) {
+        if (raster == null) {
+            raster = colorModel.createCompatibleWritableRaster(width, height);
+        }
+        Rectangle area = raster.getBounds().intersection(new Rectangle(0, 0, width, height));
+        if (area.isEmpty()) {
+            return raster;
+        }
+
+        for (int index = area.y / stripHeight; index * stripHeight < area.y + area.height; index++) {
+            int top = index * stripHeight;
+            int from = Math.max(area.y, top);
+            int to = Math.min(area.y + area.height, top + stripHeight);
+            synchronized (this) {
+                Raster rows = getStrip(index).getRaster().createChild(area.x, from - top, area.width, to - from,
+                        area.x, from, null);
+                raster.setDataElements(0, 0, rows);
+            }
+        }
+        return raster;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains all classes for exporting the machine schematics.
+ */
+package de.uni_hannover.sra.minimax_simulator.io.exporter.schematics;
\ No newline at end of file
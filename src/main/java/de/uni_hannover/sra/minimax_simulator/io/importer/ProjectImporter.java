@@ -1,8 +1,11 @@
 package de.uni_hannover.sra.minimax_simulator.io.importer;
 
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExporter;
 import de.uni_hannover.sra.minimax_simulator.model.user.Project;
 
+import java.util.concurrent.CancellationException;
+
 /**
  * A {@code ProjectImporter} is an entity that represents some kind of data source, like
  * a project file, folder or database, being the converse of a {@link ProjectExporter}.<br>
@@ -23,5 +26,23 @@ public interface ProjectImporter {
      * @throws ProjectImportException
      *          thrown if the import failed
      */
-    public Project importProject() throws ProjectImportException;
+    public default Project importProject() throws ProjectImportException {
+        return importProject(ProgressMonitor.NONE);
+    }
+
+    /**
+     * Like {@link #importProject()}, reporting the progress to the specified {@link ProgressMonitor}.<br>
+     * The returned {@link Project} is complete, so it can be handed over to the FX application thread
+     * as a whole.
+     *
+     * @param monitor
+     *          the {@code ProgressMonitor} receiving the progress of the import
+     * @return
+     *          the successfully imported {@link Project} instance
+     * @throws ProjectImportException
+     *          thrown if the import failed
+     * @throws CancellationException
+     *          thrown if the import was canceled by the {@code ProgressMonitor}
+     */
+    public Project importProject(ProgressMonitor monitor) throws ProjectImportException;
 }
\ No newline at end of file
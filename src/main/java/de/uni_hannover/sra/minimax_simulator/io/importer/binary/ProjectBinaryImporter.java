@@ -0,0 +1,457 @@
+package de.uni_hannover.sra.minimax_simulator.io.importer.binary;
+
+import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.binary.ProjectBinaryExporter;
+import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImportException;
+import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImporter;
+import de.uni_hannover.sra.minimax_simulator.io.importer.json.MachineJsonImporter;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.MachineConfiguration;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.PagedMemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.signal.ColumnarSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.user.Project;
+import org.json.JSONException;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static de.uni_hannover.sra.minimax_simulator.io.ProjectBinaryFormat.*;
+
+/**
+ * A {@link ProjectImporter} that reads a project in the binary project format described by
+ * {@link de.uni_hannover.sra.minimax_simulator.io.ProjectBinaryFormat}.<br>
+ * <br>
+ * Only the header is read sequentially. Every section is read on its own by the offset stored
+ * in the section table, and sections of unknown IDs are skipped. All known sections are read during
+ * the import, the memory image page by page, so the project does not depend on the file afterwards.<br>
+ * <br>
+ * The sections are read from any {@link ByteBuffer}, they do not need to be backed by an array.
+ *
+ * @see ProjectBinaryExporter
+ *
+ * @author agent
+ */
+public class ProjectBinaryImporter implements ProjectImporter {
+
+    /** The number of memory pages read at once. */
+    private static final int PAGES_PER_READ = 4;
+
+    private final File file;
+
+    /**
+     * Prepares a new importer that will read a project in the binary format from the given file.<br>
+     * However, the file is not checked for existence and read accessibility until the actual import
+     * process.
+     *
+     * @param file
+     *            the (non-null) file that will be read
+     */
+    public ProjectBinaryImporter(File file) {
+        this.file = checkNotNull(file, "Invalid Null argument: file");
+    }
+
+    @Override
+    public Project importProject(ProgressMonitor monitor) throws ProjectImportException {
+        checkNotNull(monitor);
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // the progress is measured in bytes
+            long size = channel.size();
+            monitor.progress(0, size);
+
+            ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new ProjectImportException("Not a binary project file: " + file.getPath());
+            }
+            short version = header.getShort();
+            if (version != VERSION) {
+                throw new ProjectImportException("Unsupported version " + version + " of binary project file: " + file.getPath());
+            }
+            int sectionCount = header.getShort() & 0xFFFF;
+
+            long[] machine = null;
+            long[] signals = null;
+            long[] memory = null;
+            ByteBuffer sections = readFully(channel, HEADER_SIZE, sectionCount * SECTION_ENTRY_SIZE);
+            for (int i = 0; i < sectionCount; i++) {
+                int id = sections.getInt();
+                long[] section = { sections.getLong(), sections.getLong() };
+                if (section[0] < 0 || section[1] < 0 || section[0] + section[1] > channel.size()) {
+                    throw new ProjectImportException("Invalid section " + id + " in binary project file: " + file.getPath());
+                }
+
+                switch (id) {
+                    case SECTION_MACHINE:
+                        machine = section;
+                        break;
+                    case SECTION_SIGNALS:
+                        signals = section;
+                        break;
+                    case SECTION_MEMORY:
+                        memory = section;
+                        break;
+                    default:
+                        // sections of newer versions are skipped
+                        break;
+                }
+            }
+            if (machine == null || signals == null) {
+                throw new ProjectImportException("Missing section in binary project file: " + file.getPath());
+            }
+
+            MachineConfiguration machineConfiguration = readMachine(readFully(channel, machine[0], machine[1]));
+            long done = machine[1];
+            monitor.checkCanceled();
+            monitor.progress(done, size);
+
+            SignalTable signalTable = readSignalTable(readFully(channel, signals[0], signals[1]));
+            done += signals[1];
+            monitor.checkCanceled();
+            monitor.progress(done, size);
+
+            Project project = new Project(machineConfiguration, signalTable);
+            if (memory != null) {
+                readMemory(channel, memory[0], memory[1], project.getMachine().getMemory(), monitor, done, size);
+            }
+            monitor.progress(size, size);
+            return project;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new ProjectImportException("Corrupt binary project file: " + file.getPath(), e);
+        } catch (IOException e) {
+            throw new ProjectImportException("I/O error while reading binary project file: " + file.getPath(), e);
+        } catch (JSONException e) {
+            throw new ProjectImportException("Error while parsing JSON string!", e);
+        }
+    }
+
+    /**
+     * Reads the specified part of the file.
+     *
+     * @param channel
+     *            the {@code FileChannel} of the file
+     * @param position
+     *            the offset of the part to read
+     * @param length
+     *            the length of the part to read
+     * @return
+     *            a {@code ByteBuffer} holding the read part
+     * @throws IOException
+     *            thrown if the part could not be read
+     */
+    private static ByteBuffer readFully(FileChannel channel, long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Section too large: " + length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Gets the {@link MachineConfiguration} from {@link MachineJsonImporter}.
+     *
+     * @param section
+     *            the section holding the JSON document
+     * @return
+     *            the imported {@code MachineConfiguration}
+     * @throws JSONException
+     *            thrown if there is an error during parsing the JSON string
+     * @throws ProjectImportException
+     *            thrown if there is any other error during import
+     */
+    private static MachineConfiguration readMachine(ByteBuffer section) throws ProjectImportException {
+        byte[] json = new byte[section.remaining()];
+        section.get(json);
+        ByteArrayInputStream in = new ByteArrayInputStream(json);
+        return new MachineJsonImporter().loadMachine(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reads the {@link SignalTable} written column by column, as stored in the signal section.
+     *
+     * @param section
+     *            the section holding the signal table
+     * @return
+     *            the imported {@code SignalTable}
+     * @throws IOException
+     *            thrown if the section is corrupt
+     */
+    public static SignalTable readSignalTable(ByteBuffer section) throws IOException {
+        int rowCount = IOUtils.readVarInt(section);
+        if (rowCount < 0 || rowCount > section.remaining()) {
+            throw new IOException("Invalid row count: " + rowCount);
+        }
+        List<SignalRow> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new SignalRow());
+        }
+
+        int nameCount = IOUtils.readVarInt(section);
+        // each name takes at least the byte of its length
+        if (nameCount < 0 || nameCount > section.remaining()) {
+            throw new IOException("Invalid signal count: " + nameCount);
+        }
+        String[] names = new String[nameCount];
+        for (int n = 0; n < nameCount; n++) {
+            names[n] = readString(section, IOUtils.readVarInt(section));
+        }
+
+        // the signal columns
+        for (String name : names) {
+            for (SignalRow row : rows) {
+                int code = IOUtils.readVarInt(section);
+                if (code == SIGNAL_DONT_CARE) {
+                    row.setSignal(name, SignalValue.DONT_CARE);
+                }
+                else if (code != SIGNAL_UNSET) {
+                    row.setSignalValue(name, code - SIGNAL_VALUE_OFFSET);
+                }
+            }
+        }
+
+        // the labels
+        for (SignalRow row : rows) {
+            int length = IOUtils.readVarInt(section);
+            if (length > 0) {
+                row.setLabel(readString(section, length - 1));
+            }
+        }
+
+        // the breakpoints
+        byte bits = 0;
+        for (int i = 0; i < rowCount; i++) {
+            if (i % 8 == 0) {
+                bits = section.get();
+            }
+            rows.get(i).setBreakpoint((bits & (1 << (i % 8))) != 0);
+        }
+
+        // the jumps
+        for (SignalRow row : rows) {
+            byte kind = section.get();
+            switch (kind) {
+                case JUMP_DEFAULT:
+                    break;
+                case JUMP_UNCONDITIONAL:
+                    row.setJump(new UnconditionalJump(unZigZag(IOUtils.readVarInt(section))));
+                    break;
+                case JUMP_CONDITIONAL:
+                    int condZeroTarget = unZigZag(IOUtils.readVarInt(section));
+                    int condOneTarget = unZigZag(IOUtils.readVarInt(section));
+                    row.setJump(new ConditionalJump(condZeroTarget, condOneTarget));
+                    break;
+                default:
+                    throw new IOException("Invalid jump kind: " + kind);
+            }
+        }
+
+        SignalTable table = new ColumnarSignalTable();
+        if (rows.isEmpty()) {
+            table.addSignalRow(new SignalRow());                // add empty row to signal table if no row was imported
+            return table;
+        }
+        table.addSignalRows(0, rows);
+        return table;
+    }
+
+    /**
+     * Reads a UTF-8 encoded string of the specified length.
+     *
+     * @param section
+     *            the section holding the string
+     * @param length
+     *            the length of the string in bytes
+     * @return
+     *            the read string
+     * @throws IOException
+     *            thrown if the length exceeds the section
+     */
+    private static String readString(ByteBuffer section, int length) throws IOException {
+        if (length < 0 || length > section.remaining()) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        section.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the memory image page by page into the specified {@link MachineMemory}.
+     *
+     * @param channel
+     *            the {@code FileChannel} of the file
+     * @param position
+     *            the offset of the memory section
+     * @param length
+     *            the length of the memory section
+     * @param memory
+     *            the {@code MachineMemory} to fill
+     * @param monitor
+     *            the {@code ProgressMonitor} receiving the progress
+     * @param done
+     *            the amount of bytes read before the memory section
+     * @param size
+     *            the size of the file
+     * @throws IOException
+     *            thrown if the section could not be read or is corrupt
+     */
+    private static void readMemory(FileChannel channel, long position, long length, MachineMemory memory,
+                                   ProgressMonitor monitor, long done, long size) throws IOException {
+        long start = position;
+        long end = position + length;
+        int pageSize = readFully(channel, position, 4).getInt();
+        position += 4;
+        long addressCount = (long) memory.getMaxAddress() + 1;
+        if (pageSize <= 0 || pageSize > addressCount) {
+            throw new IOException("Invalid page size: " + pageSize);
+        }
+
+        MemoryState state = memory.getMemoryState();
+        PagedMemoryState pagedState = state instanceof PagedMemoryState
+                && ((PagedMemoryState) state).getPageSize() == pageSize ? (PagedMemoryState) state : null;
+
+        boolean memoryNotifiesListeners = memory.getNotifiesListeners();
+        memory.setNotifiesListeners(false);
+        try {
+            long pageBytes = 4 + pageSize * 4L;
+            // allocated with the first page, as the page size of an empty image is not backed by any data
+            int[] page = null;
+            while (position + 4 <= end) {
+                monitor.checkCanceled();
+                monitor.progress(done + position - start, size);
+
+                // read a few pages at once, the last buffer may end with the end marker only
+                long readSize = Math.min(end - position, pageBytes * PAGES_PER_READ);
+                ByteBuffer buffer = readFully(channel, position, readSize);
+                while (buffer.remaining() >= 4) {
+                    int pageIndex = buffer.getInt();
+                    if (pageIndex == END_OF_PAGES) {
+                        return;
+                    }
+                    checkPageIndex(pageIndex, pageSize, addressCount);
+                    if (buffer.remaining() < pageSize * 4L) {
+                        // the page continues in the next buffer
+                        buffer.position(buffer.position() - 4);
+                        break;
+                    }
+                    if (page == null) {
+                        page = new int[pageSize];
+                    }
+                    buffer.asIntBuffer().get(page);
+                    buffer.position(buffer.position() + pageSize * 4);
+                    writePage(state, pagedState, pageIndex, page);
+                }
+                if (buffer.position() == 0) {
+                    throw new EOFException("Truncated memory page");
+                }
+                position += buffer.position();
+            }
+            throw new EOFException("Missing end of memory pages");
+        } finally {
+            memory.setNotifiesListeners(memoryNotifiesListeners);
+        }
+    }
+
+    /**
+     * Reads a memory image, as stored in the memory section, into the specified {@link MemoryState}.
+     *
+     * @param section
+     *            the memory image
+     * @param state
+     *            the {@code MemoryState} to fill
+     * @throws IOException
+     *            thrown if the memory image is corrupt
+     */
+    public static void readMemory(ByteBuffer section, MemoryState state) throws IOException {
+        int pageSize = section.getInt();
+        if (pageSize <= 0) {
+            throw new IOException("Invalid page size: " + pageSize);
+        }
+        PagedMemoryState pagedState = state instanceof PagedMemoryState
+                && ((PagedMemoryState) state).getPageSize() == pageSize ? (PagedMemoryState) state : null;
+        long addressCount = state instanceof PagedMemoryState
+                ? (long) ((PagedMemoryState) state).getPageCount() * ((PagedMemoryState) state).getPageSize()
+                : 1L << 31;
+
+        // allocated with the first page, as the page size of an empty image is not backed by any data
+        int[] page = null;
+        for (int pageIndex = section.getInt(); pageIndex != END_OF_PAGES; pageIndex = section.getInt()) {
+            checkPageIndex(pageIndex, pageSize, addressCount);
+            if (section.remaining() < pageSize * 4L) {
+                throw new EOFException("Truncated memory page");
+            }
+            if (page == null) {
+                page = new int[pageSize];
+            }
+            section.asIntBuffer().get(page);
+            section.position(section.position() + pageSize * 4);
+            writePage(state, pagedState, pageIndex, page);
+        }
+    }
+
+    /**
+     * Checks that the page of the memory image lies within the address space of the memory.
+     *
+     * @param pageIndex
+     *            the index of the page
+     * @param pageSize
+     *            the size of the pages of the memory image
+     * @param addressCount
+     *            the count of addresses of the memory
+     * @throws IOException
+     *            thrown if the page lies outside of the memory
+     */
+    private static void checkPageIndex(int pageIndex, int pageSize, long addressCount) throws IOException {
+        if (pageIndex < 0 || (pageIndex + 1L) * pageSize > addressCount) {
+            throw new IOException("Invalid page index: " + pageIndex);
+        }
+    }
+
+    /**
+     * Writes a page of the memory image into the specified {@link MemoryState}.
+     *
+     * @param state
+     *            the {@code MemoryState} to fill
+     * @param pagedState
+     *            the {@code MemoryState} as {@link PagedMemoryState} of the same page size or {@code null}
+     * @param pageIndex
+     *            the index of the page
+     * @param page
+     *            the content of the page
+     */
+    private static void writePage(MemoryState state, PagedMemoryState pagedState, int pageIndex, int[] page) {
+        if (pagedState != null) {
+            pagedState.writePage(pageIndex, page);
+        }
+        else {
+            int address = pageIndex * page.length;
+            for (int i = 0; i < page.length; i++) {
+                state.setInt(address + i, page[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains all classes for importing a whole project in the binary project format.
+ */
+package de.uni_hannover.sra.minimax_simulator.io.importer.binary;
\ No newline at end of file
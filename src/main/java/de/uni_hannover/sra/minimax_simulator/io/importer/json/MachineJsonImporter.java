@@ -13,7 +13,10 @@ import de.uni_hannover.sra.minimax_simulator.resources.TextResource;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,7 +25,7 @@ import java.util.List;
  *
  * @author Philipp Rohde
  */
-class MachineJsonImporter extends Importer {
+public class MachineJsonImporter extends Importer {
 
     /**
      * Imports the {@link MachineConfiguration} from a JSON string.
@@ -37,7 +40,23 @@ class MachineJsonImporter extends Importer {
      *            thrown if there is an error during import
      */
     MachineConfiguration loadMachine(String input) throws ProjectImportException {
-        JSONObject root = new JSONObject(input);
+        return loadMachine(new StringReader(input));
+    }
+
+    /**
+     * Imports the {@link MachineConfiguration} from the JSON document read by the specified {@link Reader}.
+     *
+     * @param input
+     *            the {@code Reader} providing the JSON document containing the saved MachineConfiguration
+     * @return
+     *            the imported MachineConfiguration
+     * @throws JSONException
+     *            thrown if there is an error during parsing the JSON document or reading the input
+     * @throws ProjectImportException
+     *            thrown if there is an error during import
+     */
+    public MachineConfiguration loadMachine(Reader input) throws ProjectImportException {
+        JSONObject root = new JSONObject(new JSONTokener(input));
         JSONObject machine = root.getJSONObject("machine");
 
         JSONObject alu = machine.getJSONObject("alu");
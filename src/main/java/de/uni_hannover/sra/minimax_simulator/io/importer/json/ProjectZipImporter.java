@@ -1,6 +1,7 @@
 package de.uni_hannover.sra.minimax_simulator.io.importer.json;
 
 import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.json.ProjectZipExporter;
 import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImportException;
 import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImporter;
@@ -9,10 +10,17 @@ import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
 import de.uni_hannover.sra.minimax_simulator.model.user.Project;
 import org.json.JSONException;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -31,6 +39,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public class ProjectZipImporter implements ProjectImporter {
 
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
     private final File file;
 
     /**
@@ -46,15 +56,39 @@ public class ProjectZipImporter implements ProjectImporter {
     }
 
     @Override
-    public Project importProject() throws ProjectImportException {
+    public Project importProject(ProgressMonitor monitor) throws ProjectImportException {
+        checkNotNull(monitor);
+
         ZipFile zip = null;
         try {
+            monitor.progress(0, 3);
             zip = new ZipFile(file);
 
-            MachineConfiguration machineConfiguration = getMachineConfiguration(zip);
-            SignalTable signalTable = getSignalTable(zip);
+            // the signal table is parsed in the background while the machine is parsed by the calling thread
+            ZipFile signalZip = zip;
+            CompletableFuture<SignalTable> signalTable = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return getSignalTable(signalZip);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            MachineConfiguration machineConfiguration;
+            try {
+                machineConfiguration = getMachineConfiguration(zip);
+                monitor.progress(1, 3);
+            } finally {
+                // the zip file must not be closed before the signal table is read
+                awaitQuietly(signalTable);
+            }
+            SignalTable table = getResult(signalTable);
+            monitor.checkCanceled();
+            monitor.progress(2, 3);
 
-            return new Project(machineConfiguration, signalTable);
+            Project project = new Project(machineConfiguration, table);
+            monitor.progress(3, 3);
+            return project;
         } catch (ZipException e) {
             throw new ProjectImportException("Invalid zip file: " + file.getPath(), e);
         } catch (IOException e) {
@@ -89,7 +123,7 @@ public class ProjectZipImporter implements ProjectImporter {
 
         InputStream machineStream = zip.getInputStream(machineEntry);
         try {
-            return new MachineJsonImporter().loadMachine(IOUtils.getStringFromInputStream(machineStream));
+            return new MachineJsonImporter().loadMachine(new BufferedReader(new InputStreamReader(machineStream, CHARSET)));
         } finally {
             IOUtils.closeQuietly(machineStream);
         }
@@ -115,10 +149,50 @@ public class ProjectZipImporter implements ProjectImporter {
 
         InputStream signalStream = zip.getInputStream(signalEntry);
         try {
-            return new SignalJsonImporter().loadSignalTable(IOUtils.getStringFromInputStream(signalStream));
+            return new SignalJsonImporter().loadSignalTable(new BufferedReader(new InputStreamReader(signalStream, CHARSET)));
         } finally {
             IOUtils.closeQuietly(signalStream);
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Waits for the completion of the specified {@link CompletableFuture} regardless of its outcome.
+     *
+     * @param future
+     *            the {@code CompletableFuture} to wait for
+     */
+    private static void awaitQuietly(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException | CancellationException e) {
+            // the outcome is checked by getResult
+        }
+    }
+
+    /**
+     * Gets the {@link SignalTable} imported in the background.
+     *
+     * @param signalTable
+     *            the completed {@code CompletableFuture} of the import
+     * @return
+     *            the imported {@code SignalTable}
+     * @throws IOException
+     *            thrown if the {@code signal.json} could not be read
+     * @throws JSONException
+     *            thrown if there is an error during parsing the JSON document
+     */
+    private static SignalTable getResult(CompletableFuture<SignalTable> signalTable) throws IOException {
+        try {
+            return signalTable.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+}
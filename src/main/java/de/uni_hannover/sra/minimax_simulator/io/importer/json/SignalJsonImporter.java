@@ -1,6 +1,6 @@
 package de.uni_hannover.sra.minimax_simulator.io.importer.json;
 
-import de.uni_hannover.sra.minimax_simulator.model.signal.DefaultSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.ColumnarSignalTable;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
@@ -11,9 +11,19 @@ import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * An Importer that imports a {@link SignalTable} from a JSON string.
+ * An Importer that imports a {@link SignalTable} from a JSON string.<br>
+ * <br>
+ * The input is read as a stream. Only the object of a single row is parsed at a time and turned into
+ * a {@link SignalRow} right away, so the document is never held in memory as a whole.
  *
  * @author Philipp Rohde
  */
@@ -30,53 +40,181 @@ class SignalJsonImporter extends Importer {
      *            thrown if there is an error during parsing the JSON string
      */
     SignalTable loadSignalTable(String input) {
-        SignalTable table = new DefaultSignalTable();
+        return loadSignalTable(new StringReader(input));
+    }
+
+    /**
+     * Imports the {@link SignalTable} from the JSON document read by the specified {@link Reader}.
+     *
+     * @param input
+     *            the {@code Reader} providing the JSON document containing the SignalTable
+     * @return
+     *            the imported SignalTable
+     * @throws JSONException
+     *            thrown if there is an error during parsing the JSON document or reading the input
+     */
+    SignalTable loadSignalTable(Reader input) {
+        JSONTokener tokener = new JSONTokener(input);
+        List<SignalRow> rows = new ArrayList<>();
+        boolean[] found = new boolean[1];
+
+        readObject(tokener, key -> {
+            if ("signaltable".equals(key)) {
+                readObject(tokener, tableKey -> {
+                    if ("row".equals(tableKey)) {
+                        readRows(tokener, rows);
+                        found[0] = true;
+                    }
+                    else {
+                        tokener.nextValue();
+                    }
+                });
+            }
+            else {
+                tokener.nextValue();
+            }
+        });
+        if (!found[0]) {
+            throw new JSONException("JSONObject[\"signaltable\"] with JSONArray[\"row\"] not found.");
+        }
 
-        JSONObject root = new JSONObject(input);
-        JSONObject signaltable = root.getJSONObject("signaltable");
-        JSONArray rows = signaltable.getJSONArray("row");
-        if (rows.length() == 0) {
+        SignalTable table = new ColumnarSignalTable();
+        if (rows.isEmpty()) {
             table.addSignalRow(new SignalRow());                // add empty row to signal table if no row was imported
             return table;
         }
-        for (int i = 0; i < rows.length(); i++) {
-            SignalRow row = new SignalRow();
+        table.addSignalRows(0, rows);
+        return table;
+    }
+
+    /**
+     * Reads a JSON object from the specified {@link JSONTokener} and passes each key to the specified consumer,
+     * which has to read the value of the key.
+     *
+     * @param tokener
+     *            the {@code JSONTokener} positioned in front of the object
+     * @param keyConsumer
+     *            the consumer reading the value of each key
+     * @throws JSONException
+     *            thrown if the input is not a valid JSON object
+     */
+    private static void readObject(JSONTokener tokener, Consumer<String> keyConsumer) {
+        if (tokener.nextClean() != '{') {
+            throw tokener.syntaxError("A JSONObject text must begin with '{'");
+        }
+        if (tokener.nextClean() == '}') {
+            return;
+        }
+        tokener.back();
 
-            JSONObject currentRow = rows.getJSONObject(i);
-            if (currentRow.has("label")) {
-                String label = currentRow.getString("label");
-                row.setLabel(label);
+        while (true) {
+            if (tokener.nextClean() != '"') {
+                throw tokener.syntaxError("Expected a quoted key");
             }
-            if (currentRow.has("breakpoint")) {
-                boolean breakpoint = currentRow.getBoolean("breakpoint");
-                row.setBreakpoint(breakpoint);
+            String key = tokener.nextString('"');
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
             }
+            keyConsumer.accept(key);
 
-            if (currentRow.has("signal")) {
-                setSignals(row, currentRow);
+            char c = tokener.nextClean();
+            if (c == '}') {
+                return;
+            }
+            if (c != ',') {
+                throw tokener.syntaxError("Expected a ',' or '}'");
             }
+        }
+    }
 
-            Jump jump;
+    /**
+     * Reads the rows from the specified {@link JSONTokener}. The rows are either an array of
+     * row objects or a single row object.
+     *
+     * @param tokener
+     *            the {@code JSONTokener} positioned in front of the rows
+     * @param rows
+     *            the list the imported {@code SignalRow}s are added to
+     * @throws JSONException
+     *            thrown if there is an error during parsing the JSON document
+     */
+    private static void readRows(JSONTokener tokener, List<SignalRow> rows) {
+        char c = tokener.nextClean();
+        if (c == '{') {
+            // a single row is written as object instead of array
+            tokener.back();
+            rows.add(createRow((JSONObject) tokener.nextValue()));
+            return;
+        }
+        if (c != '[') {
+            throw tokener.syntaxError("A JSONArray text must start with '['");
+        }
+        if (tokener.nextClean() == ']') {
+            return;
+        }
+        tokener.back();
 
-            if (currentRow.has("unconditional-jump")) {
-                JSONObject jmp = currentRow.getJSONObject("unconditional-jump");
-                jump = new UnconditionalJump(jmp.getInt("target"));
+        while (true) {
+            Object value = tokener.nextValue();
+            if (!(value instanceof JSONObject)) {
+                throw new JSONException("JSONArray[" + rows.size() + "] is not a JSONObject.");
             }
-            else if (currentRow.has("conditional-jump")) {
-                JSONObject jmp = currentRow.getJSONObject("conditional-jump");
-                int cond0 = jmp.getInt("cond0-target");
-                int cond1 = jmp.getInt("cond1-target");
-                jump = new ConditionalJump(cond0, cond1);
+            rows.add(createRow((JSONObject) value));
+
+            c = tokener.nextClean();
+            if (c == ']') {
+                return;
             }
-            else {
-                jump = DefaultJump.INSTANCE;
+            if (c != ',') {
+                throw tokener.syntaxError("Expected a ',' or ']'");
             }
-            row.setJump(jump);
+        }
+    }
 
-            table.addSignalRow(row);
+    /**
+     * Creates a {@link SignalRow} from the specified {@code JSONObject}.
+     *
+     * @param currentRow
+     *            the {@code JSONObject} of the row
+     * @return
+     *            the created {@code SignalRow}
+     * @throws JSONException
+     *            thrown if there is an error during parsing the JSON string
+     */
+    private static SignalRow createRow(JSONObject currentRow) {
+        SignalRow row = new SignalRow();
+
+        if (currentRow.has("label")) {
+            String label = currentRow.getString("label");
+            row.setLabel(label);
+        }
+        if (currentRow.has("breakpoint")) {
+            boolean breakpoint = currentRow.getBoolean("breakpoint");
+            row.setBreakpoint(breakpoint);
         }
 
-        return table;
+        if (currentRow.has("signal")) {
+            setSignals(row, currentRow);
+        }
+
+        Jump jump;
+
+        if (currentRow.has("unconditional-jump")) {
+            JSONObject jmp = currentRow.getJSONObject("unconditional-jump");
+            jump = new UnconditionalJump(jmp.getInt("target"));
+        }
+        else if (currentRow.has("conditional-jump")) {
+            JSONObject jmp = currentRow.getJSONObject("conditional-jump");
+            int cond0 = jmp.getInt("cond0-target");
+            int cond1 = jmp.getInt("cond1-target");
+            jump = new ConditionalJump(cond0, cond1);
+        }
+        else {
+            jump = DefaultJump.INSTANCE;
+        }
+        row.setJump(jump);
+
+        return row;
     }
 
     /**
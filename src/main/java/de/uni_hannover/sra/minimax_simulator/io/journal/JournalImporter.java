@@ -0,0 +1,262 @@
+package de.uni_hannover.sra.minimax_simulator.io.journal;
+
+import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
+import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImportException;
+import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImporter;
+import de.uni_hannover.sra.minimax_simulator.io.importer.binary.ProjectBinaryImporter;
+import de.uni_hannover.sra.minimax_simulator.io.importer.json.MachineJsonImporter;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.MachineConfiguration;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.user.Project;
+import org.json.JSONException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@code JournalImporter} recovers a {@link Project} from the file of a {@link ProjectJournal}.<br>
+ * <br>
+ * The records are applied in order. Reading stops at the first incomplete record or record with a wrong checksum,
+ * since that is where the application crashed while writing.
+ *
+ * @author agent
+ */
+public class JournalImporter implements ProjectImporter {
+
+    private final File file;
+    private File projectFile;
+
+    /**
+     * Initializes the {@code JournalImporter}.
+     *
+     * @param file
+     *            the (non-null) journal file that will be read
+     */
+    public JournalImporter(File file) {
+        this.file = checkNotNull(file, "Invalid Null argument: file");
+    }
+
+    @Override
+    public Project importProject(ProgressMonitor monitor) throws ProjectImportException {
+        checkNotNull(monitor);
+
+        try {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            monitor.progress(0, bytes.length);
+
+            JournalContent content = readJournal(ByteBuffer.wrap(bytes));
+            if (content.machine == null || content.signalTable == null) {
+                throw new ProjectImportException("Incomplete project journal: " + file.getPath());
+            }
+            monitor.checkCanceled();
+
+            MachineConfiguration machineConfiguration = new MachineJsonImporter().loadMachine(new StringReader(content.machine));
+            Project project = new Project(machineConfiguration, content.signalTable);
+
+            MachineMemory memory = project.getMachine().getMemory();
+            boolean memoryNotifiesListeners = memory.getNotifiesListeners();
+            memory.setNotifiesListeners(false);
+            try {
+                MemoryState state = memory.getMemoryState();
+                for (JournalRecord record : content.memoryRecords) {
+                    ByteBuffer payload = ByteBuffer.wrap(record.getPayload());
+                    if (record.getType() == JournalRecord.MEMORY_IMAGE) {
+                        state.zero();
+                        ProjectBinaryImporter.readMemory(payload, state);
+                    }
+                    else {
+                        state.setInt(payload.getInt(), payload.getInt());
+                    }
+                }
+            } finally {
+                memory.setNotifiesListeners(memoryNotifiesListeners);
+            }
+
+            projectFile = content.projectFile;
+            monitor.progress(bytes.length, bytes.length);
+            return project;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new ProjectImportException("Corrupt project journal: " + file.getPath(), e);
+        } catch (IOException e) {
+            throw new ProjectImportException("I/O error while reading project journal: " + file.getPath(), e);
+        } catch (JSONException e) {
+            throw new ProjectImportException("Error while parsing JSON string!", e);
+        }
+    }
+
+    /**
+     * Gets the project file the recovered project was loaded from or saved to.
+     *
+     * @return
+     *            the project file or {@code null} if the project was never saved or not yet imported
+     */
+    public File getProjectFile() {
+        return projectFile;
+    }
+
+    /**
+     * Reads the records of a journal up to the first incomplete or corrupt record.
+     *
+     * @param journal
+     *            the content of the journal file
+     * @return
+     *            the state described by the valid records
+     * @throws IOException
+     *            thrown if the journal has an invalid header or a valid record cannot be applied
+     */
+    static JournalContent readJournal(ByteBuffer journal) throws IOException {
+        if (journal.remaining() < JournalRecord.HEADER_SIZE || journal.getInt() != JournalRecord.MAGIC) {
+            throw new IOException("Not a project journal");
+        }
+        short version = journal.getShort();
+        if (version != JournalRecord.VERSION) {
+            throw new IOException("Unsupported version " + version + " of project journal");
+        }
+
+        JournalContent content = new JournalContent();
+        while (journal.remaining() >= JournalRecord.FRAME_OVERHEAD) {
+            int start = journal.position();
+            int length = journal.getInt();
+            if (length < 0 || length > journal.remaining() - (JournalRecord.FRAME_OVERHEAD - 4)) {
+                // truncated by a crash
+                break;
+            }
+            byte type = journal.get();
+            int payloadStart = journal.position();
+            journal.position(payloadStart + length);
+            int checksum = journal.getInt();
+            if (checksum != JournalRecord.checksum(type, journal.array(), journal.arrayOffset() + payloadStart, length)) {
+                // partially written by a crash
+                journal.position(start);
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.wrap(journal.array(), journal.arrayOffset() + payloadStart, length).slice();
+            content.apply(type, payload);
+            content.recordCount++;
+        }
+        return content;
+    }
+
+    /**
+     * The state of a project described by the records of a journal.
+     */
+    static final class JournalContent {
+
+        /** The last recorded machine configuration as JSON. */
+        String machine;
+        /** The signal table with all recorded changes applied. */
+        SignalTable signalTable;
+        /** The memory records to apply in order. */
+        final List<JournalRecord> memoryRecords = new ArrayList<>();
+        /** The recorded project file. */
+        File projectFile;
+        /** The number of valid records. */
+        int recordCount;
+
+        /**
+         * Applies a record.
+         *
+         * @param type
+         *            the type of the record
+         * @param payload
+         *            the payload of the record
+         * @throws IOException
+         *            thrown if the payload is corrupt
+         */
+        private void apply(byte type, ByteBuffer payload) throws IOException {
+            switch (type) {
+                case JournalRecord.MACHINE:
+                    machine = StandardCharsets.UTF_8.decode(payload).toString();
+                    break;
+                case JournalRecord.SIGNALS:
+                    signalTable = ProjectBinaryImporter.readSignalTable(payload);
+                    break;
+                case JournalRecord.ROWS:
+                    applyRows(payload);
+                    break;
+                case JournalRecord.MEMORY_IMAGE:
+                    // an image replaces everything recorded before
+                    memoryRecords.clear();
+                    memoryRecords.add(copy(type, payload));
+                    break;
+                case JournalRecord.MEMORY_WRITE:
+                    memoryRecords.add(copy(type, payload));
+                    break;
+                case JournalRecord.PROJECT_FILE:
+                    String path = StandardCharsets.UTF_8.decode(payload).toString();
+                    projectFile = path.isEmpty() ? null : new File(path);
+                    break;
+                default:
+                    // records of newer versions are skipped
+                    break;
+            }
+        }
+
+        /**
+         * Replaces the recorded rows of the signal table.
+         *
+         * @param payload
+         *            the payload of a {@link JournalRecord#ROWS} record
+         * @throws IOException
+         *            thrown if the payload is corrupt or does not fit the signal table
+         */
+        private void applyRows(ByteBuffer payload) throws IOException {
+            if (signalTable == null) {
+                throw new IOException("Rows recorded before the signal table");
+            }
+
+            int count = IOUtils.readVarInt(payload);
+            if (count > payload.remaining()) {
+                throw new IOException("Invalid row count: " + count);
+            }
+            int[] indices = new int[count];
+            for (int i = 0; i < count; i++) {
+                indices[i] = IOUtils.readVarInt(payload);
+                if (indices[i] >= signalTable.getRowCount()) {
+                    throw new IOException("Invalid row index: " + indices[i]);
+                }
+            }
+
+            SignalTable rows = ProjectBinaryImporter.readSignalTable(payload);
+            if (count == 0) {
+                return;
+            }
+            if (rows.getRowCount() != count) {
+                throw new IOException("Row count mismatch: " + rows.getRowCount() + " != " + count);
+            }
+            for (int i = 0; i < count; i++) {
+                signalTable.setSignalRow(indices[i], new SignalRow(rows.getRow(i)));
+            }
+        }
+
+        /**
+         * Copies a payload for a later application.
+         *
+         * @param type
+         *            the type of the record
+         * @param payload
+         *            the payload of the record
+         * @return
+         *            the copied {@code JournalRecord}
+         */
+        private static JournalRecord copy(byte type, ByteBuffer payload) {
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            return new JournalRecord(type, bytes);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package de.uni_hannover.sra.minimax_simulator.io.journal;
+
+import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExportException;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.binary.ProjectBinaryExporter;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.json.MachineJsonExporter;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.MachineConfiguration;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.signal.DefaultSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code JournalRecord} is a single entry of the {@link ProjectJournal}.<br>
+ * <br>
+ * The journal records changes as state, not as commands: a record either holds a complete part of the project,
+ * like the machine configuration or the signal table, or the new content of some rows or memory cells. So the
+ * project can be rebuilt by applying the records in order on top of the last complete record of each part.<br>
+ * <br>
+ * In the journal a record is stored as frame: the length of the payload, the type, the payload and the
+ * CRC32 checksum of type and payload. The payloads use the encoding of the sections of the binary project format.
+ *
+ * @author agent
+ */
+public final class JournalRecord {
+
+    /** The magic number at the start of a journal file, "MMPJ". */
+    public static final int MAGIC = 0x4D4D504A;
+    /** The version of the journal format. */
+    public static final short VERSION = 1;
+    /** The size of the file header in bytes: magic number and version. */
+    public static final int HEADER_SIZE = 6;
+    /** The size of a frame without payload in bytes: length, type and checksum. */
+    public static final int FRAME_OVERHEAD = 9;
+
+    /** Type of a record holding the machine configuration as JSON. */
+    public static final byte MACHINE = 1;
+    /** Type of a record holding the whole signal table. */
+    public static final byte SIGNALS = 2;
+    /** Type of a record holding the new content of some rows of the signal table. */
+    public static final byte ROWS = 3;
+    /** Type of a record holding the whole memory. */
+    public static final byte MEMORY_IMAGE = 4;
+    /** Type of a record holding a single memory write. */
+    public static final byte MEMORY_WRITE = 5;
+    /** Type of a record holding the path of the project file the journal is based on. */
+    public static final byte PROJECT_FILE = 6;
+
+    private final byte type;
+    private final byte[] payload;
+
+    /**
+     * Constructs a new {@code JournalRecord}.
+     *
+     * @param type
+     *          the type of the record
+     * @param payload
+     *          the payload of the record
+     */
+    JournalRecord(byte type, byte[] payload) {
+        this.type = type;
+        this.payload = checkNotNull(payload);
+    }
+
+    /**
+     * Gets the type of the record.
+     *
+     * @return
+     *          the type
+     */
+    public byte getType() {
+        return type;
+    }
+
+    /**
+     * Gets the payload of the record.
+     *
+     * @return
+     *          the payload
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Gets the size of the record stored as frame.
+     *
+     * @return
+     *          the size of the frame in bytes
+     */
+    public int getFrameSize() {
+        return payload.length + FRAME_OVERHEAD;
+    }
+
+    /**
+     * Writes the record as frame.
+     *
+     * @param out
+     *          the stream to write to
+     * @throws IOException
+     *          thrown if the frame could not be written
+     */
+    public void writeFrame(DataOutputStream out) throws IOException {
+        out.writeInt(payload.length);
+        out.writeByte(type);
+        out.write(payload);
+        out.writeInt(checksum(type, payload, 0, payload.length));
+    }
+
+    /**
+     * Computes the checksum of a frame.
+     *
+     * @param type
+     *          the type of the record
+     * @param payload
+     *          the array holding the payload
+     * @param offset
+     *          the offset of the payload in the array
+     * @param length
+     *          the length of the payload
+     * @return
+     *          the CRC32 checksum of type and payload
+     */
+    static int checksum(byte type, byte[] payload, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Creates a record holding the specified {@link MachineConfiguration}.
+     *
+     * @param machineConfiguration
+     *          the machine's configuration
+     * @return
+     *          the new {@code JournalRecord}
+     */
+    public static JournalRecord machine(MachineConfiguration machineConfiguration) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8);
+        try {
+            new MachineJsonExporter().write(writer, machineConfiguration);
+        } catch (ProjectExportException e) {
+            throw new UncheckedIOException(new IOException(e.getMessage(), e));
+        }
+        return new JournalRecord(MACHINE, bytes.toByteArray());
+    }
+
+    /**
+     * Creates a record holding the specified {@link SignalTable}.
+     *
+     * @param table
+     *          the machine's control table
+     * @return
+     *          the new {@code JournalRecord}
+     */
+    public static JournalRecord signals(SignalTable table) {
+        return encode(SIGNALS, out -> ProjectBinaryExporter.writeSignalTable(out, table));
+    }
+
+    /**
+     * Creates a record holding the content of the specified rows of the {@link SignalTable}.
+     *
+     * @param table
+     *          the machine's control table
+     * @param rows
+     *          the indices of the rows to record
+     * @return
+     *          the new {@code JournalRecord}
+     */
+    public static JournalRecord rows(SignalTable table, BitSet rows) {
+        List<SignalRow> copies = new ArrayList<>(rows.cardinality());
+        for (int i = rows.nextSetBit(0); i >= 0; i = rows.nextSetBit(i + 1)) {
+            copies.add(new SignalRow(table.getRow(i)));
+        }
+        SignalTable changed = new DefaultSignalTable();
+        changed.addSignalRows(0, copies);
+
+        return encode(ROWS, out -> {
+            IOUtils.writeVarInt(out, copies.size());
+            for (int i = rows.nextSetBit(0); i >= 0; i = rows.nextSetBit(i + 1)) {
+                IOUtils.writeVarInt(out, i);
+            }
+            ProjectBinaryExporter.writeSignalTable(out, changed);
+        });
+    }
+
+    /**
+     * Creates a record holding the specified {@link MemoryState}.
+     *
+     * @param memory
+     *          the content of the memory
+     * @return
+     *          the new {@code JournalRecord}
+     */
+    public static JournalRecord memoryImage(MemoryState memory) {
+        return encode(MEMORY_IMAGE, out -> ProjectBinaryExporter.writeMemory(out, memory));
+    }
+
+    /**
+     * Creates a record holding a single write access to the memory.
+     *
+     * @param address
+     *          the address that was written to
+     * @param value
+     *          the value that was written to the address
+     * @return
+     *          the new {@code JournalRecord}
+     */
+    public static JournalRecord memoryWrite(int address, int value) {
+        return encode(MEMORY_WRITE, out -> {
+            out.writeInt(address);
+            out.writeInt(value);
+        });
+    }
+
+    /**
+     * Creates a record holding the project file the journal is based on.
+     *
+     * @param file
+     *          the project file or {@code null} if the project was never saved
+     * @return
+     *          the new {@code JournalRecord}
+     */
+    public static JournalRecord projectFile(File file) {
+        String path = file == null ? "" : file.getAbsolutePath();
+        return new JournalRecord(PROJECT_FILE, path.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encodes a payload written by the specified {@link PayloadWriter}.
+     *
+     * @param type
+     *          the type of the record
+     * @param writer
+     *          the {@code PayloadWriter} writing the payload
+     * @return
+     *          the new {@code JournalRecord}
+     */
+    private static JournalRecord encode(byte type, PayloadWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            // writing to memory does not fail
+            throw new UncheckedIOException(e);
+        }
+        return new JournalRecord(type, bytes.toByteArray());
+    }
+
+    /**
+     * Writes the payload of a record.
+     */
+    @FunctionalInterface
+    private interface PayloadWriter {
+
+        /**
+         * Writes the payload.
+         *
+         * @param out
+         *          the stream to write to
+         * @throws IOException
+         *          thrown if the payload could not be written
+         */
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,411 @@
+package de.uni_hannover.sra.minimax_simulator.io.journal;
+
+import de.uni_hannover.sra.minimax_simulator.model.user.ProjectSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The {@code ProjectJournal} is an append-only file of {@link JournalRecord}s used for the recovery of
+ * a project after a crash.<br>
+ * <br>
+ * The records are written by a background thread. It takes all records queued in the meantime at once,
+ * appends them and forces them to the disk with a single sync, so a burst of changes costs one sync only.<br>
+ * A compaction replaces the whole journal with the complete records of a {@link ProjectSnapshot}. It is
+ * written to a temporary file that replaces the journal afterwards, so there is always a valid journal.<br>
+ * <br>
+ * I/O errors are logged and otherwise ignored since the journal must not disturb the editing of the project.
+ * After an error the journal is only continued by the next compaction.<br>
+ * <br>
+ * The journal directory is locked while the journal is open, so another instance of the simulator started
+ * meanwhile neither recovers nor deletes the journal of a running session.
+ *
+ * @author agent
+ */
+public class ProjectJournal implements Closeable {
+
+    private static final Logger LOG = Logger.getLogger(ProjectJournal.class.getName());
+
+    /** The name of the journal file in the journal directory. */
+    public static final String FILE_NAME = "journal.mmpj";
+    /** The name of the file in the journal directory locked by the owner of the journal. */
+    public static final String LOCK_FILE_NAME = "journal.lock";
+
+    /** Queue item discarding the journal. */
+    private static final Object DISCARD = new Object();
+    /** Queue item stopping the writer thread. */
+    private static final Object STOP = new Object();
+
+    private final File file;
+    private final long compactionSize;
+    private final Runnable compactionListener;
+
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    // only accessed by the writer thread
+    private FileChannel channel;
+    private boolean compactionRequested;
+
+    /**
+     * Constructs a new {@code ProjectJournal} writing to the journal file in the specified directory.<br>
+     * An existing journal is kept until the first compaction or {@link #discard()}, so it can still be recovered.
+     * The directory stays locked until the journal is {@link #close() closed}.
+     *
+     * @param directory
+     *          the directory of the journal file, created if it does not exist
+     * @param compactionSize
+     *          the size of the journal in bytes from which on a compaction is requested
+     * @param compactionListener
+     *          called in the writer thread if the journal grew larger than the compaction size
+     * @throws IOException
+     *          thrown if the directory cannot be created or is locked by another instance of the simulator
+     */
+    public ProjectJournal(File directory, long compactionSize, Runnable compactionListener) throws IOException {
+        checkArgument(compactionSize > 0, "Invalid compaction size: " + compactionSize);
+        this.file = getJournalFile(checkNotNull(directory));
+        this.compactionSize = compactionSize;
+        this.compactionListener = checkNotNull(compactionListener);
+
+        // the journal file itself is replaced by compactions, so a separate file is locked
+        Files.createDirectories(directory.toPath());
+        lockChannel = FileChannel.open(new File(directory, LOCK_FILE_NAME).toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (IOException | OverlappingFileLockException e) {
+            lockChannel.close();
+            throw new IOException("Cannot lock project journal directory: " + directory, e);
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("Project journal directory is used by another instance: " + directory);
+        }
+
+        // the records are forced to the disk right away, so the writer must not keep the application alive
+        writer = new Thread(this::run, "Project journal writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Gets the journal file in the specified directory.
+     *
+     * @param directory
+     *          the directory of the journal file
+     * @return
+     *          the journal file
+     */
+    public static File getJournalFile(File directory) {
+        return new File(directory, FILE_NAME);
+    }
+
+    /**
+     * Gets the journal file.
+     *
+     * @return
+     *          the journal file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Queues the specified {@link JournalRecord} to be appended to the journal.
+     *
+     * @param record
+     *          the {@code JournalRecord} to append
+     */
+    public void append(JournalRecord record) {
+        enqueue(checkNotNull(record));
+    }
+
+    /**
+     * Queues the replacement of the journal with the specified {@link ProjectSnapshot}. All records queued before
+     * are dropped. The snapshot is encoded by the writer thread.
+     *
+     * @param snapshot
+     *          the {@code ProjectSnapshot} including the memory
+     * @param projectFile
+     *          the file the project was loaded from or saved to, may be {@code null}
+     */
+    public void compact(ProjectSnapshot snapshot, File projectFile) {
+        checkArgument(snapshot.getMemoryState() != null, "The snapshot does not include the memory");
+        enqueue(new Compaction(snapshot, projectFile));
+    }
+
+    /**
+     * Queues the deletion of the journal. All records queued before are dropped.
+     */
+    public void discard() {
+        enqueue(DISCARD);
+    }
+
+    /**
+     * Waits until all records queued before are written to the disk.
+     *
+     * @throws InterruptedException
+     *          thrown if the current thread was interrupted while waiting
+     */
+    public void sync() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        enqueue(latch);
+        latch.await();
+    }
+
+    /**
+     * Writes all queued records, stops the writer thread and releases the lock of the journal directory.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        enqueue(STOP);
+        closed = true;
+
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            // closing the channel releases the lock
+            lockChannel.close();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot release the lock of project journal " + file, e);
+        }
+    }
+
+    /**
+     * Adds an item to the queue of the writer thread.
+     *
+     * @param item
+     *          the item to add
+     */
+    private void enqueue(Object item) {
+        checkState(!closed, "Journal closed");
+        queue.add(item);
+    }
+
+    /**
+     * The loop of the writer thread.
+     */
+    private void run() {
+        List<Object> batch = new ArrayList<>();
+        List<CountDownLatch> latches = new ArrayList<>();
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(pending);
+
+        boolean stop = false;
+        while (!stop) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                // the thread is only stopped by the STOP item
+                continue;
+            }
+            queue.drainTo(batch);
+
+            for (Object item : batch) {
+                if (item instanceof JournalRecord) {
+                    try {
+                        ((JournalRecord) item).writeFrame(out);
+                    } catch (IOException e) {
+                        // writing to memory does not fail
+                        throw new IllegalStateException(e);
+                    }
+                }
+                else if (item instanceof Compaction) {
+                    pending.reset();
+                    writeCompaction((Compaction) item);
+                }
+                else if (item == DISCARD) {
+                    pending.reset();
+                    deleteJournal();
+                }
+                else if (item instanceof CountDownLatch) {
+                    latches.add((CountDownLatch) item);
+                }
+                else if (item == STOP) {
+                    stop = true;
+                }
+            }
+            batch.clear();
+
+            if (pending.size() > 0) {
+                appendPending(pending);
+                pending.reset();
+            }
+
+            for (CountDownLatch latch : latches) {
+                latch.countDown();
+            }
+            latches.clear();
+        }
+
+        closeChannel();
+    }
+
+    /**
+     * Appends the pending frames to the journal and forces them to the disk.
+     *
+     * @param pending
+     *          the pending frames
+     */
+    private void appendPending(ByteArrayOutputStream pending) {
+        if (channel == null) {
+            // there is no base the records could be applied to
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(pending.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+
+            if (channel.size() > compactionSize && !compactionRequested) {
+                compactionRequested = true;
+                compactionListener.run();
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot append to project journal " + file, e);
+            closeChannel();
+        }
+    }
+
+    /**
+     * Replaces the journal with the complete records of the snapshot to compact.
+     *
+     * @param compaction
+     *          the snapshot to compact and the project file
+     */
+    private void writeCompaction(Compaction compaction) {
+        closeChannel();
+        compactionRequested = false;
+
+        File tempFile = null;
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            Files.createDirectories(directory.toPath());
+            tempFile = File.createTempFile(FILE_NAME, ".tmp", directory);
+
+            ProjectSnapshot snapshot = compaction.snapshot;
+            try (FileChannel tempChannel = FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE)) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeInt(JournalRecord.MAGIC);
+                out.writeShort(JournalRecord.VERSION);
+                JournalRecord.projectFile(compaction.projectFile).writeFrame(out);
+                JournalRecord.machine(snapshot.getMachineConfiguration()).writeFrame(out);
+                JournalRecord.signals(snapshot.getSignalTable()).writeFrame(out);
+                JournalRecord.memoryImage(snapshot.getMemoryState()).writeFrame(out);
+
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    tempChannel.write(buffer);
+                }
+                tempChannel.force(false);
+            }
+
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException | RuntimeException e) {
+            LOG.log(Level.WARNING, "Cannot compact project journal " + file, e);
+            closeChannel();
+        } finally {
+            if (tempFile != null && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Deletes the journal.
+     */
+    private void deleteJournal() {
+        closeChannel();
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot delete project journal " + file, e);
+        }
+    }
+
+    /**
+     * Closes the channel of the journal if it is open.
+     */
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot close project journal " + file, e);
+        }
+        channel = null;
+    }
+
+    /**
+     * Queue item replacing the journal with a {@link ProjectSnapshot}.
+     */
+    private static final class Compaction {
+
+        private final ProjectSnapshot snapshot;
+        private final File projectFile;
+
+        /**
+         * Constructs a new {@code Compaction}.
+         *
+         * @param snapshot
+         *          the {@code ProjectSnapshot} to compact
+         * @param projectFile
+         *          the project file, may be {@code null}
+         */
+        private Compaction(ProjectSnapshot snapshot, File projectFile) {
+            this.snapshot = checkNotNull(snapshot);
+            this.projectFile = projectFile;
+        }
+    }
+}
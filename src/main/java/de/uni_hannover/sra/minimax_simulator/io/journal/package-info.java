@@ -0,0 +1,4 @@
+/**
+ * Contains all classes for journaling the changes of a project for crash recovery.
+ */
+package de.uni_hannover.sra.minimax_simulator.io.journal;
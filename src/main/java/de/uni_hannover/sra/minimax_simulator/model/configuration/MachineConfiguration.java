@@ -103,6 +103,21 @@ public final class MachineConfiguration {
         muxSourcesBView = Collections.unmodifiableList(muxSourcesB);
     }
 
+    /**
+     * Creates a copy of the {@code MachineConfiguration}.<br>
+     * The copy has neither listeners nor a {@link SignalTable}, so later changes of this configuration
+     * do not affect the copy.
+     *
+     * @return
+     *          the copy
+     */
+    public MachineConfiguration copy() {
+        Map<MuxType, List<MuxInput>> selectedMuxInput = new EnumMap<>(MuxType.class);
+        selectedMuxInput.put(MuxType.A, muxSourcesA);
+        selectedMuxInput.put(MuxType.B, muxSourcesB);
+        return new MachineConfiguration(alu, baseRegisters, extendedRegisters, availableMuxSources, selectedMuxInput);
+    }
+
     /**
      * Adds an {@link SignalTable} to the machine's configuration.
      *
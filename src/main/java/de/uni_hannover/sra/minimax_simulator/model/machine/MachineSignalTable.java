@@ -11,15 +11,22 @@ import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntUnaryOperator;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * Decorator for a {@link SignalTable} that calculates the descriptions of the {@link SignalRow}s
- * and updates the ALUSelect codes, ALUOperation codes and JumpTargets.
+ * and updates the ALUSelect codes, ALUOperation codes and JumpTargets.<br>
+ * <br>
+ * The descriptions are created lazily on their first request and only invalidated if the signals of the row
+ * or the machine components the row references change.
  * 
  * @author Martin L&uml;ck
  * @author Philipp Rohde
@@ -30,42 +37,13 @@ public class MachineSignalTable implements SignalTable, MachineConfigListener {
     private final DescriptionFactory descriptionFactory;
     private final SignalConfiguration signalConfig;
 
-    /** Enum used for the recalculation of the jump targets. */
-    private enum Action {
-        ADDED,
-        MOVED {
-            private int direction = 0;
-
-            @Override
-            public void setDirection(int value) {
-                direction = value;
-            }
-
-            @Override
-            public int getDirection() {
-                return direction;
-            }
-        },
-        REMOVED;
-
-        /**
-         * Gets the direction of moving.
-         *
-         * @return
-         *          {@code -1} for up and {@code 1} for down
-         */
-        public int getDirection() { return 0; }
-
-        /**
-         * Sets the direction to the specified value.
-         *
-         * @param value
-         *          the new value
-         */
-        public void setDirection(int value) {
-            // is empty instead of being abstract so only MOVED has so override it
-        }
-    }
+    /**
+     * The index of the rows referencing a target row by an {@link UnconditionalJump} or a {@link ConditionalJump},
+     * so adding, removing or moving rows only visits the jumps whose targets actually change.
+     */
+    private final TreeMap<Integer, Set<SignalRow>> jumpReferences;
+    /** The jump each row was indexed with. */
+    private final Map<SignalRow, Jump> indexedJumps;
 
     /**
      * Constructs a new {@code MachineSignalTable}.
@@ -88,27 +66,37 @@ public class MachineSignalTable implements SignalTable, MachineConfigListener {
 
         machineConfig1.addMachineConfigListener(this);
 
-        updateAllDescriptions();
+        jumpReferences = new TreeMap<>();
+        indexedJumps = new IdentityHashMap<>();
+        for (int i = 0, n = theTable.getRowCount(); i < n; i++) {
+            indexJump(theTable.getRow(i));
+        }
+
+        invalidateAllDescriptions();
     }
 
     /**
-     * Updates the description of the specified {@link SignalRow}.
+     * Invalidates the description of the specified {@link SignalRow}.<br>
+     * <br>
+     * The description is created by the {@link DescriptionFactory} when it is requested the next time.
+     * The index of the row may have changed by then, but only the targets of the jump depend on it
+     * and those are remapped without changing the description.
      *
      * @param rowIndex
      *          the index of the row
      * @param row
      *          the {@code SignalRow}
      */
-    private void updateDescription(int rowIndex, SignalRow row) {
-        row.setDescription(descriptionFactory.createDescription(rowIndex, row));
+    private void invalidateDescription(int rowIndex, SignalRow row) {
+        row.invalidateDescription(() -> descriptionFactory.createDescription(rowIndex, row));
     }
 
     /**
-     * Updates the description of all {@link SignalRow}s.
+     * Invalidates the description of all {@link SignalRow}s.
      */
-    private void updateAllDescriptions() {
+    private void invalidateAllDescriptions() {
         for (int i = 0, n = theTable.getRowCount(); i < n; i++) {
-            updateDescription(i, theTable.getRow(i));
+            invalidateDescription(i, theTable.getRow(i));
         }
     }
 
@@ -134,108 +122,150 @@ public class MachineSignalTable implements SignalTable, MachineConfigListener {
 
     @Override
     public void addSignalRow(SignalRow row) {
-        updateDescription(theTable.getRowCount(), row);
+        invalidateDescription(theTable.getRowCount(), row);
+        indexJump(row);
         theTable.addSignalRow(row);
     }
 
     @Override
     public void addSignalRow(int index, SignalRow row) {
-        updateJumpTargets(index, Action.ADDED);
-        updateDescription(index, row);
+        remapJumpTargets(index, Integer.MAX_VALUE, target -> target + 1);
+        invalidateDescription(index, row);
+        indexJump(row);
         theTable.addSignalRow(index, row);
     }
 
     @Override
     public void removeSignalRow(int index) {
-        updateJumpTargets(index, Action.REMOVED);
+        unindexJump(theTable.getRow(index));
+        remapJumpTargets(index, Integer.MAX_VALUE, target -> target == index ? -1 : target - 1);
         theTable.removeSignalRow(index);
     }
 
+    @Override
+    public void addSignalRows(int index, List<SignalRow> rows) {
+        int count = rows.size();
+        remapJumpTargets(index, Integer.MAX_VALUE, target -> target + count);
+        for (int i = 0; i < count; i++) {
+            SignalRow row = rows.get(i);
+            invalidateDescription(index + i, row);
+            indexJump(row);
+        }
+        theTable.addSignalRows(index, rows);
+    }
+
+    @Override
+    public void removeSignalRows(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i <= toIndex; i++) {
+            unindexJump(theTable.getRow(i));
+        }
+        int count = toIndex - fromIndex + 1;
+        remapJumpTargets(fromIndex, Integer.MAX_VALUE, target -> target <= toIndex ? -1 : target - count);
+        theTable.removeSignalRows(fromIndex, toIndex);
+    }
+
     /**
-     * Updates the jump targets after a {@code SignalRow} has been added, removed or moved.
+     * Adds the {@link Jump} of the specified {@link SignalRow} to the index of jump references.
      *
-     * @param index
-     *          the index of the row that has been changed
-     * @param action
-     *          the action that triggered the update
+     * @param row
+     *          the {@code SignalRow} to index
      */
-    private void updateJumpTargets(int index, Action action) {
-        List<SignalRow> rows = theTable.getRows();
-
-        for (int i = 0; i < rows.size(); i++) {
-            Jump j = rows.get(i).getJump();
-
-            if (j == null) {
-                break;
-            }
-            if (j instanceof UnconditionalJump ) {
-                UnconditionalJump uj = (UnconditionalJump) j;
-
-                int oldTarget = uj.getTargetRow();
-                int newTarget = calculateJumpTarget(index, oldTarget, action);
-
-                if (oldTarget != newTarget) {
-                    setRowJump(i, new UnconditionalJump(newTarget));
-                }
-            }
-            else if (j instanceof ConditionalJump) {
-                ConditionalJump cj = (ConditionalJump) j;
-
-                int oldTarget0 = cj.getTargetRow(0);
-                int newTarget0 = calculateJumpTarget(index, oldTarget0, action);
+    private void indexJump(SignalRow row) {
+        Jump jump = row.getJump();
+        indexedJumps.put(row, jump);
+        if (jump instanceof UnconditionalJump) {
+            addJumpReference(((UnconditionalJump) jump).getTargetRow(), row);
+        }
+        else if (jump instanceof ConditionalJump) {
+            addJumpReference(((ConditionalJump) jump).getTargetRow(0), row);
+            addJumpReference(((ConditionalJump) jump).getTargetRow(1), row);
+        }
+    }
 
-                int oldTarget1 = cj.getTargetRow(1);
-                int newTarget1 = calculateJumpTarget(index, oldTarget1, action);
+    /**
+     * Removes the {@link Jump} the specified {@link SignalRow} was indexed with from the index of jump references.
+     *
+     * @param row
+     *          the {@code SignalRow} to remove
+     */
+    private void unindexJump(SignalRow row) {
+        Jump jump = indexedJumps.remove(row);
+        if (jump instanceof UnconditionalJump) {
+            removeJumpReference(((UnconditionalJump) jump).getTargetRow(), row);
+        }
+        else if (jump instanceof ConditionalJump) {
+            removeJumpReference(((ConditionalJump) jump).getTargetRow(0), row);
+            removeJumpReference(((ConditionalJump) jump).getTargetRow(1), row);
+        }
+    }
 
-                if ( (oldTarget0 != newTarget0) || (oldTarget1 != newTarget1) ) {
-                    setRowJump(i, new ConditionalJump(newTarget0, newTarget1));
-                }
+    /**
+     * Adds a reference of the specified target row by the specified {@link SignalRow}.
+     *
+     * @param target
+     *          the index of the target row
+     * @param row
+     *          the referencing {@code SignalRow}
+     */
+    private void addJumpReference(int target, SignalRow row) {
+        jumpReferences.computeIfAbsent(target, t -> Collections.newSetFromMap(new IdentityHashMap<>())).add(row);
+    }
 
+    /**
+     * Removes a reference of the specified target row by the specified {@link SignalRow}.
+     *
+     * @param target
+     *          the index of the target row
+     * @param row
+     *          the referencing {@code SignalRow}
+     */
+    private void removeJumpReference(int target, SignalRow row) {
+        Set<SignalRow> rows = jumpReferences.get(target);
+        if (rows != null) {
+            rows.remove(row);
+            if (rows.isEmpty()) {
+                jumpReferences.remove(target);
             }
         }
     }
 
     /**
-     * Recalculates the jump target.
+     * Updates the jump targets after {@code SignalRow}s have been added, removed or moved.<br>
+     * <br>
+     * Only the rows jumping to a target within the specified range are visited. Their jumps are replaced
+     * without notifying the listeners, as the structural change of the table is announced by a single event
+     * afterwards. The descriptions do not need to be updated because the mappings keep distinct targets distinct.
      *
-     * @param index
-     *          the index of the row that has been changed
-     * @param oldTarget
-     *          the index of old target row
-     * @param action
-     *          the action that triggered the update
-     * @return
-     *          the recalculated jump target
+     * @param fromTarget
+     *          the lowest target row that may change
+     * @param toTarget
+     *          the highest target row that may change
+     * @param mapping
+     *          maps the old target row to the new one for all targets within the range
      */
-    private int calculateJumpTarget(int index, int oldTarget, Action action) {
-        int newTarget = oldTarget;
-        switch (action) {
-            case ADDED:
-                if (oldTarget >= index) {
-                    newTarget = oldTarget + 1;
-                }
-                break;
-
-            case REMOVED:
-                if (oldTarget == index) {
-                    newTarget = -1;
-                }
-                else if (oldTarget > index) {
-                    newTarget = oldTarget - 1;
-                }
-                break;
-
-            case MOVED:
-                int direction = action.getDirection();
-                if (oldTarget == index + direction) {
-                    newTarget = oldTarget - direction;
-                }
-                else if (oldTarget == index) {
-                    newTarget = oldTarget + direction;
-                }
-                break;
+    private void remapJumpTargets(int fromTarget, int toTarget, IntUnaryOperator mapping) {
+        Set<SignalRow> affectedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Set<SignalRow> rows : jumpReferences.subMap(fromTarget, true, toTarget, true).values()) {
+            affectedRows.addAll(rows);
+        }
+
+        IntUnaryOperator rangeMapping = target -> target >= fromTarget && target <= toTarget ? mapping.applyAsInt(target) : target;
+        for (SignalRow row : affectedRows) {
+            unindexJump(row);
+
+            Jump jump = row.getJump();
+            if (jump instanceof UnconditionalJump) {
+                int target = ((UnconditionalJump) jump).getTargetRow();
+                row.setJump(new UnconditionalJump(rangeMapping.applyAsInt(target)));
+            }
+            else if (jump instanceof ConditionalJump) {
+                int target0 = ((ConditionalJump) jump).getTargetRow(0);
+                int target1 = ((ConditionalJump) jump).getTargetRow(1);
+                row.setJump(new ConditionalJump(rangeMapping.applyAsInt(target0), rangeMapping.applyAsInt(target1)));
+            }
+
+            indexJump(row);
         }
-        return newTarget;
     }
 
     @Override
@@ -247,182 +277,197 @@ public class MachineSignalTable implements SignalTable, MachineConfigListener {
     public void setRowSignal(int index, String signal, SignalValue value) {
         SignalRow row = theTable.getRow(index);
         row.setSignal(signal, value);
-        updateDescription(index, row);
+        invalidateDescription(index, row);
         theTable.setRowSignal(index, signal, value);
     }
 
     @Override
     public void setRowJump(int index, Jump jump) {
         SignalRow row = theTable.getRow(index);
+        unindexJump(row);
         row.setJump(jump);
-        updateDescription(index, row);
+        indexJump(row);
+        invalidateDescription(index, row);
         theTable.setRowJump(index, jump);
     }
 
     @Override
     public void processEvent(MachineConfigEvent event) {
-        // update the ALUSelect codes
-        if (event instanceof MachineConfigListEvent.MachineConfigMuxEvent) {
+        if (event instanceof MachineConfigListEvent.MachineConfigMuxEvent && ((MachineConfigListEvent.MachineConfigMuxEvent) event).mux != null) {
+            // only the ALUSelect codes of the changed multiplexer are affected
             MachineConfigListEvent.MachineConfigMuxEvent muxEvent = (MachineConfigListEvent.MachineConfigMuxEvent) event;
-            if (muxEvent.type == MachineConfigListEvent.EventType.ELEMENT_REMOVED) {
-                updateAluSelectCodesRemoved(muxEvent.mux, muxEvent.index);
-            }
-            else if (muxEvent.type == MachineConfigListEvent.EventType.ELEMENTS_EXCHANGED) {
-                updateAluSelectCodesExchanged(muxEvent.mux, muxEvent.index, muxEvent.index2);
-            }
+            String signal = muxEvent.mux == MuxType.A ? "ALU_SELECT_A" : "ALU_SELECT_B";
+            updateListSignal(signal, muxEvent);
         }
-        // update the ALUOp codes
         else if (event instanceof MachineConfigListEvent.MachineConfigAluEvent) {
-            MachineConfigListEvent.MachineConfigAluEvent aluEvent = (MachineConfigListEvent.MachineConfigAluEvent) event;
-            if (aluEvent.type == MachineConfigListEvent.EventType.ELEMENT_REMOVED) {
-                updateAluOpCodesRemoved(aluEvent.index);
-            }
-            else if (aluEvent.type == MachineConfigListEvent.EventType.ELEMENTS_EXCHANGED) {
-                updateAluOpCodesExchanged(aluEvent.index, aluEvent.index2);
-            }
+            // only the ALUOp codes are affected
+            updateListSignal("ALU_CTRL", (MachineConfigListEvent.MachineConfigAluEvent) event);
         }
+        else if (event instanceof MachineConfigListEvent.MachineConfigRegisterEvent) {
+            // only the rows writing the changed registers are affected
+            updateRegisterSignals((MachineConfigListEvent.MachineConfigRegisterEvent) event);
+        }
+        else {
+            // any signal may now be invalid
+            replaceInvalidSignals();
 
-        // any signal may now be invalid
-        replaceInvalidSignals();
-
-        // any signal row can have another description now
-        updateAllDescriptions();
+            // any signal row can have another description now
+            invalidateAllDescriptions();
+        }
     }
 
     /**
      * Replaces invalid signals with {@link SignalValue#DONT_CARE}.
      */
     private void replaceInvalidSignals() {
-        ImmutableList<SignalRow> rows = getRows();
-        ListIterator<SignalRow> iter = rows.listIterator();
-        while (iter.hasNext()) {
-            int index = iter.nextIndex();
-            SignalRow row = iter.next();
-            for (SignalType signalType : signalConfig.getSignalTypes()) {
-                SignalValue currentRowValue = row.getSignal(signalType);
-                if (!signalType.getValues().contains(currentRowValue)) {
-                    row.setSignal(signalType, SignalValue.DONT_CARE);
-                    theTable.setRowSignal(index, signalType.getName(), SignalValue.DONT_CARE);
-                }
+        ImmutableList<SignalType> signalTypes = signalConfig.getSignalTypes();
+        for (int index = 0, n = theTable.getRowCount(); index < n; index++) {
+            SignalRow row = theTable.getRow(index);
+            for (SignalType signalType : signalTypes) {
+                replaceInvalidSignal(index, row, signalType);
             }
         }
     }
 
     /**
-     * Updates the ALUSelect codes after deletion of a muxInput.
+     * Replaces the value of the specified {@link SignalType} of the specified {@link SignalRow}
+     * with {@link SignalValue#DONT_CARE} if it is invalid.
      *
-     * @param mux
-     *          the multiplexer that was changed
      * @param index
-     *          the index of the removed muxInput
+     *          the index of the row
+     * @param row
+     *          the {@code SignalRow}
+     * @param signalType
+     *          the {@code SignalType} to check
      */
-    private void updateAluSelectCodesRemoved(MuxType mux, int index) {
-        if (mux == null) {
-            return;
-        }
-        String lookUp = (mux == MuxType.A) ? "ALU_SELECT_A" : "ALU_SELECT_B";
-
-        for (SignalRow signalRow : theTable.getRows()) {
-            Map<String, SignalValue> signalValues = signalRow.getSignalValues();
-
-            if (signalValues.containsKey(lookUp)) {
-                SignalValue value = signalValues.get(lookUp);
-                if (!value.isDontCare() && value.intValue() > index) {
-                    int newIndex = value.intValue() - 1;
-                    signalRow.setSignalValue(lookUp, newIndex);
-                }
-                else if (!value.isDontCare() && value.intValue() == index) {
-                    signalRow.setSignal(lookUp, null);
-                }
-            }
+    private void replaceInvalidSignal(int index, SignalRow row, SignalType signalType) {
+        SignalValue currentRowValue = row.getSignal(signalType);
+        if (!signalType.getValues().contains(currentRowValue)) {
+            row.setSignal(signalType, SignalValue.DONT_CARE);
+            theTable.setRowSignal(index, signalType.getName(), SignalValue.DONT_CARE);
         }
     }
 
     /**
-     * Updates the ALUSelect codes after exchanging two muxInputs.
+     * Gets the {@link SignalType} with the specified ID.
      *
-     * @param mux
-     *          the multiplexer that was changed
-     * @param index1
-     *          the first muxInput
-     * @param index2
-     *          the second muxInput
+     * @param id
+     *          the ID of the signal
+     * @return
+     *          the {@code SignalType}, or {@code null} if there is none
      */
-    private void updateAluSelectCodesExchanged(MuxType mux, int index1, int index2) {
-        String lookUp = (mux == MuxType.A) ? "ALU_SELECT_A" : "ALU_SELECT_B";
-
-        for (SignalRow signalRow : theTable.getRows()) {
-            Map<String, SignalValue> signalValues = signalRow.getSignalValues();
-
-            if (signalValues.containsKey(lookUp)) {
-                SignalValue value = signalValues.get(lookUp);
-                if (!value.isDontCare() && value.intValue() == index1) {
-                    signalRow.setSignalValue(lookUp, index2);
-                }
-                else if (!value.isDontCare() && value.intValue() == index2) {
-                    signalRow.setSignalValue(lookUp, index1);
-                }
+    private SignalType getSignalType(String id) {
+        for (SignalType signalType : signalConfig.getSignalTypes()) {
+            if (signalType.getId().equals(id)) {
+                return signalType;
             }
         }
+        return null;
     }
 
     /**
-     * Updates the ALUOp codes after deletion of an ALUOperation.
+     * Updates the codes of a signal selecting an element of a list of the machine configuration,
+     * i.e. the ALUSelect or the ALUOp codes, after the list was changed.<br>
+     * <br>
+     * Only the rows with a code of the signal set are visited and only the rows whose selected
+     * element was moved, replaced or removed get their description invalidated.
      *
-     * @param index
-     *          the index of the removed muxInput
+     * @param signal
+     *          the name of the signal
+     * @param event
+     *          the {@link MachineConfigListEvent} of the change
      */
-    private void updateAluOpCodesRemoved(int index) {
-        String lookUp = "ALU_CTRL";
-
-        for (SignalRow signalRow : theTable.getRows()) {
-            Map<String, SignalValue> signalValues = signalRow.getSignalValues();
-
-            if (signalValues.containsKey(lookUp)) {
-                SignalValue value = signalValues.get(lookUp);
-                if (!value.isDontCare() && value.intValue() > index) {
-                    int newIndex = value.intValue() - 1;
-                    signalRow.setSignalValue(lookUp, newIndex);
-                }
-                else if (!value.isDontCare() && value.intValue() == index) {
-                    signalRow.setSignal(lookUp, null);
-                }
+    private void updateListSignal(String signal, MachineConfigListEvent<?> event) {
+        SignalType signalType = getSignalType(signal);
+
+        for (int i = 0, n = theTable.getRowCount(); i < n; i++) {
+            SignalRow row = theTable.getRow(i);
+            SignalValue value = row.getSignal(signal, null);
+            if (value == null || value.isDontCare()) {
+                continue;
+            }
+
+            int code = value.intValue();
+            boolean affected;
+            switch (event.type) {
+                case ELEMENT_ADDED:
+                    affected = code >= event.index;
+                    break;
+                case ELEMENT_REMOVED:
+                    affected = code >= event.index;
+                    if (code == event.index) {
+                        row.setSignal(signal, null);
+                    }
+                    else if (code > event.index) {
+                        row.setSignalValue(signal, code - 1);
+                    }
+                    break;
+                case ELEMENT_REPLACED:
+                    affected = code == event.index;
+                    break;
+                case ELEMENTS_EXCHANGED:
+                    affected = code == event.index || code == event.index2;
+                    if (code == event.index) {
+                        row.setSignalValue(signal, event.index2);
+                    }
+                    else if (code == event.index2) {
+                        row.setSignalValue(signal, event.index);
+                    }
+                    break;
+                default:
+                    affected = true;
+                    break;
+            }
+
+            if (signalType != null) {
+                replaceInvalidSignal(i, row, signalType);
+            }
+            if (affected) {
+                invalidateDescription(i, row);
             }
         }
     }
 
     /**
-     * Updates the ALUOp codes after exchanging two ALUOperations.
+     * Invalidates the descriptions of the rows writing a register affected by the specified
+     * {@link MachineConfigListEvent.MachineConfigRegisterEvent}.<br>
+     * <br>
+     * The write enable signals are binary and stay valid, so no signal has to be replaced.
      *
-     * @param index1
-     *          the first muxInput
-     * @param index2
-     *          the second muxInput
+     * @param event
+     *          the {@code MachineConfigRegisterEvent} of the change
      */
-    private void updateAluOpCodesExchanged(int index1, int index2) {
-        String lookUp = "ALU_CTRL";
-
-        for (SignalRow signalRow : theTable.getRows()) {
-            Map<String, SignalValue> signalValues = signalRow.getSignalValues();
-
-            if (signalValues.containsKey(lookUp)) {
-                SignalValue value = signalValues.get(lookUp);
-                if (!value.isDontCare() && value.intValue() == index1) {
-                    signalRow.setSignalValue(lookUp, index2);
-                }
-                else if (!value.isDontCare() && value.intValue() == index2) {
-                    signalRow.setSignalValue(lookUp, index1);
-                }
+    private void updateRegisterSignals(MachineConfigListEvent.MachineConfigRegisterEvent event) {
+        String signal = event.element.getName() + ".W";
+        String signal2 = event.element2 == null ? signal : event.element2.getName() + ".W";
+
+        for (int i = 0, n = theTable.getRowCount(); i < n; i++) {
+            SignalRow row = theTable.getRow(i);
+            if (row.getSignal(signal, null) != null || row.getSignal(signal2, null) != null) {
+                invalidateDescription(i, row);
             }
         }
     }
 
     @Override
     public void setSignalRow(int index, SignalRow row) {
-        updateDescription(index, row);
+        unindexJump(theTable.getRow(index));
+        indexJump(row);
+        invalidateDescription(index, row);
         theTable.setSignalRow(index, row);
     }
 
+    @Override
+    public void setSignalRows(int index, List<SignalRow> rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            SignalRow row = rows.get(i);
+            unindexJump(theTable.getRow(index + i));
+            indexJump(row);
+            invalidateDescription(index + i, row);
+        }
+        theTable.setSignalRows(index, rows);
+    }
+
     @Override
     public DescriptionFactory getDescriptionFactory() {
         return descriptionFactory;
@@ -430,10 +475,12 @@ public class MachineSignalTable implements SignalTable, MachineConfigListener {
 
     @Override
     public void moveSignalRows(int firstIndex, int lastIndex, int direction) {
-        Action action = Action.MOVED;
-        action.setDirection(direction);
-        for (int i = lastIndex; i >= firstIndex; i--) {
-            updateJumpTargets(i, action);
+        // the moved block shifts by one and the displaced row moves to the other end of the block
+        if (direction == 1) {
+            remapJumpTargets(firstIndex, lastIndex + 1, target -> target == lastIndex + 1 ? firstIndex : target + 1);
+        }
+        else if (direction == -1) {
+            remapJumpTargets(firstIndex - 1, lastIndex, target -> target == firstIndex - 1 ? lastIndex : target - 1);
         }
         theTable.moveSignalRows(firstIndex, lastIndex, direction);
     }
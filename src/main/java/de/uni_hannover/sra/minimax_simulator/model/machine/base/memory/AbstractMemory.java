@@ -1,5 +1,7 @@
 package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
 
+import com.google.common.collect.ImmutableList;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,6 +16,11 @@ public abstract class AbstractMemory implements MachineMemory {
 
     private List<MemoryAccessListener> listeners = new ArrayList<>();
 
+    private final List<Watchpoint> watchpoints = new ArrayList<>();
+    private final List<WatchpointListener> watchpointListeners = new ArrayList<>();
+    private boolean watchesReads;
+    private boolean watchesWrites;
+
     private final int addressWidth;
     private final int minAddress;
     private final int maxAddress;
@@ -23,6 +30,12 @@ public abstract class AbstractMemory implements MachineMemory {
 
     private boolean doNotifyListeners;
 
+    /** The lowest and highest address written while the listeners were not notified. */
+    private int dirtyFromAddress;
+    private int dirtyToAddress;
+    /** Whether the whole memory changed while the listeners were not notified. */
+    private boolean dirtyAll;
+
     /**
      * Constructs a new {@code AbstractMemory} with the specified address width.
      *
@@ -35,6 +48,7 @@ public abstract class AbstractMemory implements MachineMemory {
         maxAddress = (1 << addressWidth) - 1;
 
         doNotifyListeners = true;
+        clearDirtyRange();
     }
 
     @Override
@@ -70,15 +84,44 @@ public abstract class AbstractMemory implements MachineMemory {
      */
     protected abstract MemoryState cloneState(MemoryState state);
 
+    /**
+     * Creates the mark of the specified {@link MemoryState}. Unlike {@link #cloneState(MemoryState)}, the mark
+     * may share data with the state as long as later changes of the state do not affect it. Clones the state
+     * by default.
+     *
+     * @param state
+     *          the {@code MemoryState} to mark
+     * @return
+     *          the mark
+     */
+    protected MemoryState shareState(MemoryState state) {
+        return cloneState(state);
+    }
+
     @Override
     public MemoryState getMemoryState() {
         return memoryWorkState;
     }
 
+    @Override
+    public MemoryState copyMemoryState() {
+        return cloneState(memoryWorkState);
+    }
+
+    @Override
+    public MemoryState snapshotMemoryState() {
+        return shareState(memoryWorkState);
+    }
+
     @Override
     public void markMemoryState() {
         checkState(memoryBackupState == null);
-        memoryBackupState = cloneState(memoryWorkState);
+        memoryBackupState = shareState(memoryWorkState);
+    }
+
+    @Override
+    public MemoryState getMarkedMemoryState() {
+        return memoryBackupState;
     }
 
     @Override
@@ -139,6 +182,7 @@ public abstract class AbstractMemory implements MachineMemory {
      */
     protected void fireWriteAccess(int address, int value) {
         if (!doNotifyListeners) {
+            markDirty(address, address);
             return;
         }
 
@@ -152,6 +196,7 @@ public abstract class AbstractMemory implements MachineMemory {
      */
     protected void fireMemoryReset() {
         if (!doNotifyListeners) {
+            dirtyAll = true;
             return;
         }
 
@@ -163,12 +208,59 @@ public abstract class AbstractMemory implements MachineMemory {
      */
     protected void fireMemoryChanged() {
         if (!doNotifyListeners) {
+            dirtyAll = true;
             return;
         }
 
         listeners.forEach(MemoryAccessListener::memoryChanged);
     }
 
+    /**
+     * Notifies listeners about a change of the specified address range if {@link #getNotifiesListeners()}
+     * returns true. Otherwise the range is remembered until the listeners are notified again.
+     *
+     * @param fromAddress
+     *          the lowest changed address
+     * @param toAddress
+     *          the highest changed address, inclusive
+     */
+    protected void fireMemoryRangeChanged(int fromAddress, int toAddress) {
+        if (!doNotifyListeners) {
+            markDirty(fromAddress, toAddress);
+            return;
+        }
+
+        for (MemoryAccessListener l : listeners) {
+            l.memoryRangeChanged(fromAddress, toAddress);
+        }
+    }
+
+    /**
+     * Extends the range of addresses written while the listeners were not notified.
+     *
+     * @param fromAddress
+     *          the lowest written address
+     * @param toAddress
+     *          the highest written address, inclusive
+     */
+    private void markDirty(int fromAddress, int toAddress) {
+        if (fromAddress < dirtyFromAddress) {
+            dirtyFromAddress = fromAddress;
+        }
+        if (toAddress > dirtyToAddress) {
+            dirtyToAddress = toAddress;
+        }
+    }
+
+    /**
+     * Forgets the changes made while the listeners were not notified.
+     */
+    private void clearDirtyRange() {
+        dirtyFromAddress = Integer.MAX_VALUE;
+        dirtyToAddress = Integer.MIN_VALUE;
+        dirtyAll = false;
+    }
+
     @Override
     public boolean getNotifiesListeners() {
         return doNotifyListeners;
@@ -179,7 +271,143 @@ public abstract class AbstractMemory implements MachineMemory {
         boolean oldValue = doNotifyListeners;
         doNotifyListeners = notify;
         if (notify && !oldValue) {
-            fireMemoryChanged();
+            // only report what actually changed meanwhile
+            boolean changedAll = dirtyAll;
+            int fromAddress = dirtyFromAddress;
+            int toAddress = dirtyToAddress;
+            clearDirtyRange();
+
+            if (changedAll) {
+                fireMemoryChanged();
+            }
+            else if (fromAddress <= toAddress) {
+                fireMemoryRangeChanged(fromAddress, toAddress);
+            }
+        }
+    }
+
+    @Override
+    public void addWatchpoint(Watchpoint watchpoint) {
+        watchpoints.add(watchpoint);
+        updateWatchpoints();
+    }
+
+    @Override
+    public void removeWatchpoint(Watchpoint watchpoint) {
+        if (watchpoints.remove(watchpoint)) {
+            updateWatchpoints();
+        }
+    }
+
+    @Override
+    public List<Watchpoint> getWatchpoints() {
+        return ImmutableList.copyOf(watchpoints);
+    }
+
+    @Override
+    public void addWatchpointListener(WatchpointListener l) {
+        if (!watchpointListeners.contains(l)) {
+            watchpointListeners.add(l);
+        }
+    }
+
+    @Override
+    public void removeWatchpointListener(WatchpointListener l) {
+        watchpointListeners.remove(l);
+    }
+
+    /**
+     * Recalculates the cached watch flags after the set of {@link Watchpoint}s changed.
+     */
+    private void updateWatchpoints() {
+        watchesReads = false;
+        watchesWrites = false;
+        for (Watchpoint watchpoint : watchpoints) {
+            watchesReads |= watchpoint.getAccess().isRead();
+            watchesWrites |= watchpoint.getAccess().isWrite();
+        }
+        watchpointsChanged(watchpoints);
+    }
+
+    /**
+     * Called after the set of {@link Watchpoint}s changed.<br>
+     * <br>
+     * Implementations may override this to precompute cheaper checks than {@link #isWatchingReads()}
+     * and {@link #isWatchingWrites()}, e.g. per page of memory.
+     *
+     * @param watchpoints
+     *          the currently registered {@code Watchpoint}s
+     */
+    protected void watchpointsChanged(List<Watchpoint> watchpoints) {
+        // nothing to precompute by default
+    }
+
+    /**
+     * Gets the value of the {@code watching reads} property.
+     *
+     * @return
+     *          {@code true} if there is at least one {@link Watchpoint} observing read accesses, {@code false} otherwise
+     */
+    protected boolean isWatchingReads() {
+        return watchesReads;
+    }
+
+    /**
+     * Gets the value of the {@code watching writes} property.
+     *
+     * @return
+     *          {@code true} if there is at least one {@link Watchpoint} observing write accesses, {@code false} otherwise
+     */
+    protected boolean isWatchingWrites() {
+        return watchesWrites;
+    }
+
+    /**
+     * Notifies the {@link WatchpointListener}s about an access of the specified address if it
+     * hits a registered {@link Watchpoint}.<br>
+     * <br>
+     * In contrast to {@link #fireReadAccess(int, int)} and {@link #fireWriteAccess(int, int)} this
+     * does not depend on {@link #getNotifiesListeners()}.
+     *
+     * @param address
+     *          the accessed address
+     * @param value
+     *          the read or written value
+     * @param write
+     *          {@code true} for a write access, {@code false} for a read access
+     */
+    protected void fireWatchedAccess(int address, int value, boolean write) {
+        for (Watchpoint watchpoint : watchpoints) {
+            if (watchpoint.matches(address, write)) {
+                for (WatchpointListener l : watchpointListeners) {
+                    l.watchpointHit(watchpoint, address, value, write);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the contribution of a single memory word to the content hash of a {@link MemoryState}.<br>
+     * <br>
+     * The content hash is the sum of the contributions of all words, so it can be updated on each write
+     * by subtracting the contribution of the old value and adding the one of the new value. Zero words
+     * do not contribute to the hash.
+     *
+     * @param address
+     *          the address of the word
+     * @param value
+     *          the value of the word
+     * @return
+     *          the contribution of the word
+     */
+    protected static long hashWord(int address, int value) {
+        if (value == 0) {
+            return 0;
         }
+        // finalizer of the SplitMix64 generator
+        long h = ((long) address << 32) | (value & 0xFFFFFFFFL);
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
     }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@ public class ArrayMemory extends AbstractMemory {
 
         /** The array holding the values stored in memory. */
         private int[] values;
+        /** The incrementally maintained hash of the content. */
+        private long contentHash;
 
         /**
          * Constructs a new {@code ArrayMemoryState} of the specified length.
@@ -40,13 +42,25 @@ public class ArrayMemory extends AbstractMemory {
         @Override
         public int getInt(int address) {
             int value = values[address];
+            if (isWatchingReads()) {
+                fireWatchedAccess(address, value, false);
+            }
             fireReadAccess(address, value);
             return value;
         }
 
+        @Override
+        public int peekInt(int address) {
+            return values[address];
+        }
+
         @Override
         public void setInt(int address, int value) {
+            contentHash += hashWord(address, value) - hashWord(address, values[address]);
             values[address] = value;
+            if (isWatchingWrites()) {
+                fireWatchedAccess(address, value, true);
+            }
             fireWriteAccess(address, value);
         }
 
@@ -57,14 +71,22 @@ public class ArrayMemory extends AbstractMemory {
          *          the copy
          */
         ArrayMemoryState copy() {
-            return new ArrayMemoryState(values);
+            ArrayMemoryState c = new ArrayMemoryState(values);
+            c.contentHash = contentHash;
+            return c;
         }
 
         @Override
         public void zero() {
             Arrays.fill(values, 0);
+            contentHash = 0;
             fireMemoryChanged();
         }
+
+        @Override
+        public long getContentHash() {
+            return contentHash;
+        }
     }
 
     /**
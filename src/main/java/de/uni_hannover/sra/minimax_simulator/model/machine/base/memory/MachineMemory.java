@@ -1,5 +1,7 @@
 package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
 
+import java.util.List;
+
 /**
  * The {@code MachineMemory} is the basis of all types of memory used by register machines.
  *
@@ -15,11 +17,40 @@ public interface MachineMemory extends AddressRange {
      */
     public MemoryState getMemoryState();
 
+    /**
+     * Creates a copy of the current {@link MemoryState} of the {@code MachineMemory}.<br>
+     * Later changes of the memory do not affect the copy.
+     *
+     * @return
+     *          a copy of the {@code MemoryState}
+     */
+    public MemoryState copyMemoryState();
+
+    /**
+     * Creates a snapshot of the current {@link MemoryState} of the {@code MachineMemory}, which may share
+     * data with the memory unlike {@link #copyMemoryState()}.<br>
+     * Later changes of the memory do not affect the snapshot, it must not be changed itself. The snapshot
+     * may be read by another thread, but it must be created by the thread writing the memory.
+     *
+     * @return
+     *          a snapshot of the {@code MemoryState}
+     */
+    public MemoryState snapshotMemoryState();
+
     /**
      * Marks the {@link MemoryState} of the {@code MachineMemory}.
      */
     public void markMemoryState();
 
+    /**
+     * Gets the {@link MemoryState} saved by {@link #markMemoryState()}, e.g. the memory at the start of the
+     * simulation. Later changes of the memory do not affect the marked state, it must not be changed itself.
+     *
+     * @return
+     *          the marked {@code MemoryState} or {@code null} if the memory is not marked
+     */
+    public MemoryState getMarkedMemoryState();
+
     /**
      * Resets the {@link MemoryState} of the {@code MachineMemory}.
      */
@@ -34,7 +65,10 @@ public interface MachineMemory extends AddressRange {
     public boolean getNotifiesListeners();
 
     /**
-     * Sets the {@code notify listeners} property to the specific value.
+     * Sets the {@code notify listeners} property to the specific value.<br>
+     * <br>
+     * If the notifications are enabled again, the listeners are notified once about the range of
+     * addresses written meanwhile, or about a change of the whole memory if it was zeroed or reset.
      *
      * @param notify
      *          the new value of the {@code notify listeners} property
@@ -56,4 +90,44 @@ public interface MachineMemory extends AddressRange {
      *          the {@code MemoryAccessListener} to remove
      */
     public void removeMemoryAccessListener(MemoryAccessListener l);
+
+    /**
+     * Registers a new {@link Watchpoint}.
+     *
+     * @param watchpoint
+     *          the {@code Watchpoint} to register
+     */
+    public void addWatchpoint(Watchpoint watchpoint);
+
+    /**
+     * Removes a {@link Watchpoint}.
+     *
+     * @param watchpoint
+     *          the {@code Watchpoint} to remove
+     */
+    public void removeWatchpoint(Watchpoint watchpoint);
+
+    /**
+     * Gets the registered {@link Watchpoint}s.
+     *
+     * @return
+     *          an immutable list of the {@code Watchpoint}s
+     */
+    public List<Watchpoint> getWatchpoints();
+
+    /**
+     * Registers a new {@link WatchpointListener}.
+     *
+     * @param l
+     *          the {@code WatchpointListener} to register
+     */
+    public void addWatchpointListener(WatchpointListener l);
+
+    /**
+     * Removes a {@link WatchpointListener}.
+     *
+     * @param l
+     *          the {@code WatchpointListener} to remove
+     */
+    public void removeWatchpointListener(WatchpointListener l);
 }
\ No newline at end of file
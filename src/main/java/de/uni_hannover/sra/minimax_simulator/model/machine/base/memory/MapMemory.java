@@ -22,6 +22,8 @@ public class MapMemory extends AbstractMemory {
         private final int maxAddress;
         /** The map holding the values stored in memory. */
         private final Map<Integer, Integer> valueMap;
+        /** The incrementally maintained hash of the content. */
+        private long contentHash;
 
         /**
          * Constructs a new {@code MapMemoryState} with the specified maximum address.
@@ -53,22 +55,39 @@ public class MapMemory extends AbstractMemory {
             checkElementIndex(address, maxAddress + 1);
             Integer entry = valueMap.get(address);
             if (entry == null) {
+                if (isWatchingReads()) {
+                    fireWatchedAccess(address, DEFAULT_VALUE, false);
+                }
                 return DEFAULT_VALUE;
             }
 
             int value = entry;
+            if (isWatchingReads()) {
+                fireWatchedAccess(address, value, false);
+            }
             fireReadAccess(address, value);
             return value;
         }
 
+        @Override
+        public int peekInt(int address) {
+            checkElementIndex(address, maxAddress + 1);
+            return valueMap.getOrDefault(address, DEFAULT_VALUE);
+        }
+
         @Override
         public void setInt(int address, int value) {
             checkElementIndex(address, maxAddress + 1);
+            Integer oldValue;
             if (value == DEFAULT_VALUE) {
-                valueMap.remove(address);
+                oldValue = valueMap.remove(address);
             }
             else {
-                valueMap.put(address, value);
+                oldValue = valueMap.put(address, value);
+            }
+            contentHash += hashWord(address, value) - hashWord(address, oldValue == null ? DEFAULT_VALUE : oldValue);
+            if (isWatchingWrites()) {
+                fireWatchedAccess(address, value, true);
             }
             fireWriteAccess(address, value);
         }
@@ -80,14 +99,22 @@ public class MapMemory extends AbstractMemory {
          *          the copy
          */
         MapMemoryState copy() {
-            return new MapMemoryState(maxAddress, valueMap);
+            MapMemoryState c = new MapMemoryState(maxAddress, valueMap);
+            c.contentHash = contentHash;
+            return c;
         }
 
         @Override
         public void zero() {
             valueMap.clear();
+            contentHash = 0;
             fireMemoryChanged();
         }
+
+        @Override
+        public long getContentHash() {
+            return contentHash;
+        }
     }
 
     /**
@@ -37,4 +37,17 @@ public interface MemoryAccessListener {
      * Called if the memory was changed for a different reason, e.g. zeroing.
      */
     void memoryChanged();
+
+    /**
+     * Called if the words of a range of addresses were changed at once, e.g. by an import or while the
+     * listeners were not notified. Calls {@link #memoryChanged()} by default.
+     *
+     * @param fromAddress
+     *          the lowest changed address
+     * @param toAddress
+     *          the highest changed address, inclusive
+     */
+    default void memoryRangeChanged(int fromAddress, int toAddress) {
+        memoryChanged();
+    }
 }
\ No newline at end of file
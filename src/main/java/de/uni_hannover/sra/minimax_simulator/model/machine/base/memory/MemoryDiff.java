@@ -0,0 +1,219 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code MemoryDiff} lists the ranges of addresses whose words differ between two {@link MemoryState}s,
+ * e.g. between the memory marked at the start of the simulation and the current memory.<br>
+ * <br>
+ * The states are compared page by page. Pages shared by both states or allocated by neither are skipped
+ * without reading them, the other pages are compared with {@link Arrays#mismatch(int[], int, int, int[], int, int)}.
+ *
+ * @author agent
+ */
+public final class MemoryDiff {
+
+    private final List<Range> ranges;
+    private final long changedWordCount;
+
+    /**
+     * Constructs a new {@code MemoryDiff} of the specified ranges.
+     *
+     * @param ranges
+     *          the ascending changed ranges
+     */
+    private MemoryDiff(List<Range> ranges) {
+        this.ranges = ImmutableList.copyOf(ranges);
+        long count = 0;
+        for (Range range : ranges) {
+            count += range.getLength();
+        }
+        changedWordCount = count;
+    }
+
+    /**
+     * Compares two {@link MemoryState}s of the same memory.
+     *
+     * @param from
+     *          the old {@code MemoryState}, must be a {@link PagedMemoryState}
+     * @param to
+     *          the new {@code MemoryState}, must be a {@link PagedMemoryState} with the same pages
+     * @return
+     *          the {@code MemoryDiff} of the states
+     */
+    public static MemoryDiff compare(MemoryState from, MemoryState to) {
+        checkArgument(checkNotNull(from) instanceof PagedMemoryState, "the diff requires a paged memory");
+        checkArgument(checkNotNull(to) instanceof PagedMemoryState, "the diff requires a paged memory");
+        PagedMemoryState oldState = (PagedMemoryState) from;
+        PagedMemoryState newState = (PagedMemoryState) to;
+        checkArgument(oldState.getPageCount() == newState.getPageCount()
+                && oldState.getPageSize() == newState.getPageSize(), "the states have different pages");
+
+        int pageSize = oldState.getPageSize();
+        int[] oldWords = new int[pageSize];
+        int[] newWords = new int[pageSize];
+        List<Range> ranges = new ArrayList<>();
+        // the open range, so ranges continuing on the next page are merged
+        int rangeStart = -1;
+        int rangeEnd = -1;
+
+        for (int p = 0; p < oldState.getPageCount(); p++) {
+            if (oldState.isPageShared(p, newState)
+                    || (!oldState.isPageAllocated(p) && !newState.isPageAllocated(p))) {
+                continue;
+            }
+
+            oldState.readPage(p, oldWords);
+            newState.readPage(p, newWords);
+            int base = p * pageSize;
+
+            int i = 0;
+            while (i < pageSize) {
+                int mismatch = Arrays.mismatch(oldWords, i, pageSize, newWords, i, pageSize);
+                if (mismatch < 0) {
+                    break;
+                }
+                int start = i + mismatch;
+                int end = start;
+                while (end + 1 < pageSize && oldWords[end + 1] != newWords[end + 1]) {
+                    end++;
+                }
+
+                if (rangeEnd >= 0 && rangeEnd + 1 == base + start) {
+                    rangeEnd = base + end;
+                }
+                else {
+                    if (rangeEnd >= 0) {
+                        ranges.add(new Range(rangeStart, rangeEnd));
+                    }
+                    rangeStart = base + start;
+                    rangeEnd = base + end;
+                }
+                i = end + 1;
+            }
+        }
+
+        if (rangeEnd >= 0) {
+            ranges.add(new Range(rangeStart, rangeEnd));
+        }
+        return new MemoryDiff(ranges);
+    }
+
+    /**
+     * Gets the ranges of changed addresses.
+     *
+     * @return
+     *          an immutable list of the ascending, non-adjacent changed {@code Range}s
+     */
+    public List<Range> getRanges() {
+        return ranges;
+    }
+
+    /**
+     * Gets the count of changed words.
+     *
+     * @return
+     *          the count of changed words
+     */
+    public long getChangedWordCount() {
+        return changedWordCount;
+    }
+
+    /**
+     * Checks whether the states hold the same words.
+     *
+     * @return
+     *          {@code true} if no word changed, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    /**
+     * A {@code Range} of consecutive changed addresses.
+     *
+     * @author agent
+     */
+    public static final class Range {
+
+        private final int fromAddress;
+        private final int toAddress;
+
+        /**
+         * Constructs a new {@code Range}.
+         *
+         * @param fromAddress
+         *          the first changed address
+         * @param toAddress
+         *          the last changed address, inclusive
+         */
+        public Range(int fromAddress, int toAddress) {
+            checkArgument(fromAddress <= toAddress, "Empty range: " + fromAddress + " to " + toAddress);
+            this.fromAddress = fromAddress;
+            this.toAddress = toAddress;
+        }
+
+        /**
+         * Gets the first changed address.
+         *
+         * @return
+         *          the first address of the range
+         */
+        public int getFromAddress() {
+            return fromAddress;
+        }
+
+        /**
+         * Gets the last changed address.
+         *
+         * @return
+         *          the last address of the range, inclusive
+         */
+        public int getToAddress() {
+            return toAddress;
+        }
+
+        /**
+         * Gets the count of words of the range.
+         *
+         * @return
+         *          the length of the range
+         */
+        public int getLength() {
+            return toAddress - fromAddress + 1;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            else if (obj == null) {
+                return false;
+            }
+            else if (getClass() != obj.getClass()) {
+                return false;
+            }
+
+            Range other = (Range) obj;
+            return fromAddress == other.fromAddress && toAddress == other.toAddress;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fromAddress + toAddress;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + fromAddress + ", " + toAddress + "]";
+        }
+    }
+}
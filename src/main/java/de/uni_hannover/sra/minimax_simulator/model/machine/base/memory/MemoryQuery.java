@@ -0,0 +1,139 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code MemoryQuery} describes a sequence of words searched by a {@link MemorySearch}.<br>
+ * <br>
+ * Each word of the sequence has a mask. A word of the memory matches if it equals the searched word
+ * in all bits set in the mask, so a mask of {@code 0xFFFFFFFF} searches for the exact value and a mask
+ * of {@code 0} matches any value.
+ *
+ * @author agent
+ */
+public final class MemoryQuery {
+
+    /** The mask comparing all bits of a word. */
+    public static final int FULL_MASK = 0xFFFFFFFF;
+
+    private final int[] values;
+    private final int[] masks;
+
+    /**
+     * Constructs a new {@code MemoryQuery} searching for the specified words.
+     *
+     * @param values
+     *          the searched words
+     * @param masks
+     *          the masks of the searched words
+     */
+    private MemoryQuery(int[] values, int[] masks) {
+        checkArgument(values.length > 0, "Empty query");
+        checkArgument(values.length == masks.length, "Count of values and masks differs");
+        this.masks = masks.clone();
+        this.values = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            this.values[i] = values[i] & masks[i];
+        }
+    }
+
+    /**
+     * Creates a {@code MemoryQuery} searching for a single value.
+     *
+     * @param value
+     *          the searched value
+     * @return
+     *          the query
+     */
+    public static MemoryQuery value(int value) {
+        return maskedValue(value, FULL_MASK);
+    }
+
+    /**
+     * Creates a {@code MemoryQuery} searching for a single value in the bits set in the mask.
+     *
+     * @param value
+     *          the searched value
+     * @param mask
+     *          the compared bits
+     * @return
+     *          the query
+     */
+    public static MemoryQuery maskedValue(int value, int mask) {
+        return new MemoryQuery(new int[] { value }, new int[] { mask });
+    }
+
+    /**
+     * Creates a {@code MemoryQuery} searching for a sequence of consecutive words.
+     *
+     * @param values
+     *          the searched words
+     * @return
+     *          the query
+     */
+    public static MemoryQuery sequence(int... values) {
+        int[] masks = new int[checkNotNull(values).length];
+        Arrays.fill(masks, FULL_MASK);
+        return new MemoryQuery(values, masks);
+    }
+
+    /**
+     * Creates a {@code MemoryQuery} searching for a sequence of consecutive words with a mask per word.
+     *
+     * @param values
+     *          the searched words
+     * @param masks
+     *          the compared bits of each word
+     * @return
+     *          the query
+     */
+    public static MemoryQuery maskedSequence(int[] values, int[] masks) {
+        return new MemoryQuery(checkNotNull(values), checkNotNull(masks));
+    }
+
+    /**
+     * Gets the count of words of the searched sequence.
+     *
+     * @return
+     *          the length of the query
+     */
+    public int getLength() {
+        return values.length;
+    }
+
+    /**
+     * Checks whether a word matches the word of the sequence at the specified position.
+     *
+     * @param index
+     *          the position in the sequence
+     * @param word
+     *          the word of the memory
+     * @return
+     *          {@code true} if the word matches, {@code false} otherwise
+     */
+    public boolean matchesWord(int index, int word) {
+        return (word & masks[index]) == values[index];
+    }
+
+    /**
+     * Checks whether the sequence starts at the specified offset of the words.
+     *
+     * @param words
+     *          the words of the memory
+     * @param offset
+     *          the start of the compared words
+     * @return
+     *          {@code true} if the words at the offset match the whole sequence, {@code false} otherwise
+     */
+    public boolean matches(int[] words, int offset) {
+        for (int i = 0; i < values.length; i++) {
+            if ((words[offset + i] & masks[i]) != values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,247 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
+
+import com.google.common.primitives.Ints;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code MemorySearch} finds the addresses at which a {@link MemoryQuery} matches the words of a
+ * {@link PagedMemoryState}.<br>
+ * <br>
+ * The pages are searched in parallel by the common {@link ForkJoinPool}. Pages that were never allocated
+ * contain only zeros and are skipped if the query cannot start with a zero. Sequences spanning the end of a
+ * page are found as well. The search reads the pages in bulk, so it neither notifies
+ * {@link MemoryAccessListener}s nor hits {@link Watchpoint}s, but the memory must not be written while it runs.
+ *
+ * @author agent
+ */
+public class MemorySearch {
+
+    /** The default maximum count of reported matches. */
+    public static final int DEFAULT_MAX_RESULTS = 10000;
+
+    /** The count of pages a task searches itself instead of splitting them up. */
+    private static final int PAGES_PER_TASK = 8;
+
+    private final PagedMemoryState state;
+    private final MemoryQuery query;
+    private final int maxResults;
+
+    private final int pageCount;
+    private final int pageSize;
+
+    private MemorySearchListener listener;
+    private ProgressMonitor monitor;
+
+    private final AtomicInteger resultCount;
+    private final AtomicInteger pagesDone;
+    private volatile boolean truncated;
+
+    /**
+     * Constructs a new {@code MemorySearch} reporting at most {@link #DEFAULT_MAX_RESULTS} matches.
+     *
+     * @param state
+     *          the {@link MemoryState} to search, must be a {@link PagedMemoryState}
+     * @param query
+     *          the searched {@link MemoryQuery}
+     */
+    public MemorySearch(MemoryState state, MemoryQuery query) {
+        this(state, query, DEFAULT_MAX_RESULTS);
+    }
+
+    /**
+     * Constructs a new {@code MemorySearch}.
+     *
+     * @param state
+     *          the {@link MemoryState} to search, must be a {@link PagedMemoryState}
+     * @param query
+     *          the searched {@link MemoryQuery}
+     * @param maxResults
+     *          the maximum count of reported matches
+     */
+    public MemorySearch(MemoryState state, MemoryQuery query, int maxResults) {
+        checkArgument(state instanceof PagedMemoryState, "the search requires a paged memory");
+        checkArgument(maxResults > 0, "Maximum count of results must be positive: " + maxResults);
+        this.state = (PagedMemoryState) state;
+        this.query = checkNotNull(query);
+        this.maxResults = maxResults;
+
+        pageCount = this.state.getPageCount();
+        pageSize = this.state.getPageSize();
+
+        resultCount = new AtomicInteger();
+        pagesDone = new AtomicInteger();
+    }
+
+    /**
+     * Searches the whole memory and blocks until the search finished.
+     *
+     * @param listener
+     *          the {@link MemorySearchListener} receiving the matches while searching
+     * @param monitor
+     *          the {@link ProgressMonitor} receiving the count of searched pages and canceling the search
+     * @return
+     *          the ascending start addresses of all reported matches
+     * @throws java.util.concurrent.CancellationException
+     *          thrown if the search was canceled by the {@code ProgressMonitor}
+     */
+    public synchronized int[] search(MemorySearchListener listener, ProgressMonitor monitor) {
+        this.listener = checkNotNull(listener);
+        this.monitor = checkNotNull(monitor);
+        resultCount.set(0);
+        pagesDone.set(0);
+        truncated = false;
+
+        monitor.progress(0, pageCount);
+        return ForkJoinPool.commonPool().invoke(new SearchTask(0, pageCount));
+    }
+
+    /**
+     * Checks whether the last search stopped because it found more than the maximum count of matches.
+     * In this case not necessarily the matches with the lowest addresses were reported.
+     *
+     * @return
+     *          {@code true} if not all matches were reported, {@code false} otherwise
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Searches a range of pages.
+     *
+     * @param fromPage
+     *          the first page to search
+     * @param toPage
+     *          the page after the last page to search
+     * @return
+     *          the ascending start addresses of the matches in the pages
+     */
+    private int[] searchPages(int fromPage, int toPage) {
+        int length = query.getLength();
+        long lastStart = (long) pageCount * pageSize - length;
+        boolean skipUnallocated = !query.matchesWord(0, 0);
+
+        // the words of the page followed by the words a sequence starting at its end reaches into
+        int[] words = new int[pageSize + length - 1];
+        int[] page = new int[pageSize];
+        int[] found = new int[pageSize];
+        int[][] results = new int[toPage - fromPage][];
+
+        for (int p = fromPage; p < toPage && !truncated; p++) {
+            monitor.checkCanceled();
+
+            long base = (long) p * pageSize;
+            int starts = (int) Math.min(pageSize, lastStart - base + 1);
+            if (starts > 0 && (state.isPageAllocated(p) || !skipUnallocated)) {
+                readWords(p, words, page);
+
+                int count = 0;
+                for (int i = 0; i < starts; i++) {
+                    if (query.matches(words, i)) {
+                        if (resultCount.incrementAndGet() > maxResults) {
+                            truncated = true;
+                            break;
+                        }
+                        found[count++] = (int) base + i;
+                    }
+                }
+
+                if (count > 0) {
+                    results[p - fromPage] = Arrays.copyOf(found, count);
+                    listener.matchesFound(results[p - fromPage].clone());
+                }
+            }
+
+            monitor.progress(pagesDone.incrementAndGet(), pageCount);
+        }
+
+        return concat(results);
+    }
+
+    /**
+     * Reads the words of a page and the words following it that are needed to match sequences
+     * starting at the end of the page.
+     *
+     * @param p
+     *          the index of the page
+     * @param words
+     *          the array to read the words to
+     * @param page
+     *          a buffer of the size of a page
+     */
+    private void readWords(int p, int[] words, int[] page) {
+        for (int offset = 0; offset < words.length; offset += pageSize, p++) {
+            int count = Math.min(pageSize, words.length - offset);
+            if (p < pageCount && state.isPageAllocated(p)) {
+                state.readPage(p, page);
+                System.arraycopy(page, 0, words, offset, count);
+            }
+            else {
+                Arrays.fill(words, offset, offset + count, 0);
+            }
+        }
+    }
+
+    /**
+     * Concatenates arrays that may be {@code null}.
+     *
+     * @param arrays
+     *          the arrays
+     * @return
+     *          the concatenated arrays
+     */
+    private static int[] concat(int[][] arrays) {
+        int nonNull = 0;
+        for (int[] array : arrays) {
+            if (array != null) {
+                arrays[nonNull++] = array;
+            }
+        }
+        return Ints.concat(Arrays.copyOf(arrays, nonNull));
+    }
+
+    /**
+     * Searches a range of pages, splitting it into two halves searched in parallel if it is large.
+     */
+    private class SearchTask extends RecursiveTask<int[]> {
+
+        private final int fromPage;
+        private final int toPage;
+
+        /**
+         * Constructs a new {@code SearchTask} for the specified range of pages.
+         *
+         * @param fromPage
+         *          the first page to search
+         * @param toPage
+         *          the page after the last page to search
+         */
+        SearchTask(int fromPage, int toPage) {
+            this.fromPage = fromPage;
+            this.toPage = toPage;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (toPage - fromPage <= PAGES_PER_TASK) {
+                return searchPages(fromPage, toPage);
+            }
+
+            int middle = (fromPage + toPage) >>> 1;
+            SearchTask upper = new SearchTask(middle, toPage);
+            upper.fork();
+            int[] lower = new SearchTask(fromPage, middle).compute();
+            // the upper half starts after the lower half, so the addresses stay ascending
+            return Ints.concat(lower, upper.join());
+        }
+    }
+}
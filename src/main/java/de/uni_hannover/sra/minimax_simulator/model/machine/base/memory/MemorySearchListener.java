@@ -0,0 +1,19 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+/**
+ * A {@code MemorySearchListener} receives the matches of a {@link MemorySearch} while the search is running.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface MemorySearchListener {
+
+    /**
+     * Called if matches were found in a page of the memory. The pages are searched in parallel, so this
+     * method may be called concurrently and the pages are not reported in the order of their addresses.
+     *
+     * @param addresses
+     *          the ascending start addresses of the matches in the page
+     */
+    public void matchesFound(int[] addresses);
+}
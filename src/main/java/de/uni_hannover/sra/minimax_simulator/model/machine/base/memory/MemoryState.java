@@ -17,6 +17,19 @@ public interface MemoryState {
      */
     public int getInt(int address);
 
+    /**
+     * Gets the value at the specified memory address without counting it as a read access of the machine.<br>
+     * <br>
+     * Unlike {@link #getInt(int)}, this neither triggers watchpoints nor notifies the {@link MemoryAccessListener}s
+     * nor counts the access in the memory profile. It is meant for the user interface and for exports.
+     *
+     * @param address
+     *          the memory address whose value will be read
+     * @return
+     *          the value of the memory address
+     */
+    public int peekInt(int address);
+
     /**
      * Sets the specified value at the specified memory address.
      *
@@ -31,4 +44,15 @@ public interface MemoryState {
      * Zeros the entire {@code MemoryState}.
      */
     public void zero();
+
+    /**
+     * Gets a hash of the entire content of the {@code MemoryState}.<br>
+     * <br>
+     * The hash is maintained incrementally on each write, so this is a constant-time operation.
+     * Equal contents always have equal hashes.
+     *
+     * @return
+     *          the hash of the memory content
+     */
+    public long getContentHash();
 }
\ No newline at end of file
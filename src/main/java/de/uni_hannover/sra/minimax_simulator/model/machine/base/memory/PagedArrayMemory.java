@@ -1,6 +1,7 @@
 package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -14,37 +15,113 @@ public class PagedArrayMemory extends AbstractMemory {
     /**
      * The {@link MemoryState} of a {@link PagedArrayMemory}.
      */
-    private class PagedMemoryState implements MemoryState {
+    private class PagedArrayMemoryState implements PagedMemoryState {
 
         /** The paged array holding the values stored in memory. */
         private final int[][] pages;
+        /** Flags of the pages that may be shared with another state and have to be copied before writing. */
+        private final boolean[] shared;
+        /** The incrementally maintained hash of the content. */
+        private long contentHash;
 
         /**
-         * Constructs a new {@code PagedMemoryState} with {@link PagedArrayMemory#pageCount} pages.
+         * Constructs a new {@code PagedArrayMemoryState} with {@link PagedArrayMemory#pageCount} pages.
          */
-        PagedMemoryState() {
+        PagedArrayMemoryState() {
             pages = new int[pageCount][];
+            shared = new boolean[pageCount];
         }
 
         @Override
         public int getInt(int address) {
             int value = page(address)[address & pageAddressMask];
+            if (pageReadCounts != null) {
+                pageReadCounts[address >>> pageAddressWidth]++;
+            }
+            if ((pageWatchFlags[address >>> pageAddressWidth] & WATCH_READ) != 0) {
+                fireWatchedAccess(address, value, false);
+            }
             fireReadAccess(address, value);
             return value;
         }
 
+        @Override
+        public int peekInt(int address) {
+            int[] p = pages[address >>> pageAddressWidth];
+            return p == null ? 0 : p[address & pageAddressMask];
+        }
+
         @Override
         public void setInt(int address, int value) {
-            page(address)[address & pageAddressMask] = value;
+            int[] page = writablePage(address >>> pageAddressWidth);
+            int index = address & pageAddressMask;
+            contentHash += hashWord(address, value) - hashWord(address, page[index]);
+            page[index] = value;
+            if (pageWriteCounts != null) {
+                pageWriteCounts[address >>> pageAddressWidth]++;
+            }
+            if ((pageWatchFlags[address >>> pageAddressWidth] & WATCH_WRITE) != 0) {
+                fireWatchedAccess(address, value, true);
+            }
             fireWriteAccess(address, value);
         }
 
         @Override
         public void zero() {
             Arrays.fill(pages, null);
+            Arrays.fill(shared, false);
+            contentHash = 0;
             fireMemoryChanged();
         }
 
+        @Override
+        public long getContentHash() {
+            return contentHash;
+        }
+
+        @Override
+        public int getPageCount() {
+            return pageCount;
+        }
+
+        @Override
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        @Override
+        public boolean isPageAllocated(int page) {
+            return pages[page] != null;
+        }
+
+        @Override
+        public void readPage(int page, int[] dst) {
+            int[] p = pages[page];
+            if (p == null) {
+                Arrays.fill(dst, 0, pageSize, 0);
+            }
+            else {
+                System.arraycopy(p, 0, dst, 0, pageSize);
+            }
+        }
+
+        @Override
+        public boolean isPageShared(int page, PagedMemoryState other) {
+            return other instanceof PagedArrayMemoryState && ((PagedArrayMemoryState) other).pages[page] == pages[page];
+        }
+
+        @Override
+        public void writePage(int page, int[] src) {
+            int[] p = writablePage(page);
+
+            int baseAddress = page << pageAddressWidth;
+            for (int i = 0; i < pageSize; i++) {
+                contentHash += hashWord(baseAddress + i, src[i]) - hashWord(baseAddress + i, p[i]);
+            }
+            System.arraycopy(src, 0, p, 0, pageSize);
+            fireMemoryRangeChanged(baseAddress, baseAddress + pageSize - 1);
+        }
+
         /**
          * Gets the entire page the specified address belongs to.
          *
@@ -62,28 +139,82 @@ public class PagedArrayMemory extends AbstractMemory {
         }
 
         /**
-         * Creates a copy of the {@code PagedMemoryState}.
+         * Gets the specified page for writing. The page is allocated if necessary and copied if it may be
+         * shared with another state.
+         *
+         * @param index
+         *          the index of the page
+         * @return
+         *          the page
+         */
+        private int[] writablePage(int index) {
+            int[] p = pages[index];
+            if (p == null) {
+                pages[index] = p = new int[pageSize];
+            }
+            else if (shared[index]) {
+                pages[index] = p = p.clone();
+                shared[index] = false;
+            }
+            return p;
+        }
+
+        /**
+         * Creates a copy of the {@code PagedArrayMemoryState}.
          *
          * @return
          *          the copy
          */
         public MemoryState copy() {
-            PagedMemoryState c = new PagedMemoryState();
+            PagedArrayMemoryState c = new PagedArrayMemoryState();
             for (int i = 0; i < pages.length; i++) {
                 if (pages[i] != null) {
                     c.pages[i] = Arrays.copyOf(pages[i], pageSize);
                 }
             }
+            c.contentHash = contentHash;
+            return c;
+        }
+
+        /**
+         * Creates a copy of the {@code PagedArrayMemoryState} that shares the pages with this state. A shared
+         * page is copied by the state writing it first, so both states must be written by the same thread.
+         *
+         * @return
+         *          the copy sharing the pages
+         */
+        public MemoryState share() {
+            PagedArrayMemoryState c = new PagedArrayMemoryState();
+            for (int i = 0; i < pages.length; i++) {
+                if (pages[i] != null) {
+                    c.pages[i] = pages[i];
+                    c.shared[i] = shared[i] = true;
+                }
+            }
+            c.contentHash = contentHash;
             return c;
         }
     }
 
+    /** Flag of {@link #pageWatchFlags} marking a page with a {@link Watchpoint} for read accesses. */
+    private static final byte WATCH_READ = 0x01;
+    /** Flag of {@link #pageWatchFlags} marking a page with a {@link Watchpoint} for write accesses. */
+    private static final byte WATCH_WRITE = 0x02;
+
     private final int pageCount;
     private final int pageSize;
 
     private final int pageAddressWidth;
     private final int pageAddressMask;
 
+    /** The watch flags of each page, so accesses of unwatched pages skip the {@link Watchpoint} lookup. */
+    private final byte[] pageWatchFlags;
+
+    /** The counters of read accesses per page, or {@code null} if accesses are not counted. */
+    private long[] pageReadCounts;
+    /** The counters of write accesses per page, or {@code null} if accesses are not counted. */
+    private long[] pageWriteCounts;
+
     /**
      * Constructs a new {@code PagedArrayMemory} of the specified length with the
      * specified page size.
@@ -102,17 +233,79 @@ public class PagedArrayMemory extends AbstractMemory {
 
         this.pageAddressWidth = pageAddressWidth;
         pageAddressMask = (1 << pageAddressWidth) - 1;
+        pageWatchFlags = new byte[pageCount];
 
         setupMemoryState();
     }
 
+    /**
+     * Gets the number of pages.
+     *
+     * @return
+     *          the number of pages
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Gets the number of words of a single page.
+     *
+     * @return
+     *          the page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the arrays counting the read and write accesses of each page. The counters are incremented
+     * by every access of the simulated machine or the user, so they should only be set while simulating.
+     *
+     * @param readCounts
+     *          the counters of read accesses indexed by page, or {@code null} to stop counting
+     * @param writeCounts
+     *          the counters of write accesses indexed by page, or {@code null} to stop counting
+     */
+    public void setPageAccessCounters(long[] readCounts, long[] writeCounts) {
+        checkArgument(readCounts == null || readCounts.length == pageCount, "wrong count of read counters");
+        checkArgument(writeCounts == null || writeCounts.length == pageCount, "wrong count of write counters");
+        pageReadCounts = readCounts;
+        pageWriteCounts = writeCounts;
+    }
+
     @Override
     protected MemoryState createMemoryState() {
-        return new PagedMemoryState();
+        return new PagedArrayMemoryState();
     }
 
     @Override
     protected MemoryState cloneState(MemoryState state) {
-        return ((PagedMemoryState) state).copy();
+        return ((PagedArrayMemoryState) state).copy();
+    }
+
+    @Override
+    protected MemoryState shareState(MemoryState state) {
+        return ((PagedArrayMemoryState) state).share();
+    }
+
+    @Override
+    protected void watchpointsChanged(List<Watchpoint> watchpoints) {
+        Arrays.fill(pageWatchFlags, (byte) 0);
+        for (Watchpoint watchpoint : watchpoints) {
+            byte flags = 0;
+            if (watchpoint.getAccess().isRead()) {
+                flags |= WATCH_READ;
+            }
+            if (watchpoint.getAccess().isWrite()) {
+                flags |= WATCH_WRITE;
+            }
+
+            int firstPage = Math.min(watchpoint.getFromAddress(), getMaxAddress()) >>> pageAddressWidth;
+            int lastPage = Math.min(watchpoint.getToAddress(), getMaxAddress()) >>> pageAddressWidth;
+            for (int page = firstPage; page <= lastPage; page++) {
+                pageWatchFlags[page] |= flags;
+            }
+        }
     }
 }
\ No newline at end of file
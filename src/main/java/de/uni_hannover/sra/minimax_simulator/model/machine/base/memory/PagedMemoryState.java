@@ -0,0 +1,74 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+/**
+ * A {@link MemoryState} that stores its values in pages of equal size and allows bulk access to whole pages.<br>
+ * <br>
+ * Bulk accesses do not notify any {@link WatchpointListener}s and are not reported as single read or write accesses
+ * to the {@link MemoryAccessListener}s.
+ *
+ * @author agent
+ */
+public interface PagedMemoryState extends MemoryState {
+
+    /**
+     * Gets the number of pages.
+     *
+     * @return
+     *          the number of pages
+     */
+    public int getPageCount();
+
+    /**
+     * Gets the number of words of a single page.
+     *
+     * @return
+     *          the page size
+     */
+    public int getPageSize();
+
+    /**
+     * Checks whether the specified page was allocated, i.e. whether it was ever accessed.
+     * A page that was not allocated contains only zeros.
+     *
+     * @param page
+     *          the index of the page
+     * @return
+     *          {@code true} if the page is allocated, {@code false} otherwise
+     */
+    public boolean isPageAllocated(int page);
+
+    /**
+     * Checks whether the specified page holds the same words in this and the other state without comparing
+     * them, e.g. because the states share the page or neither of them allocated it. A page may hold the same
+     * words even if this method returns {@code false}.
+     *
+     * @param page
+     *          the index of the page
+     * @param other
+     *          the other state
+     * @return
+     *          {@code true} if the page is known to be equal, {@code false} otherwise
+     */
+    public boolean isPageShared(int page, PagedMemoryState other);
+
+    /**
+     * Copies the content of the specified page to the specified array.
+     *
+     * @param page
+     *          the index of the page
+     * @param dst
+     *          the array to copy the page to, at least {@link #getPageSize()} long
+     */
+    public void readPage(int page, int[] dst);
+
+    /**
+     * Overwrites the content of the specified page with the content of the specified array.
+     * The {@link MemoryAccessListener}s are notified about the changed address range of the page.
+     *
+     * @param page
+     *          the index of the page
+     * @param src
+     *          the array holding the new content of the page, at least {@link #getPageSize()} long
+     */
+    public void writePage(int page, int[] src);
+}
@@ -0,0 +1,145 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A {@code Watchpoint} observes a range of memory addresses for read and/or write accesses.<br>
+ * <br>
+ * Watchpoints are registered at the {@link MachineMemory} which notifies its {@link WatchpointListener}s
+ * about every access to a watched address, even if the notification of {@link MemoryAccessListener}s is disabled.
+ *
+ * @author agent
+ */
+public final class Watchpoint {
+
+    /**
+     * Enumeration of the memory accesses a {@link Watchpoint} can observe.
+     */
+    public enum Access {
+
+        READ(true, false),
+        WRITE(false, true),
+        READ_WRITE(true, true);
+
+        private final boolean read;
+        private final boolean write;
+
+        /**
+         * Constructs a new {@code Access}.
+         *
+         * @param read
+         *          whether read accesses are observed
+         * @param write
+         *          whether write accesses are observed
+         */
+        Access(boolean read, boolean write) {
+            this.read = read;
+            this.write = write;
+        }
+
+        /**
+         * Gets the value of the {@code read} property.
+         *
+         * @return
+         *          {@code true} if read accesses are observed, {@code false} otherwise
+         */
+        public boolean isRead() {
+            return read;
+        }
+
+        /**
+         * Gets the value of the {@code write} property.
+         *
+         * @return
+         *          {@code true} if write accesses are observed, {@code false} otherwise
+         */
+        public boolean isWrite() {
+            return write;
+        }
+    }
+
+    private final int fromAddress;
+    private final int toAddress;
+    private final Access access;
+
+    /**
+     * Constructs a new {@code Watchpoint} for the specified address range.
+     *
+     * @param fromAddress
+     *          the first watched address
+     * @param toAddress
+     *          the last watched address (inclusive)
+     * @param access
+     *          the kind of memory accesses to observe
+     */
+    public Watchpoint(int fromAddress, int toAddress, Access access) {
+        checkArgument(fromAddress >= 0 && toAddress >= fromAddress, "invalid address range");
+        this.fromAddress = fromAddress;
+        this.toAddress = toAddress;
+        this.access = access;
+    }
+
+    /**
+     * Constructs a new {@code Watchpoint} for a single address.
+     *
+     * @param address
+     *          the watched address
+     * @param access
+     *          the kind of memory accesses to observe
+     */
+    public Watchpoint(int address, Access access) {
+        this(address, address, access);
+    }
+
+    /**
+     * Gets the first watched address.
+     *
+     * @return
+     *          the first watched address
+     */
+    public int getFromAddress() {
+        return fromAddress;
+    }
+
+    /**
+     * Gets the last watched address.
+     *
+     * @return
+     *          the last watched address (inclusive)
+     */
+    public int getToAddress() {
+        return toAddress;
+    }
+
+    /**
+     * Gets the kind of memory accesses the {@code Watchpoint} observes.
+     *
+     * @return
+     *          the observed {@link Access}
+     */
+    public Access getAccess() {
+        return access;
+    }
+
+    /**
+     * Checks whether the specified memory access is observed by the {@code Watchpoint}.
+     *
+     * @param address
+     *          the accessed address
+     * @param write
+     *          {@code true} for a write access, {@code false} for a read access
+     * @return
+     *          {@code true} if the access hits the {@code Watchpoint}, {@code false} otherwise
+     */
+    public boolean matches(int address, boolean write) {
+        if (address < fromAddress || address > toAddress) {
+            return false;
+        }
+        return write ? access.isWrite() : access.isRead();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Watchpoint[0x%06X-0x%06X, %s]", fromAddress, toAddress, access);
+    }
+}
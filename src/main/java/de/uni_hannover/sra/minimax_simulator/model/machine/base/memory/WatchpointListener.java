@@ -0,0 +1,24 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+/**
+ * A {@code WatchpointListener} is a class that needs to react to accesses of watched memory addresses.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface WatchpointListener {
+
+    /**
+     * Called if a memory access hit a {@link Watchpoint}.
+     *
+     * @param watchpoint
+     *          the {@code Watchpoint} that was hit
+     * @param address
+     *          the accessed address
+     * @param value
+     *          the read or written value
+     * @param write
+     *          {@code true} for a write access, {@code false} for a read access
+     */
+    public void watchpointHit(Watchpoint watchpoint, int address, int value, boolean write);
+}
@@ -2,13 +2,46 @@ package de.uni_hannover.sra.minimax_simulator.model.machine.minimax;
 
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryAccessListener;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.PagedArrayMemory;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.PagedMemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.Watchpoint;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.WatchpointListener;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.AbstractSimulation;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Breakpoint;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.DatapathListener;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.DatapathSampler;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.ExecutionProfile;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.InfiniteLoop;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.LoopDetector;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.SimulationState;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Traceable;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
-
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import static com.google.common.base.Preconditions.checkState;
 
@@ -17,7 +50,7 @@ import static com.google.common.base.Preconditions.checkState;
  *
  * @author Martin L&uuml;ck
  */
-public class MinimaxSimulation extends AbstractSimulation implements MemoryAccessListener {
+public class MinimaxSimulation extends AbstractSimulation implements MemoryAccessListener, WatchpointListener {
 
     private static final Logger LOG = Logger.getLogger(MinimaxSimulation.class.getName());
 
@@ -29,7 +62,33 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
 
     private boolean resolvedRead;
 
+    /** The rows having a registered {@link Breakpoint}, so rows without one are skipped with a single bit test. */
+    private final BitSet breakpointRows;
+    private final Map<Integer, Breakpoint[]> rowBreakpoints;
+    private Breakpoint[] cycleBreakpoints;
+    /** Set if the registered {@link Breakpoint}s changed since they were compiled. */
+    private boolean breakpointsDirty;
+
+    private static final Breakpoint[] NO_BREAKPOINTS = new Breakpoint[0];
+
+    private LoopDetector loopDetector;
+    private InfiniteLoop detectedLoop;
+
+    private boolean profilingEnabled;
+    private ExecutionProfile profile;
+
+    private DatapathSampler datapathSampler;
+    /** Whether the datapath is sampled after the next resolution of the circuits while running. */
+    private boolean datapathSampleDue;
+
+    /** The magic number at the start of each checkpoint, the ASCII characters {@code MMSC}. */
+    private static final int CHECKPOINT_MAGIC = 0x4D4D5343;
+    private static final short CHECKPOINT_VERSION = 1;
+    /** Marks the end of the memory pages of a checkpoint. */
+    private static final int CHECKPOINT_END_OF_PAGES = -1;
+
     private static final int CYCLE_YIELD_BITMASK = 0x00000100;
+    private static final long PROGRESS_CHECK_BITMASK = 0x00000FFF;
 
     /**
      * Constructs a new instance of the {@code MinimaxSimulation} with the specified {@link MinimaxMachine}
@@ -46,11 +105,17 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
         currentSignalRow = -1;
         resolvedRead = false;
 
+        breakpointRows = new BitSet();
+        rowBreakpoints = new HashMap<>();
+        cycleBreakpoints = NO_BREAKPOINTS;
+        breakpointsDirty = true;
+
         if (signalTable.getRowCount() == 0) {
             halt();
         }
 
         this.machine.getMemory().addMemoryAccessListener(this);
+        this.machine.getMemory().addWatchpointListener(this);
         signalTable.addSignalTableListener(this);
     }
 
@@ -77,10 +142,13 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
         currentSignalRow = 0;
         resolvedRead = false;
         resetCycles();
+        resetLoopDetection();
+        resetProfile();
 
         machine.getMemory().resetMemoryState();
         machine.getMemory().markMemoryState();
         currentInstance.updateAll();
+        sampleDatapath();
     }
 
     @Override
@@ -88,13 +156,17 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
         LOG.log(Level.FINE, "Starting simulation.");
 
         currentInstance = new SimulationInstance(machine);
+        datapathSampler = new DatapathSampler(machine.getTopology().getAllCircuits());
         currentInstance.reset();
         currentSignalRow = 0;
         resolvedRead = false;
         resetCycles();
+        resetLoopDetection();
+        resetProfile();
 
         machine.getMemory().markMemoryState();
         currentInstance.updateAll();
+        sampleDatapath();
     }
 
     @Override
@@ -104,7 +176,9 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
         currentSignalRow = -1;
         currentInstance.reset();
         currentInstance = null;
+        datapathSampler = null;
         resolvedRead = false;
+        profile = null;
 
         machine.getMemory().resetMemoryState();
     }
@@ -125,8 +199,16 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
 
             currentInstance.setPortValues(row);
             currentInstance.resolve();
+            if (profile != null) {
+                profile.countRow(currentSignalRow);
+                profile.countAluOperation(currentInstance.getAluOperationCode());
+            }
             if (postUpdates) {
                 currentInstance.updateAluDisplay();
+                sampleDatapath();
+            }
+            else if (datapathSampleDue) {
+                sampleDatapath();
             }
 
             resolvedRead = true;
@@ -138,12 +220,27 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
             }
             incrementCycles();
 
-            currentSignalRow = row.getJump().getTargetRow(currentSignalRow, currentInstance.getCond());
+            int cond = currentInstance.getCond();
+            if (profile != null && row.getJump() instanceof ConditionalJump) {
+                profile.countBranch(currentSignalRow, cond);
+            }
+            currentSignalRow = row.getJump().getTargetRow(currentSignalRow, cond);
 
             if (currentSignalRow >= signalTable.getRowCount()) {
                 halt();
             }
-            else if (signalTable.getRow(currentSignalRow).isBreakpoint()) {
+            else if (isCycleLimitReached()) {
+                LOG.log(Level.INFO, "Cycle limit of " + getCycleLimit() + " cycles reached.");
+                halt();
+            }
+            else if (loopDetector != null && isLoopDetected()) {
+                LOG.log(Level.INFO, detectedLoop.toString());
+                halt();
+            }
+            else if (isRowBreakpointHit()) {
+                pause();
+            }
+            else if (cycleBreakpoints.length != 0 && isCycleBreakpointHit()) {
                 pause();
             }
 
@@ -151,15 +248,213 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
         }
     }
 
+    /**
+     * Samples the values of the datapath if any {@link DatapathListener} is registered.<br>
+     * <br>
+     * The {@link DatapathSampler} copies the values of the resolved circuits into preallocated arrays, so sampling
+     * does not allocate anything.
+     */
+    private void sampleDatapath() {
+        datapathSampleDue = false;
+        if (datapathSampler != null && hasDatapathListeners()) {
+            datapathSampler.sample(getCyclesCount(), currentSignalRow);
+            fireDatapathSampled(datapathSampler);
+        }
+    }
+
+    /**
+     * Samples the machine state for the {@link LoopDetector} if due.
+     *
+     * @return
+     *          {@code true} if a non-terminating loop was detected, {@code false} otherwise
+     */
+    private boolean isLoopDetected() {
+        if (!loopDetector.isSampleDue(currentSignalRow)) {
+            return false;
+        }
+
+        long stateHash = currentInstance.hashRegisters() ^ machine.getMemory().getMemoryState().getContentHash();
+        if (loopDetector.sample(stateHash, currentSignalRow)) {
+            detectedLoop = loopDetector.getLoop(getCyclesCount());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Discards the samples of the {@link LoopDetector} and any detected loop.
+     */
+    private void resetLoopDetection() {
+        detectedLoop = null;
+        if (loopDetector != null) {
+            loopDetector.reset();
+        }
+    }
+
+    @Override
+    public void setLoopDetectionEnabled(boolean enabled) {
+        if (enabled == isLoopDetectionEnabled()) {
+            return;
+        }
+        loopDetector = enabled ? new LoopDetector() : null;
+    }
+
+    @Override
+    public boolean isLoopDetectionEnabled() {
+        return loopDetector != null;
+    }
+
+    @Override
+    public InfiniteLoop getDetectedLoop() {
+        return detectedLoop;
+    }
+
+    /**
+     * Creates a new {@link ExecutionProfile} if profiling is enabled and the simulation is started.
+     */
+    private void resetProfile() {
+        if (!profilingEnabled || currentInstance == null) {
+            profile = null;
+            return;
+        }
+
+        MachineMemory memory = machine.getMemory();
+        if (memory instanceof PagedArrayMemory) {
+            PagedArrayMemory pagedMemory = (PagedArrayMemory) memory;
+            profile = new ExecutionProfile(signalTable.getRowCount(), currentInstance.getAluOperations(),
+                    pagedMemory.getPageCount(), pagedMemory.getPageSize());
+        }
+        else {
+            profile = new ExecutionProfile(signalTable.getRowCount(), currentInstance.getAluOperations(), 0, 1);
+        }
+    }
+
+    /**
+     * Lets the memory count its page accesses into the {@link ExecutionProfile} or stops the counting.
+     *
+     * @param count
+     *          whether the page accesses are counted
+     */
+    private void setCountsPageAccesses(boolean count) {
+        if (profile == null || !(machine.getMemory() instanceof PagedArrayMemory)) {
+            return;
+        }
+
+        PagedArrayMemory memory = (PagedArrayMemory) machine.getMemory();
+        if (count) {
+            memory.setPageAccessCounters(profile.getPageReadCounters(), profile.getPageWriteCounters());
+        }
+        else {
+            memory.setPageAccessCounters(null, null);
+        }
+    }
+
+    @Override
+    public void setProfilingEnabled(boolean enabled) {
+        profilingEnabled = enabled;
+        resetProfile();
+    }
+
+    @Override
+    public boolean isProfilingEnabled() {
+        return profilingEnabled;
+    }
+
+    @Override
+    public ExecutionProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    protected void breakpointsChanged() {
+        breakpointsDirty = true;
+    }
+
+    /**
+     * Compiles the registered {@link Breakpoint}s into the lookup structures checked by {@link #doStep(boolean)}
+     * if they changed since the last compilation.<br>
+     * <br>
+     * The breakpoints of the {@link SignalTable} are not compiled, as the debugger toggles them in place.
+     * They are read from the current {@link SignalRow} instead, which is a constant-time check as well.
+     */
+    private void compileBreakpoints() {
+        if (!breakpointsDirty) {
+            return;
+        }
+        breakpointsDirty = false;
+        breakpointRows.clear();
+        rowBreakpoints.clear();
+
+        Map<Integer, List<Breakpoint>> byRow = new HashMap<>();
+        List<Breakpoint> anyRow = new ArrayList<>();
+        for (Breakpoint breakpoint : getBreakpoints()) {
+            if (breakpoint.getRow() == Breakpoint.ANY_ROW) {
+                anyRow.add(breakpoint);
+            }
+            else {
+                byRow.computeIfAbsent(breakpoint.getRow(), row -> new ArrayList<>()).add(breakpoint);
+                breakpointRows.set(breakpoint.getRow());
+            }
+        }
+        for (Map.Entry<Integer, List<Breakpoint>> entry : byRow.entrySet()) {
+            rowBreakpoints.put(entry.getKey(), entry.getValue().toArray(NO_BREAKPOINTS));
+        }
+        cycleBreakpoints = anyRow.toArray(NO_BREAKPOINTS);
+    }
+
+    /**
+     * Checks the breakpoints bound to the current signal row.
+     *
+     * @return
+     *          {@code true} if the simulation has to be paused, {@code false} otherwise
+     */
+    private boolean isRowBreakpointHit() {
+        boolean hit = signalTable.getRow(currentSignalRow).isBreakpoint();
+        if (!breakpointRows.get(currentSignalRow)) {
+            return hit;
+        }
+
+        Breakpoint[] breakpoints = rowBreakpoints.get(currentSignalRow);
+        if (breakpoints != null) {
+            // check all of them so every breakpoint counts its hits
+            for (Breakpoint breakpoint : breakpoints) {
+                hit |= breakpoint.check(this);
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * Checks the breakpoints that are not bound to a signal row.
+     *
+     * @return
+     *          {@code true} if the simulation has to be paused, {@code false} otherwise
+     */
+    private boolean isCycleBreakpointHit() {
+        boolean hit = false;
+        for (Breakpoint breakpoint : cycleBreakpoints) {
+            hit |= breakpoint.check(this);
+        }
+        return hit;
+    }
+
     @Override
     protected void stepImpl() {
-        doStep(true);
+        compileBreakpoints();
+        setCountsPageAccesses(true);
+        try {
+            doStep(true);
+        } finally {
+            setCountsPageAccesses(false);
+        }
     }
 
     @Override
     protected void runImpl() {
         boolean memoryNotify = machine.getMemory().getNotifiesListeners();
         try {
+            compileBreakpoints();
+            setCountsPageAccesses(true);
             int i = 0;
             machine.getMemory().setNotifiesListeners(false);
             while (!isHalted() && !paused()) {
@@ -168,9 +463,16 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
                 }
 
                 doStep(false);
+
+                if (!resolvedRead && (getCyclesCount() & PROGRESS_CHECK_BITMASK) == 0) {
+                    checkRunProgress();
+                    datapathSampleDue = isDatapathSampleDue();
+                }
             }
             currentInstance.updateAll();
+            sampleDatapath();
         } finally {
+            setCountsPageAccesses(false);
             machine.getMemory().setNotifiesListeners(memoryNotify);
         }
     }
@@ -200,6 +502,227 @@ public class MinimaxSimulation extends AbstractSimulation implements MemoryAcces
         // not interested
     }
 
+    @Override
+    public void watchpointHit(Watchpoint watchpoint, int address, int value, boolean write) {
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.log(Level.FINE, watchpoint + " hit by " + (write ? "write" : "read") + " of address " + address);
+        }
+        // memory edits by the user must not pause the next run
+        if (getState() == SimulationState.RUNNING) {
+            pause();
+        }
+    }
+
+    /**
+     * Gets the memory state of the machine as {@link PagedMemoryState}.
+     *
+     * @return
+     *          the memory state
+     */
+    private PagedMemoryState getPagedMemoryState() {
+        MemoryState state = machine.getMemory().getMemoryState();
+        checkState(state instanceof PagedMemoryState, "checkpoints require a paged memory");
+        return (PagedMemoryState) state;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * <br>
+     * The checkpoint is compressed and consists of a header, the signal row and cycle count, the register values
+     * by name and all memory pages that contain a value other than zero.
+     */
+    @Override
+    protected void saveCheckpointImpl(WritableByteChannel channel) throws IOException {
+        PagedMemoryState memory = getPagedMemoryState();
+
+        Deflater deflater = new Deflater();
+        try {
+            writeCheckpoint(memory, new DeflaterOutputStream(Channels.newOutputStream(channel), deflater));
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Writes the uncompressed checkpoint to the specified stream and finishes it.
+     *
+     * @param memory
+     *          the memory state
+     * @param deflater
+     *          the stream compressing the checkpoint
+     * @throws IOException
+     *          thrown if the checkpoint could not be written
+     */
+    private void writeCheckpoint(PagedMemoryState memory, DeflaterOutputStream deflater) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(deflater));
+
+        out.writeInt(CHECKPOINT_MAGIC);
+        out.writeShort(CHECKPOINT_VERSION);
+        out.writeInt(signalTable.getRowCount());
+        out.writeLong(getCyclesCount());
+        out.writeInt(currentSignalRow);
+        out.writeBoolean(resolvedRead);
+
+        // sorted, so equal machine states result in equal checkpoints
+        TreeSet<String> registerNames = new TreeSet<>(currentInstance.getRegisterNames());
+        out.writeInt(registerNames.size());
+        for (String name : registerNames) {
+            out.writeUTF(name);
+            out.writeInt(currentInstance.getRegisterValue(name).get());
+        }
+
+        int pageSize = memory.getPageSize();
+        int[] page = new int[pageSize];
+        ByteBuffer buffer = ByteBuffer.allocate(pageSize * Integer.BYTES);
+        out.writeInt(pageSize);
+        for (int i = 0, n = memory.getPageCount(); i < n; i++) {
+            if (!memory.isPageAllocated(i)) {
+                continue;
+            }
+            memory.readPage(i, page);
+            if (isZero(page)) {
+                continue;
+            }
+
+            buffer.clear();
+            buffer.asIntBuffer().put(page);
+            out.writeInt(i);
+            out.write(buffer.array());
+        }
+        out.writeInt(CHECKPOINT_END_OF_PAGES);
+
+        out.flush();
+        deflater.finish();
+        deflater.flush();
+    }
+
+    /**
+     * Checks whether all values of the specified array are zero.
+     *
+     * @param values
+     *          the array to check
+     * @return
+     *          {@code true} if all values are zero, {@code false} otherwise
+     */
+    private static boolean isZero(int[] values) {
+        for (int value : values) {
+            if (value != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void restoreCheckpointImpl(ReadableByteChannel channel) throws IOException {
+        PagedMemoryState memory = getPagedMemoryState();
+
+        Inflater inflater = new Inflater();
+        try {
+            // the whole checkpoint is read and validated before anything is changed
+            readCheckpoint(memory, new DataInputStream(new BufferedInputStream(
+                    new InflaterInputStream(Channels.newInputStream(channel), inflater))));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Reads the uncompressed checkpoint from the specified stream and restores the machine state.
+     *
+     * @param memory
+     *          the memory state
+     * @param in
+     *          the stream to read from
+     * @throws IOException
+     *          thrown if the checkpoint could not be read or does not match the simulated machine
+     */
+    private void readCheckpoint(PagedMemoryState memory, DataInputStream in) throws IOException {
+
+        if (in.readInt() != CHECKPOINT_MAGIC) {
+            throw new IOException("not a simulation checkpoint");
+        }
+        short version = in.readShort();
+        if (version != CHECKPOINT_VERSION) {
+            throw new IOException("unsupported checkpoint version " + version);
+        }
+        int rowCount = in.readInt();
+        if (rowCount != signalTable.getRowCount()) {
+            throw new IOException("checkpoint was written for a microprogram of " + rowCount + " rows");
+        }
+
+        long cycles = in.readLong();
+        int row = in.readInt();
+        boolean resolved = in.readBoolean();
+        if (cycles < 0 || row < 0 || row > rowCount || (resolved && row == rowCount)) {
+            throw new IOException("corrupt checkpoint");
+        }
+
+        int registerCount = in.readInt();
+        Map<String, Integer> registerValues = new LinkedHashMap<>();
+        for (int i = 0; i < registerCount; i++) {
+            String name = in.readUTF();
+            if (!currentInstance.getRegisterNames().contains(name)) {
+                throw new IOException("unknown register " + name);
+            }
+            registerValues.put(name, in.readInt());
+        }
+        if (!registerValues.keySet().equals(currentInstance.getRegisterNames())) {
+            throw new IOException("checkpoint does not contain all registers");
+        }
+
+        int pageSize = in.readInt();
+        if (pageSize != memory.getPageSize()) {
+            throw new IOException("checkpoint was written for a memory page size of " + pageSize);
+        }
+        Map<Integer, int[]> pages = new LinkedHashMap<>();
+        ByteBuffer buffer = ByteBuffer.allocate(pageSize * Integer.BYTES);
+        int pageIndex;
+        while ((pageIndex = in.readInt()) != CHECKPOINT_END_OF_PAGES) {
+            if (pageIndex < 0 || pageIndex >= memory.getPageCount()) {
+                throw new IOException("corrupt checkpoint");
+            }
+            in.readFully(buffer.array());
+            int[] page = new int[pageSize];
+            buffer.clear();
+            buffer.asIntBuffer().get(page);
+            pages.put(pageIndex, page);
+        }
+
+        MachineMemory machineMemory = machine.getMemory();
+        boolean memoryNotify = machineMemory.getNotifiesListeners();
+        try {
+            machineMemory.setNotifiesListeners(false);
+            memory.zero();
+            for (Map.Entry<Integer, int[]> page : pages.entrySet()) {
+                memory.writePage(page.getKey(), page.getValue());
+            }
+        } finally {
+            machineMemory.setNotifiesListeners(memoryNotify);
+        }
+
+        for (Map.Entry<String, Integer> register : registerValues.entrySet()) {
+            currentInstance.setRegisterValue(register.getKey(), register.getValue());
+        }
+
+        currentSignalRow = row;
+        resolvedRead = resolved;
+        setCycles(cycles);
+        resetLoopDetection();
+        resetProfile();
+
+        if (resolved) {
+            currentInstance.setPortValues(signalTable.getRow(row));
+            currentInstance.resolve();
+        }
+        currentInstance.updateAll();
+        sampleDatapath();
+
+        if (currentSignalRow >= signalTable.getRowCount()) {
+            halt();
+        }
+    }
+
     @Override
     public boolean isResolved() {
         return resolvedRead;
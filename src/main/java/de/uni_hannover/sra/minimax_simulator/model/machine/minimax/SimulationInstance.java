@@ -1,6 +1,7 @@
 package de.uni_hannover.sra.minimax_simulator.model.machine.minimax;
 
 
+import de.uni_hannover.sra.minimax_simulator.model.configuration.alu.AluOperation;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.ControlPort;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.ResultPort;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.topology.Circuit;
@@ -11,10 +12,12 @@ import de.uni_hannover.sra.minimax_simulator.model.machine.part.Port;
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.ReadablePort;
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.Register;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.AbstractTraceable;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.LoopDetector;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Traceable;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -108,10 +111,13 @@ class SimulationInstance {
         }
     }
 
+    private final Alu alu;
     private final ResultPort aluCond;
     private final AluResult aluResult;
     private final Map<String, RegisterValue> registerValues;
     private final Map<String, ControlPort> registerPort;
+    /** The registers in a fixed order for hashing the machine state. */
+    private final Register[] registers;
 
     private final MachineResolver resolver;
 
@@ -125,7 +131,8 @@ class SimulationInstance {
     SimulationInstance(MinimaxMachine machine) {
         MachineTopology top = machine.getTopology();
 
-        aluResult = new AluResult(top.getCircuit(Alu.class, Parts.ALU));
+        alu = top.getCircuit(Alu.class, Parts.ALU);
+        aluResult = new AluResult(alu);
         aluCond = top.getCircuit(ReadablePort.class, Parts.ALU_COND_PORT);
 
         registerValues = new HashMap<>();
@@ -139,6 +146,8 @@ class SimulationInstance {
                     top.getCircuit(Port.class, entry.getValue() + Parts._PORT));
         }
 
+        registers = registerValues.values().stream().map(value -> value.register).toArray(Register[]::new);
+
         Set<Circuit> circuits = top.getAllCircuits();
 
         resolver = new MachineResolver(circuits);
@@ -166,6 +175,28 @@ class SimulationInstance {
         return registerValues.get(name);
     }
 
+    /**
+     * Gets the names of all registers.
+     *
+     * @return
+     *          the names of the registers
+     */
+    Set<String> getRegisterNames() {
+        return registerValues.keySet();
+    }
+
+    /**
+     * Sets the value of the specified register without posting an update.
+     *
+     * @param name
+     *          the name of the register
+     * @param value
+     *          the new value
+     */
+    void setRegisterValue(String name, int value) {
+        registerValues.get(name).register.setValue(value);
+    }
+
     /**
      * Resets the simulation.
      */
@@ -226,6 +257,40 @@ class SimulationInstance {
         }
     }
 
+    /**
+     * Calculates a hash of the values of all registers.
+     *
+     * @return
+     *          the hash of the register state
+     */
+    long hashRegisters() {
+        long hash = registers.length;
+        for (Register register : registers) {
+            hash = LoopDetector.mix(hash + register.getValue());
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the {@link AluOperation}s of the ALU indexed by their control code.
+     *
+     * @return
+     *          the {@code AluOperation}s
+     */
+    List<AluOperation> getAluOperations() {
+        return alu.getAluOperations();
+    }
+
+    /**
+     * Gets the control code of the {@link AluOperation} the ALU currently executes.
+     *
+     * @return
+     *          the ALU control code
+     */
+    int getAluOperationCode() {
+        return alu.getInCtrl().read();
+    }
+
     /**
      * Gets the ALU condition.
      *
@@ -6,8 +6,17 @@ import de.uni_hannover.sra.minimax_simulator.model.signal.SignalConfigListener;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTableListener;
 
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 /**
@@ -19,22 +28,46 @@ import static com.google.common.base.Preconditions.checkState;
 public abstract class AbstractSimulation implements Simulation, MachineConfigListener, SignalTableListener, SignalConfigListener {
 
     private final ArrayList<SimulationListener> listeners;
+    private final List<Breakpoint> breakpoints;
+    private final List<RunProgressListener> progressListeners;
+    /** Copied on write, as the datapath display can be switched while the simulation is running. */
+    private final List<DatapathListener> datapathListeners;
 
     private SimulationState state;
-    private int cycleCount;
+    private long cycleCount;
+    private long cycleLimit;
     private boolean paused;
     private boolean halted;
 
+    private long progressInterval;
+    private long nextProgressTime;
+    private long lastProgressTime;
+    private long lastProgressCycles;
+
+    private long datapathInterval;
+    private long nextDatapathTime;
+
+    /** The default interval between two notifications of the {@link RunProgressListener}s in milliseconds. */
+    public static final long DEFAULT_PROGRESS_INTERVAL = 1000;
+    /** The default minimum interval between two samples of the datapath while running in milliseconds. */
+    public static final long DEFAULT_DATAPATH_INTERVAL = 50;
+
     /**
      * Constructs a new {code AbstractSimulation} instance.
      */
     protected AbstractSimulation() {
         cycleCount = -1;
+        cycleLimit = Long.MAX_VALUE;
 
         paused = false;
         halted = false;
 
         listeners = new ArrayList<>();
+        breakpoints = new ArrayList<>();
+        progressListeners = new ArrayList<>();
+        progressInterval = TimeUnit.MILLISECONDS.toNanos(DEFAULT_PROGRESS_INTERVAL);
+        datapathListeners = new CopyOnWriteArrayList<>();
+        datapathInterval = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DATAPATH_INTERVAL);
         state = SimulationState.OFF;
     }
 
@@ -57,6 +90,7 @@ public abstract class AbstractSimulation implements Simulation, MachineConfigLis
         checkIdleState();
 
         resetImpl();
+        resetBreakpointHits();
 
         state = SimulationState.IDLE;
         halted = false;
@@ -75,6 +109,7 @@ public abstract class AbstractSimulation implements Simulation, MachineConfigLis
         checkState(state == SimulationState.OFF);
 
         initImpl();
+        resetBreakpointHits();
 
         state = SimulationState.IDLE;
         halted = false;
@@ -133,6 +168,10 @@ public abstract class AbstractSimulation implements Simulation, MachineConfigLis
         state = SimulationState.RUNNING;
         fireStateChanged();
 
+        lastProgressTime = System.nanoTime();
+        lastProgressCycles = cycleCount;
+        nextProgressTime = lastProgressTime + progressInterval;
+
         runImpl();
 
         state = SimulationState.IDLE;
@@ -144,6 +183,60 @@ public abstract class AbstractSimulation implements Simulation, MachineConfigLis
      */
     protected abstract void runImpl();
 
+    @Override
+    public void saveCheckpoint(WritableByteChannel channel) throws IOException {
+        checkState(state != SimulationState.OFF, "Simulation must be started");
+
+        saveCheckpointImpl(channel);
+    }
+
+    /**
+     * Implementation dependant checkpoint writing.
+     *
+     * @param channel
+     *          the channel to write the checkpoint to
+     * @throws IOException
+     *          thrown if the checkpoint could not be written
+     */
+    protected abstract void saveCheckpointImpl(WritableByteChannel channel) throws IOException;
+
+    @Override
+    public void restoreCheckpoint(ReadableByteChannel channel) throws IOException {
+        checkIdleState();
+
+        // the implementation halts again if the restored state is a halted one
+        boolean wasHalted = halted;
+        boolean wasPaused = paused;
+        halted = false;
+        paused = false;
+
+        try {
+            restoreCheckpointImpl(channel);
+        } catch (IOException | RuntimeException e) {
+            // the checkpoint was not restored, so the simulation stays where it was
+            halted = wasHalted;
+            paused = wasPaused;
+            throw e;
+        }
+        resetBreakpointHits();
+
+        state = SimulationState.IDLE;
+        fireStateChanged();
+    }
+
+    /**
+     * Implementation dependant checkpoint restoring. Implementations have to {@link #halt()} the simulation
+     * if the restored state is a halted one.<br>
+     * <br>
+     * If an {@code IOException} is thrown, the state of the simulation must be left unchanged.
+     *
+     * @param channel
+     *          the channel to read the checkpoint from
+     * @throws IOException
+     *          thrown if the checkpoint could not be read or does not match the simulated machine
+     */
+    protected abstract void restoreCheckpointImpl(ReadableByteChannel channel) throws IOException;
+
     protected void halt() {
         checkState(!halted, "Already halted");
 
@@ -198,6 +291,39 @@ public abstract class AbstractSimulation implements Simulation, MachineConfigLis
         listeners.remove(listener);
     }
 
+    @Override
+    public void addBreakpoint(Breakpoint breakpoint) {
+        if (!breakpoints.contains(breakpoint)) {
+            breakpoints.add(breakpoint);
+            breakpointsChanged();
+        }
+    }
+
+    @Override
+    public void removeBreakpoint(Breakpoint breakpoint) {
+        if (breakpoints.remove(breakpoint)) {
+            breakpointsChanged();
+        }
+    }
+
+    /**
+     * Called if a {@link Breakpoint} was registered or removed, e.g. to recompile the breakpoint checks.
+     */
+    protected void breakpointsChanged() {
+    }
+
+    @Override
+    public List<Breakpoint> getBreakpoints() {
+        return ImmutableList.copyOf(breakpoints);
+    }
+
+    /**
+     * Resets the hits of all registered {@link Breakpoint}s.
+     */
+    private void resetBreakpointHits() {
+        breakpoints.forEach(Breakpoint::resetHits);
+    }
+
     @Override
     public SimulationState getState() {
         return state;
@@ -211,21 +337,154 @@ public abstract class AbstractSimulation implements Simulation, MachineConfigLis
     }
 
     /**
-     * Increments the cycle count and halts the simulation if the cycle count reaches
-     * {@link Integer#MAX_VALUE}.
+     * Sets the cycle count, e.g. when restoring a checkpoint.
+     *
+     * @param cycles
+     *          the new cycle count
+     */
+    protected void setCycles(long cycles) {
+        checkArgument(cycles >= 0, "cycle count must not be negative");
+        cycleCount = cycles;
+    }
+
+    /**
+     * Increments the cycle count.
      */
     protected void incrementCycles() {
         cycleCount++;
-        if (cycleCount == Integer.MAX_VALUE) {
-            halt();
-        }
+    }
+
+    /**
+     * Checks if the cycle count reached the cycle limit. Implementations have to halt the simulation in this case.
+     *
+     * @return
+     *          {@code true} if the cycle limit is reached, {@code false} otherwise
+     */
+    protected boolean isCycleLimitReached() {
+        return cycleCount >= cycleLimit;
     }
 
     @Override
-    public int getCyclesCount() {
+    public long getCyclesCount() {
         return cycleCount;
     }
 
+    @Override
+    public void setCycleLimit(long limit) {
+        checkArgument(limit > 0, "cycle limit must be positive");
+        cycleLimit = limit;
+    }
+
+    @Override
+    public long getCycleLimit() {
+        return cycleLimit;
+    }
+
+    @Override
+    public void addRunProgressListener(RunProgressListener listener) {
+        if (!progressListeners.contains(listener)) {
+            progressListeners.add(listener);
+        }
+    }
+
+    @Override
+    public void removeRunProgressListener(RunProgressListener listener) {
+        progressListeners.remove(listener);
+    }
+
+    @Override
+    public void setProgressInterval(long millis) {
+        checkArgument(millis > 0, "progress interval must be positive");
+        progressInterval = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Notifies the {@link RunProgressListener}s if the progress interval elapsed since the last notification.<br>
+     * <br>
+     * Implementations call this method from {@link #runImpl()} between two cycles. As it reads the system time,
+     * it should not be called every cycle.
+     */
+    protected void checkRunProgress() {
+        if (progressListeners.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (now - nextProgressTime < 0) {
+            return;
+        }
+
+        double cyclesPerSecond = (cycleCount - lastProgressCycles) * (double) TimeUnit.SECONDS.toNanos(1) / (now - lastProgressTime);
+        lastProgressTime = now;
+        lastProgressCycles = cycleCount;
+        nextProgressTime = now + progressInterval;
+
+        for (RunProgressListener listener : progressListeners) {
+            listener.runProgress(this, cycleCount, cyclesPerSecond);
+        }
+    }
+
+    @Override
+    public void addDatapathListener(DatapathListener listener) {
+        if (!datapathListeners.contains(listener)) {
+            datapathListeners.add(listener);
+        }
+    }
+
+    @Override
+    public void removeDatapathListener(DatapathListener listener) {
+        datapathListeners.remove(listener);
+    }
+
+    @Override
+    public void setDatapathInterval(long millis) {
+        checkArgument(millis > 0, "datapath interval must be positive");
+        datapathInterval = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Checks whether any {@link DatapathListener} is registered.
+     *
+     * @return
+     *          {@code true} if the datapath has to be sampled, {@code false} otherwise
+     */
+    protected boolean hasDatapathListeners() {
+        return !datapathListeners.isEmpty();
+    }
+
+    /**
+     * Checks whether the datapath interval elapsed since the last sample while running.<br>
+     * <br>
+     * Like {@link #checkRunProgress()}, this method reads the system time, so it should not be called every cycle.
+     *
+     * @return
+     *          {@code true} if the datapath has to be sampled, {@code false} otherwise
+     */
+    protected boolean isDatapathSampleDue() {
+        if (datapathListeners.isEmpty()) {
+            return false;
+        }
+
+        long now = System.nanoTime();
+        if (now - nextDatapathTime < 0) {
+            return false;
+        }
+        nextDatapathTime = now + datapathInterval;
+        return true;
+    }
+
+    /**
+     * Notifies the {@link DatapathListener}s about a new sample of the datapath.
+     *
+     * @param sampler
+     *          the {@link DatapathSampler} holding the sample
+     */
+    protected void fireDatapathSampled(DatapathSampler sampler) {
+        for (DatapathListener listener : datapathListeners) {
+            listener.datapathSampled(this, sampler);
+        }
+    }
+
     @Override
     public boolean isHalted() {
         return halted;
@@ -262,6 +521,16 @@ public abstract class AbstractSimulation implements Simulation, MachineConfigLis
         stopIfRunning();
     }
 
+    @Override
+    public void onRowsAdded(int fromIndex, int toIndex) {
+        stopIfRunning();
+    }
+
+    @Override
+    public void onRowsRemoved(int fromIndex, int toIndex) {
+        stopIfRunning();
+    }
+
     @Override
     public void onRowsExchanged(int index1, int index2) {
         stopIfRunning();
@@ -0,0 +1,91 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link RunProgressListener} periodically writing a checkpoint of the running {@link Simulation} to a file.<br>
+ * <br>
+ * The checkpoint is written to a temporary file first and then moved over the previous one, so the file
+ * always holds a complete checkpoint even if the application is terminated while writing.
+ *
+ * @author agent
+ */
+public class AutoCheckpoint implements RunProgressListener {
+
+    private static final Logger LOG = Logger.getLogger(AutoCheckpoint.class.getName());
+
+    private final Path file;
+    private final Path tempFile;
+    private final long interval;
+    private long lastCheckpoint;
+
+    /**
+     * Constructs a new {@code AutoCheckpoint} writing to the specified file.
+     *
+     * @param file
+     *          the file to write the checkpoints to
+     * @param intervalMillis
+     *          the minimum time between two checkpoints in milliseconds
+     */
+    public AutoCheckpoint(Path file, long intervalMillis) {
+        checkArgument(intervalMillis > 0, "checkpoint interval must be positive");
+        this.file = checkNotNull(file).toAbsolutePath();
+        tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        interval = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        lastCheckpoint = System.nanoTime();
+    }
+
+    /**
+     * Gets the file the checkpoints are written to.
+     *
+     * @return
+     *          the checkpoint file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void runProgress(Simulation simulation, long cycles, double cyclesPerSecond) {
+        long now = System.nanoTime();
+        if (now - lastCheckpoint < interval) {
+            return;
+        }
+        lastCheckpoint = now;
+
+        try {
+            write(simulation);
+        } catch (IOException e) {
+            // a failed checkpoint must not abort the simulation
+            LOG.log(Level.WARNING, "could not write checkpoint to " + file, e);
+        }
+    }
+
+    /**
+     * Writes a checkpoint of the specified {@link Simulation} to the checkpoint file.
+     *
+     * @param simulation
+     *          the {@code Simulation} to write the checkpoint of
+     * @throws IOException
+     *          thrown if the checkpoint could not be written
+     */
+    public void write(Simulation simulation) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            simulation.saveCheckpoint(channel);
+            channel.force(false);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
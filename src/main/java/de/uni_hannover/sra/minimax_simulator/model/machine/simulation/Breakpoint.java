@@ -0,0 +1,129 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A {@code Breakpoint} pauses a running {@link Simulation}.<br>
+ * <br>
+ * A {@code Breakpoint} is either bound to a {@link de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow}
+ * and checked whenever the simulation reaches that row, or it is checked after every cycle.
+ * It may be restricted by a {@link BreakpointCondition} and by a hit count. Each time the condition is met
+ * counts as a hit. The {@code Breakpoint} ignores the first {@code hitCount - 1} hits and pauses the simulation
+ * on the hit number {@code hitCount} and on every following hit, until the hits are reset with the simulation.
+ *
+ * @author agent
+ */
+public final class Breakpoint {
+
+    /** The row index of a {@code Breakpoint} that is checked after every cycle. */
+    public static final int ANY_ROW = -1;
+
+    private final int row;
+    private final BreakpointCondition condition;
+    private final int hitCount;
+
+    private int hits;
+
+    /**
+     * Constructs a new {@code Breakpoint}.
+     *
+     * @param row
+     *          the index of the row the {@code Breakpoint} is bound to or {@link #ANY_ROW}
+     * @param condition
+     *          the {@link BreakpointCondition} or {@code null} for an unconditional {@code Breakpoint}
+     * @param hitCount
+     *          the number of the first hit pausing the simulation
+     */
+    public Breakpoint(int row, BreakpointCondition condition, int hitCount) {
+        checkArgument(row >= ANY_ROW, "invalid row index");
+        checkArgument(hitCount > 0, "hit count must be positive");
+        checkArgument(row != ANY_ROW || condition != null, "a breakpoint for any row needs a condition");
+        this.row = row;
+        this.condition = condition;
+        this.hitCount = hitCount;
+        hits = 0;
+    }
+
+    /**
+     * Constructs a new {@code Breakpoint} that pauses the simulation each time its condition is met.
+     *
+     * @param row
+     *          the index of the row the {@code Breakpoint} is bound to or {@link #ANY_ROW}
+     * @param condition
+     *          the {@link BreakpointCondition} or {@code null} for an unconditional {@code Breakpoint}
+     */
+    public Breakpoint(int row, BreakpointCondition condition) {
+        this(row, condition, 1);
+    }
+
+    /**
+     * Gets the index of the row the {@code Breakpoint} is bound to.
+     *
+     * @return
+     *          the row index or {@link #ANY_ROW}
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Gets the {@link BreakpointCondition} of the {@code Breakpoint}.
+     *
+     * @return
+     *          the condition or {@code null} if the {@code Breakpoint} is unconditional
+     */
+    public BreakpointCondition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Gets the number of the first hit pausing the simulation.
+     *
+     * @return
+     *          the hit count
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of times the condition was met since the last reset.
+     *
+     * @return
+     *          the current number of hits
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Resets the number of hits to zero.
+     */
+    public void resetHits() {
+        hits = 0;
+    }
+
+    /**
+     * Evaluates the {@code Breakpoint} against the current state of the specified {@link Simulation}
+     * and counts a hit if its condition is met. The hits stop counting at the hit count.
+     *
+     * @param simulation
+     *          the {@code Simulation} to check
+     * @return
+     *          {@code true} if the simulation has to be paused, {@code false} otherwise
+     */
+    public boolean check(Simulation simulation) {
+        if (condition != null && !condition.test(simulation)) {
+            return false;
+        }
+        if (hits < hitCount) {
+            hits++;
+        }
+        return hits >= hitCount;
+    }
+
+    @Override
+    public String toString() {
+        return "Breakpoint[row=" + (row == ANY_ROW ? "*" : Integer.toString(row)) + ", hits=" + hits + "/" + hitCount + "]";
+    }
+}
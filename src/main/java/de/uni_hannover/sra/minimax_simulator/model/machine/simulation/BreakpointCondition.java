@@ -0,0 +1,73 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import java.util.function.IntPredicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code BreakpointCondition} decides whether a {@link Breakpoint} is hit for the current state of the {@link Simulation}.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface BreakpointCondition {
+
+    /**
+     * Evaluates the condition against the current state of the specified {@link Simulation}.
+     *
+     * @param simulation
+     *          the {@code Simulation} to check
+     * @return
+     *          {@code true} if the condition is met, {@code false} otherwise
+     */
+    public boolean test(Simulation simulation);
+
+    /**
+     * Creates a {@code BreakpointCondition} that is met if the value of the specified register
+     * matches the specified predicate.
+     *
+     * @param register
+     *          the name of the register
+     * @param predicate
+     *          the predicate the register value has to match
+     * @return
+     *          the created {@code BreakpointCondition}
+     */
+    public static BreakpointCondition register(String register, IntPredicate predicate) {
+        checkNotNull(register);
+        checkNotNull(predicate);
+        return simulation -> {
+            Traceable<Integer> value = simulation.getRegisterValue(register);
+            return value != null && predicate.test(value.get());
+        };
+    }
+
+    /**
+     * Creates a {@code BreakpointCondition} that is met if the specified register holds the specified value.
+     *
+     * @param register
+     *          the name of the register
+     * @param value
+     *          the value the register has to hold
+     * @return
+     *          the created {@code BreakpointCondition}
+     */
+    public static BreakpointCondition registerEquals(String register, int value) {
+        return register(register, registerValue -> registerValue == value);
+    }
+
+    /**
+     * Creates a {@code BreakpointCondition} that is met in the cycle that reaches the specified count of cycles.<br>
+     * <br>
+     * The condition is only met in that single cycle, so a {@link Breakpoint} for {@link Breakpoint#ANY_ROW}
+     * pauses the simulation once instead of after every following cycle.
+     *
+     * @param cycles
+     *          the count of cycles
+     * @return
+     *          the created {@code BreakpointCondition}
+     */
+    public static BreakpointCondition cyclesReached(long cycles) {
+        return simulation -> simulation.getCyclesCount() == cycles;
+    }
+}
@@ -0,0 +1,22 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+/**
+ * A {@code DatapathListener} is notified when the {@link Simulation} sampled the values of the datapath.<br>
+ * <br>
+ * The notification is sent from the simulation thread after each step and at most once per datapath
+ * interval while running, so implementations should only schedule the processing of the sample.
+ *
+ * @author agent
+ */
+public interface DatapathListener {
+
+    /**
+     * Notifies the listener about a new sample of the datapath.
+     *
+     * @param simulation
+     *          the {@link Simulation} that took the sample
+     * @param sampler
+     *          the {@link DatapathSampler} holding the sample
+     */
+    public void datapathSampled(Simulation simulation, DatapathSampler sampler);
+}
@@ -0,0 +1,289 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.topology.Circuit;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Memory;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Multiplexer;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Register;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Wire;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@code DatapathSampler} samples the values of the datapath of a simulated machine, i.e. the values
+ * of the {@link Wire}s, the selected inputs of the {@link Multiplexer}s, the written {@link Register}s and
+ * the accesses of the {@link Memory}.<br>
+ * <br>
+ * The samples are written into three preallocated {@link Frame}s that are exchanged between the simulation
+ * thread and a single consumer thread, e.g. the FX application thread. So sampling neither allocates nor
+ * blocks, and the consumer always gets the latest complete sample.
+ *
+ * @author agent
+ */
+public class DatapathSampler {
+
+    /** The memory was not accessed. */
+    public static final int MEMORY_IDLE = 0;
+    /** The memory was read. */
+    public static final int MEMORY_READ = 1;
+    /** The memory was written. */
+    public static final int MEMORY_WRITE = 2;
+
+    /**
+     * A sample of the datapath. The values are indexed like the parts returned by the {@code DatapathSampler}.
+     */
+    public static final class Frame {
+
+        private final int[] wireValues;
+        private final int[] muxSelects;
+        private final boolean[] registerWrites;
+        private final int[] memoryAccesses;
+        private long cycle;
+        private int row;
+        /** Whether the frame was sampled but not yet acquired by the consumer. */
+        private boolean fresh;
+
+        /**
+         * Constructs a new {@code Frame} with all values set to zero.
+         *
+         * @param wires
+         *          the count of wires
+         * @param muxes
+         *          the count of multiplexers
+         * @param registers
+         *          the count of registers
+         * @param memories
+         *          the count of memories
+         */
+        private Frame(int wires, int muxes, int registers, int memories) {
+            wireValues = new int[wires];
+            muxSelects = new int[muxes];
+            registerWrites = new boolean[registers];
+            memoryAccesses = new int[memories];
+        }
+
+        /**
+         * Gets the value of the wire with the specified index.
+         *
+         * @param index
+         *          the index of the wire
+         * @return
+         *          the value of the wire
+         */
+        public int getWireValue(int index) {
+            return wireValues[index];
+        }
+
+        /**
+         * Gets the selected input of the multiplexer with the specified index.
+         *
+         * @param index
+         *          the index of the multiplexer
+         * @return
+         *          the index of the selected input
+         */
+        public int getMuxSelect(int index) {
+            return muxSelects[index];
+        }
+
+        /**
+         * Checks whether the register with the specified index is written at the end of the cycle.
+         *
+         * @param index
+         *          the index of the register
+         * @return
+         *          {@code true} if the register is written, {@code false} otherwise
+         */
+        public boolean isRegisterWritten(int index) {
+            return registerWrites[index];
+        }
+
+        /**
+         * Gets the access of the memory with the specified index.
+         *
+         * @param index
+         *          the index of the memory
+         * @return
+         *          {@link #MEMORY_IDLE}, {@link #MEMORY_READ} or {@link #MEMORY_WRITE}
+         */
+        public int getMemoryAccess(int index) {
+            return memoryAccesses[index];
+        }
+
+        /**
+         * Gets the count of cycles simulated before the sample was taken.
+         *
+         * @return
+         *          the count of cycles
+         */
+        public long getCycle() {
+            return cycle;
+        }
+
+        /**
+         * Gets the signal row that was executed when the sample was taken.
+         *
+         * @return
+         *          the index of the signal row
+         */
+        public int getRow() {
+            return row;
+        }
+    }
+
+    private final ImmutableList<Wire> wires;
+    private final ImmutableList<Multiplexer> muxes;
+    private final ImmutableList<Register> registers;
+    private final ImmutableList<Memory> memories;
+
+    /** The frame written by the simulation thread. */
+    private Frame writeFrame;
+    /** The latest frame handed over from the simulation thread to the consumer. */
+    private final AtomicReference<Frame> readyFrame;
+    /** The frame owned by the consumer. */
+    private Frame readFrame;
+
+    /**
+     * Constructs a new {@code DatapathSampler} sampling the parts contained in the specified {@link Circuit}s.
+     *
+     * @param circuits
+     *          the {@code Circuit}s of the machine
+     */
+    public DatapathSampler(Collection<? extends Circuit> circuits) {
+        ImmutableList.Builder<Wire> wires = ImmutableList.builder();
+        ImmutableList.Builder<Multiplexer> muxes = ImmutableList.builder();
+        ImmutableList.Builder<Register> registers = ImmutableList.builder();
+        ImmutableList.Builder<Memory> memories = ImmutableList.builder();
+        for (Circuit circuit : circuits) {
+            if (circuit instanceof Wire) {
+                wires.add((Wire) circuit);
+            }
+            else if (circuit instanceof Multiplexer) {
+                muxes.add((Multiplexer) circuit);
+            }
+            else if (circuit instanceof Register) {
+                registers.add((Register) circuit);
+            }
+            else if (circuit instanceof Memory) {
+                memories.add((Memory) circuit);
+            }
+        }
+        this.wires = wires.build();
+        this.muxes = muxes.build();
+        this.registers = registers.build();
+        this.memories = memories.build();
+
+        writeFrame = createFrame();
+        readyFrame = new AtomicReference<>(createFrame());
+        readFrame = createFrame();
+    }
+
+    /**
+     * Creates a {@link Frame} for the sampled parts.
+     *
+     * @return
+     *          the new {@code Frame}
+     */
+    private Frame createFrame() {
+        return new Frame(wires.size(), muxes.size(), registers.size(), memories.size());
+    }
+
+    /**
+     * Gets the sampled {@link Wire}s.
+     *
+     * @return
+     *          the {@code Wire}s in the order of their indices
+     */
+    public ImmutableList<Wire> getWires() {
+        return wires;
+    }
+
+    /**
+     * Gets the sampled {@link Multiplexer}s.
+     *
+     * @return
+     *          the {@code Multiplexer}s in the order of their indices
+     */
+    public ImmutableList<Multiplexer> getMultiplexers() {
+        return muxes;
+    }
+
+    /**
+     * Gets the sampled {@link Register}s.
+     *
+     * @return
+     *          the {@code Register}s in the order of their indices
+     */
+    public ImmutableList<Register> getRegisters() {
+        return registers;
+    }
+
+    /**
+     * Gets the sampled {@link Memory} parts.
+     *
+     * @return
+     *          the {@code Memory} parts in the order of their indices
+     */
+    public ImmutableList<Memory> getMemories() {
+        return memories;
+    }
+
+    /**
+     * Samples the current values of the datapath and hands them over to the consumer.<br>
+     * <br>
+     * This method is called by the simulation thread after the circuits were resolved.
+     *
+     * @param cycle
+     *          the count of cycles simulated so far
+     * @param row
+     *          the index of the executed signal row
+     */
+    public void sample(long cycle, int row) {
+        Frame frame = writeFrame;
+        for (int i = 0, n = wires.size(); i < n; i++) {
+            frame.wireValues[i] = wires.get(i).getValue();
+        }
+        for (int i = 0, n = muxes.size(); i < n; i++) {
+            frame.muxSelects[i] = muxes.get(i).getSelectPin().read();
+        }
+        for (int i = 0, n = registers.size(); i < n; i++) {
+            frame.registerWrites[i] = registers.get(i).getWriteEnabled().read() != 0;
+        }
+        for (int i = 0, n = memories.size(); i < n; i++) {
+            Memory memory = memories.get(i);
+            if (memory.getCs().read() == 0) {
+                frame.memoryAccesses[i] = MEMORY_IDLE;
+            }
+            else {
+                frame.memoryAccesses[i] = memory.getRw().read() != 0 ? MEMORY_READ : MEMORY_WRITE;
+            }
+        }
+        frame.cycle = cycle;
+        frame.row = row;
+        frame.fresh = true;
+
+        // the exchange publishes the written values to the consumer
+        writeFrame = readyFrame.getAndSet(frame);
+    }
+
+    /**
+     * Gets the latest sample of the datapath.<br>
+     * <br>
+     * This method must always be called by the same consumer thread. The returned {@link Frame} is not changed
+     * until the next call of this method.
+     *
+     * @return
+     *          the latest {@code Frame}, with all values zero if nothing was sampled yet
+     */
+    public Frame acquireFrame() {
+        // only the consumer puts frames that are not fresh back, so the exchanged frame is fresh, too
+        if (readyFrame.get().fresh) {
+            Frame frame = readyFrame.getAndSet(readFrame);
+            frame.fresh = false;
+            readFrame = frame;
+        }
+        return readFrame;
+    }
+}
@@ -0,0 +1,236 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import de.uni_hannover.sra.minimax_simulator.model.configuration.alu.AluOperation;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The {@code ExecutionProfile} collects statistics about the execution of a microprogram.<br>
+ * <br>
+ * It counts how often each signal row was executed, how often each conditional jump was taken for either
+ * condition, how often each {@link AluOperation} was executed and how often each memory page was read and
+ * written. All counters are primitive arrays, so counting does not slow down the simulation noticeably.
+ *
+ * @author agent
+ */
+public class ExecutionProfile {
+
+    private final long[] rowHits;
+    private final long[] conditionZeroCounts;
+    private final long[] conditionOneCounts;
+
+    private final List<AluOperation> aluOperations;
+    private final long[] aluOperationCounts;
+
+    private final int pageSize;
+    private final long[] pageReadCounts;
+    private final long[] pageWriteCounts;
+
+    /**
+     * Constructs a new {@code ExecutionProfile}.
+     *
+     * @param rowCount
+     *          the count of signal rows of the microprogram
+     * @param aluOperations
+     *          the {@link AluOperation}s of the machine indexed by their ALU control code
+     * @param pageCount
+     *          the count of memory pages
+     * @param pageSize
+     *          the count of words per memory page
+     */
+    public ExecutionProfile(int rowCount, List<AluOperation> aluOperations, int pageCount, int pageSize) {
+        checkArgument(rowCount >= 0, "negative row count");
+        checkArgument(pageCount >= 0, "negative page count");
+        checkArgument(pageSize > 0, "page size must be positive");
+
+        rowHits = new long[rowCount];
+        conditionZeroCounts = new long[rowCount];
+        conditionOneCounts = new long[rowCount];
+
+        this.aluOperations = ImmutableList.copyOf(aluOperations);
+        aluOperationCounts = new long[aluOperations.size()];
+
+        this.pageSize = pageSize;
+        pageReadCounts = new long[pageCount];
+        pageWriteCounts = new long[pageCount];
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        Arrays.fill(rowHits, 0);
+        Arrays.fill(conditionZeroCounts, 0);
+        Arrays.fill(conditionOneCounts, 0);
+        Arrays.fill(aluOperationCounts, 0);
+        Arrays.fill(pageReadCounts, 0);
+        Arrays.fill(pageWriteCounts, 0);
+    }
+
+    /**
+     * Counts an execution of the specified signal row.
+     *
+     * @param row
+     *          the index of the executed row
+     */
+    public void countRow(int row) {
+        rowHits[row]++;
+    }
+
+    /**
+     * Counts an execution of the conditional jump of the specified signal row.
+     *
+     * @param row
+     *          the index of the row
+     * @param condition
+     *          the value of the ALU condition the target was chosen by
+     */
+    public void countBranch(int row, int condition) {
+        if (condition == 0) {
+            conditionZeroCounts[row]++;
+        }
+        else {
+            conditionOneCounts[row]++;
+        }
+    }
+
+    /**
+     * Counts an execution of the {@link AluOperation} with the specified ALU control code.
+     * Unknown codes are ignored.
+     *
+     * @param code
+     *          the ALU control code
+     */
+    public void countAluOperation(int code) {
+        if (code >= 0 && code < aluOperationCounts.length) {
+            aluOperationCounts[code]++;
+        }
+    }
+
+    /**
+     * Gets the count of signal rows.
+     *
+     * @return
+     *          the count of rows
+     */
+    public int getRowCount() {
+        return rowHits.length;
+    }
+
+    /**
+     * Gets how often the specified signal row was executed.
+     *
+     * @param row
+     *          the index of the row
+     * @return
+     *          the count of executions
+     */
+    public long getRowHits(int row) {
+        return rowHits[row];
+    }
+
+    /**
+     * Gets how often the conditional jump of the specified signal row was executed with the specified condition.
+     *
+     * @param row
+     *          the index of the row
+     * @param condition
+     *          the value of the ALU condition, {@code 0} or {@code 1}
+     * @return
+     *          the count of executions with that condition
+     */
+    public long getBranchCount(int row, int condition) {
+        return condition == 0 ? conditionZeroCounts[row] : conditionOneCounts[row];
+    }
+
+    /**
+     * Gets the {@link AluOperation}s indexed by their ALU control code.
+     *
+     * @return
+     *          the {@code AluOperation}s
+     */
+    public List<AluOperation> getAluOperations() {
+        return aluOperations;
+    }
+
+    /**
+     * Gets how often the {@link AluOperation} with the specified ALU control code was executed.
+     *
+     * @param code
+     *          the ALU control code
+     * @return
+     *          the count of executions
+     */
+    public long getAluOperationCount(int code) {
+        return aluOperationCounts[code];
+    }
+
+    /**
+     * Gets the count of memory pages.
+     *
+     * @return
+     *          the count of pages
+     */
+    public int getPageCount() {
+        return pageReadCounts.length;
+    }
+
+    /**
+     * Gets the count of words per memory page.
+     *
+     * @return
+     *          the page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Gets how often the specified memory page was read.
+     *
+     * @param page
+     *          the index of the page
+     * @return
+     *          the count of read accesses
+     */
+    public long getPageReads(int page) {
+        return pageReadCounts[page];
+    }
+
+    /**
+     * Gets how often the specified memory page was written.
+     *
+     * @param page
+     *          the index of the page
+     * @return
+     *          the count of write accesses
+     */
+    public long getPageWrites(int page) {
+        return pageWriteCounts[page];
+    }
+
+    /**
+     * Gets the live array counting the read accesses per memory page, which is incremented by the memory.
+     *
+     * @return
+     *          the read counters indexed by page
+     */
+    public long[] getPageReadCounters() {
+        return pageReadCounts;
+    }
+
+    /**
+     * Gets the live array counting the write accesses per memory page, which is incremented by the memory.
+     *
+     * @return
+     *          the write counters indexed by page
+     */
+    public long[] getPageWriteCounters() {
+        return pageWriteCounts;
+    }
+}
@@ -0,0 +1,81 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+/**
+ * Describes a non-terminating loop detected by a {@link LoopDetector}.
+ *
+ * @author agent
+ */
+public final class InfiniteLoop {
+
+    private final int firstRow;
+    private final int lastRow;
+    private final long period;
+    private final long cycle;
+
+    /**
+     * Constructs a new {@code InfiniteLoop}.
+     *
+     * @param firstRow
+     *          the index of the lowest row executed by the loop
+     * @param lastRow
+     *          the index of the highest row executed by the loop
+     * @param period
+     *          the count of cycles after which the machine state repeats
+     * @param cycle
+     *          the cycle at which the loop was detected
+     */
+    public InfiniteLoop(int firstRow, int lastRow, long period, long cycle) {
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+        this.period = period;
+        this.cycle = cycle;
+    }
+
+    /**
+     * Gets the index of the lowest row executed by the loop.
+     *
+     * @return
+     *          the index of the first row
+     */
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Gets the index of the highest row executed by the loop.
+     *
+     * @return
+     *          the index of the last row
+     */
+    public int getLastRow() {
+        return lastRow;
+    }
+
+    /**
+     * Gets the count of cycles after which the machine state repeats.<br>
+     * <br>
+     * This is a multiple of the actual period of the loop if the machine state was not sampled every cycle.
+     *
+     * @return
+     *          the period of the loop in cycles
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * Gets the cycle at which the loop was detected.
+     *
+     * @return
+     *          the cycle of detection
+     */
+    public long getCycle() {
+        return cycle;
+    }
+
+    @Override
+    public String toString() {
+        return "non-terminating loop detected at rows " + firstRow + ".." + lastRow
+                + " (period " + period + " cycles, detected at cycle " + cycle + ")";
+    }
+}
@@ -0,0 +1,166 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Detects non-terminating loops of a simulation by cycle detection on periodic samples of the machine state.<br>
+ * <br>
+ * The machine state is represented by a hash of the registers and the memory together with the index of the
+ * current row. Every {@link #getSampleInterval()} cycles the state is compared to a saved sample using
+ * Brent's algorithm, which keeps a single saved sample and detects a loop at most about twice the
+ * length of the loop plus its lead-in after it was entered.
+ *
+ * @author agent
+ */
+public class LoopDetector {
+
+    /** The default count of cycles between two samples. */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    private final int sampleInterval;
+    private int cyclesUntilSample;
+
+    private boolean hasSample;
+    private long savedHash;
+    private int savedRow;
+    private long power;
+    private long lambda;
+
+    private int minRow;
+    private int maxRow;
+
+    /**
+     * Constructs a new {@code LoopDetector} using the {@link #DEFAULT_SAMPLE_INTERVAL}.
+     */
+    public LoopDetector() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructs a new {@code LoopDetector} with the specified sample interval.
+     *
+     * @param sampleInterval
+     *          the count of cycles between two samples
+     */
+    public LoopDetector(int sampleInterval) {
+        checkArgument(sampleInterval > 0, "sample interval must be positive");
+        this.sampleInterval = sampleInterval;
+        reset();
+    }
+
+    /**
+     * Gets the count of cycles between two samples.
+     *
+     * @return
+     *          the sample interval
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Discards all samples.
+     */
+    public void reset() {
+        cyclesUntilSample = sampleInterval;
+        hasSample = false;
+        power = 1;
+        lambda = 0;
+    }
+
+    /**
+     * Records the execution of the specified row and checks whether the machine state has to be sampled.
+     * Must be called once per cycle.
+     *
+     * @param row
+     *          the index of the current row
+     * @return
+     *          {@code true} if {@link #sample(long, int)} has to be called for this cycle, {@code false} otherwise
+     */
+    public boolean isSampleDue(int row) {
+        if (row < minRow) {
+            minRow = row;
+        }
+        if (row > maxRow) {
+            maxRow = row;
+        }
+
+        if (--cyclesUntilSample == 0) {
+            cyclesUntilSample = sampleInterval;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Compares the specified sample of the machine state to the saved one.
+     *
+     * @param stateHash
+     *          the hash of the machine state
+     * @param row
+     *          the index of the current row
+     * @return
+     *          {@code true} if the machine state repeated, i.e. the simulation will not terminate, {@code false} otherwise
+     */
+    public boolean sample(long stateHash, int row) {
+        if (!hasSample) {
+            hasSample = true;
+            save(stateHash, row);
+            return false;
+        }
+
+        lambda++;
+        if (stateHash == savedHash && row == savedRow) {
+            return true;
+        }
+
+        if (lambda == power) {
+            power <<= 1;
+            save(stateHash, row);
+        }
+        return false;
+    }
+
+    /**
+     * Saves the specified sample as the one the following samples are compared to.
+     *
+     * @param stateHash
+     *          the hash of the machine state
+     * @param row
+     *          the index of the current row
+     */
+    private void save(long stateHash, int row) {
+        savedHash = stateHash;
+        savedRow = row;
+        lambda = 0;
+        minRow = row;
+        maxRow = row;
+    }
+
+    /**
+     * Creates the description of the loop after {@link #sample(long, int)} returned {@code true}.
+     *
+     * @param cycle
+     *          the current cycle
+     * @return
+     *          the detected {@link InfiniteLoop}
+     */
+    public InfiniteLoop getLoop(long cycle) {
+        return new InfiniteLoop(minRow, maxRow, lambda * sampleInterval, cycle);
+    }
+
+    /**
+     * Mixes the bits of the specified value, e.g. for combining it into a state hash.
+     *
+     * @param value
+     *          the value to mix
+     * @return
+     *          the mixed value
+     */
+    public static long mix(long value) {
+        // finalizer of the SplitMix64 generator
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,26 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+/**
+ * A {@code RunProgressListener} is a class that needs to be informed periodically about the progress
+ * of a running {@link Simulation}.<br>
+ * <br>
+ * The listener is called by the thread running the simulation and always between two cycles, so it
+ * may read the complete machine state, e.g. for writing a checkpoint.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface RunProgressListener {
+
+    /**
+     * Notifies the listener about the progress of the running {@link Simulation}.
+     *
+     * @param simulation
+     *          the running {@code Simulation}
+     * @param cycles
+     *          the count of cycles simulated so far
+     * @param cyclesPerSecond
+     *          the count of cycles simulated per second since the last notification
+     */
+    public void runProgress(Simulation simulation, long cycles, double cyclesPerSecond);
+}
@@ -2,6 +2,11 @@ package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
 
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
 /**
  * Provides the methods each implementation of a machine simulation has to implement.
  *
@@ -95,7 +100,72 @@ public interface Simulation {
      * @return
      *          the count of simulated cycles
      */
-    public int getCyclesCount();
+    public long getCyclesCount();
+
+    /**
+     * Sets the maximum count of cycles to simulate. The simulation halts as soon as the limit is reached.
+     *
+     * @param limit
+     *          the maximum count of cycles
+     */
+    public void setCycleLimit(long limit);
+
+    /**
+     * Gets the maximum count of cycles to simulate.
+     *
+     * @return
+     *          the cycle limit, {@link Long#MAX_VALUE} by default
+     */
+    public long getCycleLimit();
+
+    /**
+     * Registers the specified {@link RunProgressListener}.
+     *
+     * @param listener
+     *          the {@code RunProgressListener} to register
+     */
+    public void addRunProgressListener(RunProgressListener listener);
+
+    /**
+     * Removes the specified {@link RunProgressListener}.
+     *
+     * @param listener
+     *          the {@code RunProgressListener} to remove
+     */
+    public void removeRunProgressListener(RunProgressListener listener);
+
+    /**
+     * Sets the interval between two notifications of the {@link RunProgressListener}s during {@link #run()}.
+     *
+     * @param millis
+     *          the interval in milliseconds
+     */
+    public void setProgressInterval(long millis);
+
+    /**
+     * Registers the specified {@link DatapathListener}. The datapath is only sampled while a
+     * {@code DatapathListener} is registered.
+     *
+     * @param listener
+     *          the {@code DatapathListener} to register
+     */
+    public void addDatapathListener(DatapathListener listener);
+
+    /**
+     * Removes the specified {@link DatapathListener}.
+     *
+     * @param listener
+     *          the {@code DatapathListener} to remove
+     */
+    public void removeDatapathListener(DatapathListener listener);
+
+    /**
+     * Sets the minimum interval between two samples of the datapath during {@link #run()}.
+     *
+     * @param millis
+     *          the interval in milliseconds
+     */
+    public void setDatapathInterval(long millis);
 
     /**
      * Gets the index of the current {@link de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow}.
@@ -120,4 +190,111 @@ public interface Simulation {
      *          {@code true} if the simulation is halted, {@code false} otherwise
      */
     public boolean isHalted();
-}
\ No newline at end of file
+
+    /**
+     * Registers the specified {@link Breakpoint}.
+     *
+     * @param breakpoint
+     *          the {@code Breakpoint} to register
+     */
+    public void addBreakpoint(Breakpoint breakpoint);
+
+    /**
+     * Removes the specified {@link Breakpoint}.
+     *
+     * @param breakpoint
+     *          the {@code Breakpoint} to remove
+     */
+    public void removeBreakpoint(Breakpoint breakpoint);
+
+    /**
+     * Gets the registered {@link Breakpoint}s.<br>
+     * <br>
+     * This does not include the breakpoints set via
+     * {@link de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow#setBreakpoint(boolean)}.
+     *
+     * @return
+     *          an immutable list of the {@code Breakpoint}s
+     */
+    public List<Breakpoint> getBreakpoints();
+
+    /**
+     * Enables or disables the detection of non-terminating loops.<br>
+     * <br>
+     * If enabled, the simulation halts as soon as the machine state repeats and
+     * {@link #getDetectedLoop()} describes the loop.
+     *
+     * @param enabled
+     *          whether loops will be detected or not
+     */
+    public void setLoopDetectionEnabled(boolean enabled);
+
+    /**
+     * Gets the value of the {@code loop detection enabled} property.
+     *
+     * @return
+     *          {@code true} if non-terminating loops are detected, {@code false} otherwise
+     */
+    public boolean isLoopDetectionEnabled();
+
+    /**
+     * Gets the non-terminating loop that halted the simulation.
+     *
+     * @return
+     *          the detected {@link InfiniteLoop} or {@code null} if no loop was detected since the last reset
+     */
+    public InfiniteLoop getDetectedLoop();
+
+    /**
+     * Writes a checkpoint of the current machine state, i.e. the values of the registers, the content of the
+     * memory, the current signal row and the cycle count, to the specified channel.<br>
+     * <br>
+     * The checkpoint can be written while the simulation is running, but only from the thread running it,
+     * e.g. by a {@link RunProgressListener}. The channel is not closed.
+     *
+     * @param channel
+     *          the channel to write the checkpoint to
+     * @throws IOException
+     *          thrown if the checkpoint could not be written
+     */
+    public void saveCheckpoint(WritableByteChannel channel) throws IOException;
+
+    /**
+     * Restores the machine state from a checkpoint read from the specified channel.<br>
+     * <br>
+     * The simulation has to be started and must not be running. The checkpoint must have been written by
+     * a simulation of the same machine and microprogram. The channel is not closed.
+     *
+     * @param channel
+     *          the channel to read the checkpoint from
+     * @throws IOException
+     *          thrown if the checkpoint could not be read or does not match the simulated machine;
+     *          the state of the simulation is left unchanged in this case
+     */
+    public void restoreCheckpoint(ReadableByteChannel channel) throws IOException;
+
+    /**
+     * Enables or disables the collection of an {@link ExecutionProfile}. Enabling discards the counts
+     * of a previous profile.
+     *
+     * @param enabled
+     *          whether the execution is profiled
+     */
+    public void setProfilingEnabled(boolean enabled);
+
+    /**
+     * Checks whether the collection of an {@link ExecutionProfile} is enabled.
+     *
+     * @return
+     *          {@code true} if the execution is profiled, {@code false} otherwise
+     */
+    public boolean isProfilingEnabled();
+
+    /**
+     * Gets the {@link ExecutionProfile} of the current simulation. The profile is reset together with the simulation.
+     *
+     * @return
+     *          the {@code ExecutionProfile}, or {@code null} if profiling is disabled or the simulation is not started
+     */
+    public ExecutionProfile getProfile();
+}
@@ -64,6 +64,34 @@ public abstract class AbstractSignalTable implements SignalTable {
         }
     }
 
+    /**
+     * Notifies the {@link SignalTableListener}s about the addition of several {@link SignalRow}s.
+     *
+     * @param fromIndex
+     *          the index of the first new {@code SignalRow}
+     * @param toIndex
+     *          the index of the last new {@code SignalRow}
+     */
+    protected void fireRowsAdded(int fromIndex, int toIndex) {
+        for (SignalTableListener l : listeners) {
+            l.onRowsAdded(fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Notifies the {@link SignalTableListener}s about the deletion of several {@link SignalRow}s.
+     *
+     * @param fromIndex
+     *          the former index of the first removed {@code SignalRow}
+     * @param toIndex
+     *          the former index of the last removed {@code SignalRow}
+     */
+    protected void fireRowsRemoved(int fromIndex, int toIndex) {
+        for (SignalTableListener l : listeners) {
+            l.onRowsRemoved(fromIndex, toIndex);
+        }
+    }
+
     /**
      * Notifies the {@link SignalTableListener}s about the replacement of a {@link SignalRow}.
      *
@@ -0,0 +1,435 @@
+package de.uni_hannover.sra.minimax_simulator.model.signal;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A {@link SignalTable} storing the {@link SignalValue}s column by column.<br>
+ * <br>
+ * Each signal is a column of a primitive array with bit sets marking the set and the don't care values.
+ * The {@link SignalRow}s of the table are views of a slot of the columns instead of holding a map each.
+ * A row removed from the table gets its own map of values again, so it can be added again later,
+ * e.g. by an undo.<br>
+ * <br>
+ * A {@code SignalRow} can only be part of one {@code ColumnarSignalTable} at a time.
+ *
+ * @author agent
+ */
+public class ColumnarSignalTable extends AbstractSignalTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * A column holding the values of a single signal for all slots.
+     */
+    private static final class Column {
+
+        private int[] values;
+        /** The slots the signal is set for. */
+        private final BitSet set;
+        /** The slots the signal is set to {@link SignalValue#DONT_CARE} for. */
+        private final BitSet dontCare;
+
+        /**
+         * Constructs a new {@code Column} with the specified capacity.
+         *
+         * @param capacity
+         *          the initial count of slots
+         */
+        Column(int capacity) {
+            values = new int[capacity];
+            set = new BitSet(capacity);
+            dontCare = new BitSet(capacity);
+        }
+
+        /**
+         * Gets the {@link SignalValue} of the specified slot.
+         *
+         * @param slot
+         *          the slot
+         * @return
+         *          the {@code SignalValue}, or {@code null} if the signal is not set
+         */
+        SignalValue get(int slot) {
+            if (!set.get(slot)) {
+                return null;
+            }
+            return dontCare.get(slot) ? SignalValue.DONT_CARE : SignalValue.valueOf(values[slot]);
+        }
+
+        /**
+         * Sets the {@link SignalValue} of the specified slot.
+         *
+         * @param slot
+         *          the slot
+         * @param value
+         *          the new {@code SignalValue}
+         */
+        void put(int slot, SignalValue value) {
+            if (slot >= values.length) {
+                values = Arrays.copyOf(values, Math.max(slot + 1, values.length * 2));
+            }
+            set.set(slot);
+            if (value.isDontCare()) {
+                dontCare.set(slot);
+                values[slot] = 0;
+            }
+            else {
+                dontCare.clear(slot);
+                values[slot] = value.intValue();
+            }
+        }
+
+        /**
+         * Removes the value of the specified slot.
+         *
+         * @param slot
+         *          the slot
+         */
+        void remove(int slot) {
+            set.clear(slot);
+            dontCare.clear(slot);
+        }
+    }
+
+    /**
+     * The {@link SignalStorage} of a row of the table, a view of one slot of the columns.
+     */
+    private final class SlotStorage implements SignalStorage {
+
+        private final int slot;
+        private Map<String, SignalValue> view;
+
+        /**
+         * Constructs a new {@code SlotStorage} for the specified slot.
+         *
+         * @param slot
+         *          the slot of the row
+         */
+        SlotStorage(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public SignalValue get(String signal) {
+            Column column = columns.get(signal);
+            return column == null ? null : column.get(slot);
+        }
+
+        @Override
+        public void put(String signal, SignalValue value) {
+            columns.computeIfAbsent(signal, name -> new Column(capacity)).put(slot, value);
+        }
+
+        @Override
+        public void remove(String signal) {
+            Column column = columns.get(signal);
+            if (column != null) {
+                column.remove(slot);
+            }
+        }
+
+        @Override
+        public Map<String, SignalValue> toMap() {
+            Map<String, SignalValue> map = new HashMap<>();
+            for (Map.Entry<String, Column> entry : columns.entrySet()) {
+                SignalValue value = entry.getValue().get(slot);
+                if (value != null) {
+                    map.put(entry.getKey(), value);
+                }
+            }
+            return map;
+        }
+
+        @Override
+        public Map<String, SignalValue> view() {
+            if (view == null) {
+                view = new SlotView(slot);
+            }
+            return view;
+        }
+    }
+
+    /**
+     * A read-only map view of one slot of the columns. Lookups read the column of the signal directly
+     * and the iteration skips the columns the signal is not set for, so nothing is copied.
+     */
+    private final class SlotView extends AbstractMap<String, SignalValue> {
+
+        private final int slot;
+
+        /**
+         * Constructs a new {@code SlotView} for the specified slot.
+         *
+         * @param slot
+         *          the slot of the row
+         */
+        SlotView(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public SignalValue get(Object signal) {
+            Column column = columns.get(signal);
+            return column == null ? null : column.get(slot);
+        }
+
+        @Override
+        public boolean containsKey(Object signal) {
+            Column column = columns.get(signal);
+            return column != null && column.set.get(slot);
+        }
+
+        @Override
+        public Set<Entry<String, SignalValue>> entrySet() {
+            return new AbstractSet<Entry<String, SignalValue>>() {
+                @Override
+                public Iterator<Entry<String, SignalValue>> iterator() {
+                    Iterator<Entry<String, Column>> it = columns.entrySet().iterator();
+                    return new AbstractIterator<Entry<String, SignalValue>>() {
+                        @Override
+                        protected Entry<String, SignalValue> computeNext() {
+                            while (it.hasNext()) {
+                                Entry<String, Column> entry = it.next();
+                                SignalValue value = entry.getValue().get(slot);
+                                if (value != null) {
+                                    return Maps.immutableEntry(entry.getKey(), value);
+                                }
+                            }
+                            return endOfData();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (Column column : columns.values()) {
+                        if (column.set.get(slot)) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+
+    private final List<SignalRow> rows;
+    private final Map<String, Column> columns;
+
+    /** The count of slots the columns are allocated for. */
+    private int capacity;
+    /** The slots not used by any row. */
+    private final BitSet freeSlots;
+
+    /**
+     * Constructs a new and empty {@code ColumnarSignalTable}.
+     */
+    public ColumnarSignalTable() {
+        rows = new ArrayList<>();
+        columns = new LinkedHashMap<>();
+        capacity = INITIAL_CAPACITY;
+        freeSlots = new BitSet(capacity);
+        freeSlots.set(0, capacity);
+    }
+
+    /**
+     * Moves the values of the specified {@link SignalRow} into the columns and makes the row a view of its slot.
+     *
+     * @param row
+     *          the {@code SignalRow} to attach
+     */
+    private void attach(SignalRow row) {
+        checkArgument(!(row.getStorage() instanceof SlotStorage), "row already belongs to a table");
+
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = capacity;
+            capacity *= 2;
+            freeSlots.set(slot, capacity);
+        }
+        freeSlots.clear(slot);
+
+        SlotStorage storage = new SlotStorage(slot);
+        for (Map.Entry<String, SignalValue> entry : row.getStorage().toMap().entrySet()) {
+            storage.put(entry.getKey(), entry.getValue());
+        }
+        row.setStorage(storage);
+    }
+
+    /**
+     * Moves the values of the specified {@link SignalRow} out of the columns into a map of the row
+     * and releases its slot.
+     *
+     * @param row
+     *          the {@code SignalRow} to detach
+     */
+    private void detach(SignalRow row) {
+        SlotStorage storage = (SlotStorage) row.getStorage();
+        row.setStorage(new SignalStorage.MapStorage(storage.toMap()));
+
+        for (Column column : columns.values()) {
+            column.remove(storage.slot);
+        }
+        freeSlots.set(storage.slot);
+    }
+
+    /**
+     * Gets the names of all signals that are set for any row.
+     *
+     * @return
+     *          the names of the signals
+     */
+    public List<String> getSignalNames() {
+        List<String> names = new ArrayList<>();
+        for (Map.Entry<String, Column> entry : columns.entrySet()) {
+            if (!entry.getValue().set.isEmpty()) {
+                names.add(entry.getKey());
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public SignalRow getRow(int index) {
+        return rows.get(index);
+    }
+
+    @Override
+    public ImmutableList<SignalRow> getRows() {
+        return ImmutableList.copyOf(rows);
+    }
+
+    @Override
+    public void addSignalRow(SignalRow row) {
+        addSignalRow(rows.size(), row);
+    }
+
+    @Override
+    public void addSignalRow(int index, SignalRow row) {
+        attach(row);
+        rows.add(index, row);
+        fireRowAdded(index, row);
+    }
+
+    @Override
+    public void removeSignalRow(int index) {
+        detach(rows.remove(index));
+        fireRowRemoved(index);
+    }
+
+    @Override
+    public void addSignalRows(int index, List<SignalRow> newRows) {
+        if (newRows.isEmpty()) {
+            return;
+        }
+        newRows.forEach(this::attach);
+        rows.addAll(index, newRows);
+        fireRowsAdded(index, index + newRows.size() - 1);
+    }
+
+    @Override
+    public void removeSignalRows(int fromIndex, int toIndex) {
+        checkArgument(fromIndex >= 0 && toIndex < getRowCount() && toIndex >= fromIndex);
+        List<SignalRow> removed = rows.subList(fromIndex, toIndex + 1);
+        removed.forEach(this::detach);
+        removed.clear();
+        fireRowsRemoved(fromIndex, toIndex);
+    }
+
+    @Override
+    public void exchangeSignalRows(int index1, int index2) {
+        Collections.swap(rows, index1, index2);
+        fireRowsExchanged(index1, index2);
+    }
+
+    @Override
+    public void moveSignalRows(int firstIndex, int lastIndex, int direction) {
+        checkArgument(firstIndex >= 0 && lastIndex < getRowCount() && lastIndex >= firstIndex);
+
+        if (direction == 1) {
+            checkArgument(lastIndex < getRowCount() - 1);
+            Collections.rotate(rows.subList(firstIndex, lastIndex + 2), 1);
+            fireRowsUpdated(firstIndex, lastIndex + 1);
+        }
+        else if (direction == -1) {
+            checkArgument(firstIndex > 0);
+            Collections.rotate(rows.subList(firstIndex - 1, lastIndex + 1), -1);
+            fireRowsUpdated(firstIndex - 1, lastIndex);
+        }
+        else {
+            throw new IllegalArgumentException("direction == -1 or 1");
+        }
+    }
+
+    @Override
+    public void setSignalRow(int index, SignalRow row) {
+        SignalRow oldRow = rows.get(index);
+        if (oldRow != row) {
+            attach(row);
+            detach(oldRow);
+            rows.set(index, row);
+        }
+        fireRowReplaced(index, row);
+    }
+
+    @Override
+    public void setSignalRows(int index, List<SignalRow> newRows) {
+        checkArgument(index >= 0 && index + newRows.size() <= getRowCount());
+        if (newRows.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < newRows.size(); i++) {
+            SignalRow oldRow = rows.get(index + i);
+            SignalRow row = newRows.get(i);
+            if (oldRow != row) {
+                attach(row);
+                detach(oldRow);
+                rows.set(index + i, row);
+            }
+        }
+        fireRowsUpdated(index, index + newRows.size() - 1);
+    }
+
+    @Override
+    public void setRowSignal(int index, String signal, SignalValue value) {
+        SignalRow row = rows.get(index);
+        row.setSignal(signal, value);
+        fireRowReplaced(index, row);
+    }
+
+    @Override
+    public void setRowJump(int index, Jump jump) {
+        SignalRow row = rows.get(index);
+        row.setJump(jump);
+        fireRowReplaced(index, row);
+    }
+
+    @Override
+    public DescriptionFactory getDescriptionFactory() {
+        return null;
+    }
+}
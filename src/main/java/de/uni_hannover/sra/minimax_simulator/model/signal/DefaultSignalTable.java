@@ -52,6 +52,22 @@ public class DefaultSignalTable extends AbstractSignalTable {
         fireRowRemoved(index);
     }
 
+    @Override
+    public void addSignalRows(int index, List<SignalRow> newRows) {
+        if (newRows.isEmpty()) {
+            return;
+        }
+        rows.addAll(index, newRows);
+        fireRowsAdded(index, index + newRows.size() - 1);
+    }
+
+    @Override
+    public void removeSignalRows(int fromIndex, int toIndex) {
+        checkArgument(fromIndex >= 0 && toIndex < getRowCount() && toIndex >= fromIndex);
+        rows.subList(fromIndex, toIndex + 1).clear();
+        fireRowsRemoved(fromIndex, toIndex);
+    }
+
     @Override
     public void exchangeSignalRows(int index1, int index2) {
         Collections.swap(rows, index1, index2);
@@ -85,6 +101,18 @@ public class DefaultSignalTable extends AbstractSignalTable {
         fireRowReplaced(index, row);
     }
 
+    @Override
+    public void setSignalRows(int index, List<SignalRow> newRows) {
+        checkArgument(index >= 0 && index + newRows.size() <= getRowCount());
+        if (newRows.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < newRows.size(); i++) {
+            rows.set(index + i, newRows.get(i));
+        }
+        fireRowsUpdated(index, index + newRows.size() - 1);
+    }
+
     @Override
     public DescriptionFactory getDescriptionFactory() {
         return null;
@@ -97,17 +125,13 @@ public class DefaultSignalTable extends AbstractSignalTable {
         // move down
         if (direction == 1) {
             checkArgument(lastIndex < getRowCount() - 1);
-            for (int i = lastIndex; i >= firstIndex; i--) {
-                Collections.swap(rows, i, i + 1);
-            }
+            Collections.rotate(rows.subList(firstIndex, lastIndex + 2), 1);
             fireRowsUpdated(firstIndex, lastIndex + 1);
         }
         // move up
         else if (direction == -1) {
             checkArgument(firstIndex > 0);
-            for (int i = firstIndex; i <= lastIndex; i++) {
-                Collections.swap(rows, i - 1, i);
-            }
+            Collections.rotate(rows.subList(firstIndex - 1, lastIndex + 1), -1);
             fireRowsUpdated(firstIndex - 1, lastIndex);
         }
         else {
@@ -3,9 +3,10 @@ package de.uni_hannover.sra.minimax_simulator.model.signal;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.DefaultJump;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.AbstractMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -19,20 +20,39 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public final class SignalRow {
 
-    private final Map<String, SignalValue> values;
+    private SignalStorage values;
+    /** The read-only view of the values, following the row if its storage is replaced. */
+    private final Map<String, SignalValue> valuesView = new AbstractMap<String, SignalValue>() {
+        @Override
+        public SignalValue get(Object signal) {
+            return values.view().get(signal);
+        }
+
+        @Override
+        public boolean containsKey(Object signal) {
+            return values.view().containsKey(signal);
+        }
+
+        @Override
+        public Set<Entry<String, SignalValue>> entrySet() {
+            return values.view().entrySet();
+        }
+    };
 
     private String label;
     private boolean isBreakpoint;
     private Jump jump;
 
     private String description;
+    /** Creates the description on the first request after it was invalidated. */
+    private Supplier<String> descriptionSource;
 
     /**
      * Constructs a new {@code SignalRow}. All signals have their default value and the jump is
      * {@link DefaultJump#INSTANCE}.
      */
     public SignalRow() {
-        values = new HashMap<>();
+        values = new SignalStorage.MapStorage();
         label = null;
         isBreakpoint = false;
         jump = DefaultJump.INSTANCE;
@@ -45,10 +65,7 @@ public final class SignalRow {
      *         the {@code SignalRow} to copy
      */
     public SignalRow(SignalRow other) {
-        values = new HashMap<>();
-        for (Map.Entry<String, SignalValue> entry : other.getSignalValues().entrySet()) {
-            values.put(entry.getKey(), entry.getValue());
-        }
+        values = new SignalStorage.MapStorage(other.values.toMap());
 
         label = other.getLabel();
         isBreakpoint = other.isBreakpoint();
@@ -76,13 +93,35 @@ public final class SignalRow {
     }
 
     /**
-     * Gets the {@link SignalValue}s of the {@code SignalRow}.
+     * Gets the {@link SignalValue}s of the {@code SignalRow}.<br>
+     * <br>
+     * The map is a read-only view, so it is not copied and reflects later changes of the row.
      *
      * @return
      *          a map of the {@code SignalValue}s
      */
     public Map<String, SignalValue> getSignalValues() {
-        return Collections.unmodifiableMap(values);
+        return valuesView;
+    }
+
+    /**
+     * Gets the storage of the {@link SignalValue}s.
+     *
+     * @return
+     *          the {@code SignalStorage}
+     */
+    SignalStorage getStorage() {
+        return values;
+    }
+
+    /**
+     * Replaces the storage of the {@link SignalValue}s, e.g. when the row is added to a {@link ColumnarSignalTable}.
+     *
+     * @param storage
+     *          the new {@code SignalStorage} already holding the values of the row
+     */
+    void setStorage(SignalStorage storage) {
+        values = checkNotNull(storage);
     }
 
     /**
@@ -235,12 +274,18 @@ public final class SignalRow {
     }
 
     /**
-     * Gets the description of the {@code SignalRow}.
+     * Gets the description of the {@code SignalRow}.<br>
+     * <br>
+     * If the description was invalidated, it is created now and cached until the next invalidation.
      *
      * @return
      *          the description
      */
     public String getDescription() {
+        if (descriptionSource != null) {
+            description = descriptionSource.get();
+            descriptionSource = null;
+        }
         return description;
     }
 
@@ -252,6 +297,19 @@ public final class SignalRow {
      */
     public void setDescription(String description) {
         this.description = description;
+        descriptionSource = null;
+    }
+
+    /**
+     * Invalidates the description of the {@code SignalRow}. The description will be created
+     * by the specified source the next time it is requested.
+     *
+     * @param source
+     *          the source of the new description
+     */
+    public void invalidateDescription(Supplier<String> source) {
+        description = null;
+        descriptionSource = checkNotNull(source);
     }
 
     @Override
@@ -265,7 +323,7 @@ public final class SignalRow {
             sb.append(label);
         }
         sb.append(">: ");
-        sb.append(values.toString());
+        sb.append(values.toMap().toString());
         return sb.toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package de.uni_hannover.sra.minimax_simulator.model.signal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores the {@link SignalValue}s of a {@link SignalRow}.<br>
+ * <br>
+ * A {@code SignalRow} that is not part of a {@link ColumnarSignalTable} stores its values in a map. A row of a
+ * {@code ColumnarSignalTable} is a view of one slot of the table's columns.
+ *
+ * @author agent
+ */
+interface SignalStorage {
+
+    /**
+     * Gets the {@link SignalValue} of the specified signal.
+     *
+     * @param signal
+     *          the name of the signal
+     * @return
+     *          the {@code SignalValue}, or {@code null} if the signal is not set
+     */
+    SignalValue get(String signal);
+
+    /**
+     * Sets the {@link SignalValue} of the specified signal.
+     *
+     * @param signal
+     *          the name of the signal
+     * @param value
+     *          the new {@code SignalValue}, not {@code null}
+     */
+    void put(String signal, SignalValue value);
+
+    /**
+     * Removes the specified signal so it has its default value.
+     *
+     * @param signal
+     *          the name of the signal
+     */
+    void remove(String signal);
+
+    /**
+     * Creates a map of all set signals.
+     *
+     * @return
+     *          a new map of the {@code SignalValue}s by signal name
+     */
+    Map<String, SignalValue> toMap();
+
+    /**
+     * Gets a read-only view of all set signals, which reflects later changes of the storage.
+     *
+     * @return
+     *          a live map of the {@code SignalValue}s by signal name
+     */
+    Map<String, SignalValue> view();
+
+    /**
+     * The default {@code SignalStorage} backed by a {@link HashMap}.
+     */
+    static final class MapStorage implements SignalStorage {
+
+        private final Map<String, SignalValue> values;
+        private final Map<String, SignalValue> view;
+
+        /**
+         * Constructs a new empty {@code MapStorage}.
+         */
+        MapStorage() {
+            this(new HashMap<>());
+        }
+
+        /**
+         * Constructs a new {@code MapStorage} using the specified map.
+         *
+         * @param values
+         *          the map holding the values, which is not copied
+         */
+        MapStorage(Map<String, SignalValue> values) {
+            this.values = values;
+            view = Collections.unmodifiableMap(values);
+        }
+
+        @Override
+        public SignalValue get(String signal) {
+            return values.get(signal);
+        }
+
+        @Override
+        public void put(String signal, SignalValue value) {
+            values.put(signal, value);
+        }
+
+        @Override
+        public void remove(String signal) {
+            values.remove(signal);
+        }
+
+        @Override
+        public Map<String, SignalValue> toMap() {
+            return new HashMap<>(values);
+        }
+
+        @Override
+        public Map<String, SignalValue> view() {
+            return view;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package de.uni_hannover.sra.minimax_simulator.model.signal;
 import com.google.common.collect.ImmutableList;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
 
+import java.util.List;
+
 /**
  * The control table of the machine.
  *
@@ -78,6 +80,30 @@ public interface SignalTable {
      */
     public void removeSignalRow(int index);
 
+    /**
+     * Adds the specified {@link SignalRow}s at the specified index in a single step.<br>
+     * <br>
+     * The listeners are notified only once by {@link SignalTableListener#onRowsAdded(int, int)}.
+     *
+     * @param index
+     *          the index of the first new {@code SignalRow}
+     * @param rows
+     *          the {@code SignalRow}s to add
+     */
+    public void addSignalRows(int index, List<SignalRow> rows);
+
+    /**
+     * Removes the {@link SignalRow}s of the specified range in a single step.<br>
+     * <br>
+     * The listeners are notified only once by {@link SignalTableListener#onRowsRemoved(int, int)}.
+     *
+     * @param fromIndex
+     *          the index of the first {@code SignalRow} to remove
+     * @param toIndex
+     *          the index of the last {@code SignalRow} to remove
+     */
+    public void removeSignalRows(int fromIndex, int toIndex);
+
     /**
      * Exchanges two {@link SignalRow}s.
      *
@@ -110,6 +136,19 @@ public interface SignalTable {
      */
     public void setSignalRow(int index, SignalRow row);
 
+    /**
+     * Replaces the {@link SignalRow}s starting at the specified index with the specified {@code SignalRow}s
+     * in a single step.<br>
+     * <br>
+     * The listeners are notified only once by {@link SignalTableListener#onRowsUpdated(int, int)}.
+     *
+     * @param index
+     *          the index of the first {@code SignalRow} to replace
+     * @param rows
+     *          the new {@code SignalRow}s
+     */
+    public void setSignalRows(int index, List<SignalRow> rows);
+
     /**
      * Gets the {@link DescriptionFactory} of the {@code SignalTable}.
      *
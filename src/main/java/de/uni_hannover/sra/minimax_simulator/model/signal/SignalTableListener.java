@@ -1,7 +1,10 @@
 package de.uni_hannover.sra.minimax_simulator.model.signal;
 
 /**
- * A {@code SignalTableListener} is a class that needs to react to changes of a {@link SignalTable}.
+ * A {@code SignalTableListener} is a class that needs to react to changes of a {@link SignalTable}.<br>
+ * <br>
+ * Adding, removing or moving {@link SignalRow}s may also change the jump targets of other rows pointing
+ * behind the changed rows. This is not announced by separate events.
  *
  * @author Martin L&uuml;ck
  */
@@ -30,6 +33,26 @@ public interface SignalTableListener {
      */
     public void onRowRemoved(int index);
 
+    /**
+     * Notifies the listener about the addition of several {@link SignalRow}s in a single step.
+     *
+     * @param fromIndex
+     *          the index of the first new {@code SignalRow}
+     * @param toIndex
+     *          the index of the last new {@code SignalRow}
+     */
+    public void onRowsAdded(int fromIndex, int toIndex);
+
+    /**
+     * Notifies the listener about the deletion of several {@link SignalRow}s in a single step.
+     *
+     * @param fromIndex
+     *          the former index of the first removed {@code SignalRow}
+     * @param toIndex
+     *          the former index of the last removed {@code SignalRow}
+     */
+    public void onRowsRemoved(int fromIndex, int toIndex);
+
     /**
      * Notifies the listener about the exchange of two {@link SignalRow}s.
      *
@@ -5,7 +5,7 @@ import de.uni_hannover.sra.minimax_simulator.model.configuration.MachineConfigur
 import de.uni_hannover.sra.minimax_simulator.model.configuration.MachineConfigurationBuilder;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.MinimaxConfigurationBuilder;
 import de.uni_hannover.sra.minimax_simulator.model.machine.minimax.BaseControlPort;
-import de.uni_hannover.sra.minimax_simulator.model.signal.DefaultSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.ColumnarSignalTable;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
@@ -26,7 +26,7 @@ public class NewProjectBuilder implements ProjectBuilder {
         MachineConfigurationBuilder mb = new MinimaxConfigurationBuilder();
         MachineConfiguration conf = mb.loadDefaultValues(res.getTextResource("register")).build();
 
-        SignalTable table = new DefaultSignalTable();
+        SignalTable table = new ColumnarSignalTable();
         createDefaultProgram(table);
         return new Project(conf, table);
     }
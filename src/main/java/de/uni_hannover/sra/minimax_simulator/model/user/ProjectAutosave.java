@@ -0,0 +1,315 @@
+package de.uni_hannover.sra.minimax_simulator.model.user;
+
+import de.uni_hannover.sra.minimax_simulator.io.journal.JournalImporter;
+import de.uni_hannover.sra.minimax_simulator.io.journal.JournalRecord;
+import de.uni_hannover.sra.minimax_simulator.io.journal.ProjectJournal;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.event.MachineConfigEvent;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.event.MachineConfigListener;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryAccessListener;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.SimulationState;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTableListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@code ProjectAutosave} records the changes of the current {@link Project} of a {@link Workspace}
+ * in a {@link ProjectJournal}, so the project can be recovered after a crash.<br>
+ * <br>
+ * The changes are collected and recorded together by a task handed to an {@link Executor}, usually the
+ * FX application thread, so the records of a single command are written at once. The first change after
+ * opening or saving the project starts a new journal with the complete project as base. A journal growing
+ * too large is compacted the same way.<br>
+ * <br>
+ * Memory writes are only recorded while the simulation is off, the memory is reset to that state when the
+ * simulation stops anyway.
+ *
+ * @author agent
+ */
+public class ProjectAutosave implements WorkspaceListener, SignalTableListener, MachineConfigListener, MemoryAccessListener {
+
+    private final Workspace workspace;
+    private final ProjectJournal journal;
+    private final Executor executor;
+
+    private Project project;
+    private boolean hasBase;
+    private boolean flushScheduled;
+
+    private boolean machineChanged;
+    private boolean signalsChanged;
+    private final BitSet changedRows = new BitSet();
+    private boolean memoryChanged;
+    private final List<JournalRecord> memoryWrites = new ArrayList<>();
+
+    /**
+     * Constructs a new {@code ProjectAutosave} for the specified {@link Workspace}.<br>
+     * It still has to be registered as {@link WorkspaceListener}.
+     *
+     * @param workspace
+     *          the {@code Workspace} whose projects are recorded
+     * @param directory
+     *          the directory of the journal
+     * @param compactionSize
+     *          the size of the journal in bytes from which on it is compacted
+     * @param executor
+     *          the {@code Executor} recording the collected changes
+     * @throws IOException
+     *          thrown if the journal directory cannot be created or is used by another instance of the simulator
+     */
+    public ProjectAutosave(Workspace workspace, File directory, long compactionSize, Executor executor) throws IOException {
+        this.workspace = checkNotNull(workspace);
+        this.executor = checkNotNull(executor);
+        journal = new ProjectJournal(directory, compactionSize, () -> executor.execute(this::compact));
+    }
+
+    /**
+     * Checks whether there is a journal of a previous session that can be recovered.
+     *
+     * @return
+     *          {@code true} if there is a journal, {@code false} otherwise
+     */
+    public boolean hasRecoverableJournal() {
+        File file = journal.getFile();
+        return file.isFile() && file.length() > JournalRecord.HEADER_SIZE;
+    }
+
+    /**
+     * Creates a {@link JournalImporter} recovering the project of the journal.
+     *
+     * @return
+     *          the {@code JournalImporter}
+     */
+    public JournalImporter createRecoveryImporter() {
+        return new JournalImporter(journal.getFile());
+    }
+
+    /**
+     * Deletes the journal, e.g. if the user does not want to recover it.
+     */
+    public synchronized void discardJournal() {
+        hasBase = false;
+        journal.discard();
+    }
+
+    /**
+     * Deletes the journal and stops recording. Called on a regular shutdown of the application.
+     */
+    public synchronized void shutdown() {
+        detach();
+        journal.discard();
+        journal.close();
+    }
+
+    @Override
+    public synchronized void onProjectOpened(Project project) {
+        detach();
+        this.project = project;
+        project.getMachineConfiguration().addMachineConfigListener(this);
+        project.getSignalTable().addSignalTableListener(this);
+        project.getMachine().getMemory().addMemoryAccessListener(this);
+
+        discardJournal();
+        if (project.isUnsaved()) {
+            changed();
+        }
+    }
+
+    @Override
+    public synchronized void onProjectSaved(Project project) {
+        // the project file holds everything
+        discardJournal();
+    }
+
+    @Override
+    public synchronized void onProjectClosed(Project project) {
+        detach();
+        discardJournal();
+    }
+
+    @Override
+    public synchronized void onProjectDirty(Project project) {
+        changed();
+    }
+
+    @Override
+    public synchronized void onStructureChanged() {
+        signalsChanged = true;
+        changed();
+    }
+
+    @Override
+    public synchronized void onRowAdded(int index, SignalRow row) {
+        onStructureChanged();
+    }
+
+    @Override
+    public synchronized void onRowRemoved(int index) {
+        onStructureChanged();
+    }
+
+    @Override
+    public synchronized void onRowsAdded(int fromIndex, int toIndex) {
+        onStructureChanged();
+    }
+
+    @Override
+    public synchronized void onRowsRemoved(int fromIndex, int toIndex) {
+        onStructureChanged();
+    }
+
+    @Override
+    public synchronized void onRowsExchanged(int index1, int index2) {
+        changedRows.set(index1);
+        changedRows.set(index2);
+        changed();
+    }
+
+    @Override
+    public synchronized void onRowReplaced(int index, SignalRow row) {
+        changedRows.set(index);
+        changed();
+    }
+
+    @Override
+    public synchronized void onRowsUpdated(int fromIndex, int toIndex) {
+        changedRows.set(fromIndex, toIndex + 1);
+        changed();
+    }
+
+    @Override
+    public synchronized void processEvent(MachineConfigEvent event) {
+        machineChanged = true;
+        changed();
+    }
+
+    @Override
+    public void memoryReadAccess(int address, int value) {
+        // nothing changed
+    }
+
+    @Override
+    public synchronized void memoryWriteAccess(int address, int value) {
+        if (!isSimulationOff()) {
+            return;
+        }
+        memoryWrites.add(JournalRecord.memoryWrite(address, value));
+        changed();
+    }
+
+    @Override
+    public synchronized void memoryReset() {
+        memoryChanged();
+    }
+
+    @Override
+    public synchronized void memoryChanged() {
+        if (!isSimulationOff()) {
+            return;
+        }
+        memoryChanged = true;
+        memoryWrites.clear();
+        changed();
+    }
+
+    /**
+     * Checks whether the simulation of the current project is off.
+     *
+     * @return
+     *          {@code true} if the simulation is off, {@code false} otherwise
+     */
+    private boolean isSimulationOff() {
+        return project != null && project.getSimulation().getState() == SimulationState.OFF;
+    }
+
+    /**
+     * Schedules the recording of the collected changes.
+     */
+    private void changed() {
+        if (!flushScheduled && project != null) {
+            flushScheduled = true;
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Records the collected changes.
+     */
+    private synchronized void flush() {
+        flushScheduled = false;
+        if (project == null) {
+            return;
+        }
+        if (!hasBase) {
+            compact();
+            return;
+        }
+
+        if (machineChanged) {
+            journal.append(JournalRecord.machine(project.getMachineConfiguration()));
+        }
+        if (signalsChanged) {
+            journal.append(JournalRecord.signals(project.getSignalTable()));
+        }
+        else if (!changedRows.isEmpty()) {
+            int rowCount = project.getSignalTable().getRowCount();
+            if (changedRows.length() > rowCount) {
+                changedRows.clear(rowCount, changedRows.length());
+            }
+            journal.append(JournalRecord.rows(project.getSignalTable(), changedRows));
+        }
+        if (memoryChanged) {
+            MachineMemory memory = project.getMachine().getMemory();
+            journal.append(JournalRecord.memoryImage(memory.copyMemoryState()));
+        }
+        else {
+            memoryWrites.forEach(journal::append);
+        }
+        clearChanges();
+    }
+
+    /**
+     * Replaces the journal with the complete current project.
+     */
+    private synchronized void compact() {
+        if (project == null) {
+            return;
+        }
+        journal.compact(new ProjectSnapshot(project, true), workspace.getCurrentProjectFile());
+        hasBase = true;
+        clearChanges();
+    }
+
+    /**
+     * Forgets the collected changes.
+     */
+    private void clearChanges() {
+        machineChanged = false;
+        signalsChanged = false;
+        changedRows.clear();
+        memoryChanged = false;
+        memoryWrites.clear();
+    }
+
+    /**
+     * Stops listening to the current project.
+     */
+    private void detach() {
+        if (project == null) {
+            return;
+        }
+        project.getMachineConfiguration().removeMachineConfigListener(this);
+        project.getSignalTable().removeSignalTableListener(this);
+        project.getMachine().getMemory().removeMemoryAccessListener(this);
+        project = null;
+        clearChanges();
+    }
+}
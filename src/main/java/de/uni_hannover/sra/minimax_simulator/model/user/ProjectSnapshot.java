@@ -0,0 +1,122 @@
+package de.uni_hannover.sra.minimax_simulator.model.user;
+
+import de.uni_hannover.sra.minimax_simulator.model.configuration.MachineConfiguration;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.signal.DefaultSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.commands.Command;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code ProjectSnapshot} holds copies of the exportable parts of a {@link Project}, i.e. the
+ * {@link MachineConfiguration}, the {@link SignalTable} and optionally the {@link MemoryState}.<br>
+ * <br>
+ * Creating a snapshot is cheap compared to exporting, so the snapshot is taken in the FX application
+ * thread and exported in the background while the user keeps editing the project.
+ *
+ * @author agent
+ */
+public final class ProjectSnapshot {
+
+    private final Project project;
+    private final Command savePoint;
+
+    private final MachineConfiguration machineConfiguration;
+    private final SignalTable signalTable;
+    private final MemoryState memoryState;
+
+    /**
+     * Creates a snapshot of the specified {@link Project}.
+     *
+     * @param project
+     *          the {@code Project} to take the snapshot of
+     * @param includeMemory
+     *          whether the content of the memory is copied as well
+     */
+    public ProjectSnapshot(Project project, boolean includeMemory) {
+        this(project, includeMemory, null);
+    }
+
+    /**
+     * Creates a snapshot of the specified {@link Project} remembering the {@link Command} at the head of
+     * the undo stack.
+     *
+     * @param project
+     *          the {@code Project} to take the snapshot of
+     * @param includeMemory
+     *          whether the content of the memory is copied as well
+     * @param savePoint
+     *          the {@code Command} at the head of the undo stack, may be {@code null}
+     */
+    ProjectSnapshot(Project project, boolean includeMemory, Command savePoint) {
+        this.project = checkNotNull(project);
+        this.savePoint = savePoint;
+
+        machineConfiguration = project.getMachineConfiguration().copy();
+
+        SignalTable table = project.getSignalTable();
+        List<SignalRow> rows = new ArrayList<>(table.getRowCount());
+        for (SignalRow row : table.getRows()) {
+            rows.add(new SignalRow(row));
+        }
+        signalTable = new DefaultSignalTable();
+        signalTable.addSignalRows(0, rows);
+
+        memoryState = includeMemory ? project.getMachine().getMemory().copyMemoryState() : null;
+    }
+
+    /**
+     * Gets the {@link Project} the snapshot was taken of.
+     *
+     * @return
+     *          the {@code Project}
+     */
+    Project getProject() {
+        return project;
+    }
+
+    /**
+     * Gets the {@link Command} that was at the head of the undo stack when the snapshot was taken.
+     *
+     * @return
+     *          the {@code Command} or {@code null}
+     */
+    Command getSavePoint() {
+        return savePoint;
+    }
+
+    /**
+     * Gets the copy of the {@link MachineConfiguration}.
+     *
+     * @return
+     *          the machine's configuration
+     */
+    public MachineConfiguration getMachineConfiguration() {
+        return machineConfiguration;
+    }
+
+    /**
+     * Gets the copy of the {@link SignalTable}.
+     *
+     * @return
+     *          the machine's control table
+     */
+    public SignalTable getSignalTable() {
+        return signalTable;
+    }
+
+    /**
+     * Gets the copy of the {@link MemoryState}.
+     *
+     * @return
+     *          the content of the memory or {@code null} if the memory was not included
+     */
+    public MemoryState getMemoryState() {
+        return memoryState;
+    }
+}
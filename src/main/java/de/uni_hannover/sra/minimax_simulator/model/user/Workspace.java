@@ -1,13 +1,27 @@
 package de.uni_hannover.sra.minimax_simulator.model.user;
 
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
+import de.uni_hannover.sra.minimax_simulator.io.ProjectBinaryFormat;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExportException;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExporter;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.binary.ProjectBinaryExporter;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.json.ProjectZipExporter;
 import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImportException;
+import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImporter;
+import de.uni_hannover.sra.minimax_simulator.io.importer.binary.ProjectBinaryImporter;
 import de.uni_hannover.sra.minimax_simulator.io.importer.json.ProjectZipImporter;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.UndoManager;
 import de.uni_hannover.sra.minimax_simulator.util.ListenerContainer;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CancellationException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 /**
  * A container that can either hold a single project or be empty.
@@ -57,19 +71,85 @@ public class Workspace extends ListenerContainer<WorkspaceListener> {
      *          thrown if there was a failure during opening
      */
     public void openProject(File file) throws ProjectImportException {
+        setProject(importProject(file, ProgressMonitor.NONE), file);
+    }
+
+    /**
+     * Imports a project from the specified file without changing the {@code Workspace}, so it can be called
+     * from a background thread. The imported project is opened by {@link #setProject(Project, File)}.<br>
+     * <br>
+     * Files starting with the magic number of the binary project format are read by a
+     * {@link ProjectBinaryImporter}, all other files are read as zip archive.
+     *
+     * @param file
+     *          the {@code File} to import
+     * @param monitor
+     *          the {@link ProgressMonitor} receiving the progress of the import
+     * @return
+     *          the imported {@link Project}
+     * @throws ProjectImportException
+     *          thrown if there was a failure during importing
+     * @throws CancellationException
+     *          thrown if the import was canceled by the {@code ProgressMonitor}
+     */
+    public Project importProject(File file, ProgressMonitor monitor) throws ProjectImportException {
+        ProjectImporter importer;
+        try {
+            importer = ProjectBinaryFormat.isBinaryProject(file) ? new ProjectBinaryImporter(file) : new ProjectZipImporter(file);
+        } catch (IOException e) {
+            throw new ProjectImportException("I/O error while reading file: " + file.getPath(), e);
+        }
+        return importer.importProject(monitor);
+    }
+
+    /**
+     * Replaces the current project, if existing, with the specified imported {@link Project}.<br>
+     * <br>
+     * Then all {@link WorkspaceListener}s are notified via their
+     * {@link WorkspaceListener#onProjectOpened(Project)} method.<br>
+     * <br>
+     * This method does not check if the current project has unsaved data.
+     *
+     * @param project
+     *          the imported {@code Project}
+     * @param file
+     *          the {@code File} the project was imported from, may be {@code null}
+     */
+    public void setProject(Project project, File file) {
+        checkNotNull(project);
         if (currentProject != null) {
             closeProject();
         }
 
-        currentProject = new ProjectZipImporter(file).importProject();
+        currentProject = project;
         currentProjectFile = file;
-        lastProjectFolder = file.getParentFile();
+        if (file != null) {
+            lastProjectFolder = file.getParentFile();
+        }
 
         for (WorkspaceListener l : getListeners()) {
             l.onProjectOpened(currentProject);
         }
     }
 
+    /**
+     * Replaces the current project, if existing, with the specified {@link Project} recovered from the
+     * journal of a {@link ProjectAutosave} and marks it as unsaved.<br>
+     * <br>
+     * Then all {@link WorkspaceListener}s are notified via their
+     * {@link WorkspaceListener#onProjectOpened(Project)} and {@link WorkspaceListener#onProjectDirty(Project)}
+     * methods.
+     *
+     * @param project
+     *          the recovered {@code Project}
+     * @param file
+     *          the {@code File} the project was loaded from or saved to before, may be {@code null}
+     */
+    public void recoverProject(Project project, File file) {
+        setProject(project, file);
+        setProjectUnsaved();
+    }
+
     /**
      * Closes the current project and sets it to <code>null</code>.<br>
      * <br>
@@ -106,11 +186,106 @@ public class Workspace extends ListenerContainer<WorkspaceListener> {
      *          thrown if there was a failure during saving
      */
     public void saveProject(File file) throws ProjectExportException {
-        new ProjectZipExporter(file).exportProject(currentProject);
+        ProjectSnapshot snapshot = createSnapshot(file);
+        writeProject(snapshot, file, ProgressMonitor.NONE);
+        markProjectSaved(snapshot, file);
+    }
+
+    /**
+     * Takes a {@link ProjectSnapshot} of the currently open project for saving it to the specified file.<br>
+     * The memory content is only included if the file will be written in the binary project format.
+     *
+     * @param file
+     *          the {@code File} the project will be saved to
+     * @return
+     *          the {@code ProjectSnapshot}
+     */
+    public ProjectSnapshot createSnapshot(File file) {
+        checkState(currentProject != null, "No project opened");
+        return new ProjectSnapshot(currentProject, isBinaryProjectFile(file), UndoManager.INSTANCE.getSavePoint());
+    }
+
+    /**
+     * Writes the specified {@link ProjectSnapshot} to the specified file without changing the {@code Workspace},
+     * so it can be called from a background thread.<br>
+     * <br>
+     * Files with the extension {@link ProjectBinaryFormat#FILE_EXTENSION} are written in the binary
+     * project format including the memory content, all other files are written as zip archive.<br>
+     * The project is written to a temporary file first, which replaces the specified file after a
+     * successful export. So a failed or canceled export leaves the file untouched.
+     *
+     * @param snapshot
+     *          the {@code ProjectSnapshot} to save
+     * @param file
+     *          the {@code File} to save to
+     * @param monitor
+     *          the {@link ProgressMonitor} receiving the progress of the export
+     * @throws ProjectExportException
+     *          thrown if there was a failure during saving
+     * @throws CancellationException
+     *          thrown if the export was canceled by the {@code ProgressMonitor}
+     */
+    public void writeProject(ProjectSnapshot snapshot, File file, ProgressMonitor monitor) throws ProjectExportException {
+        File tempFile;
+        try {
+            tempFile = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+        } catch (IOException e) {
+            throw new ProjectExportException("Cannot create temporary file for saving: " + file.getPath(), e);
+        }
+
+        boolean moved = false;
+        try {
+            ProjectExporter exporter = isBinaryProjectFile(file) ? new ProjectBinaryExporter(tempFile, true) : new ProjectZipExporter(tempFile);
+            exporter.exportProject(snapshot, monitor);
+            monitor.checkCanceled();
+
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            moved = true;
+        } catch (IOException e) {
+            throw new ProjectExportException("Cannot replace project file: " + file.getPath(), e);
+        } finally {
+            if (!moved && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Marks the project as saved to the specified file after the specified {@link ProjectSnapshot} was written.
+     * The file is also saved as return value for following {@link #getLastProjectFolder()} calls.<br>
+     * <br>
+     * If the project was changed since the snapshot was taken, it stays unsaved and all {@link WorkspaceListener}s
+     * are notified via their {@link WorkspaceListener#onProjectDirty(Project)} method. Otherwise they are
+     * notified via their {@link WorkspaceListener#onProjectSaved(Project)} method.<br>
+     * <br>
+     * Does nothing if the project of the snapshot was closed in the meantime.
+     *
+     * @param snapshot
+     *          the written {@code ProjectSnapshot}
+     * @param file
+     *          the {@code File} the snapshot was written to
+     */
+    public void markProjectSaved(ProjectSnapshot snapshot, File file) {
+        if (snapshot.getProject() != currentProject) {
+            return;
+        }
 
-        currentProject.setIsSaved();
         currentProjectFile = file;
         lastProjectFolder = file.getParentFile();
+        if (UndoManager.INSTANCE.getSavePoint() != snapshot.getSavePoint()) {
+            // changed during saving, the listeners get to know the new file
+            UndoManager.INSTANCE.markSavedState(snapshot.getSavePoint());
+            for (WorkspaceListener l : getListeners()) {
+                l.onProjectDirty(currentProject);
+            }
+            return;
+        }
+
+        currentProject.setIsSaved();
         UndoManager.INSTANCE.markSavedState();
 
         for (WorkspaceListener l : getListeners()) {
@@ -118,6 +293,18 @@ public class Workspace extends ListenerContainer<WorkspaceListener> {
         }
     }
 
+    /**
+     * Checks whether the specified file will be written in the binary project format.
+     *
+     * @param file
+     *          the {@code File} to check
+     * @return
+     *          {@code true} if the file has the extension of binary projects, {@code false} otherwise
+     */
+    private static boolean isBinaryProjectFile(File file) {
+        return file.getName().endsWith(ProjectBinaryFormat.FILE_EXTENSION);
+    }
+
     /**
      * Creates a new project.<br>
      * <br>
@@ -3,6 +3,7 @@ package de.uni_hannover.sra.minimax_simulator.ui;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.WaitingDialog;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
 import javafx.scene.Group;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
@@ -106,6 +107,39 @@ public class UIUtil {
 
     }
 
+    /**
+     * Executes a {@link Task} in a background thread and shows a progress dialog until the task finished.<br>
+     * The dialog shows the {@code progress} property of the task and canceling the dialog cancels the task.<br>
+     * <br>
+     * The handlers of the task, e.g. {@link Task#setOnSucceeded}, are called in the FX application thread
+     * as usual, so the result of the task should be applied there.
+     *
+     * @param task
+     *            the {@code Task} to execute
+     * @param waitingTitle
+     *            the title of the progress dialog
+     * @param waitingMessage
+     *            the message of the progress dialog
+     */
+    public static void executeTask(Task<?> task, String waitingTitle, String waitingMessage) {
+        checkNotNull(task);
+
+        WaitingDialog waitingDialog = new WaitingDialog(waitingTitle, waitingMessage);
+        waitingDialog.bindProgress(task.progressProperty());
+
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, workerStateEvent -> waitingDialog.close());
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, workerStateEvent -> waitingDialog.close());
+
+        Thread th = new Thread(task);
+        th.setDaemon(false);
+        th.start();
+
+        if (waitingDialog.isCanceled()) {
+            task.cancel(false);
+            LOG.fine("executeTask: execution canceled");
+        }
+    }
+
     /**
      * Removes the table header of a {@link TableView} by looking up the {@code TableHeaderRow} and making it invisible.
      *
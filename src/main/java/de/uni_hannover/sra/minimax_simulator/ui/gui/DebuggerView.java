@@ -1,23 +1,37 @@
 package de.uni_hannover.sra.minimax_simulator.ui.gui;
 
 import de.uni_hannover.sra.minimax_simulator.Main;
+import de.uni_hannover.sra.minimax_simulator.config.Config;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.csv.ProfileCsvExporter;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.json.ProfileJsonExporter;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.event.MachineConfigEvent;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.event.MachineConfigListEvent;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.event.MachineConfigListener;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.register.RegisterExtension;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryDiff;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.AutoCheckpoint;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Breakpoint;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.ExecutionProfile;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.InfiniteLoop;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Simulation;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.SimulationListener;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.SimulationState;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Traceable;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
-import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTableListener;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
 import de.uni_hannover.sra.minimax_simulator.resources.TextResource;
 import de.uni_hannover.sra.minimax_simulator.ui.UIUtil;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.BreakpointDialog;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.ExceptionDialog;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.FXDialog;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.RegisterUpdateDialog;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview.AbstractSignalTableModel;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview.CenteredCellPane;
+import de.uni_hannover.sra.minimax_simulator.util.Util;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -29,12 +43,21 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
+import javafx.stage.FileChooser;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <b>FXController of the DebuggerView</b><br>
@@ -44,7 +67,7 @@ import java.util.Optional;
  *
  * @author Philipp Rohde
  */
-public class DebuggerView implements SimulationListener, MachineConfigListener, SignalTableListener {
+public class DebuggerView implements SimulationListener, MachineConfigListener {
 
     private final TextResource resSignal;
     private final TextResource res;
@@ -65,7 +88,9 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
     @FXML private TableColumn<SimulationTableModel, String> colSimAdr;
     @FXML private TableColumn<SimulationTableModel, String> colSimAlu;
     @FXML private TableColumn<SimulationTableModel, String> colSimNext;
+    @FXML private TableColumn<SimulationTableModel, String> colSimHits;
     @FXML private TableColumn<SimulationTableModel, String> colSimDesc;
+    private SimulationTableItems simTableItems;
 
     @FXML private TitledPane paneRegister;
     @FXML private TitledPane paneALU;
@@ -76,6 +101,12 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
     @FXML private Button btnSimQuit;
     @FXML private Button btnSimCycle;
     @FXML private Button btnSimRun;
+    @FXML private Button btnSimSave;
+    @FXML private Button btnSimLoad;
+    @FXML private Button btnSimProfile;
+
+    private final FileChooser checkpointChooser = new FileChooser();
+    private final FileChooser profileChooser = new FileChooser();
 
     private Simulation simulation;
 
@@ -84,12 +115,24 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
 
     @FXML private MemoryTable embeddedMemoryTableController;
 
+    @FXML private TitledPane paneMemoryDiff;
+    @FXML private Label lblMemoryDiff;
+    @FXML private ListView<MemoryDiff.Range> lstMemoryDiff;
+
+    @FXML private TitledPane paneBreakpoints;
+    @FXML private ListView<Breakpoint> lstBreakpoints;
+    @FXML private Button btnBreakpointAdd;
+    @FXML private Button btnBreakpointRemove;
+    /** The descriptions of the {@link Breakpoint}s registered at the simulation. */
+    private final Map<Breakpoint, String> breakpointTexts = new HashMap<>();
+
     private static final int NO_ROW_MARKED = -1;
     private static int lastExecutedRow = -1;
 
     private final MessageFormat cyclesFormatHalted;
     private final MessageFormat cyclesFormatRead;
     private final MessageFormat cyclesFormatWrite;
+    private final MessageFormat cyclesFormatRunning;
     private Object[] cyclesFormatParam = new Object[1];
 
     private static final Image INIT_SIM = new Image("/images/fugue/control-green.png");
@@ -108,6 +151,7 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         cyclesFormatHalted = res.createFormat("cycles.label");
         cyclesFormatRead = res.createFormat("cycles.read.label");
         cyclesFormatWrite = res.createFormat("cycles.write.label");
+        cyclesFormatRunning = res.createFormat("cycles.running.label");
     }
 
     /**
@@ -117,6 +161,8 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
     public void initialize() {
         setLocalizedTexts();
         setTooltips();
+        initMemoryDiffList();
+        initBreakpointList();
     }
 
     /**
@@ -128,12 +174,13 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
             col.setText(resSignal.get(col.getId().replace("_", ".")));
         }
 
-        final List<TableColumn> tableColumns = new ArrayList<>(Arrays.asList(colRegName, colRegDec, colRegHex, colAluDec, colAluHex));
+        final List<TableColumn> tableColumns = new ArrayList<>(Arrays.asList(colRegName, colRegDec, colRegHex, colAluDec, colAluHex, colSimHits));
         for (TableColumn col : tableColumns) {
             col.setText(res.get(col.getId().replace("_", ".")));
         }
 
-        final List<Labeled> controls = new ArrayList<>(Arrays.asList(paneRegister, paneALU, paneSimulation));
+        final List<Labeled> controls = new ArrayList<>(Arrays.asList(paneRegister, paneALU, paneSimulation, paneMemoryDiff,
+                paneBreakpoints, btnBreakpointAdd, btnBreakpointRemove));
         for (Labeled con : controls) {
             con.setText(res.get(con.getId().replace("_", ".")));
         }
@@ -149,6 +196,61 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         btnSimRun.setTooltip(new Tooltip(res.get("action.run.tip")));
         btnSimQuit.setTooltip(new Tooltip(res.get("action.stop.tip")));
         btnSimInit.setTooltip(simInit);
+        btnSimSave.setTooltip(new Tooltip(res.get("action.save.tip")));
+        btnSimLoad.setTooltip(new Tooltip(res.get("action.load.tip")));
+        btnSimProfile.setTooltip(new Tooltip(res.get("action.profile.tip")));
+        lstMemoryDiff.setTooltip(new Tooltip(res.get("memorydiff.tip")));
+        btnBreakpointAdd.setTooltip(new Tooltip(res.get("breakpoints.add.tip")));
+    }
+
+    /**
+     * Initializes the {@link ListView} of the memory ranges modified by the simulation.
+     */
+    private void initMemoryDiffList() {
+        lstMemoryDiff.setCellFactory(list -> new ListCell<MemoryDiff.Range>() {
+            @Override
+            protected void updateItem(MemoryDiff.Range range, boolean empty) {
+                super.updateItem(range, empty);
+                if (empty || range == null) {
+                    setText(null);
+                    return;
+                }
+                int width = Main.getWorkspace().getProject().getMachine().getMemory().getAddressWidth();
+                setText(res.format("memorydiff.range", Util.toHex(range.getFromAddress(), width, true),
+                        Util.toHex(range.getToAddress(), width, true), range.getLength()));
+            }
+        });
+
+        // show the range in the memory table at double click
+        lstMemoryDiff.addEventHandler(MouseEvent.MOUSE_CLICKED, mouseEvent -> {
+            MemoryDiff.Range range = lstMemoryDiff.getSelectionModel().getSelectedItem();
+            if (mouseEvent.getButton().equals(MouseButton.PRIMARY) && mouseEvent.getClickCount() == 2 && range != null) {
+                embeddedMemoryTableController.selectAddress(range.getFromAddress());
+            }
+        });
+    }
+
+    /**
+     * Initializes the {@link ListView} of the {@link Breakpoint}s registered at the simulation.
+     */
+    private void initBreakpointList() {
+        lstBreakpoints.setCellFactory(list -> new ListCell<Breakpoint>() {
+            @Override
+            protected void updateItem(Breakpoint breakpoint, boolean empty) {
+                super.updateItem(breakpoint, empty);
+                if (empty || breakpoint == null) {
+                    setText(null);
+                }
+                else if (breakpoint.getHitCount() > 1) {
+                    setText(res.format("breakpoints.hits", breakpointTexts.get(breakpoint), breakpoint.getHits(), breakpoint.getHitCount()));
+                }
+                else {
+                    setText(breakpointTexts.get(breakpoint));
+                }
+            }
+        });
+
+        btnBreakpointRemove.disableProperty().bind(lstBreakpoints.getSelectionModel().selectedItemProperty().isNull());
     }
 
     /**
@@ -158,9 +260,28 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
     public void initDebuggerView() {
         simulation = Main.getWorkspace().getProject().getSimulation();
         simulation.addSimulationListener(this);
+        simulation.setLoopDetectionEnabled(Config.getIsSimulationDetectLoops());
+        simulation.setProfilingEnabled(Config.getIsSimulationProfile());
+        simulation.addRunProgressListener((sim, cycles, cyclesPerSecond) -> {
+            String text = cyclesFormatRunning.format(new Object[] { cycles, Math.round(cyclesPerSecond) });
+            UIUtil.invokeInFAT(() -> lblCycles.setText(text));
+        });
+
+        long cycleLimit = Config.getSimulationCycleLimit();
+        if (cycleLimit > 0) {
+            simulation.setCycleLimit(cycleLimit);
+        }
+        String checkpointFile = Config.getSimulationAutoCheckpoint();
+        if (checkpointFile != null) {
+            long interval = TimeUnit.SECONDS.toMillis(Config.getSimulationAutoCheckpointInterval());
+            simulation.addRunProgressListener(new AutoCheckpoint(Paths.get(checkpointFile), interval));
+        }
 
         Main.getWorkspace().getProject().getMachineConfiguration().addMachineConfigListener(this);
-        Main.getWorkspace().getProject().getSignalTable().addSignalTableListener(this);
+
+        // the breakpoints belong to the simulation of the previous project
+        breakpointTexts.clear();
+        lstBreakpoints.getItems().clear();
 
         embeddedMemoryTableController.initMemTable();
         initRegTable();
@@ -178,6 +299,8 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         updateAluTable();
         updateRegTable();
         updateSimulationTable();
+        // the hits of the breakpoints may have changed
+        lstBreakpoints.refresh();
     }
 
     /**
@@ -248,6 +371,7 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         colSimAdr.setCellValueFactory(new PropertyValueFactory<>("address"));
         colSimAlu.setCellValueFactory(new PropertyValueFactory<>("alu"));
         colSimNext.setCellValueFactory(new PropertyValueFactory<>("next"));
+        colSimHits.setCellValueFactory(new PropertyValueFactory<>("hits"));
         colSimDesc.setCellValueFactory(new PropertyValueFactory<>("description"));
 
         colSim2.setCellFactory(param -> {
@@ -272,7 +396,7 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
                     SignalTable signalTable = Main.getWorkspace().getProject().getSignalTable();
                     SignalRow signalRow = signalTable.getRow(index);
                     signalRow.setBreakpoint(!signalRow.isBreakpoint());
-                    updateSimulationTable();
+                    simTableItems.onRowReplaced(index, signalRow);
                 }
             });
 
@@ -295,7 +419,10 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
             }
         );
 
-        updateSimulationTable();
+        SignalTable signalTable = Main.getWorkspace().getProject().getSignalTable();
+        simTableItems = new SimulationTableItems(signalTable);
+        signalTable.addSignalTableListener(simTableItems);
+        simTable.setItems(simTableItems);
     }
 
 
@@ -311,17 +438,10 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
     }
 
     /**
-     * Updates the {@link TableView} for the simulation overview.
+     * Updates the {@link TableView} for the simulation overview, as the active row and the hits may have changed.
      */
     private void updateSimulationTable() {
-        ObservableList<SimulationTableModel> data = FXCollections.observableArrayList();
-
-        SignalTable signalTable = Main.getWorkspace().getProject().getSignalTable();
-        for (int i = 0; i < signalTable.getRowCount(); i++) {
-            data.add(new SimulationTableModel(signalTable.getRow(i), i));
-        }
-
-        simTable.setItems(data);
+        simTableItems.invalidateAll();
     }
 
     /**
@@ -340,8 +460,36 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         aluTable.setItems(data);
     }
 
+    /**
+     * Updates the list of the memory ranges modified since the simulation was started or reset.
+     * Must be called from the FX application thread while the simulation is not running.
+     */
+    private void updateMemoryDiff() {
+        MachineMemory memory = Main.getWorkspace().getProject().getMachine().getMemory();
+        MemoryState marked = memory.getMarkedMemoryState();
+        if (marked == null || simulation.getState() == SimulationState.RUNNING) {
+            lblMemoryDiff.setText("");
+            lstMemoryDiff.getItems().clear();
+            return;
+        }
+
+        MemoryDiff diff = MemoryDiff.compare(marked, memory.getMemoryState());
+        if (diff.isEmpty()) {
+            lblMemoryDiff.setText(res.get("memorydiff.none"));
+        }
+        else {
+            lblMemoryDiff.setText(res.format("memorydiff.summary", diff.getChangedWordCount(), diff.getRanges().size()));
+        }
+        lstMemoryDiff.getItems().setAll(diff.getRanges());
+    }
+
     @Override
     public void stateChanged(SimulationState state) {
+        if (state != SimulationState.RUNNING) {
+            // the simulation may have changed the memory
+            UIUtil.invokeInFAT(this::updateMemoryDiff);
+        }
+
         if (state == SimulationState.IDLE) {
             // simulation has done a step
             lastExecutedRow = simulation.getCurrentSignalRow();
@@ -353,6 +501,12 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
             }
             btnSimCycle.setDisable(true);
             btnSimRun.setDisable(true);
+
+            InfiniteLoop loop = simulation.getDetectedLoop();
+            if (loop != null) {
+                String message = res.format("simulation.loop.message", loop.getFirstRow(), loop.getLastRow(), loop.getPeriod());
+                UIUtil.invokeInFAT(() -> new FXDialog(Alert.AlertType.WARNING, res.get("simulation.loop.title"), message).show());
+            }
         }
         else if (state == SimulationState.OFF) {
             // simulation canceled
@@ -362,6 +516,9 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
             btnSimQuit.setDisable(true);
             btnSimCycle.setDisable(true);
             btnSimRun.setDisable(true);
+            btnSimSave.setDisable(true);
+            btnSimLoad.setDisable(true);
+            btnSimProfile.setDisable(true);
             btnSimInit.setGraphic(new ImageView(INIT_SIM));
             btnSimInit.setTooltip(simInit);
             updateAllTables();
@@ -379,6 +536,9 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
                 btnSimQuit.setDisable(false);
                 btnSimCycle.setDisable(false);
                 btnSimRun.setDisable(false);
+                btnSimSave.setDisable(false);
+                btnSimLoad.setDisable(false);
+                btnSimProfile.setDisable(!simulation.isProfilingEnabled());
                 btnSimInit.setGraphic(new ImageView(RESET_SIM));
                 btnSimInit.setTooltip(simStop);
             }
@@ -404,6 +564,9 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
             btnSimQuit.setDisable(true);
             btnSimCycle.setDisable(true);
             btnSimRun.setDisable(true);
+            btnSimSave.setDisable(true);
+            btnSimLoad.setDisable(true);
+            btnSimProfile.setDisable(true);
             btnSimInit.setGraphic(new ImageView(INIT_SIM));
             btnSimInit.setTooltip(simInit);
         } catch (Exception e) {
@@ -445,6 +608,113 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         updateCyclesText();
     }
 
+    /**
+     * Opens a {@link BreakpointDialog} for the selected row and registers the created {@link Breakpoint}.
+     */
+    public void addBreakpoint() {
+        List<String> registers = new ArrayList<>();
+        Main.getWorkspace().getProject().getMachineConfiguration().getBaseRegisters().forEach(register -> registers.add(register.getName()));
+        Main.getWorkspace().getProject().getMachineConfiguration().getRegisterExtensions().forEach(register -> registers.add(register.getName()));
+
+        int rowCount = Main.getWorkspace().getProject().getSignalTable().getRowCount();
+        BreakpointDialog dialog = new BreakpointDialog(registers, rowCount, simTable.getSelectionModel().getSelectedIndex());
+        Breakpoint breakpoint = dialog.showAndCreate();
+        if (breakpoint != null) {
+            breakpointTexts.put(breakpoint, dialog.getDescription());
+            simulation.addBreakpoint(breakpoint);
+            lstBreakpoints.getItems().add(breakpoint);
+        }
+    }
+
+    /**
+     * Removes the selected {@link Breakpoint} from the simulation.
+     */
+    public void removeBreakpoint() {
+        Breakpoint breakpoint = lstBreakpoints.getSelectionModel().getSelectedItem();
+        if (breakpoint != null) {
+            simulation.removeBreakpoint(breakpoint);
+            breakpointTexts.remove(breakpoint);
+            lstBreakpoints.getItems().remove(breakpoint);
+        }
+    }
+
+    /**
+     * Opens a {@link FileChooser} and saves a checkpoint of the simulation to the selected file.
+     */
+    public void saveCheckpoint() {
+        File file = checkpointChooser.showSaveDialog(Main.getPrimaryStage());
+        if (file == null) {
+            return;
+        }
+        checkpointChooser.setInitialDirectory(file.getParentFile());
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            simulation.saveCheckpoint(channel);
+        } catch (Exception e) {
+            UIUtil.invokeInFAT(() -> new ExceptionDialog(e).show());
+        }
+    }
+
+    /**
+     * Opens a {@link FileChooser} and restores the simulation from the checkpoint in the selected file.
+     */
+    public void loadCheckpoint() {
+        File file = checkpointChooser.showOpenDialog(Main.getPrimaryStage());
+        if (file == null) {
+            return;
+        }
+        checkpointChooser.setInitialDirectory(file.getParentFile());
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            simulation.restoreCheckpoint(channel);
+            btnSimCycle.setDisable(simulation.isHalted());
+            btnSimRun.setDisable(simulation.isHalted());
+        } catch (IOException e) {
+            String message = res.format("simulation.checkpoint.message", e.getMessage());
+            UIUtil.invokeInFAT(() -> new FXDialog(Alert.AlertType.ERROR, res.get("simulation.checkpoint.title"), message).show());
+        } catch (Exception e) {
+            UIUtil.invokeInFAT(() -> new ExceptionDialog(e).show());
+        }
+
+        updateAllTables();
+        updateCyclesText();
+    }
+
+    /**
+     * Opens a {@link FileChooser} and exports the {@link ExecutionProfile} of the simulation to the selected file.
+     * The format is chosen by the file extension.
+     */
+    public void exportProfile() {
+        ExecutionProfile profile = simulation.getProfile();
+        if (profile == null) {
+            return;
+        }
+
+        if (profileChooser.getExtensionFilters().isEmpty()) {
+            profileChooser.getExtensionFilters().addAll(
+                    new FileChooser.ExtensionFilter("CSV", "*.csv"),
+                    new FileChooser.ExtensionFilter("JSON", "*.json"));
+        }
+        File file = profileChooser.showSaveDialog(Main.getPrimaryStage());
+        if (file == null) {
+            return;
+        }
+        profileChooser.setInitialDirectory(file.getParentFile());
+
+        SignalTable signalTable = Main.getWorkspace().getProject().getSignalTable();
+        try {
+            if (file.getName().toLowerCase().endsWith(".json")) {
+                new ProfileJsonExporter(file).exportProfile(profile, signalTable);
+            }
+            else {
+                new ProfileCsvExporter(file).exportProfile(profile, signalTable);
+            }
+        } catch (Exception e) {
+            UIUtil.invokeInFAT(() -> new ExceptionDialog(e).show());
+        }
+    }
+
     /**
      * Updates the cycle {@link Label} with the current cycle.
      */
@@ -469,36 +739,6 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         }
     }
 
-    @Override
-    public void onStructureChanged() {
-        updateSimulationTable();
-    }
-
-    @Override
-    public void onRowAdded(int index, SignalRow row) {
-        updateSimulationTable();
-    }
-
-    @Override
-    public void onRowRemoved(int index) {
-        updateSimulationTable();
-    }
-
-    @Override
-    public void onRowsExchanged(int index1, int index2) {
-        updateSimulationTable();
-    }
-
-    @Override
-    public void onRowReplaced(int index, SignalRow row) {
-        updateSimulationTable();
-    }
-
-    @Override
-    public void onRowsUpdated(int fromIndex, int toIndex) {
-        updateSimulationTable();
-    }
-
     /**
      * This class represents the table model for the register {@link TableView}.<br>
      * <br>
@@ -671,6 +911,38 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         }
     }
 
+    /**
+     * The items of the simulation {@link TableView}, created when their row becomes visible.
+     */
+    private class SimulationTableItems extends AbstractSignalTableModel<SimulationTableModel> {
+
+        /**
+         * Constructs new {@code SimulationTableItems} for the specified {@link SignalTable}.
+         *
+         * @param table
+         *          the {@code SignalTable} to show
+         */
+        private SimulationTableItems(SignalTable table) {
+            super(table);
+        }
+
+        @Override
+        protected SimulationTableModel createItem(int index, SignalRow signalRow) {
+            ExecutionProfile profile = simulation == null ? null : simulation.getProfile();
+            return new SimulationTableModel(signalRow, index, profile);
+        }
+
+        @Override
+        protected SimulationTableModel getEmptyItem() {
+            return new SimulationTableModel(new SignalRow(), NO_ROW_MARKED, null);
+        }
+
+        @Override
+        protected boolean isJumpOutdated(int index, SimulationTableModel item) {
+            return !item.getNext().equals(getTargetText(index, getTable().getRow(index).getJump()));
+        }
+    }
+
     /**
      * This class represents the table model for the simulation {@link TableView}.<br>
      * <br>
@@ -685,6 +957,7 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
         private final SimpleStringProperty address;
         private final SimpleStringProperty alu;
         private final SimpleStringProperty next;
+        private final SimpleStringProperty hits;
         private final SimpleStringProperty description;
         private final SimpleBooleanProperty breakpoint;
         private final SimpleBooleanProperty active;
@@ -696,8 +969,10 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
          *          the {@link SignalRow} to represent
          * @param rowIndex
          *          the index of the row
+         * @param profile
+         *          the {@link ExecutionProfile} of the simulation or {@code null}
          */
-        private SimulationTableModel(SignalRow row, int rowIndex) {
+        private SimulationTableModel(SignalRow row, int rowIndex, ExecutionProfile profile) {
             if (row.isBreakpoint()) {
                 breakpoint = new SimpleBooleanProperty(true);
             }
@@ -732,6 +1007,17 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
                 this.next = new SimpleStringProperty(target1 + "\n" + target0);
             }
 
+            if (profile == null || rowIndex >= profile.getRowCount()) {
+                this.hits = new SimpleStringProperty("");
+            }
+            else if (j instanceof ConditionalJump) {
+                // one line per condition like the jump targets
+                this.hits = new SimpleStringProperty(profile.getBranchCount(rowIndex, 1) + "\n" + profile.getBranchCount(rowIndex, 0));
+            }
+            else {
+                this.hits = new SimpleStringProperty(Long.toString(profile.getRowHits(rowIndex)));
+            }
+
             this.description = new SimpleStringProperty(row.getDescription());
         }
 
@@ -815,6 +1101,26 @@ public class DebuggerView implements SimulationListener, MachineConfigListener,
             this.next.set(next);
         }
 
+        /**
+         * Gets the string representation of the execution count of the row.
+         *
+         * @return
+         *         the execution count of the row
+         */
+        public String getHits() {
+            return hits.get();
+        }
+
+        /**
+         * Sets the string representation of the execution count of the row to the specified value.
+         *
+         * @param hits
+         *          the new value
+         */
+        public void setHits(String hits) {
+            this.hits.set(hits);
+        }
+
         /**
          * Gets the description of the {@code SignalRow}.
          *
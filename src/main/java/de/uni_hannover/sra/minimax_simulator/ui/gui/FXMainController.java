@@ -4,13 +4,19 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import de.uni_hannover.sra.minimax_simulator.config.Config;
 import de.uni_hannover.sra.minimax_simulator.Main;
+import de.uni_hannover.sra.minimax_simulator.io.ProjectBinaryFormat;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.csv.SignalCsvExporter;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.csv.SignalHtmlExporter;
+import de.uni_hannover.sra.minimax_simulator.io.exporter.schematics.SchematicsExporter;
 import de.uni_hannover.sra.minimax_simulator.io.importer.ProjectImportException;
+import de.uni_hannover.sra.minimax_simulator.io.journal.JournalImporter;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.display.MachineDisplayListener;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Simulation;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalConfiguration;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
 import de.uni_hannover.sra.minimax_simulator.model.user.Project;
+import de.uni_hannover.sra.minimax_simulator.model.user.ProjectAutosave;
+import de.uni_hannover.sra.minimax_simulator.model.user.ProjectSnapshot;
 import de.uni_hannover.sra.minimax_simulator.model.user.Workspace;
 import de.uni_hannover.sra.minimax_simulator.model.user.WorkspaceListener;
 import de.uni_hannover.sra.minimax_simulator.resources.TextResource;
@@ -19,13 +25,16 @@ import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.AboutDial
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.ExceptionDialog;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.FXDialog;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.UnsavedDialog;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.util.ProgressTask;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.UndoEvent;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.UndoListener;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.UndoManager;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.DatapathOverlay;
 import de.uni_hannover.sra.minimax_simulator.ui.schematics.MachineSchematics;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.SchematicsRenderer;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.SchematicsViewport;
 import de.uni_hannover.sra.minimax_simulator.ui.schematics.SpriteOwner;
 import javafx.application.Platform;
-import javafx.embed.swing.SwingFXUtils;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
@@ -33,19 +42,12 @@ import javafx.scene.control.Menu;
 import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.ScrollPane;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 import javafx.stage.FileChooser;
 import javafx.stage.FileChooser.ExtensionFilter;
 
-import javax.imageio.ImageIO;
-
-import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -70,6 +72,7 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
     @FXML private MenuItem projectOpen;
     @FXML private MenuItem projectSave;
     @FXML private MenuItem projectSaveAs;
+    @FXML private MenuItem projectSaveCancel;
     @FXML private MenuItem projectUndo;
     @FXML private MenuItem projectRedo;
     @FXML private MenuItem projectExportSchematics;
@@ -80,8 +83,12 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
 
     private UndoManager undoManager = UndoManager.INSTANCE;
 
+    /** The project save running in the background or {@code null}. */
+    private ProgressTask<Void> saveTask = null;
+
     @FXML private Menu menuView;
     @FXML private MenuItem viewOverview;
+    @FXML private CheckMenuItem viewDatapath;
     @FXML private MenuItem viewMemory;
     @FXML private MenuItem viewDebugger;
 
@@ -122,6 +129,8 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
     @FXML private SignalView embeddedSignalViewController;
 
     private MachineSchematics schematics;
+    private SchematicsViewport schematicsViewport;
+    private DatapathOverlay datapathOverlay;
 
     private final TextResource res;
     private final TextResource resMenu;
@@ -133,6 +142,7 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
 
     private final ExtensionFilter extFilterSignal;
     private final ExtensionFilter extFilterProject;
+    private final ExtensionFilter extFilterBinaryProject;
     private final ExtensionFilter extFilterSchematics;
 
     private static final Logger LOG = Logger.getLogger("de.uni_hannover.sra.minimax_simulator");
@@ -146,7 +156,8 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
 
         extFilterSignal = new ExtensionFilter(res.get("project.signalfile.description"), "*.csv", "*.html");
         extFilterProject = new ExtensionFilter(res.get("project.filedescription"), "*.zip");
-        extFilterSchematics = new ExtensionFilter(res.get("project.imagefile.description"), "*.jpg", "*.png");
+        extFilterBinaryProject = new ExtensionFilter(res.get("project.binaryfile.description"), "*" + ProjectBinaryFormat.FILE_EXTENSION);
+        extFilterSchematics = new ExtensionFilter(res.get("project.imagefile.description"), "*.jpg", "*.png", "*.svg");
     }
 
     /**
@@ -167,12 +178,14 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
                 .build();
 
         this.disabledMenuItems = ImmutableList.<MenuItem>builder()
-                .add(projectSaveAs, projectExportSchematics, projectExportSignal, projectClose, viewOverview, viewMemory, viewDebugger)
+                .add(projectSaveAs, projectExportSchematics, projectExportSignal, projectClose, viewOverview, viewDatapath, viewMemory, viewDebugger)
                 .build();
 
         projectUndo.disableProperty().bind(undoManager.isUndoAvailableProperty().not());
         projectRedo.disableProperty().bind(undoManager.isRedoAvailableProperty().not());
 
+        viewDatapath.setSelected(Config.getIsSimulationShowDatapath());
+
         setShortcuts();
         setLocalizedTexts();
     }
@@ -208,8 +221,8 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
     private void setLocalizedTexts() {
         // menu: project
         menuProject.setText(resMenu.get("project"));
-        final List<MenuItem> menuElements = new ArrayList<>(Arrays.asList(projectNew, projectOpen, projectSave, projectSaveAs, projectExportSchematics, projectExportSignal, projectClose,
-                exitApplication, viewOverview, viewMemory, viewDebugger, viewConfAlu, viewConfMux, viewConfReg, viewConfSignal, helpAbout, projectUndo, projectRedo, menuProject, menuView,
+        final List<MenuItem> menuElements = new ArrayList<>(Arrays.asList(projectNew, projectOpen, projectSave, projectSaveAs, projectSaveCancel, projectExportSchematics, projectExportSignal, projectClose,
+                exitApplication, viewOverview, viewDatapath, viewMemory, viewDebugger, viewConfAlu, viewConfMux, viewConfReg, viewConfSignal, helpAbout, projectUndo, projectRedo, menuProject, menuView,
                 menuHelp, menuMachineConfiguration, helpLanguage, helpLanguageEnglish, helpLanguageGerman, helpTheme));
         for (MenuItem mi : menuElements) {
             String id = mi.getId().replace("_", ".");
@@ -336,7 +349,7 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
         }
 
         fc.getExtensionFilters().clear();
-        fc.getExtensionFilters().add(extFilterProject);
+        fc.getExtensionFilters().addAll(extFilterProject, extFilterBinaryProject);
 
         File lastFolder = Main.getWorkspace().getLastProjectFolder();
         if (lastFolder != null && lastFolder.exists()) {
@@ -349,16 +362,68 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
             return;
         }
 
-        UIUtil.executeWorker(() -> {
-            try {
-                Main.getWorkspace().openProject(file);
-                initProjectGUI();
-            } catch (ProjectImportException e) {
-                LOG.log(Level.WARNING, "error during project import", e);
-                UIUtil.invokeInFAT(() -> new FXDialog(Alert.AlertType.ERROR, res.get("load-error.title"), res.get("load-error.message")).showAndWait());
+        // the project is parsed in the background and replaces the current project only if it was imported completely
+        ProgressTask<Project> task = new ProgressTask<Project>() {
+            @Override
+            protected Project call() throws Exception {
+                return Main.getWorkspace().importProject(file, this);
+            }
+        };
+        task.setOnSucceeded(event -> {
+            Main.getWorkspace().setProject(task.getValue(), file);
+            initProjectGUI();
+        });
+        task.setOnFailed(event -> {
+            Throwable e = task.getException();
+            LOG.log(Level.WARNING, "error during project import", e);
+            if (e instanceof ProjectImportException) {
+                new FXDialog(Alert.AlertType.ERROR, res.get("load-error.title"), res.get("load-error.message")).showAndWait();
             }
-        }, res.get("wait.title"), res.format("wait.project.load", file.getName()));
+            else {
+                new ExceptionDialog(e).show();
+            }
+        });
 
+        UIUtil.executeTask(task, res.get("wait.title"), res.format("wait.project.load", file.getName()));
+    }
+
+    /**
+     * Offers the recovery of the project recorded by the specified {@link ProjectAutosave} if the
+     * application was not closed properly.
+     *
+     * @param autosave
+     *          the {@code ProjectAutosave} of the application
+     */
+    public void offerRecovery(ProjectAutosave autosave) {
+        if (!autosave.hasRecoverableJournal()) {
+            return;
+        }
+
+        FXDialog dialog = new FXDialog(Alert.AlertType.CONFIRMATION, res.get("recovery.title"), res.get("recovery.message"));
+        dialog.getDialogPane().getButtonTypes().setAll(ButtonType.YES, ButtonType.NO);
+        if (!dialog.showAndWait().filter(ButtonType.YES::equals).isPresent()) {
+            autosave.discardJournal();
+            return;
+        }
+
+        JournalImporter importer = autosave.createRecoveryImporter();
+        ProgressTask<Project> task = new ProgressTask<Project>() {
+            @Override
+            protected Project call() throws Exception {
+                return importer.importProject(this);
+            }
+        };
+        task.setOnSucceeded(event -> {
+            Main.getWorkspace().recoverProject(task.getValue(), importer.getProjectFile());
+            initProjectGUI();
+        });
+        task.setOnFailed(event -> {
+            LOG.log(Level.WARNING, "error during project recovery", task.getException());
+            autosave.discardJournal();
+            new FXDialog(Alert.AlertType.ERROR, res.get("recovery-error.title"), res.get("recovery-error.message")).showAndWait();
+        });
+
+        UIUtil.executeTask(task, res.get("wait.title"), res.get("wait.project.recover"));
     }
 
     /**
@@ -385,29 +450,50 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
 
         // init overview tab
         this.schematics = new MachineSchematics(Main.getWorkspace().getProject().getMachine());
-        //this.schematics.translateXProperty().bind(paneOverview.widthProperty().subtract(schematics.widthProperty()).divide(2))
-        //paneOverview.setContent(this.schematics)
+        // the viewport sets the size of the canvas explicitly, so it does not depend on the canvas resizing itself
+        if (this.schematicsViewport == null) {
+            this.schematicsViewport = new SchematicsViewport(paneOverview);
+        }
+        this.schematicsViewport.setCanvas(this.schematics);
+        initDatapathOverlay();
 
-        // the canvas didn't resize itself correctly on mac; here is the workaround
         WORKSPACE.getProject().getMachine().getDisplay().addMachineDisplayListener(this);
-        schematicsToImage();
     }
 
     /**
-     * Workaround for Mac:
-     * Using the schematics itself for rendering caused a bug on Mac. The canvas did resize but didn't fill
-     * the new occupied space so the schematics were cropped. Using an image instead of the canvas solved the problem.
+     * Adds the {@link DatapathOverlay} showing the simulated values to the schematics of the current project.
      */
-    private void schematicsToImage() {
-        ImageView imgView = new ImageView();
-        Image img = this.schematics.snapshot(null, null);
+    private void initDatapathOverlay() {
+        this.datapathOverlay = new DatapathOverlay(this.schematics);
+        this.schematics.setOverlay(DatapathOverlay.class, this.datapathOverlay);
+
+        Simulation simulation = Main.getWorkspace().getProject().getSimulation();
+        simulation.setDatapathInterval(Math.max(1, 1000 / Math.max(1, Config.getSimulationDatapathFrameRate())));
+        simulation.addSimulationListener(this.datapathOverlay);
+        updateDatapathListener();
+    }
 
-        imgView.translateXProperty().bind(paneOverview.widthProperty().subtract(img.widthProperty()).divide(2));
-        imgView.setFitHeight(img.getHeight());
-        imgView.setFitWidth(img.getWidth());
+    /**
+     * Registers the {@link DatapathOverlay} at the simulation if the datapath is shown, removes it otherwise.
+     */
+    private void updateDatapathListener() {
+        Simulation simulation = Main.getWorkspace().getProject().getSimulation();
+        if (viewDatapath.isSelected()) {
+            simulation.addDatapathListener(datapathOverlay);
+        }
+        else {
+            simulation.removeDatapathListener(datapathOverlay);
+            datapathOverlay.clear();
+        }
+    }
 
-        imgView.setImage(img);
-        paneOverview.setContent(imgView);
+    /**
+     * Shows or hides the values of the datapath in the schematics.
+     */
+    public void toggleDatapath() {
+        if (datapathOverlay != null) {
+            updateDatapathListener();
+        }
     }
 
     /**
@@ -449,41 +535,97 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
      */
     public boolean saveProjectAs() {
         fc.getExtensionFilters().clear();
-        fc.getExtensionFilters().add(extFilterProject);
+        fc.getExtensionFilters().addAll(extFilterProject, extFilterBinaryProject);
         File file = fc.showSaveDialog(Main.getPrimaryStage());
         return saveProjectToFile(file);
     }
 
     /**
-     * Saves the current project to the given file.
+     * Saves the current project to the given file.<br>
+     * <br>
+     * A snapshot of the project is written in the background while the progress is shown in the
+     * application title. Only one project can be saved at a time and the save can be canceled by
+     * {@link #cancelSaving()}.
      *
      * @param file
      *          the {@code File} the project should be saved to
      * @return
-     *          {@code true} if the project was saved; {@code false} otherwise
+     *          {@code true} if the project is being saved; {@code false} otherwise
      */
     private boolean saveProjectToFile(File file) {
-        if (file == null) {
+        if (file == null || saveTask != null) {
             return false;
         }
 
         if (file.getName().lastIndexOf('.') == -1) {
-            // append ending
-            file = new File(file.getPath() + ".zip");
+            // append ending of the chosen format
+            String ending = fc.getSelectedExtensionFilter() == extFilterBinaryProject ? ProjectBinaryFormat.FILE_EXTENSION : ".zip";
+            file = new File(file.getPath() + ending);
         }
 
         final File fileToSave = file;
 
-        UIUtil.executeWorker(() -> {
-            try {
-                Main.getWorkspace().saveProject(fileToSave);
-            } catch (Exception e) {
-                UIUtil.invokeInFAT(() -> new ExceptionDialog(e).show());
+        // the snapshot is written in the background, so the user can keep editing the project
+        ProjectSnapshot snapshot = Main.getWorkspace().createSnapshot(fileToSave);
+        ProgressTask<Void> task = new ProgressTask<Void>() {
+            @Override
+            protected Void call() throws Exception {
+                Main.getWorkspace().writeProject(snapshot, fileToSave, this);
+                return null;
             }
-        }, res.get("wait.title"), res.format("wait.project.save", file.getName()));
+        };
+        task.progressProperty().addListener((obs, oldValue, newValue) -> setApplicationTitle(
+                res.format("title.saving-project", VERSION_STRING, fileToSave.getName(), Math.round(Math.max(0, newValue.doubleValue()) * 100))));
+        task.setOnSucceeded(event -> {
+            Main.getWorkspace().markProjectSaved(snapshot, fileToSave);
+            finishSaving();
+        });
+        task.setOnFailed(event -> {
+            finishSaving();
+            new ExceptionDialog(task.getException()).show();
+        });
+        // the export deletes its temporary file, so the saved file stays untouched
+        task.setOnCancelled(event -> finishSaving());
+
+        saveTask = task;
+        projectSave.setDisable(true);
+        projectSaveAs.setDisable(true);
+        projectSaveCancel.setDisable(false);
+
+        Thread th = new Thread(task);
+        th.setDaemon(false);
+        th.start();
         return true;
     }
 
+    /**
+     * Cancels the project save running in the background.
+     */
+    public void cancelSaving() {
+        if (saveTask != null) {
+            saveTask.cancel();
+        }
+    }
+
+    /**
+     * Enables saving again and restores the application title after the background save finished or was canceled.
+     */
+    private void finishSaving() {
+        saveTask = null;
+        projectSaveAs.setDisable(false);
+        projectSaveCancel.setDisable(true);
+        Project project = Main.getWorkspace().getProject();
+        if (project == null) {
+            setApplicationTitle(res.format("title", VERSION_STRING));
+        }
+        else if (project.isUnsaved()) {
+            onProjectDirty(project);
+        }
+        else {
+            onProjectSaved(project);
+        }
+    }
+
     /**
      * Exports the schematics of the current project.
      */
@@ -512,32 +654,14 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
 
         final File imageFile = file;
 
-        int dot = imageFile.getName().lastIndexOf('.');
-        final String ending = imageFile.getName().substring(dot + 1);
-
-        // get an image of the schematics
-        final WritableImage image = this.schematics.snapshot(null, null);
+        // the sprites are created here, the worker only draws them
+        final SchematicsRenderer renderer = new SchematicsRenderer(WORKSPACE.getProject().getMachine());
+        final SchematicsExporter exporter = SchematicsExporter.forFile(imageFile);
 
         UIUtil.executeWorker(() -> {
             // write the image to disk
             try {
-                if ("jpg".equals(ending)) {
-                    // remove alpha channel
-                    BufferedImage bImg = new BufferedImage( (int) image.getWidth(), (int) image.getHeight(), BufferedImage.TYPE_INT_RGB);
-                    Graphics2D g = bImg.createGraphics();
-                    g.drawImage(SwingFXUtils.fromFXImage(image, null), 0, 0, java.awt.Color.WHITE, null);
-                    g.dispose();
-                    if (!ImageIO.write(bImg, ending, imageFile)) {
-                        ioError(imageFile.getPath());
-                        return;
-                    }
-                }
-                else {
-                    if (!ImageIO.write(SwingFXUtils.fromFXImage(image, null), ending, imageFile)) {
-                        ioError(imageFile.getPath());
-                        return;
-                    }
-                }
+                exporter.exportSchematics(renderer);
             } catch (IOException e1) {
                 // (almost) ignore
                 LOG.log(Level.WARNING, "can not save the schematics", e1);
@@ -825,19 +949,19 @@ public class FXMainController implements WorkspaceListener, MachineDisplayListen
     @Override
     public void onProjectDirty(Project project) {
         setApplicationTitle(res.format("title.open-unsaved-project", VERSION_STRING, getProjectName()));
-        if (Main.getWorkspace().getCurrentProjectFile() != null) {
+        if (Main.getWorkspace().getCurrentProjectFile() != null && saveTask == null) {
             projectSave.setDisable(false);
         }
     }
 
     @Override
     public void machineSizeChanged() {
-        schematicsToImage();
+        schematicsViewport.update();
     }
 
     @Override
     public void machineDisplayChanged() {
-        schematicsToImage();
+        schematicsViewport.update();
     }
 
     @Override
@@ -3,19 +3,17 @@ package de.uni_hannover.sra.minimax_simulator.ui.gui;
 import de.uni_hannover.sra.minimax_simulator.Main;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryAccessListener;
-import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
 import de.uni_hannover.sra.minimax_simulator.resources.TextResource;
+import de.uni_hannover.sra.minimax_simulator.ui.UIUtil;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.MemoryUpdateDialog;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview.MemoryTableModel;
 import de.uni_hannover.sra.minimax_simulator.util.Util;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.input.ScrollEvent;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,7 +24,10 @@ import java.util.logging.Logger;
  * <b>FXController of the MemoryTable</b><br>
  * <br>
  * This controller handles every GUI interaction with the memory {@link TableView} and associated {@link Control}s.
- * The MemoryTable is the part of the DebuggerView and MemoryView.
+ * The MemoryTable is the part of the DebuggerView and MemoryView.<br>
+ * <br>
+ * The table shows the whole address space at once. Its rows are created lazily by the {@link MemoryTableModel},
+ * so only the visible rows are formatted and only the rows of changed words are redrawn.
  *
  * @author Philipp Rohde
  */
@@ -39,19 +40,20 @@ public class MemoryTable implements MemoryAccessListener {
     private String addressFormatString;
     private static MachineMemory mMemory;
 
-    private static final int PAGE_SIZE = 16;
-    private int pageCount;
-    private int page;
-    private int cachedPageStart;
+    /** The count of rows to scroll if the visible rows are not known yet. */
+    private static final int DEFAULT_PAGE_SIZE = 16;
+
+    private MemoryTableModel tableModel;
+    private VirtualFlow<?> flow;
 
     private final TextResource res;
 
-    @FXML private TableView<MemoryTableModel> memTable;
+    @FXML private TableView<MemoryTableModel.Entry> memTable;
 
-    @FXML private TableColumn<MemoryTableModel, String> colMemAdr;
-    @FXML private TableColumn<MemoryTableModel, String> colMemDec;
-    @FXML private TableColumn<MemoryTableModel, String> colMemHex;
-    @FXML private TableColumn<MemoryTableModel, String> colMemBin;
+    @FXML private TableColumn<MemoryTableModel.Entry, String> colMemAdr;
+    @FXML private TableColumn<MemoryTableModel.Entry, String> colMemDec;
+    @FXML private TableColumn<MemoryTableModel.Entry, String> colMemHex;
+    @FXML private TableColumn<MemoryTableModel.Entry, String> colMemBin;
 
     @FXML private TextField txtAddressField;
     @FXML private Label lblMemPage;
@@ -67,7 +69,6 @@ public class MemoryTable implements MemoryAccessListener {
      */
     public MemoryTable() {
         res = Main.getTextResource("project");
-        page = cachedPageStart = 0;
     }
 
     /**
@@ -94,27 +95,25 @@ public class MemoryTable implements MemoryAccessListener {
 
         // open edit dialog at double click
         memTable.addEventHandler(MouseEvent.MOUSE_CLICKED, mouseEvent -> {
-            if (mouseEvent.getButton().equals(MouseButton.PRIMARY) && mouseEvent.getClickCount() == 2) {
-                int address = memTable.getSelectionModel().getSelectedIndex() + cachedPageStart;
+            int index = memTable.getSelectionModel().getSelectedIndex();
+            if (mouseEvent.getButton().equals(MouseButton.PRIMARY) && mouseEvent.getClickCount() == 2 && index >= 0) {
                 // open edit dialog
-                new MemoryUpdateDialog(address, mMemory).show();
+                new MemoryUpdateDialog(tableModel.getAddress(index), mMemory).show();
             }
         });
 
-        // set next/previous page at scroll
-        memTable.addEventFilter(ScrollEvent.ANY, scrollEvent -> {
-            double deltaY = scrollEvent.getDeltaY();
-            if (deltaY > 0) {
-                prevPage();
-            } else {
-                nextPage();
+        // the flow showing the rows is created together with the skin
+        memTable.skinProperty().addListener((observable, oldValue, newValue) -> {
+            flow = (VirtualFlow<?>) memTable.lookup(".virtual-flow");
+            if (flow != null) {
+                flow.positionProperty().addListener((obs, oldPosition, newPosition) -> updateMemPageLabel());
             }
         });
 
-        colMemAdr.setCellValueFactory(new PropertyValueFactory<>("address"));
-        colMemDec.setCellValueFactory(cellData -> cellData.getValue().decimalProperty());
-        colMemHex.setCellValueFactory(cellData -> cellData.getValue().hexProperty());
-        colMemBin.setCellValueFactory(cellData -> cellData.getValue().binProperty());
+        colMemAdr.setCellValueFactory(cellData -> new ReadOnlyStringWrapper(cellData.getValue().getAddress()));
+        colMemDec.setCellValueFactory(cellData -> new ReadOnlyStringWrapper(cellData.getValue().getDecimal()));
+        colMemHex.setCellValueFactory(cellData -> new ReadOnlyStringWrapper(cellData.getValue().getHex()));
+        colMemBin.setCellValueFactory(cellData -> new ReadOnlyStringWrapper(cellData.getValue().getBin()));
 
         setLocalizedTexts();
         setTooltips();
@@ -145,42 +144,65 @@ public class MemoryTable implements MemoryAccessListener {
         txtAddressField.setTooltip(new Tooltip(res.get("memtable.address.tip")));
     }
 
+    /**
+     * Shows the range of the visible addresses.
+     */
     private void updateMemPageLabel() {
-        lblMemPage.setText(res.format("memtable.page", page + 1, pageCount));
+        if (tableModel == null) {
+            lblMemPage.setText("");
+            return;
+        }
+
+        int first = getFirstVisibleIndex();
+        int last = Math.min(first + getVisibleCount(), tableModel.size()) - 1;
+        lblMemPage.setText(res.format("memtable.visible", String.format(addressFormatString, tableModel.getAddress(first)),
+                String.format(addressFormatString, tableModel.getAddress(last))));
+    }
+
+    /**
+     * Gets the index of the first visible row.
+     *
+     * @return
+     *          the index of the first visible row
+     */
+    private int getFirstVisibleIndex() {
+        IndexedCell<?> cell = flow == null ? null : flow.getFirstVisibleCell();
+        return cell == null ? 0 : Math.max(cell.getIndex(), 0);
     }
 
     /**
-     * Selects a specific address of the memory {@link TableView}.
+     * Gets the count of rows fitting into the table.
+     *
+     * @return
+     *          the count of visible rows
+     */
+    private int getVisibleCount() {
+        double cellSize = memTable.getFixedCellSize();
+        if (flow == null || cellSize <= 0 || flow.getHeight() <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, (int) (flow.getHeight() / cellSize));
+    }
+
+    /**
+     * Selects a specific address of the memory {@link TableView} and scrolls to it.
      *
      * @param address
      *          the address to select
      */
-    private void selectAddress(int address) {
-        int page;
-        int row;
-        if (address < 0) {
-            page = 0;
-            row = 0;
+    public void selectAddress(int address) {
+        if (address < mMemory.getMinAddress()) {
+            address = mMemory.getMinAddress();
         }
-        else {
-            if (address > mMemory.getMaxAddress()) {
-                address = mMemory.getMaxAddress();
-            }
-
-            page = address / PAGE_SIZE;
-            if (page >= pageCount) {
-                page = pageCount - 1;
-                row = PAGE_SIZE - 1;
-            }
-            else {
-                row = address % PAGE_SIZE;
-            }
+        else if (address > mMemory.getMaxAddress()) {
+            address = mMemory.getMaxAddress();
         }
 
-        setPage(page);
+        int index = tableModel.getIndex(address);
+        scrollTo(index);
 
-        if (row != memTable.getSelectionModel().getSelectedIndex()) {
-            memTable.getSelectionModel().select(row);
+        if (index != memTable.getSelectionModel().getSelectedIndex()) {
+            memTable.getSelectionModel().select(index);
         }
     }
 
@@ -194,72 +216,61 @@ public class MemoryTable implements MemoryAccessListener {
         mMemory.addMemoryAccessListener(this);
         addressFormatString = Util.createHexFormatString(mMemory.getAddressWidth(), false);
 
-        int addressRange = mMemory.getMaxAddress() - mMemory.getMinAddress();
-        pageCount = (addressRange - 1) / PAGE_SIZE + 1;
+        tableModel = new MemoryTableModel(mMemory);
+        memTable.setItems(tableModel);
 
         txtAddressField.setText("");
         firstPage();
-        updateMemPageLabel();
-        updateMemTable();
     }
 
     /**
-     * Updates the {@link TableView} for the memory.
+     * Updates the visible rows of the {@link TableView} for the memory.
      */
     public void updateMemTable() {
-        ObservableList<MemoryTableModel> data = FXCollections.observableArrayList();
-
-        MemoryState mState = mMemory.getMemoryState();
-        for (int i = 0; i < PAGE_SIZE; i++) {
-            int value = mState.getInt(cachedPageStart + i);
-            data.add(new MemoryTableModel(String.format(addressFormatString, cachedPageStart + i), value));
+        if (tableModel != null) {
+            tableModel.memoryChanged();
         }
-
-        memTable.setItems(data);
     }
 
     /**
-     * Sets the next memory page to the {@link TableView}.
+     * Scrolls the {@link TableView} by one page down.
      */
     public void nextPage() {
-        this.setPage(page +1);
+        scrollTo(getFirstVisibleIndex() + getVisibleCount());
     }
 
     /**
-     * Sets the previous memory page to the {@link TableView}.
+     * Scrolls the {@link TableView} by one page up.
      */
     public void prevPage() {
-        this.setPage(page - 1);
+        scrollTo(getFirstVisibleIndex() - getVisibleCount());
     }
 
     /**
-     * Sets the first memory page to the {@link TableView}.
+     * Scrolls the {@link TableView} to the first address.
      */
     public void firstPage() {
-        this.setPage(0);
+        scrollTo(0);
     }
 
     /**
-     * Sets the last memory page to the {@link TableView}.
+     * Scrolls the {@link TableView} to the last address.
      */
     public void lastPage() {
-        this.setPage(pageCount - 1);
+        scrollTo(tableModel.size() - 1);
     }
 
     /**
-     * Sets the memory page with the given page number to the {@link TableView}.
+     * Scrolls the {@link TableView} so that the row with the specified index is the first visible row.
      *
-     * @param newPage
-     *          the number of the new page
+     * @param index
+     *          the index of the row, clamped to the rows of the table
      */
-    private void setPage(int newPage) {
-        if (newPage >= pageCount || newPage < 0) {
+    private void scrollTo(int index) {
+        if (tableModel == null) {
             return;
         }
-        page = newPage;
-        cachedPageStart = page * PAGE_SIZE + mMemory.getMinAddress();
-
-        updateMemTable();
+        memTable.scrollTo(Math.max(0, Math.min(index, tableModel.size() - 1)));
         updateMemPageLabel();
     }
 
@@ -279,137 +290,22 @@ public class MemoryTable implements MemoryAccessListener {
     @Override
     public void memoryWriteAccess(int address, int value) {
         // only update the affected table row
-        MemoryTableModel entry = memTable.getItems().get(address % PAGE_SIZE);
-        entry.setValue(value);
-        setPage(page);
+        UIUtil.invokeInFAT(() -> tableModel.wordChanged(address));
     }
 
     @Override
     public void memoryReset() {
-        // update the whole table
-        updateMemTable();
+        UIUtil.invokeInFAT(this::updateMemTable);
     }
 
     @Override
     public void memoryChanged() {
-        //update the whole table
-        updateMemTable();
+        UIUtil.invokeInFAT(this::updateMemTable);
     }
 
-    /**
-     * This class represents the table model for the memory {@link TableView}.<br>
-     * <br>
-     * It stores the address as well as the decimal and hexadecimal value as {@link SimpleStringProperty}.
-     *
-     * @author Philipp Rohde
-     */
-    public static class MemoryTableModel {
-
-        private final SimpleStringProperty address;
-        private final SimpleStringProperty decimal;
-        private final SimpleStringProperty hex;
-        private final SimpleStringProperty bin;
-
-        private static final String HEX_FORMAT_STRING = "0x%08X";
-
-        /**
-         * Constructs a new {@code MemoryTableModel} and sets the properties.
-         *
-         * @param address
-         *          the memory address to represent
-         * @param value
-         *          the value stored at the address
-         */
-        private MemoryTableModel(String address, int value) {
-            this.address = new SimpleStringProperty(address);
-            this.decimal = new SimpleStringProperty(Integer.toString(value));
-            this.hex = new SimpleStringProperty(String.format(HEX_FORMAT_STRING, value));
-
-            this.bin = new SimpleStringProperty(Util.to32BitBinary(value));
-        }
-
-        /**
-         * Gets the address of the memory address.
-         *
-         * @return
-         *          the address
-         */
-        public String getAddress() {
-            return address.get();
-        }
-
-        /**
-         * Gets the decimal value stored at the address.
-         *
-         * @return
-         *          the decimal value
-         */
-        public int getDecimal() {
-            return Integer.valueOf(decimal.get());
-        }
-
-        /**
-         * Gets the {@code SimpleStringProperty} for the decimal value.
-         *
-         * @return
-         *          the decimal value's {@code SimpleStringProperty}
-         */
-        SimpleStringProperty decimalProperty() {
-            return decimal;
-        }
-
-        /**
-         * Gets the hexadecimal value stored at the address.
-         *
-         * @return
-         *          the hexadecimal value
-         */
-        public String getHex() {
-            return hex.get();
-        }
-
-        /**
-         * Gets the {@code SimpleStringProperty} for the hexadecimal value.
-         *
-         * @return
-         *          the hexadecimal value's {@code SimpleStringProperty}
-         */
-        SimpleStringProperty hexProperty() {
-            return hex;
-        }
-
-        /**
-         * Gets the binary value stored at the address.
-         *
-         * @return
-         *          the binary value
-         */
-        public String getBin() {
-            return bin.get();
-        }
-
-        /**
-         * Gets the {@code SimpleStringProperty} for the binary value.
-         *
-         * @return
-         *          the binary value's {@code SimpleStringProperty}
-         */
-        SimpleStringProperty binProperty() {
-            return bin;
-        }
-
-        /**
-         * Sets the decimal and hexadecimal value to the specified decimal value.<br>
-         * The hexadecimal value will be converted from decimal to hexadecimal.
-         *
-         * @param value
-         *          the new value
-         */
-        public void setValue(int value) {
-            this.decimal.set(Integer.toString(value));
-            this.hex.set(String.format(HEX_FORMAT_STRING, value));
-            this.bin.set(Util.to32BitBinary(value));
-        }
+    @Override
+    public void memoryRangeChanged(int fromAddress, int toAddress) {
+        // only update the rows of the written range
+        UIUtil.invokeInFAT(() -> tableModel.rangeChanged(fromAddress, toAddress));
     }
-
 }
@@ -2,6 +2,9 @@ package de.uni_hannover.sra.minimax_simulator.ui.gui;
 
 import de.uni_hannover.sra.minimax_simulator.Main;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryQuery;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemorySearch;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.Watchpoint;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Simulation;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.SimulationState;
 import de.uni_hannover.sra.minimax_simulator.resources.TextResource;
@@ -9,17 +12,25 @@ import de.uni_hannover.sra.minimax_simulator.ui.UIUtil;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.FXDialog;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs.SimulationRunningDialog;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.*;
+import de.uni_hannover.sra.minimax_simulator.util.Util;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.*;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
 import javafx.stage.FileChooser;
+import javafx.util.StringConverter;
+
+import com.google.common.primitives.Ints;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <b>FXController of the MemoryView</b><br>
@@ -64,6 +75,33 @@ public class MemoryView{
     @FXML private TextField txtExport;
     @FXML private Button btnExportMem;
 
+    @FXML private TitledPane paneSearch;
+    @FXML private Label lblSearchValues;
+    @FXML private Label lblSearchMask;
+    @FXML private TextField txtSearchValues;
+    @FXML private TextField txtSearchMask;
+    @FXML private Button btnSearch;
+    @FXML private Label lblSearchStatus;
+    @FXML private ListView<Integer> lstSearchResults;
+
+    @FXML private TitledPane paneWatch;
+    @FXML private Label lblWatchFrom;
+    @FXML private Label lblWatchTo;
+    @FXML private Label lblWatchAccess;
+    @FXML private TextField txtWatchFrom;
+    @FXML private TextField txtWatchTo;
+    @FXML private ComboBox<Watchpoint.Access> cmbWatchAccess;
+    @FXML private Button btnWatchAdd;
+    @FXML private Button btnWatchRemove;
+    @FXML private Label lblWatchStatus;
+    @FXML private ListView<Watchpoint> lstWatchpoints;
+
+    private ProgressTask<int[]> searchTask;
+    /** The matches found by the running search that were not shown yet. */
+    private final ConcurrentLinkedQueue<int[]> pendingMatches = new ConcurrentLinkedQueue<>();
+    /** Whether a task showing the pending matches is already scheduled on the FX application thread. */
+    private final AtomicBoolean matchesPending = new AtomicBoolean();
+
     /**
      * Initializes the final variables.
      */
@@ -77,6 +115,76 @@ public class MemoryView{
      */
     public void initialize() {
         setLocalizedTexts();
+
+        txtSearchValues.setTooltip(new Tooltip(res.get("memory.search.values.tip")));
+        txtSearchMask.setTooltip(new Tooltip(res.get("memory.search.mask.tip")));
+
+        lstSearchResults.setCellFactory(list -> new ListCell<Integer>() {
+            @Override
+            protected void updateItem(Integer address, boolean empty) {
+                super.updateItem(address, empty);
+                setText(empty || address == null ? null : Util.toHex(address, mMemory.getAddressWidth(), true));
+            }
+        });
+
+        // show the address in the memory table at double click
+        lstSearchResults.addEventHandler(MouseEvent.MOUSE_CLICKED, mouseEvent -> {
+            Integer address = lstSearchResults.getSelectionModel().getSelectedItem();
+            if (mouseEvent.getButton().equals(MouseButton.PRIMARY) && mouseEvent.getClickCount() == 2 && address != null) {
+                embeddedMemoryTableController.selectAddress(address);
+            }
+        });
+
+        initWatchpoints();
+    }
+
+    /**
+     * Initializes the controls of the {@link Watchpoint}s.
+     */
+    private void initWatchpoints() {
+        txtWatchTo.setTooltip(new Tooltip(res.get("memory.watch.to.tip")));
+
+        cmbWatchAccess.getItems().setAll(Watchpoint.Access.values());
+        cmbWatchAccess.setConverter(new StringConverter<Watchpoint.Access>() {
+            @Override
+            public String toString(Watchpoint.Access access) {
+                return access == null ? "" : getAccessText(access);
+            }
+
+            @Override
+            public Watchpoint.Access fromString(String string) {
+                return null;
+            }
+        });
+        cmbWatchAccess.getSelectionModel().select(Watchpoint.Access.WRITE);
+
+        lstWatchpoints.setCellFactory(list -> new ListCell<Watchpoint>() {
+            @Override
+            protected void updateItem(Watchpoint watchpoint, boolean empty) {
+                super.updateItem(watchpoint, empty);
+                if (empty || watchpoint == null) {
+                    setText(null);
+                    return;
+                }
+                int width = mMemory.getAddressWidth();
+                setText(res.format("memory.watch.entry", Util.toHex(watchpoint.getFromAddress(), width, true),
+                        Util.toHex(watchpoint.getToAddress(), width, true), getAccessText(watchpoint.getAccess())));
+            }
+        });
+
+        btnWatchRemove.disableProperty().bind(lstWatchpoints.getSelectionModel().selectedItemProperty().isNull());
+    }
+
+    /**
+     * Gets the localized text of a {@link Watchpoint.Access}.
+     *
+     * @param access
+     *          the {@code Access}
+     * @return
+     *          the text of the {@code Access}
+     */
+    private String getAccessText(Watchpoint.Access access) {
+        return res.get("memory.watch.access." + access.name().toLowerCase().replace("_", "-"));
     }
 
     /**
@@ -84,7 +192,8 @@ public class MemoryView{
      */
     private void setLocalizedTexts() {
         final List<Labeled> controls = new ArrayList<>(Arrays.asList(btnImportMem, lblImportFile, lblTargetAddress, lblByteCount, cbPartialImport, paneImport, paneExport, btnExportMem, lblExportFile,
-                lblFromAddress, lblToAddress, paneClear, btnClear));
+                lblFromAddress, lblToAddress, paneClear, btnClear, paneSearch, lblSearchValues, lblSearchMask, btnSearch,
+                paneWatch, lblWatchFrom, lblWatchTo, lblWatchAccess, btnWatchAdd, btnWatchRemove));
         for (Labeled con : controls) {
             con.setText(res.get(con.getId().replace("_", ".")));
         }
@@ -107,6 +216,20 @@ public class MemoryView{
         btnExportMem.setDisable(true);
         btnImportMem.setDisable(true);
 
+        if (searchTask != null) {
+            searchTask.cancel();
+        }
+        txtSearchValues.setText("");
+        txtSearchMask.setText("");
+        lblSearchStatus.setText("");
+        lstSearchResults.getItems().clear();
+
+        // the watchpoints belong to the memory of the previous project
+        txtWatchFrom.setText("");
+        txtWatchTo.setText("");
+        lblWatchStatus.setText("");
+        lstWatchpoints.getItems().setAll(mMemory.getWatchpoints());
+
         initSpinner();
         embeddedMemoryTableController.initMemTable();
     }
@@ -268,4 +391,209 @@ public class MemoryView{
         UIUtil.executeWorker(new MemoryExportWorker(mMemory, fromAddress, toAddress, currentExportFile, res), res.get("memory.export.wait.title"), res.get("memory.export.wait.message"));
     }
 
+    /**
+     * Registers a {@link Watchpoint} for the entered address range. A running simulation pauses at each
+     * access of the selected kind to the range.
+     */
+    public void addWatchpoint() {
+        String fromText = txtWatchFrom.getText().trim();
+        String toText = txtWatchTo.getText().trim();
+        if (fromText.isEmpty()) {
+            return;
+        }
+
+        int from;
+        int to;
+        try {
+            from = parseHexWord(fromText);
+            to = toText.isEmpty() ? from : parseHexWord(toText);
+        } catch (NumberFormatException nfe) {
+            lblWatchStatus.setText(res.format("memory.watch.invalid", nfe.getMessage()));
+            return;
+        }
+        if (from < mMemory.getMinAddress() || to > mMemory.getMaxAddress() || to < from) {
+            lblWatchStatus.setText(res.get("memory.watch.range"));
+            return;
+        }
+
+        Watchpoint watchpoint = new Watchpoint(from, to, cmbWatchAccess.getValue());
+        mMemory.addWatchpoint(watchpoint);
+        lstWatchpoints.getItems().add(watchpoint);
+        lblWatchStatus.setText("");
+    }
+
+    /**
+     * Removes the selected {@link Watchpoint}.
+     */
+    public void removeWatchpoint() {
+        Watchpoint watchpoint = lstWatchpoints.getSelectionModel().getSelectedItem();
+        if (watchpoint != null) {
+            mMemory.removeWatchpoint(watchpoint);
+            lstWatchpoints.getItems().remove(watchpoint);
+        }
+    }
+
+    /**
+     * Searches a snapshot of the memory for the entered words in a background thread, or cancels the running
+     * search. The matches are shown while the search is running. The memory is not searched while the
+     * simulation is running because the snapshot can only be taken between the steps.
+     */
+    public void searchMemory() {
+        if (searchTask != null) {
+            searchTask.cancel();
+            return;
+        }
+
+        MemoryQuery query;
+        try {
+            query = createSearchQuery();
+        } catch (NumberFormatException nfe) {
+            lblSearchStatus.setText(res.format("memory.search.invalid", nfe.getMessage()));
+            return;
+        }
+        if (query == null) {
+            return;
+        }
+
+        if (Main.getWorkspace().getProject().getSimulation().getState() == SimulationState.RUNNING) {
+            lblSearchStatus.setText(res.get("memory.search.simulation-running"));
+            return;
+        }
+
+        // steps made during the search do not affect the snapshot
+        MemorySearch search = new MemorySearch(mMemory.snapshotMemoryState(), query);
+        ProgressTask<int[]> task = new ProgressTask<int[]>() {
+            @Override
+            protected int[] call() throws Exception {
+                return search.search(addresses -> {
+                    if (!isCancelled()) {
+                        showMatches(addresses);
+                    }
+                }, this);
+            }
+        };
+
+        task.setOnSucceeded(event -> {
+            int[] found = task.getValue();
+            // replace the streamed matches by all matches in ascending order
+            pendingMatches.clear();
+            lstSearchResults.getItems().setAll(Ints.asList(found));
+            if (search.isTruncated()) {
+                lblSearchStatus.setText(res.format("memory.search.truncated", found.length));
+            }
+            else {
+                lblSearchStatus.setText(res.format("memory.search.found", found.length));
+            }
+            searchFinished(task);
+        });
+        task.setOnCancelled(event -> {
+            lblSearchStatus.setText(res.get("memory.search.canceled"));
+            searchFinished(task);
+        });
+        task.setOnFailed(event -> {
+            lblSearchStatus.setText(String.valueOf(task.getException().getMessage()));
+            searchFinished(task);
+        });
+
+        searchTask = task;
+        pendingMatches.clear();
+        lstSearchResults.getItems().clear();
+        lblSearchStatus.setText(res.get("memory.search.running"));
+        btnSearch.setText(res.get("memory.search.cancel"));
+
+        Thread th = new Thread(task);
+        th.setDaemon(true);
+        th.start();
+    }
+
+    /**
+     * Creates the {@link MemoryQuery} of the entered hexadecimal words and mask.
+     *
+     * @return
+     *          the {@code MemoryQuery} or {@code null} if no word was entered
+     * @throws NumberFormatException
+     *          thrown if a word or the mask is not a hexadecimal number, the message is the malformed text
+     */
+    private MemoryQuery createSearchQuery() {
+        String text = txtSearchValues.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        String[] words = text.split("[\\s,]+");
+        int[] values = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            values[i] = parseHexWord(words[i]);
+        }
+
+        String maskText = txtSearchMask.getText().trim();
+        int[] masks = new int[values.length];
+        Arrays.fill(masks, maskText.isEmpty() ? MemoryQuery.FULL_MASK : parseHexWord(maskText));
+
+        return MemoryQuery.maskedSequence(values, masks);
+    }
+
+    /**
+     * Parses a hexadecimal word with an optional {@code 0x} prefix.
+     *
+     * @param text
+     *          the text to parse
+     * @return
+     *          the parsed word
+     * @throws NumberFormatException
+     *          thrown if the text is not a hexadecimal word, the message is the text
+     */
+    private static int parseHexWord(String text) {
+        String hex = text.startsWith("0x") || text.startsWith("0X") ? text.substring(2) : text;
+        try {
+            return Integer.parseUnsignedInt(hex, 16);
+        } catch (NumberFormatException nfe) {
+            throw new NumberFormatException(text);
+        }
+    }
+
+    /**
+     * Hands matches found by the search threads over to the FX application thread.
+     *
+     * @param addresses
+     *          the addresses of the matches
+     */
+    private void showMatches(int[] addresses) {
+        pendingMatches.add(addresses);
+        if (matchesPending.compareAndSet(false, true)) {
+            UIUtil.invokeInFAT(this::showPendingMatches);
+        }
+    }
+
+    /**
+     * Appends the pending matches to the result list. Must be called from the FX application thread.
+     */
+    private void showPendingMatches() {
+        // reset first, so matches found meanwhile schedule a new task
+        matchesPending.set(false);
+        if (searchTask == null) {
+            pendingMatches.clear();
+            return;
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        int[] addresses;
+        while ((addresses = pendingMatches.poll()) != null) {
+            matches.addAll(Ints.asList(addresses));
+        }
+        lstSearchResults.getItems().addAll(matches);
+    }
+
+    /**
+     * Resets the search controls after the specified search finished.
+     *
+     * @param task
+     *          the finished search
+     */
+    private void searchFinished(ProgressTask<int[]> task) {
+        if (searchTask == task) {
+            searchTask = null;
+            btnSearch.setText(res.get("memory.search.button.label"));
+        }
+    }
 }
@@ -4,30 +4,27 @@ import de.uni_hannover.sra.minimax_simulator.Main;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.event.MachineConfigEvent;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.event.MachineConfigListener;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.register.RegisterExtension;
-import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
-import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTableListener;
-import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
-import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
 import de.uni_hannover.sra.minimax_simulator.resources.TextResource;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview.*;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.util.FontMetrics;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.UndoManager;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.commands.SignalRowAddedCommand;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.commands.SignalRowMovedCommand;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.commands.SignalRowRemovedCommand;
-import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.SelectionMode;
 import javafx.scene.control.Tab;
-import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
+import javafx.scene.text.Font;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * <b>FXController of the SignalView</b><br>
@@ -37,14 +34,21 @@ import java.util.Map;
  *
  * @author Philipp Rohde
  */
-// TODO: optimize event handling
-public class SignalView implements SignalTableListener, MachineConfigListener {
+public class SignalView implements MachineConfigListener {
+
+    /** The font size of the table rows set by the style sheet. */
+    private static final double ROW_FONT_SIZE = 12;
+    /** The space around the text of a cell. */
+    private static final double ROW_PADDING = 8;
 
     private final TextResource res;
 
     private SignalTable signal;
+    private SignalTableModel tableModel;
+    private List<String> columnLabels;
+    private List<String> columnIDs;
 
-    @FXML private TableView signaltable;
+    @FXML private TableView<ObservableList<String>> signaltable;
     @FXML private Button btnMoveUp;
     @FXML private Button btnMoveDown;
 
@@ -60,44 +64,62 @@ public class SignalView implements SignalTableListener, MachineConfigListener {
      * It initializes the signal {@link TableView} because it needs project data.
      */
     public void initSignalView() {
+        if (signal != null && tableModel != null) {
+            signal.removeSignalTableListener(tableModel);
+        }
         signal = Main.getWorkspace().getProject().getSignalTable();
-        signal.addSignalTableListener(this);
+        tableModel = null;
+        columnLabels = null;
+        columnIDs = null;
 
         btnMoveDown.setDisable(true);
         btnMoveUp.setDisable(true);
 
         Main.getWorkspace().getProject().getMachineConfiguration().addMachineConfigListener(this);
 
-        signaltable.getSelectionModel().selectedItemProperty().addListener((obs, oldSelection, newSelection) -> {
-            if (newSelection != null) {
-                btnMoveDown.setDisable(false);
-                btnMoveUp.setDisable(false);
-                if (signaltable.getSelectionModel().getSelectedIndex() == 0) {
-                    btnMoveUp.setDisable(true);
-                }
-                else if (signaltable.getSelectionModel().getSelectedIndex() == signaltable.getItems().size()-1) {
-                    btnMoveDown.setDisable(true);
-                }
+        signaltable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        signaltable.getSelectionModel().getSelectedIndices().addListener((ListChangeListener<Integer>) change -> {
+            List<int[]> ranges = getSelectedRanges();
+            if (!ranges.isEmpty()) {
+                btnMoveUp.setDisable(ranges.get(0)[0] == 0);
+                btnMoveDown.setDisable(ranges.get(ranges.size() - 1)[1] == signaltable.getItems().size()-1);
             }
         });
 
-        updateSignalTable();
+        // with a fixed cell size the rows only create the cells of the visible columns
+        signaltable.setFixedCellSize(getRowHeight());
+        updateSignalColumns();
     }
 
 
     /**
-     * Updates the signal table by complete recreation.
+     * Gets the height of the table rows, which fits the two lines of the cells of conditional jumps.
+     *
+     * @return
+     *          the height of a row
      */
-    // TODO: is there a better way for this table?
-    private void updateSignalTable() {
-        signaltable.getItems().clear();
-        signaltable.getColumns().clear();
+    private static double getRowHeight() {
+        FontMetrics fm = FontMetrics.forFont(Font.font(ROW_FONT_SIZE));
+        return Math.ceil(2 * fm.getLineHeight()) + ROW_PADDING;
+    }
 
+    /**
+     * Creates the columns of the signal table if the signals of the machine changed, otherwise only updates
+     * the rows, as their texts may depend on the machine configuration.
+     */
+    private void updateSignalColumns() {
         final List<String> columns = getAllColumnLabels();
         final List<String> columnIDs = getAllColumnIDs();
+        if (columns.equals(columnLabels) && columnIDs.equals(this.columnIDs)) {
+            tableModel.invalidateAll();
+            return;
+        }
+        columnLabels = columns;
+        this.columnIDs = columnIDs;
 
+        signaltable.getColumns().clear();
         for (int i = 0 ; i < columns.size(); i++) {
-            TableColumn col;
+            SignalTableColumn col;
             // set special update behavior
             if (i == 0) {
                 col = new BreakpointColumn(columns.get(i), i);
@@ -121,68 +143,15 @@ public class SignalView implements SignalTableListener, MachineConfigListener {
             signaltable.getColumns().add(col);
         }
 
-        for (int i = 0; i < signal.getRowCount(); i++) {
-            signaltable.getItems().add(createTableRow(i, signal.getRow(i)));
-        }
-
-    }
-
-    /**
-     * Creates an {@link ObservableList} from a {@link SignalRow} to add to the signal table {@link TableView}.
-     *
-     * @param index
-     *          the index of the row to create
-     * @param signalRow
-     *          the {@code SignalRow} to use for creating the table row data
-     * @return
-     *          the {@code SignalRow} as a list of {@code Strings}
-     */
-    private ObservableList<String> createTableRow(int index, SignalRow signalRow) {
-        ObservableList<String> row = FXCollections.observableArrayList();
-
-        row.add(String.valueOf(signalRow.isBreakpoint()));
-        row.add(signalRow.getLabel());
-        row.add(String.valueOf(index));
-
-        Map<String, SignalValue> signalValues = signalRow.getSignalValues();
-        ObservableList<TableColumn> cols = signaltable.getColumns();
-
-        for (int j = 3; j < cols.size()-3; j++) {
-            String lookUp = cols.get(j).getId();
-            if (signalValues.containsKey(lookUp)) {
-                row.add(String.valueOf(signalValues.get(lookUp).intValue()));
-            }
-            else {
-                if ( (j <= 5) || j == 7 || j == 8) {
-                    row.add("-");
-                }
-                else {
-                    row.add("0");
-                }
-
-            }
-        }
-
-        Jump j = signalRow.getJump();
-        if (j.getTargetRow(index, 0) == j.getTargetRow(index, 1)) {
-            row.add("-");
-        }
-        else {
-            row.add("1\n0");
-        }
-
-        int target0 = j.getTargetRow(index, 0);
-        int target1 = j.getTargetRow(index, 1);
-        if (target0 == target1) {
-            row.add(Integer.toString(target0));
+        List<String> signalIDs = columnIDs.subList(3, columnIDs.size() - 3);
+        if (tableModel == null) {
+            tableModel = new SignalTableModel(signal, signalIDs);
+            signal.addSignalTableListener(tableModel);
+            signaltable.setItems(tableModel);
         }
         else {
-            row.add(target1 + "\n" + target0);
+            tableModel.setSignalIds(signalIDs);
         }
-
-        row.add(signalRow.getDescription());
-
-        return row;
     }
 
     /**
@@ -261,24 +230,47 @@ public class SignalView implements SignalTableListener, MachineConfigListener {
     }
 
     /**
-     * Deletes the selected row of the {@link TableView} from the {@link SignalTable}.
+     * Deletes the selected rows of the {@link TableView} from the {@link SignalTable} in a single undo step.
      */
     public void deleteRow() {
-        int index = signaltable.getSelectionModel().getSelectedIndex();
+        List<int[]> ranges = getSelectedRanges();
+
+        if (!ranges.isEmpty()) {
+            UndoManager.INSTANCE.addCommand(new SignalRowRemovedCommand(ranges, signal));
+        }
+    }
 
-        if (index != -1) {
-            UndoManager.INSTANCE.addCommand(new SignalRowRemovedCommand(index, signal));
+    /**
+     * Gets the contiguous ranges of the selected rows of the {@link TableView}.
+     *
+     * @return
+     *          the indices of the first and the last row of each range in ascending order,
+     *          an empty list if no row is selected
+     */
+    private List<int[]> getSelectedRanges() {
+        List<Integer> indices = new ArrayList<>(signaltable.getSelectionModel().getSelectedIndices());
+        Collections.sort(indices);
+
+        List<int[]> ranges = new ArrayList<>();
+        for (int index : indices) {
+            int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && last[1] + 1 == index) {
+                last[1] = index;
+            }
+            else if (last == null || last[1] < index) {
+                ranges.add(new int[] { index, index });
+            }
         }
+        return ranges;
     }
 
     /**
-     * Moves the currently selected signal row.<br>
-     * It moves the row up if the caller is the {@code moveUp} {@link Button} or down if the caller is the {@code moveDown Button}.
+     * Moves the currently selected signal rows, each contiguous block of them by one row.<br>
+     * It moves the rows up if the caller is the {@code moveUp} {@link Button} or down if the caller is the {@code moveDown Button}.
      *
      * @param ae
      *          the {@link ActionEvent} calling the method
      */
-    // TODO: select multiple rows and move them
     public void moveOperation(ActionEvent ae) {
 
         if (signaltable.getSelectionModel().getSelectedItems().isEmpty()) {
@@ -297,46 +289,22 @@ public class SignalView implements SignalTableListener, MachineConfigListener {
             return;
         }
 
-        int index1 = signaltable.getSelectionModel().getSelectedIndex();
-
-        UndoManager.INSTANCE.addCommand(new SignalRowMovedCommand(index1, difference, signal));
-
-        signaltable.getSelectionModel().select(index1+difference);
-    }
-
-    @Override
-    public void onStructureChanged() {
-        updateSignalTable();
-    }
-
-    @Override
-    public void onRowAdded(int index, SignalRow row) {
-        updateSignalTable();
-    }
-
-    @Override
-    public void onRowRemoved(int index) {
-        updateSignalTable();
-    }
-
-    @Override
-    public void onRowsExchanged(int index1, int index2) {
-        updateSignalTable();
-    }
+        List<int[]> ranges = getSelectedRanges();
+        if (ranges.get(0)[0] + difference < 0 || ranges.get(ranges.size() - 1)[1] + difference >= signaltable.getItems().size()) {
+            return;
+        }
 
-    @Override
-    public void onRowReplaced(int index, SignalRow row) {
-        updateSignalTable();
-    }
+        UndoManager.INSTANCE.addCommand(new SignalRowMovedCommand(ranges, difference, signal));
 
-    @Override
-    public void onRowsUpdated(int fromIndex, int toIndex) {
-        updateSignalTable();
+        signaltable.getSelectionModel().clearSelection();
+        for (int[] range : ranges) {
+            signaltable.getSelectionModel().selectRange(range[0] + difference, range[1] + difference + 1);
+        }
     }
 
     @Override
     public void processEvent(MachineConfigEvent event) {
-        updateSignalTable();
+        updateSignalColumns();
     }
 
 }
@@ -0,0 +1,226 @@
+package de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs;
+
+import de.uni_hannover.sra.minimax_simulator.Main;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Breakpoint;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.BreakpointCondition;
+import de.uni_hannover.sra.minimax_simulator.resources.TextResource;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.components.NumberTextField;
+import javafx.scene.control.*;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+
+import java.util.List;
+
+/**
+ * A {@code BreakpointDialog} is basically an {@link FXDialog} with customized content.<br>
+ * The {@code BreakpointDialog} is the UI used to create a {@link Breakpoint}. The {@code Breakpoint} is either
+ * bound to a row and may be restricted to a register value and a hit count, or it pauses the simulation
+ * after a cycle.
+ *
+ * @author agent
+ */
+public class BreakpointDialog extends FXDialog {
+
+    private final int rowCount;
+
+    private RadioButton rBtnRow;
+    private RadioButton rBtnCycle;
+
+    private final TextField txtRow = new NumberTextField();
+    private final CheckBox cbRegister = new CheckBox();
+    private final ComboBox<String> cmbRegister = new ComboBox<>();
+    private final TextField txtValue = new TextField();
+    private final TextField txtHitCount = new NumberTextField();
+    private final TextField txtCycle = new NumberTextField();
+
+    private ButtonType okButtonType;
+
+    private String description;
+
+    private final TextResource res;
+
+    /**
+     * Constructs a new {@code BreakpointDialog}.
+     *
+     * @param registers
+     *          the names of the registers a condition can check
+     * @param rowCount
+     *          the number of rows of the microprogram
+     * @param row
+     *          the index of the preselected row or {@code -1}
+     */
+    public BreakpointDialog(List<String> registers, int rowCount, int row) {
+        super(AlertType.NONE, "", "");
+        res = Main.getTextResource("debugger").using("breakpoint.dialog");
+        this.rowCount = rowCount;
+
+        setTitle(res.get("title"));
+        createUI();
+
+        cmbRegister.getItems().setAll(registers);
+        if (!registers.isEmpty()) {
+            cmbRegister.getSelectionModel().select(0);
+        }
+        txtRow.setText(row >= 0 ? String.valueOf(row) : "");
+        txtValue.setText("0");
+        txtHitCount.setText("1");
+        rBtnRow.setSelected(true);
+        updateControls();
+    }
+
+    /**
+     * Sets up the UI of the dialog.
+     */
+    private void createUI() {
+        okButtonType = new ButtonType(res.get("ok"), ButtonBar.ButtonData.OK_DONE);
+        ButtonType cancelButtonType = new ButtonType(res.get("cancel"), ButtonBar.ButtonData.CANCEL_CLOSE);
+
+        rBtnRow = new RadioButton(res.get("row"));
+        rBtnRow.setId("dialog-label");
+        rBtnCycle = new RadioButton(res.get("cycle"));
+        rBtnCycle.setId("dialog-label");
+
+        ToggleGroup tgrp = new ToggleGroup();
+        rBtnRow.setToggleGroup(tgrp);
+        rBtnCycle.setToggleGroup(tgrp);
+
+        cbRegister.setText(res.get("register"));
+        cbRegister.setId("dialog-label");
+
+        for (TextField tf : new TextField[] { txtRow, txtHitCount, txtCycle, txtValue }) {
+            tf.setPrefWidth(80);
+            tf.setMaxWidth(80);
+            tf.textProperty().addListener((observable, oldValue, newValue) -> validate());
+        }
+        txtValue.setTooltip(new Tooltip(res.get("value.tip")));
+
+        rBtnRow.selectedProperty().addListener((obs, oldValue, newValue) -> updateControls());
+        cbRegister.selectedProperty().addListener((obs, oldValue, newValue) -> updateControls());
+
+        Label lblHitCount = new Label(res.get("hitcount"));
+        lblHitCount.setId("dialog-label");
+        lblHitCount.setTooltip(new Tooltip(res.get("hitcount.tip")));
+
+        GridPane pane = new GridPane();
+        pane.setHgap(10);
+        pane.setVgap(10);
+        pane.add(rBtnRow, 0, 0);
+        pane.add(txtRow, 1, 0);
+        pane.add(cbRegister, 0, 1);
+        pane.add(new HBox(10, cmbRegister, new Label("="), txtValue), 1, 1);
+        pane.add(lblHitCount, 0, 2);
+        pane.add(txtHitCount, 1, 2);
+        pane.add(rBtnCycle, 0, 3);
+        pane.add(txtCycle, 1, 3);
+
+        this.getDialogPane().setContent(pane);
+        this.getDialogPane().getButtonTypes().addAll(cancelButtonType, okButtonType);
+    }
+
+    /**
+     * Enables the controls of the selected kind of {@link Breakpoint} and validates the input.
+     */
+    private void updateControls() {
+        boolean row = rBtnRow.isSelected();
+        txtRow.setDisable(!row);
+        cbRegister.setDisable(!row);
+        cmbRegister.setDisable(!row || !cbRegister.isSelected());
+        txtValue.setDisable(!row || !cbRegister.isSelected());
+        txtHitCount.setDisable(!row);
+        txtCycle.setDisable(row);
+        validate();
+    }
+
+    /**
+     * Enables or disables the OK button according to the current input.
+     */
+    private void validate() {
+        Button btnOK = (Button) this.getDialogPane().lookupButton(okButtonType);
+        btnOK.setDisable(createBreakpoint() == null);
+    }
+
+    /**
+     * Parses a number of the input.
+     *
+     * @param text
+     *          the text to parse
+     * @return
+     *          the parsed number or {@code -1} if the text is not a valid number
+     */
+    private static long parse(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    /**
+     * Creates the {@link Breakpoint} of the current input and its description.
+     *
+     * @return
+     *          the {@code Breakpoint} or {@code null} if the input is invalid
+     */
+    private Breakpoint createBreakpoint() {
+        if (rBtnCycle.isSelected()) {
+            long cycle = parse(txtCycle.getText());
+            if (cycle < 1) {
+                return null;
+            }
+            description = res.format("text.cycle", cycle);
+            return new Breakpoint(Breakpoint.ANY_ROW, BreakpointCondition.cyclesReached(cycle));
+        }
+
+        long row = parse(txtRow.getText());
+        long hitCount = parse(txtHitCount.getText());
+        if (row < 0 || row >= rowCount || hitCount < 1 || hitCount > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        BreakpointCondition condition = null;
+        if (cbRegister.isSelected()) {
+            String register = cmbRegister.getValue();
+            Integer value;
+            try {
+                value = Integer.decode(txtValue.getText().trim());
+            } catch (NumberFormatException nfe) {
+                value = null;
+            }
+            if (register == null || value == null) {
+                return null;
+            }
+            condition = BreakpointCondition.registerEquals(register, value);
+            description = res.format("text.register", row, register, value);
+        }
+        else {
+            description = res.format("text.row", row);
+        }
+        if (hitCount > 1) {
+            description = res.format("text.hitcount", description, hitCount);
+        }
+        return new Breakpoint((int) row, condition, (int) hitCount);
+    }
+
+    /**
+     * Gets the description of the {@link Breakpoint} created by {@link #showAndCreate()}.
+     *
+     * @return
+     *          the description of the {@code Breakpoint}
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Shows the dialog and creates the {@link Breakpoint}.
+     *
+     * @return
+     *          the created {@code Breakpoint} or {@code null} if the dialog was canceled
+     */
+    public Breakpoint showAndCreate() {
+        if (this.getChoice().equals(okButtonType)) {
+            return createBreakpoint();
+        }
+        return null;
+    }
+}
@@ -21,12 +21,12 @@ import java.io.StringWriter;
 public class ExceptionDialog extends FXDialog {
 
     /**
-     * Constructs a new {@code ExceptionDialog} for the specified {@link Exception}.
+     * Constructs a new {@code ExceptionDialog} for the specified {@link Exception} or other {@link Throwable}.
      *
      * @param e
      *          the {@code Exception} to display
      */
-    public ExceptionDialog(Exception e) {
+    public ExceptionDialog(Throwable e) {
         super(AlertType.ERROR, "title", "message");
 
         TextResource res = Main.getTextResource("exception").using("exception-dialog");
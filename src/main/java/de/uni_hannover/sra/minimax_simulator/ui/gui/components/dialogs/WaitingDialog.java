@@ -2,6 +2,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.gui.components.dialogs;
 
 import de.uni_hannover.sra.minimax_simulator.Main;
 import de.uni_hannover.sra.minimax_simulator.resources.TextResource;
+import javafx.beans.value.ObservableDoubleValue;
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.ProgressBar;
@@ -20,6 +21,7 @@ import java.util.Optional;
 public class WaitingDialog extends FXDialog {
 
     private final ButtonType btnTypeCancel;
+    private final ProgressBar pb;
 
     /**
      * Constructs a new {@code WaitingDialog} with the specified title and message.
@@ -37,7 +39,7 @@ public class WaitingDialog extends FXDialog {
         btnTypeCancel = new ButtonType(res.get("cancel"), ButtonBar.ButtonData.OK_DONE);
         this.getButtonTypes().setAll(btnTypeCancel);
 
-        ProgressBar pb = new ProgressBar(-1);
+        pb = new ProgressBar(-1);
         pb.setPrefWidth(300.0);
 
         this.getDialogPane().setContent(pb);
@@ -50,6 +52,16 @@ public class WaitingDialog extends FXDialog {
         });
     }
 
+    /**
+     * Shows the specified progress instead of an indeterminate progress.
+     *
+     * @param progress
+     *          the progress to show, with {@code -1} for indeterminate progress
+     */
+    public void bindProgress(ObservableDoubleValue progress) {
+        pb.progressProperty().bind(progress);
+    }
+
     /**
      * Gets the user's choice.<br>
      * <br>
@@ -0,0 +1,273 @@
+package de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview;
+
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTableListener;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The items of a {@link javafx.scene.control.TableView} showing the rows of a {@link SignalTable}.<br>
+ * <br>
+ * The items are only created when the table asks for them, i.e. when their row becomes visible. The events of
+ * the {@code SignalTable} are forwarded as precise list changes, so the table only redraws the affected rows.
+ *
+ * @param <T>
+ *          the type of the items
+ *
+ * @author agent
+ */
+public abstract class AbstractSignalTableModel<T> extends ObservableListBase<T> implements SignalTableListener {
+
+    private final SignalTable table;
+
+    /** The created items by row index, {@code null} for rows whose item was not created yet. */
+    private final ArrayList<T> items;
+
+    /**
+     * Constructs a new {@code AbstractSignalTableModel} for the specified {@link SignalTable}.
+     *
+     * @param table
+     *          the {@code SignalTable} to show
+     */
+    protected AbstractSignalTableModel(SignalTable table) {
+        this.table = checkNotNull(table);
+        items = new ArrayList<>(Collections.nCopies(table.getRowCount(), null));
+    }
+
+    /**
+     * Gets the {@link SignalTable} shown by the model.
+     *
+     * @return
+     *          the {@code SignalTable}
+     */
+    protected SignalTable getTable() {
+        return table;
+    }
+
+    /**
+     * Discards all created items and updates all rows, e.g. after their content changed
+     * without an event of the {@link SignalTable}.
+     */
+    public void invalidateAll() {
+        onRowsUpdated(0, items.size() - 1);
+    }
+
+    @Override
+    public T get(int index) {
+        T item = items.get(index);
+        if (item == null) {
+            item = createItem(index, table.getRow(index));
+            items.set(index, item);
+        }
+        return item;
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Creates the item of a {@link SignalRow}.
+     *
+     * @param index
+     *          the index of the row
+     * @param signalRow
+     *          the {@code SignalRow}
+     * @return
+     *          the item of the row
+     */
+    protected abstract T createItem(int index, SignalRow signalRow);
+
+    /**
+     * Gets the item reported as removed for a row whose item was never created.
+     *
+     * @return
+     *          an empty item
+     */
+    protected abstract T getEmptyItem();
+
+    /**
+     * Checks whether the jump target shown by a created item differs from the {@link Jump} of its row.
+     *
+     * @param index
+     *          the index of the row
+     * @param item
+     *          the created item of the row
+     * @return
+     *          {@code true} if the item has to be created again, {@code false} otherwise
+     */
+    protected abstract boolean isJumpOutdated(int index, T item);
+
+    /**
+     * Gets the text of the condition cell of a {@link Jump}.
+     *
+     * @param index
+     *          the index of the row
+     * @param j
+     *          the {@code Jump} of the row
+     * @return
+     *          the text of the condition cell
+     */
+    protected static String getConditionText(int index, Jump j) {
+        return j.getTargetRow(index, 0) == j.getTargetRow(index, 1) ? "-" : "1\n0";
+    }
+
+    /**
+     * Gets the text of the jump target cell of a {@link Jump}.
+     *
+     * @param index
+     *          the index of the row
+     * @param j
+     *          the {@code Jump} of the row
+     * @return
+     *          the text of the jump target cell
+     */
+    protected static String getTargetText(int index, Jump j) {
+        int target0 = j.getTargetRow(index, 0);
+        int target1 = j.getTargetRow(index, 1);
+        if (target0 == target1) {
+            return Integer.toString(target0);
+        }
+        return target1 + "\n" + target0;
+    }
+
+    /**
+     * Discards the created items from the specified row on, as their addresses changed.
+     *
+     * @param fromIndex
+     *          the index of the first row to discard
+     */
+    private void discardFrom(int fromIndex) {
+        for (int i = fromIndex; i < items.size(); i++) {
+            items.set(i, null);
+        }
+    }
+
+    /**
+     * Discards the created items within the specified range whose jump target cell is outdated.<br>
+     * <br>
+     * Adding, removing or moving rows shifts the targets of the jumps to these rows. The {@link SignalTable}
+     * replaces such jumps without an event of its own, so the rows outside of the changed range have to be
+     * checked here. Must be called between {@link #beginChange()} and {@link #endChange()}.
+     *
+     * @param fromIndex
+     *          the index of the first row to check
+     * @param toIndex
+     *          the index of the first row that is not checked
+     */
+    private void discardRemappedJumps(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            T item = items.get(i);
+            if (item != null && isJumpOutdated(i, item)) {
+                items.set(i, null);
+                nextUpdate(i);
+            }
+        }
+    }
+
+    /**
+     * Gets the removed items of a range for the list change, using the empty item for items that were never created.
+     *
+     * @param range
+     *          the removed range of the created items
+     * @return
+     *          the removed items
+     */
+    private List<T> removed(List<T> range) {
+        List<T> removed = new ArrayList<>(range.size());
+        for (T item : range) {
+            removed.add(item == null ? getEmptyItem() : item);
+        }
+        return removed;
+    }
+
+    @Override
+    public void onStructureChanged() {
+        List<T> removed = removed(items);
+        items.clear();
+        items.addAll(Collections.nCopies(table.getRowCount(), null));
+
+        beginChange();
+        nextReplace(0, items.size(), removed);
+        endChange();
+    }
+
+    @Override
+    public void onRowAdded(int index, SignalRow row) {
+        onRowsAdded(index, index);
+    }
+
+    @Override
+    public void onRowRemoved(int index) {
+        onRowsRemoved(index, index);
+    }
+
+    @Override
+    public void onRowsAdded(int fromIndex, int toIndex) {
+        items.addAll(fromIndex, Collections.nCopies(toIndex - fromIndex + 1, null));
+        discardFrom(toIndex + 1);
+
+        beginChange();
+        discardRemappedJumps(0, fromIndex);
+        nextAdd(fromIndex, toIndex + 1);
+        endChange();
+    }
+
+    @Override
+    public void onRowsRemoved(int fromIndex, int toIndex) {
+        List<T> range = items.subList(fromIndex, toIndex + 1);
+        List<T> removed = removed(range);
+        range.clear();
+        discardFrom(fromIndex);
+
+        beginChange();
+        discardRemappedJumps(0, fromIndex);
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    @Override
+    public void onRowsExchanged(int index1, int index2) {
+        items.set(index1, null);
+        items.set(index2, null);
+
+        beginChange();
+        nextUpdate(index1);
+        nextUpdate(index2);
+        endChange();
+    }
+
+    @Override
+    public void onRowReplaced(int index, SignalRow row) {
+        items.set(index, null);
+
+        beginChange();
+        nextUpdate(index);
+        endChange();
+    }
+
+    @Override
+    public void onRowsUpdated(int fromIndex, int toIndex) {
+        if (toIndex < fromIndex) {
+            return;
+        }
+
+        beginChange();
+        // the rows may have been moved
+        discardRemappedJumps(0, fromIndex);
+        for (int i = fromIndex; i <= toIndex; i++) {
+            items.set(i, null);
+            nextUpdate(i);
+        }
+        discardRemappedJumps(toIndex + 1, items.size());
+        endChange();
+    }
+}
@@ -35,7 +35,7 @@ public class BreakpointColumn extends SignalTableColumn {
         setWidth(30);
 
         setCellFactory(param -> {
-            TableCell<ObservableList, String> cell = new TableCell<ObservableList, String>() {
+            TableCell<ObservableList<String>, String> cell = new TableCell<ObservableList<String>, String>() {
                 ImageView imageview = new ImageView();
 
                 @Override
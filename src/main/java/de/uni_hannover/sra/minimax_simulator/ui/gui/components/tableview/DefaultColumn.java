@@ -24,7 +24,7 @@ public class DefaultColumn extends SignalTableColumn {
         super(label, id, index);
 
         setCellFactory(param -> {
-            TableCell<ObservableList, String> cell = new TableCell<ObservableList, String>() {
+            TableCell<ObservableList<String>, String> cell = new TableCell<ObservableList<String>, String>() {
 
                 @Override
                 public void updateItem(String item, boolean empty) {
@@ -33,7 +33,7 @@ public class JumpTargetColumn extends SignalTableColumn {
         super(label, id, index);
 
         setCellFactory(param -> {
-            TableCell<ObservableList, String> cell = new TableCell<ObservableList, String>() {
+            TableCell<ObservableList<String>, String> cell = new TableCell<ObservableList<String>, String>() {
 
                 @Override
                 public void updateItem(String item, boolean empty) {
@@ -34,7 +34,7 @@ public class LabelColumn extends SignalTableColumn {
         setMaxWidth(200);
 
         setCellFactory(param -> {
-            TableCell<ObservableList, String> cell = new TableCell<ObservableList, String>() {
+            TableCell<ObservableList<String>, String> cell = new TableCell<ObservableList<String>, String>() {
 
                 @Override
                 public void updateItem(String item, boolean empty) {
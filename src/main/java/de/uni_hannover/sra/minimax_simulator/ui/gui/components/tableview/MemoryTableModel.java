@@ -0,0 +1,271 @@
+package de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview;
+
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MachineMemory;
+import de.uni_hannover.sra.minimax_simulator.util.Util;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The items of the memory {@link javafx.scene.control.TableView}, backed by the current
+ * {@link de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState} of a {@link MachineMemory}.<br>
+ * <br>
+ * The list contains one {@link Entry} per address of the whole address space. The entries are only created when
+ * the table asks for them, i.e. when their row becomes visible, and the most recently used entries are kept in a
+ * cache of bounded size. If words of the memory change, only the cached entries of the changed addresses are
+ * discarded and reported as updated, so the table only redraws the affected rows.
+ *
+ * @author agent
+ */
+public class MemoryTableModel extends ObservableListBase<MemoryTableModel.Entry> {
+
+    /** The default count of cached entries, several times the count of visible rows. */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final String HEX_FORMAT_STRING = "0x%08X";
+
+    private final MachineMemory memory;
+    private final int minAddress;
+    private final int size;
+    private final String addressFormatString;
+
+    /** The cached entries by address in access order. */
+    private final LinkedHashMap<Integer, Entry> cache;
+
+    /**
+     * Constructs a new {@code MemoryTableModel} for the specified {@link MachineMemory} with the default cache size.
+     *
+     * @param memory
+     *          the {@code MachineMemory} to show
+     */
+    public MemoryTableModel(MachineMemory memory) {
+        this(memory, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code MemoryTableModel} for the specified {@link MachineMemory}.
+     *
+     * @param memory
+     *          the {@code MachineMemory} to show
+     * @param cacheSize
+     *          the maximum count of cached entries
+     */
+    public MemoryTableModel(MachineMemory memory, int cacheSize) {
+        checkArgument(cacheSize > 0, "Cache size must be positive: " + cacheSize);
+        this.memory = checkNotNull(memory);
+        minAddress = memory.getMinAddress();
+        size = memory.getMaxAddress() - minAddress + 1;
+        addressFormatString = Util.createHexFormatString(memory.getAddressWidth(), false);
+
+        cache = new LinkedHashMap<Integer, MemoryTableModel.Entry>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, MemoryTableModel.Entry> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public Entry get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+
+        int address = index + minAddress;
+        Entry entry = cache.get(address);
+        if (entry == null) {
+            entry = new Entry(String.format(addressFormatString, address), memory.getMemoryState().peekInt(address));
+            cache.put(address, entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the address shown at the specified index.
+     *
+     * @param index
+     *          the index of the row
+     * @return
+     *          the address of the row
+     */
+    public int getAddress(int index) {
+        return index + minAddress;
+    }
+
+    /**
+     * Gets the index of the row showing the specified address.
+     *
+     * @param address
+     *          the address
+     * @return
+     *          the index of the row
+     */
+    public int getIndex(int address) {
+        return address - minAddress;
+    }
+
+    /**
+     * Gets the count of currently cached entries.
+     *
+     * @return
+     *          the count of cached entries
+     */
+    public int getCachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Updates the row of the specified address, e.g. after a write access.
+     *
+     * @param address
+     *          the changed address
+     */
+    public void wordChanged(int address) {
+        rangeChanged(address, address);
+    }
+
+    /**
+     * Updates the rows of the specified address range. Rows whose entries are not cached are not
+     * reported, they will read the new value as soon as they become visible.
+     *
+     * @param fromAddress
+     *          the lowest changed address
+     * @param toAddress
+     *          the highest changed address, inclusive
+     */
+    public void rangeChanged(int fromAddress, int toAddress) {
+        List<Integer> changed = new ArrayList<>();
+        if ((long) toAddress - fromAddress < cache.size()) {
+            for (int address = fromAddress; address <= toAddress; address++) {
+                if (cache.containsKey(address)) {
+                    changed.add(address);
+                }
+            }
+        }
+        else {
+            for (Integer address : cache.keySet()) {
+                if (address >= fromAddress && address <= toAddress) {
+                    changed.add(address);
+                }
+            }
+        }
+        discard(changed);
+    }
+
+    /**
+     * Updates all rows, e.g. after the memory was zeroed or reset.
+     */
+    public void memoryChanged() {
+        discard(new ArrayList<>(cache.keySet()));
+    }
+
+    /**
+     * Removes the cached entries of the specified addresses and reports their rows as updated.
+     *
+     * @param addresses
+     *          the addresses of the cached entries
+     */
+    private void discard(List<Integer> addresses) {
+        if (addresses.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        for (Integer address : addresses) {
+            cache.remove(address);
+            nextUpdate(getIndex(address));
+        }
+        endChange();
+    }
+
+    /**
+     * An {@code Entry} holds the formatted address and value of a memory word.
+     *
+     * @author agent
+     */
+    public static final class Entry {
+
+        private final String address;
+        private final int value;
+        private final String decimal;
+        private final String hex;
+        private final String bin;
+
+        /**
+         * Constructs a new {@code Entry} and formats the value.
+         *
+         * @param address
+         *          the formatted address
+         * @param value
+         *          the value stored at the address
+         */
+        private Entry(String address, int value) {
+            this.address = address;
+            this.value = value;
+            decimal = Integer.toString(value);
+            hex = String.format(HEX_FORMAT_STRING, value);
+            bin = Util.to32BitBinary(value);
+        }
+
+        /**
+         * Gets the formatted address.
+         *
+         * @return
+         *          the address
+         */
+        public String getAddress() {
+            return address;
+        }
+
+        /**
+         * Gets the value stored at the address.
+         *
+         * @return
+         *          the value
+         */
+        public int getValue() {
+            return value;
+        }
+
+        /**
+         * Gets the decimal representation of the value.
+         *
+         * @return
+         *          the decimal value
+         */
+        public String getDecimal() {
+            return decimal;
+        }
+
+        /**
+         * Gets the hexadecimal representation of the value.
+         *
+         * @return
+         *          the hexadecimal value
+         */
+        public String getHex() {
+            return hex;
+        }
+
+        /**
+         * Gets the binary representation of the value.
+         *
+         * @return
+         *          the binary value
+         */
+        public String getBin() {
+            return bin;
+        }
+    }
+}
@@ -49,7 +49,7 @@ public class SignalColumn extends SignalTableColumn {
         super(label, id, index);
 
         setCellFactory(param -> {
-            TableCell<ObservableList, String> cell = new TableCell<ObservableList, String>() {
+            TableCell<ObservableList<String>, String> cell = new TableCell<ObservableList<String>, String>() {
 
                 @Override
                 public void updateItem(String item, boolean empty) {
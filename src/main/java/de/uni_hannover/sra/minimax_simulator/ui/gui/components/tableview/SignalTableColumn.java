@@ -13,7 +13,7 @@ import javafx.util.Callback;
  *
  * @author Philipp Rohde
  */
-public abstract class SignalTableColumn extends TableColumn {
+public abstract class SignalTableColumn extends TableColumn<ObservableList<String>, String> {
 
     /**
      * Creates a {@link TableColumn} that is not sortable, has a min width of 30 px,
@@ -33,8 +33,8 @@ public abstract class SignalTableColumn extends TableColumn {
         setId(id);
         setMinWidth(30);
 
-        setCellValueFactory(new Callback<CellDataFeatures<ObservableList, String>, ObservableValue<String>>() {
-            public ObservableValue<String> call(TableColumn.CellDataFeatures<ObservableList, String> param) {
+        setCellValueFactory(new Callback<CellDataFeatures<ObservableList<String>, String>, ObservableValue<String>>() {
+            public ObservableValue<String> call(TableColumn.CellDataFeatures<ObservableList<String>, String> param) {
                 try {
                     return new SimpleStringProperty(param.getValue().get(index).toString());
                 } catch (Exception e) {
@@ -0,0 +1,111 @@
+package de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview;
+
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The items of the signal {@link javafx.scene.control.TableView}, backed by a {@link SignalTable}.<br>
+ * <br>
+ * Each item is the list of the cell texts of a {@link SignalRow}, in the order of the {@link SignalTableColumn}s.
+ * Like all {@link AbstractSignalTableModel}s, the items are only created when their row becomes visible.
+ *
+ * @author agent
+ */
+public class SignalTableModel extends AbstractSignalTableModel<ObservableList<String>> {
+
+    /** The signals whose cells show "-" instead of "0" if they are not set. */
+    private static final Set<String> OPTIONAL_SIGNALS = ImmutableSet.of("ALU_SELECT_A", "ALU_SELECT_B", "MDR_SEL", "MEM_RW", "ALU_CTRL");
+
+    private List<String> signalIds;
+
+    /**
+     * Constructs a new {@code SignalTableModel} for the specified {@link SignalTable}.
+     *
+     * @param table
+     *          the {@code SignalTable} to show
+     * @param signalIds
+     *          the IDs of the signal columns
+     */
+    public SignalTableModel(SignalTable table, List<String> signalIds) {
+        super(table);
+        this.signalIds = ImmutableList.copyOf(signalIds);
+    }
+
+    /**
+     * Gets the IDs of the signal columns.
+     *
+     * @return
+     *          the IDs of the signal columns
+     */
+    public List<String> getSignalIds() {
+        return signalIds;
+    }
+
+    /**
+     * Sets the IDs of the signal columns, e.g. after a register was added, and updates all rows.
+     *
+     * @param signalIds
+     *          the IDs of the signal columns
+     */
+    public void setSignalIds(List<String> signalIds) {
+        this.signalIds = ImmutableList.copyOf(signalIds);
+        invalidateAll();
+    }
+
+    /**
+     * Creates the cell texts of a {@link SignalRow}.
+     *
+     * @param index
+     *          the index of the row
+     * @param signalRow
+     *          the {@code SignalRow}
+     * @return
+     *          the cell texts of the row
+     */
+    @Override
+    protected ObservableList<String> createItem(int index, SignalRow signalRow) {
+        List<String> row = new ArrayList<>(signalIds.size() + 6);
+
+        row.add(String.valueOf(signalRow.isBreakpoint()));
+        row.add(signalRow.getLabel());
+        row.add(String.valueOf(index));
+
+        Map<String, SignalValue> signalValues = signalRow.getSignalValues();
+        for (String id : signalIds) {
+            if (signalValues.containsKey(id)) {
+                row.add(String.valueOf(signalValues.get(id).intValue()));
+            }
+            else {
+                row.add(OPTIONAL_SIGNALS.contains(id) ? "-" : "0");
+            }
+        }
+
+        row.add(getConditionText(index, signalRow.getJump()));
+        row.add(getTargetText(index, signalRow.getJump()));
+
+        row.add(signalRow.getDescription());
+
+        return FXCollections.observableList(row);
+    }
+
+    @Override
+    protected ObservableList<String> getEmptyItem() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    protected boolean isJumpOutdated(int index, ObservableList<String> item) {
+        return !item.get(item.size() - 2).equals(getTargetText(index, getTable().getRow(index).getJump()));
+    }
+}
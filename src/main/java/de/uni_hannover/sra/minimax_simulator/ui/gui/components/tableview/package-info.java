@@ -1,4 +1,4 @@
 /**
- * Contains custom {@code TableColumn}s.
+ * Contains custom {@code TableColumn}s and the models of the signal and memory tables.
  */
 package de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview;
\ No newline at end of file
@@ -4,14 +4,28 @@ import javafx.geometry.Bounds;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
- * This is a simple replacement for the {@code com.sun.javafx.tk.FontMetrics} class which is deprecated since JDK 9.
+ * This is a simple replacement for the {@code com.sun.javafx.tk.FontMetrics} class which is deprecated since JDK 9.<br>
+ * <br>
+ * Measuring text lays out a {@link Text} node, so there is only one shared instance per {@link Font},
+ * see {@link #forFont(Font)}, and the widths of the recently measured strings are cached.
  *
  * @author Philipp Rohde
  * @author Werner Van Belle
  * @link http://werner.yellowcouch.org/log/fontmetrics-jdk9/
  */
 public class FontMetrics {
+    /** the number of string widths cached per instance */
+    private static final int WIDTH_CACHE_SIZE = 1024;
+    /** the shared instances */
+    private static final Map<Font, FontMetrics> INSTANCES = new ConcurrentHashMap<>();
+
     /** for measurements */
     final private Text internal;
     /** the ascent */
@@ -20,6 +34,25 @@ public class FontMetrics {
     private float descent;
     /** the line height */
     private float lineHeight;
+    /** the widths of the recently measured strings in access order */
+    private final Map<String, Float> widths = new LinkedHashMap<String, Float>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Float> eldest) {
+            return size() > WIDTH_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Gets the shared {@code FontMetrics} instance of the specified {@code Font}.
+     *
+     * @param fnt
+     *          the {@code Font} to measure
+     * @return
+     *          the {@code FontMetrics} of the {@code Font}
+     */
+    public static FontMetrics forFont(Font fnt) {
+        return INSTANCES.computeIfAbsent(checkNotNull(fnt), FontMetrics::new);
+    }
 
     /**
      * Creates a new {@code FontMetrics} instance.
@@ -27,7 +60,7 @@ public class FontMetrics {
      * @param fnt
      *          the {@code Font} to use
      */
-    public FontMetrics(Font fnt) {
+    private FontMetrics(Font fnt) {
         internal = new Text();
         internal.setFont(fnt);
         Bounds b = internal.getLayoutBounds();
@@ -44,9 +77,14 @@ public class FontMetrics {
      * @return
      *           the width of the text using the instance's font
      */
-    public float computeStringWidth(String txt) {
-        internal.setText(txt);
-        return (float) internal.getLayoutBounds().getWidth();
+    public synchronized float computeStringWidth(String txt) {
+        Float width = widths.get(txt);
+        if (width == null) {
+            internal.setText(txt);
+            width = (float) internal.getLayoutBounds().getWidth();
+            widths.put(txt, width);
+        }
+        return width;
     }
 
     /**
@@ -100,7 +100,7 @@ public class MemoryExportWorker implements Runnable {
 
         try {
             for (int i = fromAddress, n = toAddress; i <= n; i++) {
-                int value = state.getInt(i);
+                int value = state.peekInt(i);
 
                 // convert integer to little-endian byte-array
                 intBytes[0] = (byte) (value & 0xFF);
@@ -0,0 +1,28 @@
+package de.uni_hannover.sra.minimax_simulator.ui.gui.util;
+
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
+import javafx.concurrent.Task;
+
+/**
+ * A {@code ProgressTask} is a {@link Task} that can be handed to an import or export as {@link ProgressMonitor}.<br>
+ * <br>
+ * The reported progress updates the {@code progress} property of the task and canceling the task
+ * cancels the import or export.
+ *
+ * @param <V>
+ *          the type of the result of the task
+ *
+ * @author agent
+ */
+public abstract class ProgressTask<V> extends Task<V> implements ProgressMonitor {
+
+    @Override
+    public void progress(long done, long total) {
+        updateProgress(done, total);
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return isCancelled();
+    }
+}
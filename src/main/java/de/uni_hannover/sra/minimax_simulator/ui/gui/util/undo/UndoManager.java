@@ -158,14 +158,39 @@ public class UndoManager {
      * each time the project is saved.
      */
     public void markSavedState() {
+        markSavedState(undos.peek());
+    }
+
+    /**
+     * Marks the specified {@link Command} as saved.<br>
+     * <br>
+     * A project saved in the background may have been changed during saving, so the saved command is the
+     * head of the undo stack at the time the save was started, not necessarily the current head.
+     *
+     * @param savePoint
+     *         the {@code Command} that was the head of the undo stack when the project was saved
+     */
+    public void markSavedState(Command savePoint) {
         if (undos.isEmpty()) {
             return;
         }
 
         saved = true;
-        isSaved = true;
         undos.forEach(command -> command.unmark());
-        undos.peek().mark();
+        if (savePoint != null) {
+            savePoint.mark();
+        }
+        isSaved = undos.peek() == savePoint;
+    }
+
+    /**
+     * Gets the head of the undo stack.
+     *
+     * @return
+     *         the latest performed {@code Command} or {@code null} if there is none
+     */
+    public Command getSavePoint() {
+        return undos.peek();
     }
 
     /**
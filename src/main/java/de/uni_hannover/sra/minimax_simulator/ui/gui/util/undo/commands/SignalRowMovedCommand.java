@@ -2,14 +2,21 @@ package de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.commands;
 
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
- * This {@link Command} is used for moving {@link de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow}s.
+ * This {@link Command} is used for moving {@link de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow}s.<br>
+ * <br>
+ * Several ranges of rows are moved one after another, starting with the range at the end the rows move to,
+ * so the moved ranges do not overlap the ones still to move.
  *
  * @author Philipp Rohde
  */
 public class SignalRowMovedCommand extends Command {
 
-    private final int index;
+    private final List<int[]> ranges;
     private final int difference;
     private final SignalTable table;
 
@@ -24,19 +31,61 @@ public class SignalRowMovedCommand extends Command {
      *         the {@code SignalTable} of the simulated machine
      */
     public SignalRowMovedCommand(int index, int difference, SignalTable table) {
+        this(index, index, difference, table);
+    }
+
+    /**
+     * Creates the {@code SignalRowMovedCommand} instance for moving a block of {@code SignalRow}s.
+     *
+     * @param firstIndex
+     *         the index of the first {@code SignalRow} to move
+     * @param lastIndex
+     *         the index of the last {@code SignalRow} to move
+     * @param difference
+     *         the difference of the indices to the indices after moving
+     * @param table
+     *         the {@code SignalTable} of the simulated machine
+     */
+    public SignalRowMovedCommand(int firstIndex, int lastIndex, int difference, SignalTable table) {
+        this(Collections.singletonList(new int[] { firstIndex, lastIndex }), difference, table);
+    }
+
+    /**
+     * Creates the {@code SignalRowMovedCommand} instance for moving several blocks of {@code SignalRow}s,
+     * e.g. of a selection that is not contiguous.
+     *
+     * @param ranges
+     *         the indices of the first and the last {@code SignalRow} of each block to move,
+     *         the blocks must be disjoint and in ascending order
+     * @param difference
+     *         the difference of the indices to the indices after moving
+     * @param table
+     *         the {@code SignalTable} of the simulated machine
+     */
+    public SignalRowMovedCommand(List<int[]> ranges, int difference, SignalTable table) {
         super("signal.moved");
-        this.index = index;
+        this.ranges = new ArrayList<>(ranges);
         this.difference = difference;
         this.table = table;
+
+        // moving up starts with the first block, moving down with the last one
+        if (difference > 0) {
+            Collections.reverse(this.ranges);
+        }
     }
 
     @Override
     public void execute() {
-        table.moveSignalRows(index, index, difference);
+        for (int[] range : ranges) {
+            table.moveSignalRows(range[0], range[1], difference);
+        }
     }
 
     @Override
     public void undo() {
-        table.moveSignalRows(index + difference, index + difference, -difference);
+        for (int i = ranges.size() - 1; i >= 0; i--) {
+            int[] range = ranges.get(i);
+            table.moveSignalRows(range[0] + difference, range[1] + difference, -difference);
+        }
     }
 }
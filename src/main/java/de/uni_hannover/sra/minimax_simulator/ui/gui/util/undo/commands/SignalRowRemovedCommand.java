@@ -4,16 +4,20 @@ import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
 import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * This {@link Command} is used for deleting {@link SignalRow}s.
+ * This {@link Command} is used for deleting {@link SignalRow}s.<br>
+ * <br>
+ * Each contiguous range of rows is removed in a single step of the {@link SignalTable}, all ranges are
+ * restored in a single step.
  *
  * @author Philipp Rohde
  */
 public class SignalRowRemovedCommand extends Command {
 
-    private final int index;
+    private final List<int[]> ranges;
     private final SignalTable table;
     private final List<SignalRow> rows;
 
@@ -26,10 +30,39 @@ public class SignalRowRemovedCommand extends Command {
      *         the {@code SignalTable} of the simulated machine
      */
     public SignalRowRemovedCommand(int index, SignalTable table) {
+        this(index, index, table);
+    }
+
+    /**
+     * Creates the {@code SignalRowRemovedCommand} instance for the deletion of a range of {@code SignalRow}s.
+     *
+     * @param fromIndex
+     *         the index of the first {@code SignalRow} to delete
+     * @param toIndex
+     *         the index of the last {@code SignalRow} to delete
+     * @param table
+     *         the {@code SignalTable} of the simulated machine
+     */
+    public SignalRowRemovedCommand(int fromIndex, int toIndex, SignalTable table) {
+        this(Collections.singletonList(new int[] { fromIndex, toIndex }), table);
+    }
+
+    /**
+     * Creates the {@code SignalRowRemovedCommand} instance for the deletion of several ranges of {@code SignalRow}s,
+     * e.g. of a selection that is not contiguous.
+     *
+     * @param ranges
+     *         the indices of the first and the last {@code SignalRow} of each range to delete,
+     *         the ranges must be disjoint and in ascending order
+     * @param table
+     *         the {@code SignalTable} of the simulated machine
+     */
+    public SignalRowRemovedCommand(List<int[]> ranges, SignalTable table) {
         super("signal.removed");
-        this.index = index;
+        this.ranges = new ArrayList<>(ranges);
         this.table = table;
 
+        // the jumps of the remaining rows change as well, so the whole table is restored
         this.rows = new ArrayList<>();
         for (SignalRow row : table.getRows()) {
             this.rows.add(new SignalRow(row));
@@ -38,16 +71,18 @@ public class SignalRowRemovedCommand extends Command {
 
     @Override
     public void execute() {
-        table.removeSignalRow(index);
+        // the last range first, so the indices of the other ranges stay valid
+        for (int i = ranges.size() - 1; i >= 0; i--) {
+            int[] range = ranges.get(i);
+            table.removeSignalRows(range[0], range[1]);
+        }
     }
 
     @Override
     public void undo() {
-        for (int i = table.getRowCount() - 1; i >= 0; i--) {
-            table.removeSignalRow(i);
-        }
-        for (int i = 0; i < rows.size(); i++) {
-            table.addSignalRow(rows.get(i));
+        if (table.getRowCount() > 0) {
+            table.removeSignalRows(0, table.getRowCount() - 1);
         }
+        table.addSignalRows(0, rows);
     }
 }
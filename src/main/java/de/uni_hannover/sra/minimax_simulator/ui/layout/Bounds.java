@@ -78,6 +78,46 @@ public class Bounds {
         h = b.h;
     }
 
+    /**
+     * Creates the smallest {@code Bounds} containing this and the specified {@code Bounds}.
+     *
+     * @param b
+     *          the {@code Bounds} to unite with
+     * @return
+     *          the united {@code Bounds}
+     */
+    public Bounds union(Bounds b) {
+        int minX = Math.min(x, b.x);
+        int minY = Math.min(y, b.y);
+        int maxX = Math.max(x + w, b.x + b.w);
+        int maxY = Math.max(y + h, b.y + b.h);
+        return new Bounds(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /**
+     * Checks whether this and the specified {@code Bounds} overlap.
+     *
+     * @param b
+     *          the {@code Bounds} to check
+     * @return
+     *          {@code true} if the {@code Bounds} share an area, {@code false} otherwise
+     */
+    public boolean intersects(Bounds b) {
+        return x < b.x + b.w && b.x < x + w && y < b.y + b.h && b.y < y + h;
+    }
+
+    /**
+     * Creates {@code Bounds} enlarged by the specified margin on each side.
+     *
+     * @param margin
+     *          the margin to add, not negative
+     * @return
+     *          the enlarged {@code Bounds}
+     */
+    public Bounds grow(int margin) {
+        return new Bounds(x - margin, y - margin, w + 2 * margin, h + 2 * margin);
+    }
+
     @Override
     public String toString() {
         return "[" + x + "," + y + " / " + w + "," + h + "]";
@@ -0,0 +1,265 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics;
+
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Junction;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Memory;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Multiplexer;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.OutgoingPin;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Register;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Wire;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.DatapathListener;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.DatapathSampler;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Simulation;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.SimulationListener;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.SimulationState;
+import de.uni_hannover.sra.minimax_simulator.ui.UIUtil;
+import de.uni_hannover.sra.minimax_simulator.ui.gui.util.FontMetrics;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Point;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.RenderEnvironment;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.Sprite;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteCanvas;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@code DatapathOverlay} shows the values of the datapath sampled by the {@link Simulation} on top of
+ * the schematics.<br>
+ * <br>
+ * It draws the value of each wire and highlights the active path, i.e. the selected inputs of the
+ * multiplexers, the written registers and the accessed memory. The samples are handed over to the
+ * FX application thread by a single pending task, so the overlay is drawn at most once per sample
+ * and the simulation thread never waits for the display. The sample is removed when the simulation is stopped.
+ *
+ * @author agent
+ */
+public class DatapathOverlay implements Sprite, DatapathListener, SimulationListener {
+
+    private static final Font VALUE_FONT = new Font("SansSerif", 11.0);
+
+    private static final Color ACTIVE_COLOR = Color.rgb(230, 120, 0);
+    private static final Color READ_COLOR = Color.rgb(0, 120, 220);
+    private static final Color WRITE_COLOR = Color.rgb(210, 30, 30);
+    private static final Color VALUE_COLOR = Color.rgb(0, 90, 0);
+    private static final Color VALUE_BACKGROUND = Color.rgb(255, 255, 255, 0.8);
+
+    private static final double ACTIVE_LINE_WIDTH = 3.0;
+
+    private final SpriteCanvas<?> canvas;
+
+    /** Whether a task showing the latest sample is already scheduled on the FX application thread. */
+    private final AtomicBoolean framePending;
+    /** Created once, so handing over a sample does not allocate anything. */
+    private final Runnable showFrame;
+    /** The sampler that took the latest sample, written by the simulation thread. */
+    private volatile DatapathSampler latestSampler;
+
+    private DatapathSampler sampler;
+    private DatapathSampler.Frame frame;
+
+    /**
+     * Constructs a new {@code DatapathOverlay} drawn on the specified {@link SpriteCanvas}.
+     *
+     * @param canvas
+     *          the {@code SpriteCanvas} showing the schematics
+     */
+    public DatapathOverlay(SpriteCanvas<?> canvas) {
+        this.canvas = checkNotNull(canvas);
+        framePending = new AtomicBoolean();
+        showFrame = this::showLatestFrame;
+    }
+
+    @Override
+    public void datapathSampled(Simulation simulation, DatapathSampler sampler) {
+        latestSampler = sampler;
+        if (framePending.compareAndSet(false, true)) {
+            UIUtil.invokeInFAT(showFrame);
+        }
+    }
+
+    @Override
+    public void stateChanged(SimulationState state) {
+        if (state == SimulationState.OFF) {
+            UIUtil.invokeInFAT(this::clear);
+        }
+    }
+
+    /**
+     * Acquires the latest sample and redraws the overlay. Must be called from the FX application thread.
+     */
+    private void showLatestFrame() {
+        // reset first, so a sample taken meanwhile schedules a new task
+        framePending.set(false);
+        DatapathSampler latest = latestSampler;
+        if (latest == null) {
+            return;
+        }
+        sampler = latest;
+        frame = latest.acquireFrame();
+        canvas.repaintOverlays();
+    }
+
+    /**
+     * Removes the shown sample, e.g. when the simulation was stopped. Must be called from the FX application thread.
+     */
+    public void clear() {
+        latestSampler = null;
+        sampler = null;
+        frame = null;
+        canvas.repaintOverlays();
+    }
+
+    @Override
+    public void paint(SpriteGraphics gc, RenderEnvironment env) {
+        if (frame == null) {
+            return;
+        }
+
+        gc.save();
+        gc.setLineWidth(ACTIVE_LINE_WIDTH);
+
+        List<Multiplexer> muxes = sampler.getMultiplexers();
+        gc.setStroke(ACTIVE_COLOR);
+        for (int i = 0; i < muxes.size(); i++) {
+            int select = frame.getMuxSelect(i);
+            if (select >= 0 && select < muxes.get(i).getDataInputs().size()) {
+                strokePath(gc, muxes.get(i).getDataInputs().get(select).getWire());
+            }
+        }
+
+        List<Register> registers = sampler.getRegisters();
+        gc.setStroke(WRITE_COLOR);
+        for (int i = 0; i < registers.size(); i++) {
+            if (frame.isRegisterWritten(i)) {
+                Register register = registers.get(i);
+                strokePath(gc, register.getDataIn().getWire());
+                strokeBounds(gc, register.getBounds());
+            }
+        }
+
+        List<Memory> memories = sampler.getMemories();
+        for (int i = 0; i < memories.size(); i++) {
+            Memory memory = memories.get(i);
+            int access = frame.getMemoryAccess(i);
+            if (access == DatapathSampler.MEMORY_READ) {
+                gc.setStroke(READ_COLOR);
+                strokePath(gc, memory.getAdr().getWire());
+                strokeWires(gc, memory.getDataOut());
+                strokeBounds(gc, memory.getBounds());
+            }
+            else if (access == DatapathSampler.MEMORY_WRITE) {
+                gc.setStroke(WRITE_COLOR);
+                strokePath(gc, memory.getAdr().getWire());
+                strokePath(gc, memory.getDataIn().getWire());
+                strokeBounds(gc, memory.getBounds());
+            }
+        }
+
+        paintValues(gc);
+        gc.restore();
+    }
+
+    /**
+     * Draws the value of each wire that is not driven by a {@link Junction}, so each value is drawn
+     * once next to the part producing it.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} to draw on
+     */
+    private void paintValues(SpriteGraphics gc) {
+        FontMetrics fm = FontMetrics.forFont(VALUE_FONT);
+        double ascent = fm.getAscent();
+        double height = fm.getLineHeight();
+        gc.setFont(VALUE_FONT);
+
+        List<Wire> wires = sampler.getWires();
+        for (int i = 0; i < wires.size(); i++) {
+            Wire wire = wires.get(i);
+            Point[] points = wire.getPoints();
+            if (points.length < 2 || wire.getSource() instanceof Junction) {
+                continue;
+            }
+
+            // label the longest segment, it is the least likely to be crowded
+            int longest = 1;
+            int longestLength = -1;
+            for (int j = 1; j < points.length; j++) {
+                int length = Math.abs(points[j].x - points[j - 1].x) + Math.abs(points[j].y - points[j - 1].y);
+                if (length > longestLength) {
+                    longest = j;
+                    longestLength = length;
+                }
+            }
+            double x = (points[longest].x + points[longest - 1].x) / 2.0;
+            double y = (points[longest].y + points[longest - 1].y) / 2.0;
+
+            String text = "0x" + Integer.toHexString(frame.getWireValue(i)).toUpperCase();
+            double width = fm.computeStringWidth(text);
+            gc.setFill(VALUE_BACKGROUND);
+            gc.fillRect(x + 2, y - height - 1, width + 2, height);
+            gc.setFill(VALUE_COLOR);
+            gc.fillText(text, x + 3, y - height - 1 + ascent);
+        }
+    }
+
+    /**
+     * Strokes the specified {@link Wire} and, if it is driven by a {@link Junction}, the wires leading to the junction.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} to draw on
+     * @param wire
+     *          the {@code Wire} at the end of the path or {@code null}
+     */
+    private static void strokePath(SpriteGraphics gc, Wire wire) {
+        while (wire != null) {
+            strokeWire(gc, wire);
+            wire = wire.getSource() instanceof Junction ? ((Junction) wire.getSource()).getDataIn().getWire() : null;
+        }
+    }
+
+    /**
+     * Strokes all {@link Wire}s leaving the specified pin.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} to draw on
+     * @param pin
+     *          the {@code OutgoingPin}
+     */
+    private static void strokeWires(SpriteGraphics gc, OutgoingPin pin) {
+        for (Wire wire : pin.getWires()) {
+            strokeWire(gc, wire);
+        }
+    }
+
+    /**
+     * Strokes the segments of the specified {@link Wire}.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} to draw on
+     * @param wire
+     *          the {@code Wire}
+     */
+    private static void strokeWire(SpriteGraphics gc, Wire wire) {
+        Point[] points = wire.getPoints();
+        for (int i = 1; i < points.length; i++) {
+            gc.strokeLine(points[i - 1].x + 0.5, points[i - 1].y + 0.5, points[i].x + 0.5, points[i].y + 0.5);
+        }
+    }
+
+    /**
+     * Strokes a frame around the specified {@link Bounds}.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} to draw on
+     * @param bounds
+     *          the {@code Bounds} of a part
+     */
+    private static void strokeBounds(SpriteGraphics gc, Bounds bounds) {
+        gc.strokeRect(bounds.x - 2, bounds.y - 2, bounds.w + 4, bounds.h + 4);
+    }
+}
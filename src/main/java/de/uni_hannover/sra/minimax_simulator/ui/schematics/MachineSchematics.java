@@ -2,6 +2,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.schematics;
 
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.Machine;
 import de.uni_hannover.sra.minimax_simulator.model.machine.base.display.MachineDisplayListener;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
 import de.uni_hannover.sra.minimax_simulator.ui.layout.Dimension;
 import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.DefaultRenderEnvironment;
 import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteCanvas;
@@ -11,7 +12,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * The {@code MachineSchematics} are used to draw the schematics of the {@link Machine}.
- * All sprites of the machine's components will be drawn on a {@code Canvas}.
+ * All sprites of the machine's components will be drawn on a {@code Canvas}.<br>
+ * The canvas only shows a viewport of the schematics, see {@link SchematicsViewport}.
  *
  * @author Martin L&uuml;ck
  * @author Philipp Rohde
@@ -41,12 +43,17 @@ public class MachineSchematics extends SpriteCanvas<SpriteOwner> implements Mach
     }
 
     /**
-     * Updates the size of the {@code Canvas} and redraws the content.
+     * Updates the size of the content and the regions of the sprites after a new layout and redraws the content.
      */
     private void updatePreferredSize() {
         Dimension dim = this.machine.getDisplay().getDimension();
-        setSize(dim.getWidth(), dim.getHeight());
-        draw();
+        setContentSize(dim.getWidth(), dim.getHeight());
+        updateSpriteBounds();
+    }
+
+    @Override
+    protected Bounds getSpriteBounds(SpriteOwner owner) {
+        return SchematicsRenderer.getSpriteBounds(owner);
     }
 
     @Override
@@ -56,7 +63,7 @@ public class MachineSchematics extends SpriteCanvas<SpriteOwner> implements Mach
 
     @Override
     public void machineDisplayChanged() {
-        draw();
+        repaint();
     }
 
     @Override
@@ -0,0 +1,153 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics;
+
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.Machine;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.display.MachineDisplay;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Wire;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Component;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Dimension;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Point;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.DefaultRenderEnvironment;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.RenderEnvironment;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.Sprite;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteCanvas;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteIndex;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Draws the schematics of a {@link Machine} on any {@link SpriteGraphics} without a JavaFX stage.<br>
+ * <br>
+ * The sprites are created once when the {@code SchematicsRenderer} is constructed. Each
+ * {@code SchematicsRenderer} belongs to one machine, so several renderers can draw the schematics of
+ * different machines in parallel, as long as the machines are not changed meanwhile.
+ *
+ * @author agent
+ */
+public class SchematicsRenderer {
+
+    private final RenderEnvironment env;
+    private final Map<SpriteOwner, Sprite> sprites;
+    private final SpriteIndex<SpriteOwner> spriteIndex;
+    private final int width;
+    private final int height;
+
+    /**
+     * Initializes the {@code SchematicsRenderer} with the sprites of the specified {@code Machine}.
+     *
+     * @param machine
+     *          the {@code Machine} whose schematics will be drawn
+     */
+    public SchematicsRenderer(Machine machine) {
+        MachineDisplay display = checkNotNull(machine).getDisplay();
+        // the font the layout was measured with
+        RenderEnvironment layoutEnv = display.getRenderEnvironment();
+        env = new DefaultRenderEnvironment(layoutEnv.getFont(), layoutEnv.getFontMetrics());
+
+        sprites = new HashMap<>();
+        spriteIndex = new SpriteIndex<>(SpriteCanvas.INDEX_CELL_SIZE);
+        for (SpriteOwner owner : display.getAllSpriteOwners()) {
+            sprites.put(owner, owner.createSprite());
+            Bounds bounds = getSpriteBounds(owner);
+            spriteIndex.put(owner, bounds == null ? null : bounds.grow(SpriteCanvas.SPRITE_MARGIN));
+        }
+
+        Dimension dim = display.getDimension();
+        width = dim.getWidth();
+        height = dim.getHeight();
+    }
+
+    /**
+     * Gets the width of the schematics.
+     *
+     * @return
+     *          the width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the schematics.
+     *
+     * @return
+     *          the height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Draws the background, the border and the sprites overlapping the specified region.
+     *
+     * @param g
+     *          the {@code SpriteGraphics} to draw on
+     * @param region
+     *          the region to draw
+     */
+    public void render(SpriteGraphics g, Bounds region) {
+        g.save();
+        g.setFont(env.getFont());
+        g.setFill(env.getBackgroundColor());
+        g.fillRect(region.x, region.y, region.w, region.h);
+
+        g.setStroke(env.getForegroundColor());
+        g.setFill(env.getForegroundColor());
+        g.setLineWidth(1);
+        g.strokeRect(0, 0, width, height);
+
+        for (SpriteOwner owner : spriteIndex.query(region)) {
+            sprites.get(owner).paint(g, env);
+        }
+        g.restore();
+    }
+
+    /**
+     * Gets the region the {@code Sprite} of the specified {@link SpriteOwner} is drawn in.
+     *
+     * @param owner
+     *          the {@code SpriteOwner}
+     * @return
+     *          the {@link Bounds} of the {@code Sprite} or {@code null} if they are unknown
+     */
+    public static Bounds getSpriteBounds(SpriteOwner owner) {
+        if (owner instanceof Component) {
+            return ((Component) owner).getBounds();
+        }
+        if (owner instanceof Wire) {
+            return getWireBounds((Wire) owner);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the {@link Bounds} enclosing all {@link Point}s of a {@link Wire}.
+     *
+     * @param wire
+     *          the {@code Wire}
+     * @return
+     *          the {@code Bounds} of the {@code Wire} or {@code null} if it has no points
+     */
+    private static Bounds getWireBounds(Wire wire) {
+        Point[] points = wire.getPoints();
+        if (points.length == 0) {
+            return null;
+        }
+
+        int minX = points[0].x;
+        int minY = points[0].y;
+        int maxX = minX;
+        int maxY = minY;
+        for (Point point : points) {
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+        }
+        return new Bounds(minX, minY, maxX - minX, maxY - minY);
+    }
+}
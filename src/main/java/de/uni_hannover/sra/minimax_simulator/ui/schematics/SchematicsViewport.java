@@ -0,0 +1,222 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics;
+
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteCanvas;
+import javafx.geometry.Bounds;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Shows a {@link SpriteCanvas} in a {@link ScrollPane} with zoom.<br>
+ * <br>
+ * The {@code ScrollPane} scrolls an empty {@link Pane} with the size of the zoomed content. The canvas
+ * is only as large as the visible part of that pane and is moved along while scrolling, so the memory
+ * needed for drawing does not grow with the size of the machine. Scrolling with the shortcut key
+ * pressed zooms around the mouse position.
+ *
+ * @author agent
+ */
+public class SchematicsViewport {
+
+    /** The smallest zoom level. */
+    public static final double MIN_ZOOM = 0.1;
+    /** The largest zoom level. */
+    public static final double MAX_ZOOM = 4.0;
+    /** The factor applied to the zoom level per scroll step. */
+    private static final double ZOOM_STEP = 1.1;
+
+    private final ScrollPane scrollPane;
+    private final Pane content;
+    private SpriteCanvas<?> canvas;
+
+    private double zoom = 1;
+
+    /**
+     * Initializes the {@code SchematicsViewport} and sets it as content of the {@code ScrollPane}.
+     *
+     * @param scrollPane
+     *          the {@code ScrollPane} the canvas will be shown in
+     */
+    public SchematicsViewport(ScrollPane scrollPane) {
+        this.scrollPane = checkNotNull(scrollPane);
+
+        content = new Pane();
+        scrollPane.setContent(content);
+
+        scrollPane.viewportBoundsProperty().addListener((observable, oldValue, newValue) -> update());
+        scrollPane.hvalueProperty().addListener((observable, oldValue, newValue) -> update());
+        scrollPane.vvalueProperty().addListener((observable, oldValue, newValue) -> update());
+        content.widthProperty().addListener((observable, oldValue, newValue) -> update());
+        content.heightProperty().addListener((observable, oldValue, newValue) -> update());
+
+        scrollPane.addEventFilter(ScrollEvent.SCROLL, event -> {
+            if (event.isShortcutDown() && event.getDeltaY() != 0) {
+                double factor = event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP;
+                zoom(zoom * factor, event.getX(), event.getY());
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Sets the {@link SpriteCanvas} to show, replacing the current one.
+     *
+     * @param canvas
+     *          the {@code SpriteCanvas} to show
+     */
+    public void setCanvas(SpriteCanvas<?> canvas) {
+        this.canvas = checkNotNull(canvas);
+        canvas.setManaged(false);
+        content.getChildren().setAll(canvas);
+        update();
+    }
+
+    /**
+     * Gets the current zoom level.
+     *
+     * @return
+     *          the zoom level
+     */
+    public double getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Sets the zoom level keeping the center of the viewport in place.
+     *
+     * @param zoom
+     *          the new zoom level, limited to {@link #MIN_ZOOM} and {@link #MAX_ZOOM}
+     */
+    public void setZoom(double zoom) {
+        Bounds viewport = scrollPane.getViewportBounds();
+        zoom(zoom, viewport.getWidth() / 2, viewport.getHeight() / 2);
+    }
+
+    /**
+     * Sets the zoom level keeping the specified point of the viewport in place.
+     *
+     * @param newZoom
+     *          the new zoom level, limited to {@link #MIN_ZOOM} and {@link #MAX_ZOOM}
+     * @param anchorX
+     *          the x coordinate of the point relative to the viewport
+     * @param anchorY
+     *          the y coordinate of the point relative to the viewport
+     */
+    private void zoom(double newZoom, double anchorX, double anchorY) {
+        newZoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, newZoom));
+        if (canvas == null || newZoom == zoom) {
+            return;
+        }
+        Bounds viewport = scrollPane.getViewportBounds();
+
+        // the content coordinates at the anchor before zooming
+        double contentX = (getScrollX() + anchorX - getOffsetX()) / zoom;
+        double contentY = (getScrollY() + anchorY) / zoom;
+
+        zoom = newZoom;
+        double width = Math.max(viewport.getWidth(), getScaledWidth());
+        double height = Math.max(viewport.getHeight(), getScaledHeight());
+        double offsetX = (width - getScaledWidth()) / 2;
+        content.setMinSize(getScaledWidth(), getScaledHeight());
+        content.setPrefSize(getScaledWidth(), getScaledHeight());
+
+        scrollPane.setHvalue(toScrollValue(contentX * zoom + offsetX - anchorX, width - viewport.getWidth()));
+        scrollPane.setVvalue(toScrollValue(contentY * zoom - anchorY, height - viewport.getHeight()));
+        update();
+    }
+
+    /**
+     * Converts a scroll position to a value of a scroll bar of the {@code ScrollPane}.
+     *
+     * @param position
+     *          the scroll position in pixels
+     * @param range
+     *          the scrollable range in pixels
+     * @return
+     *          the scroll value between {@code 0} and {@code 1}
+     */
+    private static double toScrollValue(double position, double range) {
+        if (range <= 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min(1, position / range));
+    }
+
+    /**
+     * Gets the width of the zoomed content.
+     *
+     * @return
+     *          the zoomed width
+     */
+    private double getScaledWidth() {
+        return canvas.getContentWidth() * zoom;
+    }
+
+    /**
+     * Gets the height of the zoomed content.
+     *
+     * @return
+     *          the zoomed height
+     */
+    private double getScaledHeight() {
+        return canvas.getContentHeight() * zoom;
+    }
+
+    /**
+     * Gets the horizontal offset that centers content narrower than the viewport.
+     *
+     * @return
+     *          the horizontal offset
+     */
+    private double getOffsetX() {
+        return Math.max(0, (content.getWidth() - getScaledWidth()) / 2);
+    }
+
+    /**
+     * Gets the x coordinate of the left edge of the viewport in the scrolled pane.
+     *
+     * @return
+     *          the horizontal scroll position
+     */
+    private double getScrollX() {
+        double range = content.getWidth() - scrollPane.getViewportBounds().getWidth();
+        return Math.max(0, range) * scrollPane.getHvalue();
+    }
+
+    /**
+     * Gets the y coordinate of the upper edge of the viewport in the scrolled pane.
+     *
+     * @return
+     *          the vertical scroll position
+     */
+    private double getScrollY() {
+        double range = content.getHeight() - scrollPane.getViewportBounds().getHeight();
+        return Math.max(0, range) * scrollPane.getVvalue();
+    }
+
+    /**
+     * Updates the size of the scrolled pane after the content size changed and moves the canvas
+     * to the visible part of the pane.
+     */
+    public void update() {
+        if (canvas == null) {
+            return;
+        }
+        content.setMinSize(getScaledWidth(), getScaledHeight());
+        content.setPrefSize(getScaledWidth(), getScaledHeight());
+
+        Bounds viewport = scrollPane.getViewportBounds();
+        double offsetX = getOffsetX();
+        double left = Math.max(getScrollX(), offsetX);
+        double top = getScrollY();
+        double right = Math.min(getScrollX() + viewport.getWidth(), offsetX + getScaledWidth());
+        double bottom = Math.min(top + viewport.getHeight(), getScaledHeight());
+
+        canvas.relocate(left, top);
+        canvas.setWidth(Math.max(0, Math.ceil(right - left)));
+        canvas.setHeight(Math.max(0, Math.ceil(bottom - top)));
+        canvas.setViewport((left - offsetX) / zoom, top / zoom, zoom);
+    }
+}
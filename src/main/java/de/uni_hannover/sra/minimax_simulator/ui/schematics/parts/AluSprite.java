@@ -2,7 +2,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.schematics.parts;
 
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.Alu;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.FontMetrics;
-import javafx.scene.canvas.GraphicsContext;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -43,20 +43,15 @@ public class AluSprite extends CircuitSprite {
     }
 
     @Override
-    public void paint(GraphicsContext gc) {
+    public void paint(SpriteGraphics gc) {
         debugBounds(gc, alu.getBounds());
 
         double xCenter = alu.getBounds().x + alu.getBounds().w / 2.0;
         double yCenter = alu.getBounds().y + alu.getBounds().h / 2.0;
 
-        gc.save();
-        gc.setLineWidth(1);
-        for (int i = 1; i < POINTS.length; i++) {
-            gc.strokeLine(POINTS[i - 1][0] + xCenter, POINTS[i - 1][1] + yCenter, POINTS[i][0] + xCenter, POINTS[i][1] + yCenter);
-        }
-        gc.restore();
+        paintShape(gc, xCenter, yCenter);
 
-        FontMetrics fm = new FontMetrics(gc.getFont());
+        FontMetrics fm = FontMetrics.forFont(gc.getFont());
         double xTextAlu = xCenter - fm.computeStringWidth(NAME) / 2 + 16;
         double yTextAlu = yCenter + fm.getLineHeight() / 4;
 
@@ -77,4 +72,28 @@ public class AluSprite extends CircuitSprite {
         debugPin(gc, alu.getOutZero());
     }
 
+    @Override
+    public void paintSimplified(SpriteGraphics gc) {
+        paintShape(gc, alu.getBounds().x + alu.getBounds().w / 2.0, alu.getBounds().y + alu.getBounds().h / 2.0);
+    }
+
+    /**
+     * Draws the outline of the {@code Alu}.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} the outline will be drawn on
+     * @param xCenter
+     *          the x coordinate of the center of the {@code Alu}
+     * @param yCenter
+     *          the y coordinate of the center of the {@code Alu}
+     */
+    private static void paintShape(SpriteGraphics gc, double xCenter, double yCenter) {
+        gc.save();
+        gc.setLineWidth(1);
+        for (int i = 1; i < POINTS.length; i++) {
+            gc.strokeLine(POINTS[i - 1][0] + xCenter, POINTS[i - 1][1] + yCenter, POINTS[i][0] + xCenter, POINTS[i][1] + yCenter);
+        }
+        gc.restore();
+    }
+
 }
\ No newline at end of file
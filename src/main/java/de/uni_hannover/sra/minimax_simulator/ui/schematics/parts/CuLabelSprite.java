@@ -3,7 +3,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.schematics.parts;
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.Label;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.FontMetrics;
 import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
-import javafx.scene.canvas.GraphicsContext;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
 
@@ -30,13 +30,13 @@ public class CuLabelSprite extends CircuitSprite {
     }
 
     @Override
-    public void paint(GraphicsContext gc) {
+    public void paint(SpriteGraphics gc) {
         Bounds b = label.getBounds();
         debugBounds(gc, b);
 
         String message = label.getMessage();
 
-        FontMetrics fm = new FontMetrics(gc.getFont());
+        FontMetrics fm = FontMetrics.forFont(gc.getFont());
         double textWidth = fm.computeStringWidth(message);
         double textHeight = fm.getLineHeight();
 
@@ -45,6 +45,23 @@ public class CuLabelSprite extends CircuitSprite {
 
         gc.fillText(message, textX, textY);
 
+        paintFrame(gc, b);
+    }
+
+    @Override
+    public void paintSimplified(SpriteGraphics gc) {
+        paintFrame(gc, label.getBounds());
+    }
+
+    /**
+     * Draws the dashed frame around the label.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} the frame will be drawn on
+     * @param b
+     *          the {@code Bounds} of the label
+     */
+    private static void paintFrame(SpriteGraphics gc, Bounds b) {
         // save parameters
         gc.save();
 
@@ -52,9 +69,7 @@ public class CuLabelSprite extends CircuitSprite {
         gc.setLineWidth(1.0f);
         gc.setLineCap(StrokeLineCap.BUTT);
         gc.setLineJoin(StrokeLineJoin.MITER);
-        gc.setMiterLimit(10.0f);
         gc.setLineDashes(10.0f);
-        gc.setLineDashOffset(0.0f);
         gc.strokeRect(b.x + 0.5, b.y + 0.5, b.w, b.h);
 
         // restore old parameters
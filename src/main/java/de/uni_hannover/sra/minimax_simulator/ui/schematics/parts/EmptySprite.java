@@ -2,7 +2,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.schematics.parts;
 
 import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.RenderEnvironment;
 import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.Sprite;
-import javafx.scene.canvas.GraphicsContext;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
 
 /**
  * An empty {@link Sprite}.
@@ -12,7 +12,7 @@ import javafx.scene.canvas.GraphicsContext;
 public class EmptySprite implements Sprite {
 
     @Override
-    public void paint(GraphicsContext gc, RenderEnvironment env) {
+    public void paint(SpriteGraphics gc, RenderEnvironment env) {
         // this is an empty sprite
     }
 }
\ No newline at end of file
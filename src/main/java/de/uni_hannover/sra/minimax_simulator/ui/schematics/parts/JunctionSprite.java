@@ -3,7 +3,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.schematics.parts;
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.Junction;
 import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.RenderEnvironment;
 import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.Sprite;
-import javafx.scene.canvas.GraphicsContext;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -28,7 +28,7 @@ public class JunctionSprite implements Sprite {
     }
 
     @Override
-    public void paint(GraphicsContext gc, RenderEnvironment env) {
+    public void paint(SpriteGraphics gc, RenderEnvironment env) {
         // draw only junction with 0, 2 or more outgoing wires
         if (junction.getDataOuts().size() == 1) {
             return;
@@ -2,7 +2,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.schematics.parts;
 
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.Label;
 import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
-import javafx.scene.canvas.GraphicsContext;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -27,9 +27,14 @@ public class LabelSprite extends CircuitSprite {
     }
 
     @Override
-    public void paint(GraphicsContext gc) {
+    public void paint(SpriteGraphics gc) {
         Bounds b = label.getBounds();
         debugBounds(gc, b);
         gc.fillText(label.getMessage(), b.x, b.y + b.h);
     }
+
+    @Override
+    public void paintSimplified(SpriteGraphics gc) {
+        // the message is not readable at low zoom levels
+    }
 }
\ No newline at end of file
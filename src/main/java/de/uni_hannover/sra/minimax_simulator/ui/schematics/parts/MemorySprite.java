@@ -3,7 +3,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.schematics.parts;
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.Memory;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.FontMetrics;
 import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
-import javafx.scene.canvas.GraphicsContext;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -28,14 +28,14 @@ public class MemorySprite extends CircuitSprite {
     }
 
     @Override
-    public void paint(GraphicsContext gc) {
+    public void paint(SpriteGraphics gc) {
         Bounds b = memory.getBounds();
 
         gc.strokeRect(b.x + 0.5, b.y + 0.5 , b.w, b.h);
 
         String name = "HS";
 
-        FontMetrics fm = new FontMetrics(gc.getFont());
+        FontMetrics fm = FontMetrics.forFont(gc.getFont());
         double textWidth = fm.computeStringWidth(name);
         double textHeight = fm.getLineHeight();
 
@@ -50,4 +50,10 @@ public class MemorySprite extends CircuitSprite {
         debugPin(gc, memory.getCs());
         debugPin(gc, memory.getRw());
     }
+
+    @Override
+    public void paintSimplified(SpriteGraphics gc) {
+        Bounds b = memory.getBounds();
+        gc.strokeRect(b.x + 0.5, b.y + 0.5 , b.w, b.h);
+    }
 }
\ No newline at end of file
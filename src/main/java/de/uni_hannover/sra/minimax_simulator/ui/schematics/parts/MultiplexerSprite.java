@@ -5,7 +5,7 @@ import de.uni_hannover.sra.minimax_simulator.model.machine.part.Multiplexer;
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.Pin;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.FontMetrics;
 import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
-import javafx.scene.canvas.GraphicsContext;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
 import javafx.scene.shape.ArcType;
 
 import java.util.ArrayList;
@@ -36,14 +36,15 @@ public class MultiplexerSprite extends CircuitSprite {
     }
 
     /**
-     * Converts the specified integer to string using a list for caching already done conversions.
+     * Converts the specified integer to string using a list for caching already done conversions.<br>
+     * The cache is shared by all sprites, which may be drawn by several export threads at once.
      *
      * @param i
      *          the integer to convert
      * @return
      *          the integer as string
      */
-    private static String intToStr(int i) {
+    private static synchronized String intToStr(int i) {
         if (ADDRESS_NUMBER_CACHE.size() <= i) {
             for (int c = ADDRESS_NUMBER_CACHE.size(); c <= i; c++) {
                 ADDRESS_NUMBER_CACHE.add(Integer.toString(c));
@@ -53,20 +54,14 @@ public class MultiplexerSprite extends CircuitSprite {
     }
 
     @Override
-    public void paint(GraphicsContext gc) {
+    public void paint(SpriteGraphics gc) {
         Bounds b = mux.getBounds();
         debugBounds(gc, b);
 
-        FontMetrics fm = new FontMetrics(gc.getFont());
+        FontMetrics fm = FontMetrics.forFont(gc.getFont());
         double textHeight = fm.getAscent() - 3;
 
-        // upper / lower arc
-        gc.strokeArc(b.x + 0.5, b.y + 0.5, b.w, b.w, 0, 180, ArcType.OPEN);
-        gc.strokeArc(b.x + 0.5, b.y + b.h - b.w + 0.5, b.w, b.w, 180, 180, ArcType.OPEN);
-
-        // left / right line
-        gc.strokeLine(b.x + 0.5, b.y + b.w / 2 + 0.5, b.x + 0.5, b.y + b.h - b.w / 2 + 0.5);
-        gc.strokeLine(b.x + b.w + 0.5, b.y + b.w / 2 + 0.5, b.x + b.w + 0.5, b.y + b.h - b.w / 2 + 0.5);
+        paintShape(gc, b);
 
         // pin addresses
         int labelX = b.x + b.w / 2;
@@ -93,4 +88,27 @@ public class MultiplexerSprite extends CircuitSprite {
         debugPin(gc, mux.getDataOut());
         debugPin(gc, mux.getSelectPin());
     }
+
+    @Override
+    public void paintSimplified(SpriteGraphics gc) {
+        paintShape(gc, mux.getBounds());
+    }
+
+    /**
+     * Draws the outline of the {@code Multiplexer}.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} the outline will be drawn on
+     * @param b
+     *          the {@code Bounds} of the {@code Multiplexer}
+     */
+    private static void paintShape(SpriteGraphics gc, Bounds b) {
+        // upper / lower arc
+        gc.strokeArc(b.x + 0.5, b.y + 0.5, b.w, b.w, 0, 180, ArcType.OPEN);
+        gc.strokeArc(b.x + 0.5, b.y + b.h - b.w + 0.5, b.w, b.w, 180, 180, ArcType.OPEN);
+
+        // left / right line
+        gc.strokeLine(b.x + 0.5, b.y + b.w / 2 + 0.5, b.x + 0.5, b.y + b.h - b.w / 2 + 0.5);
+        gc.strokeLine(b.x + b.w + 0.5, b.y + b.w / 2 + 0.5, b.x + b.w + 0.5, b.y + b.h - b.w / 2 + 0.5);
+    }
 }
\ No newline at end of file
@@ -3,7 +3,7 @@ package de.uni_hannover.sra.minimax_simulator.ui.schematics.parts;
 import de.uni_hannover.sra.minimax_simulator.model.machine.part.Register;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.FontMetrics;
 import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
-import javafx.scene.canvas.GraphicsContext;
+import de.uni_hannover.sra.minimax_simulator.ui.schematics.render.SpriteGraphics;
 import javafx.scene.paint.Color;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -32,29 +32,46 @@ public class RegisterSprite extends CircuitSprite {
     }
 
     @Override
-    public void paint(GraphicsContext gc) {
+    public void paint(SpriteGraphics gc) {
         final Bounds b = register.getBounds();
         debugBounds(gc, b);
 
         String name = register.getLabel();
-        FontMetrics fm = new FontMetrics(gc.getFont());
+        FontMetrics fm = FontMetrics.forFont(gc.getFont());
         double textWidth = fm.computeStringWidth(name);
         double textHeight = fm.getLineHeight();
 
-        if (register.isExtended()) {
-            gc.setFill(EXTENDED_REGISTER_FX);
-            gc.fillRect(b.x + 0.5, b.y + 0.5, b.w, b.h);
-            gc.setFill(javafx.scene.paint.Color.BLACK);
-        }
+        paintShape(gc, b);
 
         double xCenter = b.x + b.w / 2.0;
         double yCenter = b.y + b.h / 2.0;
 
-        gc.strokeRect(b.x + 0.5, b.y + 0.5, b.w, b.h);
         gc.fillText(name, xCenter - textWidth / 2, yCenter + textHeight / 4 + 1);
 
         debugPin(gc, register.getDataIn());
         debugPin(gc, register.getDataOut());
         debugPin(gc, register.getWriteEnabled());
     }
+
+    @Override
+    public void paintSimplified(SpriteGraphics gc) {
+        paintShape(gc, register.getBounds());
+    }
+
+    /**
+     * Draws the rectangle of the {@code Register}, highlighted if it is an extended register.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} the rectangle will be drawn on
+     * @param b
+     *          the {@code Bounds} of the {@code Register}
+     */
+    private void paintShape(SpriteGraphics gc, Bounds b) {
+        if (register.isExtended()) {
+            gc.setFill(EXTENDED_REGISTER_FX);
+            gc.fillRect(b.x + 0.5, b.y + 0.5, b.w, b.h);
+            gc.setFill(javafx.scene.paint.Color.BLACK);
+        }
+        gc.strokeRect(b.x + 0.5, b.y + 0.5, b.w, b.h);
+    }
 }
\ No newline at end of file
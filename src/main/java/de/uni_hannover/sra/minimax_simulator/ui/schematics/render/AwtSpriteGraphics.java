@@ -0,0 +1,309 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.text.Font;
+
+import java.awt.BasicStroke;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link SpriteGraphics} drawing on a {@link Graphics2D}, e.g. of a {@link java.awt.image.BufferedImage}.<br>
+ * <br>
+ * AWT works without a display, so this target can be used for headless image export.
+ * The JavaFX colors and fonts of the sprites are converted to their AWT counterparts.
+ *
+ * @author agent
+ */
+public class AwtSpriteGraphics implements SpriteGraphics {
+
+    /**
+     * The state saved by {@link #save()}.
+     */
+    private static final class State {
+        private AffineTransform transform;
+        private Font font;
+        private java.awt.Font awtFont;
+        private java.awt.Color fill = java.awt.Color.BLACK;
+        private java.awt.Color stroke = java.awt.Color.BLACK;
+        private float lineWidth = 1;
+        private int cap = BasicStroke.CAP_SQUARE;
+        private int join = BasicStroke.JOIN_MITER;
+        private float[] dashes;
+
+        /**
+         * Creates a copy of the state.
+         *
+         * @return
+         *          the copy
+         */
+        private State copy() {
+            State copy = new State();
+            copy.transform = new AffineTransform(transform);
+            copy.font = font;
+            copy.awtFont = awtFont;
+            copy.fill = fill;
+            copy.stroke = stroke;
+            copy.lineWidth = lineWidth;
+            copy.cap = cap;
+            copy.join = join;
+            copy.dashes = dashes;
+            return copy;
+        }
+    }
+
+    private final Graphics2D g;
+    private final Deque<State> stack;
+    private State state;
+
+    /**
+     * Constructs a new {@code AwtSpriteGraphics} drawing on the specified {@code Graphics2D}.
+     *
+     * @param g
+     *          the {@code Graphics2D} to draw on
+     */
+    public AwtSpriteGraphics(Graphics2D g) {
+        this.g = checkNotNull(g);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+
+        stack = new ArrayDeque<>();
+        state = new State();
+        state.transform = g.getTransform();
+    }
+
+    /**
+     * Converts a JavaFX {@link Color} to an AWT color.
+     *
+     * @param color
+     *          the JavaFX {@code Color}
+     * @return
+     *          the AWT color
+     */
+    private static java.awt.Color toAwt(Color color) {
+        return new java.awt.Color((float) color.getRed(), (float) color.getGreen(), (float) color.getBlue(),
+                (float) color.getOpacity());
+    }
+
+    /**
+     * Converts a JavaFX {@link Font} to an AWT font of the same family and size.
+     *
+     * @param font
+     *          the JavaFX {@code Font}
+     * @return
+     *          the AWT font
+     */
+    private static java.awt.Font toAwt(Font font) {
+        String style = font.getStyle().toLowerCase();
+        int awtStyle = java.awt.Font.PLAIN;
+        if (style.contains("bold")) {
+            awtStyle |= java.awt.Font.BOLD;
+        }
+        if (style.contains("italic")) {
+            awtStyle |= java.awt.Font.ITALIC;
+        }
+        return new java.awt.Font(font.getFamily(), awtStyle, 1).deriveFont((float) font.getSize());
+    }
+
+    /**
+     * Applies the current transformation and stroke attributes to the {@code Graphics2D}.
+     */
+    private void applyStroke() {
+        g.setTransform(state.transform);
+        g.setColor(state.stroke);
+        g.setStroke(new BasicStroke(state.lineWidth, state.cap, state.join, 10f, state.dashes, 0f));
+    }
+
+    /**
+     * Applies the current transformation and fill color to the {@code Graphics2D}.
+     */
+    private void applyFill() {
+        g.setTransform(state.transform);
+        g.setColor(state.fill);
+    }
+
+    @Override
+    public void save() {
+        stack.push(state);
+        state = state.copy();
+    }
+
+    @Override
+    public void restore() {
+        if (!stack.isEmpty()) {
+            state = stack.pop();
+        }
+    }
+
+    @Override
+    public void translate(double x, double y) {
+        state.transform.translate(x, y);
+    }
+
+    @Override
+    public void scale(double x, double y) {
+        state.transform.scale(x, y);
+    }
+
+    @Override
+    public void rotate(double degrees) {
+        state.transform.rotate(Math.toRadians(degrees));
+    }
+
+    @Override
+    public Font getFont() {
+        return state.font;
+    }
+
+    @Override
+    public void setFont(Font font) {
+        state.font = font;
+        state.awtFont = font == null ? null : toAwt(font);
+    }
+
+    @Override
+    public void setFill(Color color) {
+        state.fill = toAwt(color);
+    }
+
+    @Override
+    public void setStroke(Color color) {
+        state.stroke = toAwt(color);
+    }
+
+    @Override
+    public double getLineWidth() {
+        return state.lineWidth;
+    }
+
+    @Override
+    public void setLineWidth(double width) {
+        state.lineWidth = (float) width;
+    }
+
+    @Override
+    public void setLineCap(StrokeLineCap cap) {
+        switch (cap) {
+            case BUTT:
+                state.cap = BasicStroke.CAP_BUTT;
+                break;
+            case ROUND:
+                state.cap = BasicStroke.CAP_ROUND;
+                break;
+            default:
+                state.cap = BasicStroke.CAP_SQUARE;
+        }
+    }
+
+    @Override
+    public void setLineJoin(StrokeLineJoin join) {
+        switch (join) {
+            case BEVEL:
+                state.join = BasicStroke.JOIN_BEVEL;
+                break;
+            case ROUND:
+                state.join = BasicStroke.JOIN_ROUND;
+                break;
+            default:
+                state.join = BasicStroke.JOIN_MITER;
+        }
+    }
+
+    @Override
+    public void setLineDashes(double... dashes) {
+        if (dashes == null || dashes.length == 0) {
+            state.dashes = null;
+            return;
+        }
+        state.dashes = new float[dashes.length];
+        for (int i = 0; i < dashes.length; i++) {
+            state.dashes[i] = (float) dashes[i];
+        }
+    }
+
+    @Override
+    public void strokeLine(double x1, double y1, double x2, double y2) {
+        applyStroke();
+        g.draw(new Line2D.Double(x1, y1, x2, y2));
+    }
+
+    @Override
+    public void strokeRect(double x, double y, double w, double h) {
+        applyStroke();
+        g.draw(new Rectangle2D.Double(x, y, w, h));
+    }
+
+    @Override
+    public void fillRect(double x, double y, double w, double h) {
+        applyFill();
+        g.fill(new Rectangle2D.Double(x, y, w, h));
+    }
+
+    @Override
+    public void strokeOval(double x, double y, double w, double h) {
+        applyStroke();
+        g.draw(new Ellipse2D.Double(x, y, w, h));
+    }
+
+    @Override
+    public void fillOval(double x, double y, double w, double h) {
+        applyFill();
+        g.fill(new Ellipse2D.Double(x, y, w, h));
+    }
+
+    @Override
+    public void strokeArc(double x, double y, double w, double h, double startAngle, double arcExtent, ArcType closure) {
+        int type;
+        switch (closure) {
+            case CHORD:
+                type = Arc2D.CHORD;
+                break;
+            case ROUND:
+                type = Arc2D.PIE;
+                break;
+            default:
+                type = Arc2D.OPEN;
+        }
+        applyStroke();
+        g.draw(new Arc2D.Double(x, y, w, h, startAngle, arcExtent, type));
+    }
+
+    @Override
+    public void fillPolygon(double[] xPoints, double[] yPoints, int nPoints) {
+        if (nPoints < 1) {
+            return;
+        }
+        Path2D.Double polygon = new Path2D.Double();
+        polygon.moveTo(xPoints[0], yPoints[0]);
+        for (int i = 1; i < nPoints; i++) {
+            polygon.lineTo(xPoints[i], yPoints[i]);
+        }
+        polygon.closePath();
+
+        applyFill();
+        g.fill(polygon);
+    }
+
+    @Override
+    public void fillText(String text, double x, double y) {
+        applyFill();
+        if (state.awtFont != null) {
+            g.setFont(state.awtFont);
+        }
+        g.drawString(text, (float) x, (float) y);
+    }
+}
@@ -20,7 +20,7 @@ public class DummyRenderEnvironment implements RenderEnvironment {
      */
     public DummyRenderEnvironment() {
         font = new Font("SansSerif", 17);
-        fontMetrics = new FontMetrics(font);
+        fontMetrics = FontMetrics.forFont(font);
     }
 
     /**
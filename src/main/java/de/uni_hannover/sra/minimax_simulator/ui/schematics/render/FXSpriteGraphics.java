@@ -0,0 +1,140 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.text.Font;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link SpriteGraphics} drawing on the {@link GraphicsContext} of a {@link javafx.scene.canvas.Canvas}.
+ *
+ * @author agent
+ */
+public class FXSpriteGraphics implements SpriteGraphics {
+
+    private final GraphicsContext gc;
+
+    /**
+     * Constructs a new {@code FXSpriteGraphics} drawing on the specified {@code GraphicsContext}.
+     *
+     * @param gc
+     *          the {@code GraphicsContext} to draw on
+     */
+    public FXSpriteGraphics(GraphicsContext gc) {
+        this.gc = checkNotNull(gc);
+    }
+
+    @Override
+    public void save() {
+        gc.save();
+    }
+
+    @Override
+    public void restore() {
+        gc.restore();
+    }
+
+    @Override
+    public void translate(double x, double y) {
+        gc.translate(x, y);
+    }
+
+    @Override
+    public void scale(double x, double y) {
+        gc.scale(x, y);
+    }
+
+    @Override
+    public void rotate(double degrees) {
+        gc.rotate(degrees);
+    }
+
+    @Override
+    public Font getFont() {
+        return gc.getFont();
+    }
+
+    @Override
+    public void setFont(Font font) {
+        gc.setFont(font);
+    }
+
+    @Override
+    public void setFill(Color color) {
+        gc.setFill(color);
+    }
+
+    @Override
+    public void setStroke(Color color) {
+        gc.setStroke(color);
+    }
+
+    @Override
+    public double getLineWidth() {
+        return gc.getLineWidth();
+    }
+
+    @Override
+    public void setLineWidth(double width) {
+        gc.setLineWidth(width);
+    }
+
+    @Override
+    public void setLineCap(StrokeLineCap cap) {
+        gc.setLineCap(cap);
+    }
+
+    @Override
+    public void setLineJoin(StrokeLineJoin join) {
+        gc.setLineJoin(join);
+    }
+
+    @Override
+    public void setLineDashes(double... dashes) {
+        gc.setLineDashes(dashes);
+    }
+
+    @Override
+    public void strokeLine(double x1, double y1, double x2, double y2) {
+        gc.strokeLine(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void strokeRect(double x, double y, double w, double h) {
+        gc.strokeRect(x, y, w, h);
+    }
+
+    @Override
+    public void fillRect(double x, double y, double w, double h) {
+        gc.fillRect(x, y, w, h);
+    }
+
+    @Override
+    public void strokeOval(double x, double y, double w, double h) {
+        gc.strokeOval(x, y, w, h);
+    }
+
+    @Override
+    public void fillOval(double x, double y, double w, double h) {
+        gc.fillOval(x, y, w, h);
+    }
+
+    @Override
+    public void strokeArc(double x, double y, double w, double h, double startAngle, double arcExtent, ArcType closure) {
+        gc.strokeArc(x, y, w, h, startAngle, arcExtent, closure);
+    }
+
+    @Override
+    public void fillPolygon(double[] xPoints, double[] yPoints, int nPoints) {
+        gc.fillPolygon(xPoints, yPoints, nPoints);
+    }
+
+    @Override
+    public void fillText(String text, double x, double y) {
+        gc.fillText(text, x, y);
+    }
+}
@@ -1,7 +1,5 @@
 package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
 
-import javafx.scene.canvas.GraphicsContext;
-
 /**
  * A {@code Sprite} is a simple graphical representation of a machine's component.
  *
@@ -11,13 +9,26 @@ import javafx.scene.canvas.GraphicsContext;
 public interface Sprite {
 
     /**
-     * Draws the {@code Sprite} on a {@link GraphicsContext} of a {@link javafx.scene.canvas.Canvas}
-     * using a {@link RenderEnvironment}.
+     * Draws the {@code Sprite} on a {@link SpriteGraphics} using a {@link RenderEnvironment}.
+     *
+     * @param gc
+     *          the {@code SpriteGraphics} the {@code Sprite} will be drawn on
+     * @param env
+     *          the {@code RenderEnvironment} used for rendering
+     */
+    public void paint(SpriteGraphics gc, RenderEnvironment env);
+
+    /**
+     * Draws the {@code Sprite} without details like text, used at low zoom levels where the details
+     * would not be readable anyway.<br>
+     * The default implementation draws the complete {@code Sprite}.
      *
      * @param gc
-     *          the {@code GraphicsContext} the {@code Sprite} will be drawn on
+     *          the {@code SpriteGraphics} the {@code Sprite} will be drawn on
      * @param env
      *          the {@code RenderEnvironment} used for rendering
      */
-    public void paint(GraphicsContext gc, RenderEnvironment env);
+    public default void paintSimplified(SpriteGraphics gc, RenderEnvironment env) {
+        paint(gc, env);
+    }
 }
\ No newline at end of file
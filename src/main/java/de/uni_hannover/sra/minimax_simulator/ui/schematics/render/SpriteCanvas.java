@@ -1,18 +1,39 @@
 package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
 
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.FontMetrics;
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
 import javafx.scene.text.Font;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 /**
- * A {@link Canvas} that holds and draws {@link Sprite}s.
+ * A {@link Canvas} that holds and draws {@link Sprite}s.<br>
+ * <br>
+ * Changing the sprites does not draw them right away. The changed regions are collected and
+ * drawn together once before the next frame, so adding many sprites draws the canvas only once.
+ * Only the sprites overlapping the changed region are drawn again.<br>
+ * <br>
+ * The sprites are static: they are drawn on an offscreen layer that is cached as {@link WritableImage}.
+ * Overlay sprites, e.g. for live values, are drawn on top of the cached image, so changing them
+ * does not draw the static sprites again.<br>
+ * <br>
+ * The {@code SpriteCanvas} only needs to be as large as the visible part of its content: the
+ * {@link #setViewport(double, double, double) viewport} defines which part of the content is shown at
+ * which zoom level. The sprites are kept in a {@link SpriteIndex}, so only the sprites inside the viewport
+ * are drawn. Below a zoom level of {@link #SIMPLIFIED_ZOOM} the sprites are drawn
+ * {@link Sprite#paintSimplified(GraphicsContext, RenderEnvironment) simplified}.
  *
  * @param <T>
  *          the sprite owner class
@@ -22,7 +43,37 @@ import static com.google.common.base.Preconditions.checkState;
  */
 public class SpriteCanvas<T> extends Canvas {
 
+    /** The margin around the bounds of a sprite for arrow heads and stroke widths. */
+    public static final int SPRITE_MARGIN = 8;
+    /** The width and height of the cells of the {@link SpriteIndex}. */
+    public static final int INDEX_CELL_SIZE = 128;
+
+    /** The zoom level below which the sprites are drawn without details. */
+    public static final double SIMPLIFIED_ZOOM = 0.5;
+
     private final Map<T, Sprite> sprites;
+    private final SpriteIndex<T> spriteIndex;
+    private final Map<Object, Sprite> overlays;
+
+    /** The offscreen layer the static sprites are drawn on. */
+    private final Canvas staticLayer;
+    /** The cached content of the static layer. */
+    private WritableImage staticImage;
+    /** The reused image the changed region of the static layer is read back into. */
+    private WritableImage regionImage;
+    private final SnapshotParameters regionParameters;
+
+    /** The region of the static layer to draw again or {@code null} if nothing changed. */
+    private Bounds dirtyRegion;
+    private boolean overlaysChanged;
+    private boolean renderScheduled;
+
+    private int contentWidth;
+    private int contentHeight;
+
+    private double viewX;
+    private double viewY;
+    private double zoom = 1;
 
     private RenderEnvironment env;
     private SpriteFactory spritefactory;
@@ -34,9 +85,157 @@ public class SpriteCanvas<T> extends Canvas {
      */
     public SpriteCanvas() {
         sprites = new HashMap<>();
+        spriteIndex = new SpriteIndex<>(INDEX_CELL_SIZE);
+        overlays = new LinkedHashMap<>();
+        staticLayer = new Canvas();
+        regionParameters = new SnapshotParameters();
         gc = this.getGraphicsContext2D();
     }
 
+    /**
+     * Gets the region a {@code Sprite} of the specified owner is drawn in.<br>
+     * <br>
+     * The default implementation returns {@code null}, so every change draws the whole canvas.
+     *
+     * @param owner
+     *          the owner of the {@code Sprite}
+     * @return
+     *          the {@link Bounds} of the {@code Sprite} or {@code null} if they are unknown
+     */
+    protected Bounds getSpriteBounds(T owner) {
+        return null;
+    }
+
+    /**
+     * Gets the region of the content that is visible on the {@code SpriteCanvas}.
+     *
+     * @return
+     *          the {@link Bounds} of the viewport in content coordinates
+     */
+    public Bounds getViewportBounds() {
+        int x = (int) Math.floor(viewX);
+        int y = (int) Math.floor(viewY);
+        return new Bounds(x, y, (int) Math.ceil(getWidth() / zoom) + 1, (int) Math.ceil(getHeight() / zoom) + 1);
+    }
+
+    /**
+     * Sets the visible part of the content.<br>
+     * <br>
+     * The point ({@code x}, {@code y}) of the content is drawn at the upper left corner of the
+     * {@code SpriteCanvas} and the content is scaled by {@code zoom}.
+     *
+     * @param x
+     *          the x coordinate of the content at the left edge
+     * @param y
+     *          the y coordinate of the content at the upper edge
+     * @param zoom
+     *          the scale of the content
+     */
+    public void setViewport(double x, double y, double zoom) {
+        checkArgument(zoom > 0, "Invalid zoom: " + zoom);
+        viewX = x;
+        viewY = y;
+        this.zoom = zoom;
+        repaint();
+    }
+
+    /**
+     * Gets the current zoom level.
+     *
+     * @return
+     *          the scale of the content
+     */
+    public double getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Gets the current region of the {@code Sprite} of the specified owner including the margin.
+     *
+     * @param owner
+     *          the owner of the {@code Sprite}
+     * @return
+     *          the {@link Bounds} of the {@code Sprite} or {@code null} if they are unknown
+     */
+    private Bounds computeSpriteBounds(T owner) {
+        Bounds bounds = getSpriteBounds(owner);
+        return bounds == null ? null : bounds.grow(SPRITE_MARGIN);
+    }
+
+    /**
+     * Recomputes the regions of all {@code Sprite}s, e.g. after a new layout, and draws the
+     * {@code SpriteCanvas} again.
+     */
+    protected void updateSpriteBounds() {
+        for (T owner : sprites.keySet()) {
+            spriteIndex.put(owner, computeSpriteBounds(owner));
+        }
+        repaint();
+    }
+
+    /**
+     * Marks the whole visible region to be drawn again before the next frame.
+     */
+    public void repaint() {
+        repaint(getViewportBounds());
+    }
+
+    /**
+     * Marks the specified region to be drawn again before the next frame.
+     * Changes outside of the viewport are ignored because they are drawn when they become visible.
+     *
+     * @param region
+     *          the region to draw again in content coordinates, {@code null} for the whole viewport
+     */
+    public void repaint(Bounds region) {
+        Bounds viewport = getViewportBounds();
+        if (region == null) {
+            region = viewport;
+        }
+        else if (!region.intersects(viewport)) {
+            return;
+        }
+        dirtyRegion = dirtyRegion == null ? region : dirtyRegion.union(region);
+        scheduleRender();
+    }
+
+    /**
+     * Marks the overlay sprites to be drawn again before the next frame.
+     */
+    public void repaintOverlays() {
+        overlaysChanged = true;
+        scheduleRender();
+    }
+
+    /**
+     * Schedules a render before the next frame unless there is already one scheduled.
+     */
+    private void scheduleRender() {
+        if (!renderScheduled) {
+            renderScheduled = true;
+            Platform.runLater(() -> {
+                renderScheduled = false;
+                render();
+            });
+        }
+    }
+
+    /**
+     * Draws the regions marked by {@link #repaint(Bounds)} right away, e.g. before taking a snapshot.
+     */
+    public void render() {
+        if (dirtyRegion == null && !overlaysChanged) {
+            return;
+        }
+        if (dirtyRegion != null) {
+            Bounds region = dirtyRegion;
+            dirtyRegion = null;
+            draw(region);
+        }
+        overlaysChanged = false;
+        compose();
+    }
+
     /**
      * Draws all {@code Sprite}s on a {@code Canvas} with a black border.<br>
      * The background color is defined by {@link RenderEnvironment#getBackgroundColor()} and the
@@ -46,31 +245,146 @@ public class SpriteCanvas<T> extends Canvas {
      *          thrown if the {@code RenderEnvironment} was not set yet
      */
     protected void draw() {
+        dirtyRegion = getViewportBounds();
+        render();
+    }
+
+    /**
+     * Draws the static {@code Sprite}s overlapping the specified region on the static layer,
+     * clipped to that region, and updates the cached image of the layer.<br>
+     * The layer only holds the viewport, so its size does not depend on the size of the content.
+     * Only the pixels of the region are read back from the layer into the cached image.
+     *
+     * @param region
+     *          the region to draw
+     * @throws IllegalStateException
+     *          thrown if the {@code RenderEnvironment} was not set yet
+     */
+    private void draw(Bounds region) {
         if (env == null) {
             throw new IllegalStateException("Cannot render SpriteCanvas without RenderEnvironment set");
         }
+        boolean reuseImage = staticImage != null && staticImage.getWidth() == Math.ceil(getWidth())
+                && staticImage.getHeight() == Math.ceil(getHeight());
+        if (staticLayer.getWidth() != getWidth() || staticLayer.getHeight() != getHeight()) {
+            // a resized layer is drawn completely
+            staticLayer.setWidth(getWidth());
+            staticLayer.setHeight(getHeight());
+            region = getViewportBounds();
+        }
+
+        GraphicsContext gc = staticLayer.getGraphicsContext2D();
+        gc.save();
+        applyViewport(gc);
+        gc.beginPath();
+        gc.rect(region.x, region.y, region.w, region.h);
+        gc.clip();
+
         gc.setFont(env.getFont());
-        gc.clearRect(0, 0, getWidth(), getHeight());
+        gc.clearRect(region.x, region.y, region.w, region.h);
 
         gc.setFill(env.getBackgroundColor());
-        gc.fillRect(0, 0, getWidth(), getHeight());
+        gc.fillRect(region.x, region.y, region.w, region.h);
 
-        drawBorder();
+        drawBorder(gc);
 
         gc.setFill(env.getForegroundColor());
         gc.setStroke(env.getForegroundColor());
 
-        for (Sprite sprite : sprites.values()) {
-            sprite.paint(gc, env);
+        SpriteGraphics graphics = new FXSpriteGraphics(gc);
+        boolean simplified = zoom < SIMPLIFIED_ZOOM;
+        for (T owner : spriteIndex.query(region)) {
+            Sprite sprite = sprites.get(owner);
+            if (simplified) {
+                sprite.paintSimplified(graphics, env);
+            }
+            else {
+                sprite.paint(graphics, env);
+            }
+        }
+        gc.restore();
+
+        if (!reuseImage) {
+            staticImage = staticLayer.snapshot(null, null);
+            return;
+        }
+        updateStaticImage(region);
+    }
+
+    /**
+     * Copies the pixels of the specified region of the static layer into the cached image.
+     *
+     * @param region
+     *          the region in content coordinates
+     */
+    private void updateStaticImage(Bounds region) {
+        int width = (int) staticImage.getWidth();
+        int height = (int) staticImage.getHeight();
+        int minX = Math.max(0, (int) Math.floor((region.x - viewX) * zoom));
+        int minY = Math.max(0, (int) Math.floor((region.y - viewY) * zoom));
+        int maxX = Math.min(width, (int) Math.ceil((region.x + region.w - viewX) * zoom));
+        int maxY = Math.min(height, (int) Math.ceil((region.y + region.h - viewY) * zoom));
+        if (minX >= maxX || minY >= maxY) {
+            return;
+        }
+
+        int w = maxX - minX;
+        int h = maxY - minY;
+        if (regionImage == null || regionImage.getWidth() < w || regionImage.getHeight() < h) {
+            // the size of a given image determines the rendered area, so it must hold the whole region
+            int imageWidth = regionImage == null ? w : Math.max(w, (int) regionImage.getWidth());
+            int imageHeight = regionImage == null ? h : Math.max(h, (int) regionImage.getHeight());
+            regionImage = new WritableImage(imageWidth, imageHeight);
+        }
+        regionParameters.setViewport(new Rectangle2D(minX, minY, w, h));
+        regionImage = staticLayer.snapshot(regionParameters, regionImage);
+        staticImage.getPixelWriter().setPixels(minX, minY, w, h, regionImage.getPixelReader(), 0, 0);
+    }
+
+    /**
+     * Draws the cached static layer and the overlay {@code Sprite}s on the {@code SpriteCanvas}.
+     */
+    private void compose() {
+        gc.clearRect(0, 0, getWidth(), getHeight());
+        if (staticImage != null) {
+            gc.drawImage(staticImage, 0, 0);
+        }
+        if (overlays.isEmpty()) {
+            return;
         }
+
+        gc.save();
+        applyViewport(gc);
+        gc.setFont(env.getFont());
+        gc.setFill(env.getForegroundColor());
+        gc.setStroke(env.getForegroundColor());
+        SpriteGraphics graphics = new FXSpriteGraphics(gc);
+        for (Sprite overlay : overlays.values()) {
+            overlay.paint(graphics, env);
+        }
+        gc.restore();
     }
 
     /**
-     * Draws a thin border around the {@code SpriteCanvas}.
+     * Transforms the {@code GraphicsContext} from content coordinates to the coordinates of the viewport.
+     *
+     * @param gc
+     *          the {@code GraphicsContext} to transform
      */
-    private void drawBorder() {
-        double maxY = getHeight();
-        double maxX = getWidth();
+    private void applyViewport(GraphicsContext gc) {
+        gc.scale(zoom, zoom);
+        gc.translate(-viewX, -viewY);
+    }
+
+    /**
+     * Draws a thin border around the content.
+     *
+     * @param gc
+     *          the {@code GraphicsContext} to draw on
+     */
+    private void drawBorder(GraphicsContext gc) {
+        double maxY = contentHeight;
+        double maxX = contentWidth;
 
         gc.save();
         gc.setLineWidth(1);
@@ -99,8 +413,17 @@ public class SpriteCanvas<T> extends Canvas {
         checkNotNull(owner, "Sprite owner must not be null");
         checkNotNull(sprite, "Sprite must not be null");
 
-        sprites.put(owner, sprite);
-        draw();
+        boolean replaced = sprites.put(owner, sprite) != null;
+
+        // the old and the new region of the sprite have to be drawn again
+        Bounds bounds = computeSpriteBounds(owner);
+        Bounds oldBounds = spriteIndex.put(owner, bounds);
+        if (bounds == null || replaced && oldBounds == null) {
+            repaint();
+        }
+        else {
+            repaint(oldBounds == null ? bounds : bounds.union(oldBounds));
+        }
     }
 
     /**
@@ -124,8 +447,38 @@ public class SpriteCanvas<T> extends Canvas {
      *          the {@code SpriteOwner} for which all {@code Sprite}s will be removed
      */
     public void removeSprite(T owner) {
-        if (sprites.remove(owner) != null)
-            draw();
+        if (sprites.remove(owner) != null) {
+            repaint(spriteIndex.remove(owner));
+        }
+    }
+
+    /**
+     * Adds an overlay {@code Sprite} that is drawn on top of the static sprites, replacing
+     * the overlay with the same key.
+     *
+     * @param key
+     *          the key of the overlay
+     * @param sprite
+     *          the {@code Sprite} to draw as overlay
+     */
+    public void setOverlay(Object key, Sprite sprite) {
+        checkNotNull(key, "Overlay key must not be null");
+        checkNotNull(sprite, "Sprite must not be null");
+
+        overlays.put(key, sprite);
+        repaintOverlays();
+    }
+
+    /**
+     * Removes the overlay {@code Sprite} with the specified key.
+     *
+     * @param key
+     *          the key of the overlay to remove
+     */
+    public void removeOverlay(Object key) {
+        if (overlays.remove(key) != null) {
+            repaintOverlays();
+        }
     }
 
     /**
@@ -177,7 +530,41 @@ public class SpriteCanvas<T> extends Canvas {
      *          the {@code FontMetrics} of the {@code Font}
      */
     public FontMetrics getFontMetrics(Font font) {
-        return new FontMetrics(font);
+        return FontMetrics.forFont(font);
+    }
+
+    /**
+     * Gets the width of the content.
+     *
+     * @return
+     *          the width of the content
+     */
+    public int getContentWidth() {
+        return contentWidth;
+    }
+
+    /**
+     * Gets the height of the content.
+     *
+     * @return
+     *          the height of the content
+     */
+    public int getContentHeight() {
+        return contentHeight;
+    }
+
+    /**
+     * Sets the size of the content, i.e. the area enclosing all {@code Sprite}s.
+     *
+     * @param width
+     *          the new width
+     * @param height
+     *          the new height
+     */
+    public void setContentSize(int width, int height) {
+        contentWidth = width;
+        contentHeight = height;
+        repaint();
     }
 
     /**
@@ -0,0 +1,243 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.text.Font;
+
+/**
+ * The drawing target of a {@link Sprite}.<br>
+ * <br>
+ * The methods behave like the methods of the same name of {@link javafx.scene.canvas.GraphicsContext},
+ * so a {@code Sprite} can be drawn on a {@link javafx.scene.canvas.Canvas} as well as on targets
+ * that do not need a JavaFX stage, e.g. an image or an SVG document.
+ *
+ * @author agent
+ */
+public interface SpriteGraphics {
+
+    /**
+     * Saves the current state, i.e. transformation, colors, stroke attributes and font, on a stack.
+     */
+    public void save();
+
+    /**
+     * Restores the state saved by the last call of {@link #save()}.
+     */
+    public void restore();
+
+    /**
+     * Appends a translation to the current transformation.
+     *
+     * @param x
+     *          the translation along the x axis
+     * @param y
+     *          the translation along the y axis
+     */
+    public void translate(double x, double y);
+
+    /**
+     * Appends a scale to the current transformation.
+     *
+     * @param x
+     *          the scale along the x axis
+     * @param y
+     *          the scale along the y axis
+     */
+    public void scale(double x, double y);
+
+    /**
+     * Appends a clockwise rotation to the current transformation.
+     *
+     * @param degrees
+     *          the angle of the rotation in degrees
+     */
+    public void rotate(double degrees);
+
+    /**
+     * Gets the current {@link Font}.
+     *
+     * @return
+     *          the current {@code Font}
+     */
+    public Font getFont();
+
+    /**
+     * Sets the {@link Font} used for text.
+     *
+     * @param font
+     *          the {@code Font} to use
+     */
+    public void setFont(Font font);
+
+    /**
+     * Sets the {@link Color} used for filling shapes and text.
+     *
+     * @param color
+     *          the fill {@code Color}
+     */
+    public void setFill(Color color);
+
+    /**
+     * Sets the {@link Color} used for stroking shapes.
+     *
+     * @param color
+     *          the stroke {@code Color}
+     */
+    public void setStroke(Color color);
+
+    /**
+     * Gets the current line width.
+     *
+     * @return
+     *          the line width
+     */
+    public double getLineWidth();
+
+    /**
+     * Sets the line width.
+     *
+     * @param width
+     *          the line width
+     */
+    public void setLineWidth(double width);
+
+    /**
+     * Sets the decoration at the ends of lines.
+     *
+     * @param cap
+     *          the line cap
+     */
+    public void setLineCap(StrokeLineCap cap);
+
+    /**
+     * Sets the decoration where lines meet.
+     *
+     * @param join
+     *          the line join
+     */
+    public void setLineJoin(StrokeLineJoin join);
+
+    /**
+     * Sets the dash pattern of lines.
+     *
+     * @param dashes
+     *          the lengths of the dashes and gaps, none for solid lines
+     */
+    public void setLineDashes(double... dashes);
+
+    /**
+     * Strokes a line.
+     *
+     * @param x1
+     *          the x coordinate of the start point
+     * @param y1
+     *          the y coordinate of the start point
+     * @param x2
+     *          the x coordinate of the end point
+     * @param y2
+     *          the y coordinate of the end point
+     */
+    public void strokeLine(double x1, double y1, double x2, double y2);
+
+    /**
+     * Strokes a rectangle.
+     *
+     * @param x
+     *          the x coordinate of the upper left corner
+     * @param y
+     *          the y coordinate of the upper left corner
+     * @param w
+     *          the width
+     * @param h
+     *          the height
+     */
+    public void strokeRect(double x, double y, double w, double h);
+
+    /**
+     * Fills a rectangle.
+     *
+     * @param x
+     *          the x coordinate of the upper left corner
+     * @param y
+     *          the y coordinate of the upper left corner
+     * @param w
+     *          the width
+     * @param h
+     *          the height
+     */
+    public void fillRect(double x, double y, double w, double h);
+
+    /**
+     * Strokes an oval.
+     *
+     * @param x
+     *          the x coordinate of the upper left corner of the bounding box
+     * @param y
+     *          the y coordinate of the upper left corner of the bounding box
+     * @param w
+     *          the width
+     * @param h
+     *          the height
+     */
+    public void strokeOval(double x, double y, double w, double h);
+
+    /**
+     * Fills an oval.
+     *
+     * @param x
+     *          the x coordinate of the upper left corner of the bounding box
+     * @param y
+     *          the y coordinate of the upper left corner of the bounding box
+     * @param w
+     *          the width
+     * @param h
+     *          the height
+     */
+    public void fillOval(double x, double y, double w, double h);
+
+    /**
+     * Strokes an arc of an oval.
+     *
+     * @param x
+     *          the x coordinate of the upper left corner of the bounding box of the oval
+     * @param y
+     *          the y coordinate of the upper left corner of the bounding box of the oval
+     * @param w
+     *          the width of the oval
+     * @param h
+     *          the height of the oval
+     * @param startAngle
+     *          the start angle in degrees, counter-clockwise from three o'clock
+     * @param arcExtent
+     *          the counter-clockwise extent in degrees
+     * @param closure
+     *          the closure of the arc
+     */
+    public void strokeArc(double x, double y, double w, double h, double startAngle, double arcExtent, ArcType closure);
+
+    /**
+     * Fills a polygon.
+     *
+     * @param xPoints
+     *          the x coordinates of the points
+     * @param yPoints
+     *          the y coordinates of the points
+     * @param nPoints
+     *          the number of points
+     */
+    public void fillPolygon(double[] xPoints, double[] yPoints, int nPoints);
+
+    /**
+     * Fills a text with its baseline starting at the specified point.
+     *
+     * @param text
+     *          the text
+     * @param x
+     *          the x coordinate of the start of the baseline
+     * @param y
+     *          the y coordinate of the baseline
+     */
+    public void fillText(String text, double x, double y);
+}
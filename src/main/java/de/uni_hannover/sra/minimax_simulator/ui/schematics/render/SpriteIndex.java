@@ -0,0 +1,197 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
+
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A spatial index of the {@link Bounds} of {@link Sprite} owners.<br>
+ * <br>
+ * The plane is divided into a uniform grid of square cells. Each owner is registered in every cell its
+ * bounds overlap, so finding the owners in a region only looks at the cells of that region instead of
+ * all owners. Owners with unknown bounds are part of every query result.
+ *
+ * @param <T>
+ *          the sprite owner class
+ *
+ * @author agent
+ */
+public class SpriteIndex<T> {
+
+    private final int cellSize;
+
+    private final Map<Long, Set<T>> cells;
+    private final Map<T, Bounds> bounds;
+    private final Set<T> unbounded;
+
+    /**
+     * Constructs a new empty {@code SpriteIndex} with the specified cell size.
+     *
+     * @param cellSize
+     *          the width and height of a grid cell
+     */
+    public SpriteIndex(int cellSize) {
+        checkArgument(cellSize > 0, "Invalid cell size: " + cellSize);
+        this.cellSize = cellSize;
+
+        cells = new HashMap<>();
+        bounds = new HashMap<>();
+        unbounded = new LinkedHashSet<>();
+    }
+
+    /**
+     * Registers the owner with the specified {@link Bounds}, replacing its previous bounds.
+     *
+     * @param owner
+     *          the owner to register
+     * @param ownerBounds
+     *          the bounds of the owner's sprite or {@code null} if they are unknown
+     * @return
+     *          the previous bounds of the owner or {@code null}
+     */
+    public Bounds put(T owner, Bounds ownerBounds) {
+        checkNotNull(owner, "Sprite owner must not be null");
+        Bounds previous = remove(owner);
+
+        if (ownerBounds == null) {
+            unbounded.add(owner);
+            return previous;
+        }
+
+        bounds.put(owner, ownerBounds);
+        for (int cy = cellOf(ownerBounds.y); cy <= cellOf(ownerBounds.y + ownerBounds.h); cy++) {
+            for (int cx = cellOf(ownerBounds.x); cx <= cellOf(ownerBounds.x + ownerBounds.w); cx++) {
+                cells.computeIfAbsent(key(cx, cy), k -> new LinkedHashSet<>()).add(owner);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the owner from the index.
+     *
+     * @param owner
+     *          the owner to remove
+     * @return
+     *          the bounds of the removed owner or {@code null} if they were unknown or the owner was not registered
+     */
+    public Bounds remove(T owner) {
+        unbounded.remove(owner);
+        Bounds ownerBounds = bounds.remove(owner);
+        if (ownerBounds == null) {
+            return null;
+        }
+
+        for (int cy = cellOf(ownerBounds.y); cy <= cellOf(ownerBounds.y + ownerBounds.h); cy++) {
+            for (int cx = cellOf(ownerBounds.x); cx <= cellOf(ownerBounds.x + ownerBounds.w); cx++) {
+                Long key = key(cx, cy);
+                Set<T> cell = cells.get(key);
+                if (cell != null && cell.remove(owner) && cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+        return ownerBounds;
+    }
+
+    /**
+     * Gets the registered {@link Bounds} of the owner.
+     *
+     * @param owner
+     *          the owner
+     * @return
+     *          the bounds of the owner or {@code null} if they are unknown or the owner is not registered
+     */
+    public Bounds get(T owner) {
+        return bounds.get(owner);
+    }
+
+    /**
+     * Checks whether the owner is registered with unknown {@link Bounds}.
+     *
+     * @param owner
+     *          the owner
+     * @return
+     *          {@code true} if the owner is registered without bounds, {@code false} otherwise
+     */
+    public boolean isUnbounded(T owner) {
+        return unbounded.contains(owner);
+    }
+
+    /**
+     * Finds the owners whose {@link Bounds} overlap the specified region and the owners with unknown bounds.
+     *
+     * @param region
+     *          the region to search
+     * @return
+     *          the found owners
+     */
+    public Set<T> query(Bounds region) {
+        Set<T> result = new LinkedHashSet<>(unbounded);
+        for (int cy = cellOf(region.y); cy <= cellOf(region.y + region.h); cy++) {
+            for (int cx = cellOf(region.x); cx <= cellOf(region.x + region.w); cx++) {
+                Set<T> cell = cells.get(key(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (T owner : cell) {
+                    if (bounds.get(owner).intersects(region)) {
+                        result.add(owner);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all owners.
+     */
+    public void clear() {
+        cells.clear();
+        bounds.clear();
+        unbounded.clear();
+    }
+
+    /**
+     * Gets the number of registered owners.
+     *
+     * @return
+     *          the number of owners
+     */
+    public int size() {
+        return bounds.size() + unbounded.size();
+    }
+
+    /**
+     * Gets the grid cell of a coordinate.
+     *
+     * @param coordinate
+     *          the x or y coordinate
+     * @return
+     *          the column or row of the cell
+     */
+    private int cellOf(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    /**
+     * Gets the key of a grid cell.
+     *
+     * @param cx
+     *          the column of the cell
+     * @param cy
+     *          the row of the cell
+     * @return
+     *          the key of the cell
+     */
+    private static Long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+}
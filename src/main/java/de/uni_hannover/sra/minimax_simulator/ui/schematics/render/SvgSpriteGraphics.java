@@ -0,0 +1,421 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.text.Font;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link SpriteGraphics} writing the drawn shapes as SVG elements.<br>
+ * <br>
+ * Every shape is written to the {@link Writer} right away, so the size of the drawing does not
+ * affect the memory needed. Call {@link #startDocument(int, int)} before and {@link #endDocument()}
+ * after drawing. {@link IOException}s of the {@code Writer} are thrown as {@link UncheckedIOException}.
+ *
+ * @author agent
+ */
+public class SvgSpriteGraphics implements SpriteGraphics {
+
+    /**
+     * The state saved by {@link #save()}.
+     */
+    private static final class State {
+        // the transformation matrix [a c e; b d f]
+        private double a = 1;
+        private double b;
+        private double c;
+        private double d = 1;
+        private double e;
+        private double f;
+
+        private Font font;
+        private Color fill = Color.BLACK;
+        private Color stroke = Color.BLACK;
+        private double lineWidth = 1;
+        private StrokeLineCap cap = StrokeLineCap.SQUARE;
+        private StrokeLineJoin join = StrokeLineJoin.MITER;
+        private double[] dashes;
+
+        /**
+         * Creates a copy of the state.
+         *
+         * @return
+         *          the copy
+         */
+        private State copy() {
+            State copy = new State();
+            copy.a = a;
+            copy.b = b;
+            copy.c = c;
+            copy.d = d;
+            copy.e = e;
+            copy.f = f;
+            copy.font = font;
+            copy.fill = fill;
+            copy.stroke = stroke;
+            copy.lineWidth = lineWidth;
+            copy.cap = cap;
+            copy.join = join;
+            copy.dashes = dashes;
+            return copy;
+        }
+
+        /**
+         * Checks whether the transformation is the identity.
+         *
+         * @return
+         *          {@code true} if nothing is transformed, {@code false} otherwise
+         */
+        private boolean isIdentity() {
+            return a == 1 && b == 0 && c == 0 && d == 1 && e == 0 && f == 0;
+        }
+    }
+
+    private final Writer out;
+    private final Deque<State> stack;
+    private final DecimalFormat numberFormat;
+    private State state;
+
+    /**
+     * Constructs a new {@code SvgSpriteGraphics} writing to the specified {@code Writer}.
+     *
+     * @param out
+     *          the {@code Writer} to write the SVG document to
+     */
+    public SvgSpriteGraphics(Writer out) {
+        this.out = checkNotNull(out);
+        stack = new ArrayDeque<>();
+        numberFormat = new DecimalFormat("0.###", DecimalFormatSymbols.getInstance(Locale.ROOT));
+        state = new State();
+    }
+
+    /**
+     * Writes the start of the SVG document.
+     *
+     * @param width
+     *          the width of the drawing
+     * @param height
+     *          the height of the drawing
+     */
+    public void startDocument(int width, int height) {
+        write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        write("<svg xmlns=\"http://www.w3.org/2000/svg\" version=\"1.1\" width=\"" + width + "\" height=\"" + height
+                + "\" viewBox=\"0 0 " + width + " " + height + "\">\n");
+    }
+
+    /**
+     * Writes the end of the SVG document.
+     */
+    public void endDocument() {
+        write("</svg>\n");
+    }
+
+    /**
+     * Writes a string to the {@code Writer}.
+     *
+     * @param s
+     *          the string to write
+     */
+    private void write(String s) {
+        try {
+            out.write(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formats a number with at most three decimal places.
+     *
+     * @param value
+     *          the number to format
+     * @return
+     *          the formatted number
+     */
+    private String num(double value) {
+        return numberFormat.format(value);
+    }
+
+    /**
+     * Formats a {@link Color} as SVG color with the specified attribute for its opacity.
+     *
+     * @param attribute
+     *          the name of the color attribute, e.g. {@code fill}
+     * @param color
+     *          the {@code Color} to format
+     * @return
+     *          the formatted attributes
+     */
+    private String color(String attribute, Color color) {
+        String rgb = attribute + "=\"rgb(" + Math.round(color.getRed() * 255) + "," + Math.round(color.getGreen() * 255)
+                + "," + Math.round(color.getBlue() * 255) + ")\"";
+        if (color.getOpacity() < 1) {
+            rgb += " " + attribute + "-opacity=\"" + num(color.getOpacity()) + "\"";
+        }
+        return rgb;
+    }
+
+    /**
+     * Formats the current transformation as SVG attribute.
+     *
+     * @return
+     *          the formatted attribute or an empty string for the identity
+     */
+    private String transform() {
+        if (state.isIdentity()) {
+            return "";
+        }
+        return " transform=\"matrix(" + num(state.a) + " " + num(state.b) + " " + num(state.c) + " " + num(state.d)
+                + " " + num(state.e) + " " + num(state.f) + ")\"";
+    }
+
+    /**
+     * Formats the current stroke attributes.
+     *
+     * @return
+     *          the formatted attributes
+     */
+    private String strokeAttributes() {
+        StringBuilder sb = new StringBuilder(" fill=\"none\" ");
+        sb.append(color("stroke", state.stroke));
+        sb.append(" stroke-width=\"").append(num(state.lineWidth)).append('"');
+        if (state.cap != StrokeLineCap.BUTT) {
+            sb.append(" stroke-linecap=\"").append(state.cap.name().toLowerCase()).append('"');
+        }
+        if (state.join != StrokeLineJoin.MITER) {
+            sb.append(" stroke-linejoin=\"").append(state.join.name().toLowerCase()).append('"');
+        }
+        if (state.dashes != null) {
+            sb.append(" stroke-dasharray=\"");
+            for (int i = 0; i < state.dashes.length; i++) {
+                sb.append(i == 0 ? "" : " ").append(num(state.dashes[i]));
+            }
+            sb.append('"');
+        }
+        return sb.append(transform()).toString();
+    }
+
+    /**
+     * Formats the current fill attributes.
+     *
+     * @return
+     *          the formatted attributes
+     */
+    private String fillAttributes() {
+        return " " + color("fill", state.fill) + transform();
+    }
+
+    /**
+     * Escapes the characters of a text that have a special meaning in XML.
+     *
+     * @param text
+     *          the text to escape
+     * @return
+     *          the escaped text
+     */
+    static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char ch : text.toCharArray()) {
+            switch (ch) {
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                default:
+                    sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void save() {
+        stack.push(state);
+        state = state.copy();
+    }
+
+    @Override
+    public void restore() {
+        if (!stack.isEmpty()) {
+            state = stack.pop();
+        }
+    }
+
+    @Override
+    public void translate(double x, double y) {
+        state.e += state.a * x + state.c * y;
+        state.f += state.b * x + state.d * y;
+    }
+
+    @Override
+    public void scale(double x, double y) {
+        state.a *= x;
+        state.b *= x;
+        state.c *= y;
+        state.d *= y;
+    }
+
+    @Override
+    public void rotate(double degrees) {
+        double cos = Math.cos(Math.toRadians(degrees));
+        double sin = Math.sin(Math.toRadians(degrees));
+        double a = state.a;
+        double b = state.b;
+        state.a = a * cos + state.c * sin;
+        state.b = b * cos + state.d * sin;
+        state.c = state.c * cos - a * sin;
+        state.d = state.d * cos - b * sin;
+    }
+
+    @Override
+    public Font getFont() {
+        return state.font;
+    }
+
+    @Override
+    public void setFont(Font font) {
+        state.font = font;
+    }
+
+    @Override
+    public void setFill(Color color) {
+        state.fill = color;
+    }
+
+    @Override
+    public void setStroke(Color color) {
+        state.stroke = color;
+    }
+
+    @Override
+    public double getLineWidth() {
+        return state.lineWidth;
+    }
+
+    @Override
+    public void setLineWidth(double width) {
+        state.lineWidth = width;
+    }
+
+    @Override
+    public void setLineCap(StrokeLineCap cap) {
+        state.cap = cap;
+    }
+
+    @Override
+    public void setLineJoin(StrokeLineJoin join) {
+        state.join = join;
+    }
+
+    @Override
+    public void setLineDashes(double... dashes) {
+        state.dashes = dashes == null || dashes.length == 0 ? null : dashes.clone();
+    }
+
+    @Override
+    public void strokeLine(double x1, double y1, double x2, double y2) {
+        write("<line x1=\"" + num(x1) + "\" y1=\"" + num(y1) + "\" x2=\"" + num(x2) + "\" y2=\"" + num(y2) + "\""
+                + strokeAttributes() + "/>\n");
+    }
+
+    @Override
+    public void strokeRect(double x, double y, double w, double h) {
+        write("<rect x=\"" + num(x) + "\" y=\"" + num(y) + "\" width=\"" + num(w) + "\" height=\"" + num(h) + "\""
+                + strokeAttributes() + "/>\n");
+    }
+
+    @Override
+    public void fillRect(double x, double y, double w, double h) {
+        write("<rect x=\"" + num(x) + "\" y=\"" + num(y) + "\" width=\"" + num(w) + "\" height=\"" + num(h) + "\""
+                + fillAttributes() + "/>\n");
+    }
+
+    @Override
+    public void strokeOval(double x, double y, double w, double h) {
+        write("<ellipse cx=\"" + num(x + w / 2) + "\" cy=\"" + num(y + h / 2) + "\" rx=\"" + num(w / 2) + "\" ry=\""
+                + num(h / 2) + "\"" + strokeAttributes() + "/>\n");
+    }
+
+    @Override
+    public void fillOval(double x, double y, double w, double h) {
+        write("<ellipse cx=\"" + num(x + w / 2) + "\" cy=\"" + num(y + h / 2) + "\" rx=\"" + num(w / 2) + "\" ry=\""
+                + num(h / 2) + "\"" + fillAttributes() + "/>\n");
+    }
+
+    @Override
+    public void strokeArc(double x, double y, double w, double h, double startAngle, double arcExtent, ArcType closure) {
+        if (Math.abs(arcExtent) >= 360) {
+            strokeOval(x, y, w, h);
+            return;
+        }
+
+        double rx = w / 2;
+        double ry = h / 2;
+        double cx = x + rx;
+        double cy = y + ry;
+        // the angles are counter-clockwise but the y axis points down
+        double start = Math.toRadians(startAngle);
+        double end = Math.toRadians(startAngle + arcExtent);
+        double x1 = cx + rx * Math.cos(start);
+        double y1 = cy - ry * Math.sin(start);
+        double x2 = cx + rx * Math.cos(end);
+        double y2 = cy - ry * Math.sin(end);
+        int largeArc = Math.abs(arcExtent) > 180 ? 1 : 0;
+        int sweep = arcExtent > 0 ? 0 : 1;
+
+        StringBuilder path = new StringBuilder();
+        if (closure == ArcType.ROUND) {
+            path.append("M").append(num(cx)).append(' ').append(num(cy)).append(" L");
+        }
+        else {
+            path.append("M");
+        }
+        path.append(num(x1)).append(' ').append(num(y1));
+        path.append(" A").append(num(rx)).append(' ').append(num(ry)).append(" 0 ").append(largeArc).append(' ')
+                .append(sweep).append(' ').append(num(x2)).append(' ').append(num(y2));
+        if (closure != ArcType.OPEN) {
+            path.append(" Z");
+        }
+        write("<path d=\"" + path + "\"" + strokeAttributes() + "/>\n");
+    }
+
+    @Override
+    public void fillPolygon(double[] xPoints, double[] yPoints, int nPoints) {
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i < nPoints; i++) {
+            points.append(i == 0 ? "" : " ").append(num(xPoints[i])).append(',').append(num(yPoints[i]));
+        }
+        write("<polygon points=\"" + points + "\"" + fillAttributes() + "/>\n");
+    }
+
+    @Override
+    public void fillText(String text, double x, double y) {
+        StringBuilder sb = new StringBuilder("<text x=\"").append(num(x)).append("\" y=\"").append(num(y)).append('"');
+        if (state.font != null) {
+            sb.append(" font-family=\"").append(escape(state.font.getFamily())).append('"');
+            sb.append(" font-size=\"").append(num(state.font.getSize())).append('"');
+        }
+        sb.append(fillAttributes()).append(" xml:space=\"preserve\">").append(escape(text)).append("</text>\n");
+        write(sb.toString());
+    }
+}
@@ -3,7 +3,6 @@ module mmsim {
     requires java.logging;
     requires javafx.controls;
     requires javafx.fxml;
-    requires javafx.swing;
     requires org.json;
     requires com.google.common;
 }
\ No newline at end of file
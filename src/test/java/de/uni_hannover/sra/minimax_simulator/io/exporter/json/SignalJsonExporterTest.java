@@ -0,0 +1,96 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.json;
+
+import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExportException;
+import de.uni_hannover.sra.minimax_simulator.model.signal.DefaultSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the streaming {@link SignalJsonExporter} writes the same document as
+ * {@link JSONObject#toString(int)} would.
+ *
+ * @author agent
+ */
+public class SignalJsonExporterTest {
+
+    /**
+     * Exports the specified table and checks the output against the formatting of the parsed output.
+     *
+     * @param table
+     *          the {@code SignalTable} to export
+     * @throws ProjectExportException
+     *          thrown if the export fails
+     */
+    private static void assertLayout(SignalTable table) throws ProjectExportException {
+        StringWriter wr = new StringWriter();
+        new SignalJsonExporter().write(wr, table);
+        String json = wr.toString();
+        assertEquals(new JSONObject(json).toString(2), json);
+    }
+
+    /**
+     * Tests an empty table.
+     *
+     * @throws ProjectExportException
+     *          thrown if the export fails
+     */
+    @Test
+    public void testEmpty() throws ProjectExportException {
+        assertLayout(new DefaultSignalTable());
+    }
+
+    /**
+     * Tests a table with a single row, which is not wrapped in an array.
+     *
+     * @throws ProjectExportException
+     *          thrown if the export fails
+     */
+    @Test
+    public void testSingleRow() throws ProjectExportException {
+        SignalTable table = new DefaultSignalTable();
+        SignalRow row = new SignalRow();
+        row.setLabel("only");
+        row.setSignalValue("ALU_CTRL", 2);
+        table.addSignalRow(row);
+        assertLayout(table);
+    }
+
+    /**
+     * Tests a table with several rows using all kinds of signals and jumps.
+     *
+     * @throws ProjectExportException
+     *          thrown if the export fails
+     */
+    @Test
+    public void testRows() throws ProjectExportException {
+        SignalTable table = new DefaultSignalTable();
+        for (int i = 0; i < 5; i++) {
+            SignalRow row = new SignalRow();
+            if (i % 2 == 0) {
+                row.setLabel("label \"" + i + "\"");
+            }
+            row.setBreakpoint(i == 3);
+            row.setSignalValue("ALU_CTRL", i);
+            row.setSignal("MDR_SEL", SignalValue.DONT_CARE);
+            row.setSignalValue("PC.W", 1);
+            if (i == 1) {
+                row.setJump(new UnconditionalJump(4));
+            }
+            else if (i == 2) {
+                row.setJump(new ConditionalJump(0, 3));
+            }
+            table.addSignalRow(row);
+        }
+        table.addSignalRow(new SignalRow());
+        assertLayout(table);
+    }
+}
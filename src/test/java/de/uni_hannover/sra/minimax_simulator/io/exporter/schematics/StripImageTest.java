@@ -0,0 +1,62 @@
+package de.uni_hannover.sra.minimax_simulator.io.exporter.schematics;
+
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
+import javafx.scene.paint.Color;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link StripImage}.
+ *
+ * @author agent
+ */
+public class StripImageTest {
+
+    private static final int WHITE = 0xFFFFFF;
+    private static final int RED = 0xFF0000;
+
+    /**
+     * Tests that a PNG written from the strips matches the drawing and that every strip is drawn once.
+     *
+     * @throws IOException
+     *          thrown if the image could not be written or read
+     */
+    @Test
+    public void testWritePng() throws IOException {
+        List<Bounds> drawn = new ArrayList<>();
+        StripImage image = new StripImage(50, 600, 256, (g, region) -> {
+            drawn.add(region);
+            g.setFill(Color.WHITE);
+            g.fillRect(region.x, region.y, region.w, region.h);
+            // crosses the border of the first two strips
+            g.setFill(Color.RED);
+            g.fillRect(10, 250, 20, 10);
+        });
+        assertEquals("number of strips", 3, image.getNumYTiles());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue("png writer", ImageIO.write(image, "png", out));
+        BufferedImage read = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals("width", 50, read.getWidth());
+        assertEquals("height", 600, read.getHeight());
+        assertEquals("background", WHITE, read.getRGB(5, 5) & 0xFFFFFF);
+        assertEquals("first strip", RED, read.getRGB(15, 252) & 0xFFFFFF);
+        assertEquals("second strip", RED, read.getRGB(15, 258) & 0xFFFFFF);
+        assertEquals("below", WHITE, read.getRGB(15, 262) & 0xFFFFFF);
+        assertEquals("last row", WHITE, read.getRGB(49, 599) & 0xFFFFFF);
+
+        assertEquals("drawn strips", 3, drawn.size());
+        assertEquals("second strip region", "[0,256 / 50,256]", drawn.get(1).toString());
+    }
+}
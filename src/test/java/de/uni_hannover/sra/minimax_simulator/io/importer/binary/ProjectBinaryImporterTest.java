@@ -0,0 +1,261 @@
+package de.uni_hannover.sra.minimax_simulator.io.importer.binary;
+
+import de.uni_hannover.sra.minimax_simulator.io.IOUtils;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.PagedArrayMemory;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.DefaultJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static de.uni_hannover.sra.minimax_simulator.io.ProjectBinaryFormat.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the import of the signal and memory sections of the binary project format.
+ *
+ * @author agent
+ */
+public class ProjectBinaryImporterTest {
+
+    /**
+     * Writes a string as the names of the signal section are stored.
+     *
+     * @param out
+     *          the stream to write to
+     * @param string
+     *          the string to write
+     * @throws IOException
+     *          thrown if the string could not be written
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        IOUtils.writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a label as the labels of the signal section are stored.
+     *
+     * @param out
+     *          the stream to write to
+     * @param label
+     *          the label to write, may be {@code null}
+     * @throws IOException
+     *          thrown if the label could not be written
+     */
+    private static void writeLabel(DataOutputStream out, String label) throws IOException {
+        if (label == null) {
+            IOUtils.writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = label.getBytes(StandardCharsets.UTF_8);
+        IOUtils.writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    /**
+     * Tests the encoding of signed values.
+     */
+    @Test
+    public void testZigZag() {
+        int[] values = { 0, 1, -1, 63, -64, 1000, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        for (int value : values) {
+            assertEquals("value " + value, value, unZigZag(zigZag(value)));
+        }
+        assertEquals("zig zag of -1", 1, zigZag(-1));
+        assertEquals("zig zag of 1", 2, zigZag(1));
+    }
+
+    /**
+     * Tests the import of a signal section with signals, labels, breakpoints and jumps.
+     *
+     * @throws IOException
+     *          thrown if the section is corrupt
+     */
+    @Test
+    public void testSignalSection() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        IOUtils.writeVarInt(out, 9);
+        IOUtils.writeVarInt(out, 2);
+        writeString(out, "ALU_CTRL");
+        writeString(out, "MDR_SEL");
+
+        // ALU_CTRL: 5, 300 and unset
+        IOUtils.writeVarInt(out, 5 + SIGNAL_VALUE_OFFSET);
+        IOUtils.writeVarInt(out, 300 + SIGNAL_VALUE_OFFSET);
+        for (int i = 2; i < 9; i++) {
+            IOUtils.writeVarInt(out, SIGNAL_UNSET);
+        }
+        // MDR_SEL: don't care, 0 and unset
+        IOUtils.writeVarInt(out, SIGNAL_DONT_CARE);
+        IOUtils.writeVarInt(out, SIGNAL_VALUE_OFFSET);
+        for (int i = 2; i < 9; i++) {
+            IOUtils.writeVarInt(out, SIGNAL_UNSET);
+        }
+
+        writeLabel(out, "start");
+        writeLabel(out, "");
+        for (int i = 2; i < 8; i++) {
+            writeLabel(out, null);
+        }
+        writeLabel(out, "\u00E4nde");
+
+        // breakpoints at rows 1 and 8
+        out.writeByte(0x02);
+        out.writeByte(0x01);
+
+        out.writeByte(JUMP_UNCONDITIONAL);
+        IOUtils.writeVarInt(out, zigZag(8));
+        out.writeByte(JUMP_CONDITIONAL);
+        IOUtils.writeVarInt(out, zigZag(0));
+        IOUtils.writeVarInt(out, zigZag(-1));
+        for (int i = 2; i < 9; i++) {
+            out.writeByte(JUMP_DEFAULT);
+        }
+        out.flush();
+
+        ByteBuffer section = ByteBuffer.wrap(bytes.toByteArray());
+        SignalTable table = ProjectBinaryImporter.readSignalTable(section);
+        assertFalse("section fully read", section.hasRemaining());
+        assertEquals("row count", 9, table.getRowCount());
+
+        assertEquals("ALU_CTRL of row 0", 5, table.getRow(0).getSignalValue("ALU_CTRL"));
+        assertEquals("ALU_CTRL of row 1", 300, table.getRow(1).getSignalValue("ALU_CTRL"));
+        assertNull("ALU_CTRL of row 2", table.getRow(2).getSignal("ALU_CTRL", null));
+        assertSame("MDR_SEL of row 0", SignalValue.DONT_CARE, table.getRow(0).getSignal("MDR_SEL", null));
+        assertEquals("MDR_SEL of row 1", 0, table.getRow(1).getSignalValue("MDR_SEL"));
+
+        assertEquals("label of row 0", "start", table.getRow(0).getLabel());
+        assertEquals("label of row 1", "", table.getRow(1).getLabel());
+        assertNull("label of row 2", table.getRow(2).getLabel());
+        assertEquals("label of row 8", "\u00E4nde", table.getRow(8).getLabel());
+
+        for (int i = 0; i < 9; i++) {
+            assertEquals("breakpoint of row " + i, i == 1 || i == 8, table.getRow(i).isBreakpoint());
+        }
+
+        assertEquals("jump of row 0", new UnconditionalJump(8), table.getRow(0).getJump());
+        assertEquals("jump of row 1", new ConditionalJump(0, -1), table.getRow(1).getJump());
+        assertSame("jump of row 2", DefaultJump.INSTANCE, table.getRow(2).getJump());
+    }
+
+    /**
+     * Tests that the signal section is read from buffers that are sliced or not backed by an array.
+     *
+     * @throws IOException
+     *          thrown if the section is corrupt
+     */
+    @Test
+    public void testSectionBuffers() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        // a prefix that is not part of the section
+        out.write(new byte[] { 1, 2, 3 });
+        IOUtils.writeVarInt(out, 1);
+        IOUtils.writeVarInt(out, 1);
+        writeString(out, "ALU_CTRL");
+        IOUtils.writeVarInt(out, 7 + SIGNAL_VALUE_OFFSET);
+        writeLabel(out, "start");
+        out.writeByte(0x00);
+        out.writeByte(JUMP_DEFAULT);
+        out.flush();
+
+        ByteBuffer file = ByteBuffer.wrap(bytes.toByteArray());
+        file.position(3);
+        ByteBuffer sliced = file.slice();
+        ByteBuffer direct = ByteBuffer.allocateDirect(sliced.remaining());
+        direct.put(sliced.duplicate()).flip();
+
+        for (ByteBuffer section : new ByteBuffer[] { sliced, direct }) {
+            SignalTable table = ProjectBinaryImporter.readSignalTable(section);
+            assertFalse("section fully read", section.hasRemaining());
+            assertEquals("ALU_CTRL of row 0", 7, table.getRow(0).getSignalValue("ALU_CTRL"));
+            assertEquals("label of row 0", "start", table.getRow(0).getLabel());
+        }
+    }
+
+    /**
+     * Tests that an empty signal section results in a table with an empty row.
+     *
+     * @throws IOException
+     *          thrown if the section is corrupt
+     */
+    @Test
+    public void testEmptySignalSection() throws IOException {
+        SignalTable table = ProjectBinaryImporter.readSignalTable(ByteBuffer.wrap(new byte[] { 0, 0 }));
+        assertEquals("row count", 1, table.getRowCount());
+        assertTrue("signals of row 0", table.getRow(0).getSignalValues().isEmpty());
+    }
+
+    /**
+     * Tests that an invalid jump kind is rejected.
+     *
+     * @throws IOException
+     *          thrown because the section is corrupt
+     */
+    @Test(expected = IOException.class)
+    public void testInvalidJump() throws IOException {
+        // one row, no signals, no label, no breakpoint, jump kind 7
+        ProjectBinaryImporter.readSignalTable(ByteBuffer.wrap(new byte[] { 1, 0, 0, 0, 7 }));
+    }
+
+    /**
+     * Tests that a signal count exceeding the section is rejected before anything is allocated.
+     *
+     * @throws IOException
+     *          thrown because the section is corrupt
+     */
+    @Test(expected = IOException.class)
+    public void testInvalidSignalCount() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        IOUtils.writeVarInt(out, 0);
+        IOUtils.writeVarInt(out, Integer.MAX_VALUE);
+        out.flush();
+        ProjectBinaryImporter.readSignalTable(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    /**
+     * Tests that a memory page outside of the memory is rejected.
+     *
+     * @throws IOException
+     *          thrown because the memory image is corrupt
+     */
+    @Test(expected = IOException.class)
+    public void testInvalidPageIndex() throws IOException {
+        PagedArrayMemory memory = new PagedArrayMemory(8, 4);
+        ByteBuffer image = ByteBuffer.allocate(4 + 4 + 16 * 4 + 4);
+        image.putInt(16).putInt(16).position(image.position() + 16 * 4);
+        image.putInt(END_OF_PAGES).flip();
+        ProjectBinaryImporter.readMemory(image, memory.getMemoryState());
+    }
+
+    /**
+     * Tests that an empty memory image is accepted regardless of its page size.
+     *
+     * @throws IOException
+     *          thrown if the memory image is corrupt
+     */
+    @Test
+    public void testEmptyMemoryImage() throws IOException {
+        PagedArrayMemory memory = new PagedArrayMemory(8, 4);
+        ByteBuffer image = ByteBuffer.allocate(8);
+        image.putInt(Integer.MAX_VALUE).putInt(END_OF_PAGES).flip();
+        ProjectBinaryImporter.readMemory(image, memory.getMemoryState());
+        assertFalse("image fully read", image.hasRemaining());
+    }
+}
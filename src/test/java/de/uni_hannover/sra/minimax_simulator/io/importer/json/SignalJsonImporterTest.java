@@ -0,0 +1,81 @@
+package de.uni_hannover.sra.minimax_simulator.io.importer.json;
+
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.DefaultJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
+import org.json.JSONException;
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the streaming import of the {@link SignalJsonImporter}.
+ *
+ * @author agent
+ */
+public class SignalJsonImporterTest {
+
+    /**
+     * Tests the import of an array of rows with signals, jumps and unknown keys.
+     */
+    @Test
+    public void testRows() {
+        String json = "{ \"version\": 2, \"signaltable\": { \"comment\": [1, {\"a\": 2}], \"row\": [\n"
+                + "  { \"label\": \"start\", \"breakpoint\": true, \"signal\": [\n"
+                + "      { \"name\": \"ALU_CTRL\", \"value\": \"3\" },\n"
+                + "      { \"name\": \"MDR_SEL\", \"value\": \"0\", \"dontcare\": true } ],\n"
+                + "    \"unconditional-jump\": { \"target\": \"2\" } },\n"
+                + "  { \"signal\": [] },\n"
+                + "  { \"conditional-jump\": { \"cond0-target\": \"0\", \"cond1-target\": \"1\" } }\n"
+                + "] } }";
+
+        SignalTable table = new SignalJsonImporter().loadSignalTable(new StringReader(json));
+        assertEquals("row count", 3, table.getRowCount());
+
+        assertEquals("label", "start", table.getRow(0).getLabel());
+        assertTrue("breakpoint", table.getRow(0).isBreakpoint());
+        assertEquals("ALU_CTRL", 3, table.getRow(0).getSignalValue("ALU_CTRL"));
+        assertSame("MDR_SEL", SignalValue.DONT_CARE, table.getRow(0).getSignal("MDR_SEL", null));
+        assertEquals("jump of row 0", new UnconditionalJump(2), table.getRow(0).getJump());
+
+        assertNull("label of row 1", table.getRow(1).getLabel());
+        assertSame("jump of row 1", DefaultJump.INSTANCE, table.getRow(1).getJump());
+        assertEquals("jump of row 2", new ConditionalJump(0, 1), table.getRow(2).getJump());
+    }
+
+    /**
+     * Tests the import of a single row, which is exported as object instead of array.
+     */
+    @Test
+    public void testSingleRow() {
+        String json = "{\"signaltable\": {\"row\": {\"label\": \"only\", \"signal\": []}}}";
+
+        SignalTable table = new SignalJsonImporter().loadSignalTable(json);
+        assertEquals("row count", 1, table.getRowCount());
+        assertEquals("label", "only", table.getRow(0).getLabel());
+    }
+
+    /**
+     * Tests that an empty table gets an empty row.
+     */
+    @Test
+    public void testEmpty() {
+        SignalTable table = new SignalJsonImporter().loadSignalTable("{\"signaltable\": {\"row\": []}}");
+        assertEquals("row count", 1, table.getRowCount());
+    }
+
+    /**
+     * Tests that a document without rows is rejected.
+     */
+    @Test(expected = JSONException.class)
+    public void testMissingRows() {
+        new SignalJsonImporter().loadSignalTable("{\"signaltable\": {}}");
+    }
+}
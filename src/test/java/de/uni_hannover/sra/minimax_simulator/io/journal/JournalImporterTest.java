@@ -0,0 +1,159 @@
+package de.uni_hannover.sra.minimax_simulator.io.journal;
+
+import de.uni_hannover.sra.minimax_simulator.model.signal.DefaultSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the reading of the records of a project journal.
+ *
+ * @author agent
+ */
+public class JournalImporterTest {
+
+    /**
+     * Creates a signal table with the specified number of rows.
+     *
+     * @param rowCount
+     *          the number of rows
+     * @return
+     *          the signal table
+     */
+    private static SignalTable createTable(int rowCount) {
+        SignalTable table = new DefaultSignalTable();
+        for (int i = 0; i < rowCount; i++) {
+            SignalRow row = new SignalRow();
+            row.setSignalValue("ALU_CTRL", i);
+            table.addSignalRow(row);
+        }
+        return table;
+    }
+
+    /**
+     * Writes the header and the specified records as journal.
+     *
+     * @param records
+     *          the records to write
+     * @return
+     *          the stream holding the journal
+     * @throws IOException
+     *          thrown if a record could not be written
+     */
+    private static ByteArrayOutputStream writeJournal(JournalRecord... records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(JournalRecord.MAGIC);
+        out.writeShort(JournalRecord.VERSION);
+        for (JournalRecord record : records) {
+            record.writeFrame(out);
+        }
+        out.flush();
+        return bytes;
+    }
+
+    /**
+     * Tests that the records are applied in order.
+     *
+     * @throws IOException
+     *          thrown if the journal is corrupt
+     */
+    @Test
+    public void testApplyRecords() throws IOException {
+        SignalTable table = createTable(4);
+        SignalTable changed = createTable(4);
+        changed.getRow(1).setLabel("loop");
+        changed.getRow(3).setJump(new UnconditionalJump(1));
+        BitSet rows = new BitSet();
+        rows.set(1);
+        rows.set(3);
+
+        File projectFile = new File("project.mmpb").getAbsoluteFile();
+        ByteArrayOutputStream journal = writeJournal(
+                JournalRecord.projectFile(projectFile),
+                JournalRecord.signals(table),
+                JournalRecord.memoryWrite(4, 7),
+                JournalRecord.rows(changed, rows),
+                JournalRecord.memoryWrite(5, 8));
+
+        JournalImporter.JournalContent content = JournalImporter.readJournal(ByteBuffer.wrap(journal.toByteArray()));
+        assertEquals("record count", 5, content.recordCount);
+        assertEquals("project file", projectFile, content.projectFile);
+        assertNull("machine", content.machine);
+
+        assertEquals("row count", 4, content.signalTable.getRowCount());
+        assertNull("label of row 0", content.signalTable.getRow(0).getLabel());
+        assertEquals("label of row 1", "loop", content.signalTable.getRow(1).getLabel());
+        assertEquals("jump of row 3", new UnconditionalJump(1), content.signalTable.getRow(3).getJump());
+        for (int i = 0; i < 4; i++) {
+            assertEquals("ALU_CTRL of row " + i, i, content.signalTable.getRow(i).getSignalValue("ALU_CTRL"));
+        }
+
+        assertEquals("memory records", 2, content.memoryRecords.size());
+        assertEquals("memory record type", JournalRecord.MEMORY_WRITE, content.memoryRecords.get(1).getType());
+        ByteBuffer write = ByteBuffer.wrap(content.memoryRecords.get(1).getPayload());
+        assertEquals("address", 5, write.getInt());
+        assertEquals("value", 8, write.getInt());
+    }
+
+    /**
+     * Tests that reading stops at a record truncated by a crash.
+     *
+     * @throws IOException
+     *          thrown if the journal is corrupt
+     */
+    @Test
+    public void testTruncatedRecord() throws IOException {
+        JournalRecord lastRecord = JournalRecord.signals(createTable(3));
+        ByteArrayOutputStream journal = writeJournal(JournalRecord.signals(createTable(2)), lastRecord);
+        byte[] bytes = journal.toByteArray();
+
+        for (int cut = 1; cut < lastRecord.getFrameSize(); cut++) {
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length - cut);
+            JournalImporter.JournalContent content = JournalImporter.readJournal(ByteBuffer.wrap(truncated));
+            assertEquals("record count after cutting " + cut, 1, content.recordCount);
+            assertEquals("row count after cutting " + cut, 2, content.signalTable.getRowCount());
+        }
+    }
+
+    /**
+     * Tests that reading stops at a record with a wrong checksum.
+     *
+     * @throws IOException
+     *          thrown if the journal is corrupt
+     */
+    @Test
+    public void testCorruptRecord() throws IOException {
+        JournalRecord lastRecord = JournalRecord.memoryWrite(1, 2);
+        byte[] bytes = writeJournal(JournalRecord.memoryWrite(0, 1), lastRecord).toByteArray();
+        // flip a bit of the value of the last record
+        bytes[bytes.length - 5] ^= 0x10;
+
+        JournalImporter.JournalContent content = JournalImporter.readJournal(ByteBuffer.wrap(bytes));
+        assertEquals("record count", 1, content.recordCount);
+        assertEquals("memory records", 1, content.memoryRecords.size());
+    }
+
+    /**
+     * Tests that a file without the magic number is rejected.
+     *
+     * @throws IOException
+     *          thrown because the file is not a journal
+     */
+    @Test(expected = IOException.class)
+    public void testInvalidHeader() throws IOException {
+        JournalImporter.readJournal(ByteBuffer.wrap(new byte[] { 'P', 'K', 3, 4, 0, 1 }));
+    }
+}
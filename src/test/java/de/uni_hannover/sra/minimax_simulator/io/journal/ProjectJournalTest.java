@@ -0,0 +1,46 @@
+package de.uni_hannover.sra.minimax_simulator.io.journal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the locking of the directory of a {@link ProjectJournal}.
+ *
+ * @author agent
+ */
+public class ProjectJournalTest {
+
+    /** temporary folder */
+    @Rule
+    public TemporaryFolder tmpDir = new TemporaryFolder();
+
+    /**
+     * Tests that a journal directory can only be used by one journal until it is closed.
+     *
+     * @throws IOException
+     *          thrown if the temporary folder or a journal could not be created
+     */
+    @Test
+    public void testLock() throws IOException {
+        File directory = new File(tmpDir.getRoot(), "autosave");
+        ProjectJournal journal = new ProjectJournal(directory, 1024, () -> { });
+        assertTrue(new File(directory, ProjectJournal.LOCK_FILE_NAME).isFile());
+
+        try {
+            new ProjectJournal(directory, 1024, () -> { });
+            fail("the locked journal directory was used twice");
+        } catch (IOException e) {
+            // expected
+        }
+
+        journal.close();
+        new ProjectJournal(directory, 1024, () -> { }).close();
+    }
+}
@@ -0,0 +1,248 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine;
+
+import de.uni_hannover.sra.minimax_simulator.Main;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.MachineConfiguration;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.MinimaxConfigurationBuilder;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.alu.AluOperation;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.mux.ConstantMuxInput;
+import de.uni_hannover.sra.minimax_simulator.model.configuration.mux.MuxType;
+import de.uni_hannover.sra.minimax_simulator.model.machine.minimax.MinimaxSignalConfiguration;
+import de.uni_hannover.sra.minimax_simulator.model.signal.DefaultSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTableListener;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalValue;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the maintenance of jump targets by the {@link MachineSignalTable} through its index of jump references
+ * and the update of the signals after changes of the machine configuration.
+ *
+ * @author agent
+ */
+public class MachineSignalTableTest {
+
+    private SignalTable table;
+    private MachineConfiguration config;
+    /** The text of the descriptions created next, for telling which rows got a new description. */
+    private String descriptionVersion;
+    /** The count of descriptions created. */
+    private int descriptionCount;
+    private SignalRow conditional;
+    private SignalRow unconditional;
+
+    /**
+     * Initializes the localized texts needed by the machine configuration.
+     */
+    @BeforeClass
+    public static void initTexts() {
+        Main.getResourceLoader();
+    }
+
+    /**
+     * Creates a table of ten rows with a conditional jump in row 2 to rows 5 and 7
+     * and an unconditional jump in row 8 to row 3.
+     */
+    @Before
+    public void setUp() {
+        DefaultSignalTable rows = new DefaultSignalTable();
+        for (int i = 0; i < 10; i++) {
+            rows.addSignalRow(new SignalRow());
+        }
+        conditional = rows.getRow(2);
+        conditional.setJump(new ConditionalJump(5, 7));
+        unconditional = rows.getRow(8);
+        unconditional.setJump(new UnconditionalJump(3));
+
+        config = new MinimaxConfigurationBuilder().build();
+        for (AluOperation aluOp : new AluOperation[] { AluOperation.A_ADD_B, AluOperation.A_SUB_B, AluOperation.TRANS_A }) {
+            config.addAluOperation(aluOp);
+        }
+        for (int i = 0; i < 3; i++) {
+            config.addMuxSource(MuxType.A, new ConstantMuxInput(i));
+            config.addMuxSource(MuxType.B, new ConstantMuxInput(i));
+        }
+        descriptionVersion = "initial";
+        descriptionCount = 0;
+        table = new MachineSignalTable(rows, config, (rowIndex, row) -> {
+            descriptionCount++;
+            return descriptionVersion;
+        }, new MinimaxSignalConfiguration(config));
+    }
+
+    /**
+     * Tests adding and removing rows.
+     */
+    @Test
+    public void testAddRemove() {
+        table.addSignalRow(6, new SignalRow());
+        assertEquals(new ConditionalJump(5, 8), conditional.getJump());
+        assertEquals(new UnconditionalJump(3), unconditional.getJump());
+
+        table.addSignalRow(0, new SignalRow());
+        assertEquals(new ConditionalJump(6, 9), conditional.getJump());
+        assertEquals(new UnconditionalJump(4), unconditional.getJump());
+
+        table.removeSignalRow(6);
+        assertEquals(new ConditionalJump(-1, 8), conditional.getJump());
+        assertEquals(new UnconditionalJump(4), unconditional.getJump());
+
+        table.removeSignalRow(0);
+        assertEquals(new ConditionalJump(-1, 7), conditional.getJump());
+        assertEquals(new UnconditionalJump(3), unconditional.getJump());
+    }
+
+    /**
+     * Tests that replaced jumps are indexed with their new targets.
+     */
+    @Test
+    public void testSetJump() {
+        table.setRowJump(2, new UnconditionalJump(9));
+        table.addSignalRow(6, new SignalRow());
+        assertEquals(new UnconditionalJump(10), table.getRow(2).getJump());
+
+        SignalRow replacement = new SignalRow();
+        replacement.setJump(new UnconditionalJump(1));
+        table.setSignalRow(10, replacement);
+        table.addSignalRow(0, new SignalRow());
+        assertEquals(new UnconditionalJump(2), replacement.getJump());
+        assertEquals(new UnconditionalJump(4), unconditional.getJump());
+    }
+
+    /**
+     * Tests moving a block of rows.
+     */
+    @Test
+    public void testMove() {
+        // rows 5 and 6 move down, row 7 moves up to 5
+        table.moveSignalRows(5, 6, 1);
+        assertEquals(new ConditionalJump(6, 5), conditional.getJump());
+
+        // rows 3 to 6 move up, row 2 moves down to 6
+        table.moveSignalRows(3, 6, -1);
+        assertEquals(new ConditionalJump(5, 4), conditional.getJump());
+        assertEquals(new UnconditionalJump(2), unconditional.getJump());
+        assertEquals(conditional, table.getRow(6));
+    }
+
+    /**
+     * Tests that removing and exchanging ALU operations updates the ALUOp codes and only the descriptions
+     * of the rows using a changed operation.
+     */
+    @Test
+    public void testAluOperationEvents() {
+        readDescriptions();
+        for (int i = 0; i < 3; i++) {
+            table.getRow(i).setSignalValue("ALU_CTRL", i);
+        }
+        table.getRow(3).setSignal("ALU_CTRL", SignalValue.DONT_CARE);
+
+        descriptionVersion = "removed";
+        config.removeAluOperation(config.getAluOperation(1));
+        assertEquals(0, table.getRow(0).getSignalValue("ALU_CTRL"));
+        assertNull(table.getRow(1).getSignal("ALU_CTRL", null));
+        assertEquals(1, table.getRow(2).getSignalValue("ALU_CTRL"));
+        assertEquals("initial", table.getRow(0).getDescription());
+        assertEquals("removed", table.getRow(1).getDescription());
+        assertEquals("removed", table.getRow(2).getDescription());
+        assertEquals("initial", table.getRow(3).getDescription());
+
+        descriptionVersion = "exchanged";
+        config.exchangeAluOperations(0, 1);
+        assertEquals(1, table.getRow(0).getSignalValue("ALU_CTRL"));
+        assertEquals(0, table.getRow(2).getSignalValue("ALU_CTRL"));
+        assertEquals("exchanged", table.getRow(0).getDescription());
+        assertEquals("removed", table.getRow(1).getDescription());
+        assertEquals("exchanged", table.getRow(2).getDescription());
+    }
+
+    /**
+     * Tests that removing a multiplexer input only changes the ALUSelect codes of that multiplexer.
+     */
+    @Test
+    public void testMuxEvents() {
+        readDescriptions();
+        table.getRow(0).setSignalValue("ALU_SELECT_A", 1);
+        table.getRow(0).setSignalValue("ALU_SELECT_B", 1);
+        table.getRow(1).setSignalValue("ALU_SELECT_B", 0);
+
+        descriptionVersion = "removed";
+        config.removeMuxSource(MuxType.A, 0);
+        assertEquals(0, table.getRow(0).getSignalValue("ALU_SELECT_A"));
+        assertEquals(1, table.getRow(0).getSignalValue("ALU_SELECT_B"));
+        assertEquals("removed", table.getRow(0).getDescription());
+        assertEquals("initial", table.getRow(1).getDescription());
+    }
+
+    /**
+     * Tests that descriptions are only created when requested and cached until they are invalidated.
+     */
+    @Test
+    public void testLazyDescriptions() {
+        assertEquals("no description created up front", 0, descriptionCount);
+
+        assertEquals("initial", table.getRow(4).getDescription());
+        table.getRow(4).getDescription();
+        assertEquals("cached description", 1, descriptionCount);
+
+        descriptionVersion = "changed";
+        table.setRowSignal(4, "MEM_CS", SignalValue.valueOf(1));
+        assertEquals("invalidated only", 1, descriptionCount);
+        assertEquals("changed", table.getRow(4).getDescription());
+        assertEquals(2, descriptionCount);
+    }
+
+    /**
+     * Requests the descriptions of all rows like the signal table view does.
+     */
+    private void readDescriptions() {
+        for (int i = 0; i < table.getRowCount(); i++) {
+            table.getRow(i).getDescription();
+        }
+    }
+
+    /**
+     * Tests adding and removing ranges of rows and that each range causes a single event.
+     */
+    @Test
+    public void testRanges() {
+        int[] events = new int[2];
+        table.addSignalTableListener(new SignalTableListener() {
+            @Override public void onStructureChanged() { }
+            @Override public void onRowAdded(int index, SignalRow row) { events[0]++; }
+            @Override public void onRowRemoved(int index) { events[0]++; }
+            @Override public void onRowsAdded(int fromIndex, int toIndex) { events[1]++; }
+            @Override public void onRowsRemoved(int fromIndex, int toIndex) { events[1]++; }
+            @Override public void onRowsExchanged(int index1, int index2) { events[0]++; }
+            @Override public void onRowReplaced(int index, SignalRow row) { events[0]++; }
+            @Override public void onRowsUpdated(int fromIndex, int toIndex) { events[1]++; }
+        });
+
+        table.addSignalRows(4, Arrays.asList(new SignalRow(), new SignalRow(), new SignalRow()));
+        assertEquals(13, table.getRowCount());
+        assertEquals(new ConditionalJump(8, 10), conditional.getJump());
+        assertEquals(new UnconditionalJump(3), unconditional.getJump());
+
+        table.removeSignalRows(7, 9);
+        assertEquals(10, table.getRowCount());
+        assertEquals(new ConditionalJump(-1, 7), conditional.getJump());
+
+        SignalRow replacement = new SignalRow();
+        replacement.setJump(new UnconditionalJump(2));
+        table.setSignalRows(0, Arrays.asList(replacement, new SignalRow()));
+        table.removeSignalRows(2, 2);
+        assertEquals(new UnconditionalJump(-1), replacement.getJump());
+
+        assertEquals("single row events", 0, events[0]);
+        assertEquals("range events", 4, events[1]);
+    }
+}
@@ -1,7 +1,12 @@
 package de.uni_hannover.sra.minimax_simulator.model.machine;
 
 import de.uni_hannover.sra.minimax_simulator.model.configuration.register.RegisterExtension;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.Watchpoint;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Breakpoint;
+import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.BreakpointCondition;
 import de.uni_hannover.sra.minimax_simulator.model.machine.simulation.Simulation;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalTable;
 import de.uni_hannover.sra.minimax_simulator.model.user.NewProjectBuilder;
 import de.uni_hannover.sra.minimax_simulator.model.user.Project;
 import org.junit.Test;
@@ -406,4 +411,98 @@ public class SimulationTest {
         // close the simulation
         simulation.stop();
     }
+
+    /**
+     * Tests that a {@link Breakpoint} with a hit count pauses the simulation on the hit number {@code hitCount}
+     * and on every following hit.
+     */
+    @Test
+    public void testHitCountBreakpoint() {
+        final Project project = new NewProjectBuilder().buildProject();
+        Simulation simulation = project.getSimulation();
+        // the loop enters row 5 after the cycles 5, 8, 11, 14, ...
+        simulation.addBreakpoint(new Breakpoint(5, null, 3));
+        simulation.init();
+
+        simulation.run();
+        assertEquals("row of third hit", 5, simulation.getCurrentSignalRow());
+        assertEquals("cycle of third hit", 11, simulation.getCyclesCount());
+
+        simulation.run();
+        assertEquals("row of fourth hit", 5, simulation.getCurrentSignalRow());
+        assertEquals("cycle of fourth hit", 14, simulation.getCyclesCount());
+
+        // the hits are counted again after a reset
+        simulation.reset();
+        simulation.run();
+        assertEquals("cycle of third hit after reset", 11, simulation.getCyclesCount());
+
+        simulation.stop();
+    }
+
+    /**
+     * Tests that a {@link Breakpoint} on a cycle count pauses the simulation only once.
+     */
+    @Test
+    public void testCycleBreakpoint() {
+        final Project project = new NewProjectBuilder().buildProject();
+        Simulation simulation = project.getSimulation();
+        simulation.addBreakpoint(new Breakpoint(Breakpoint.ANY_ROW, BreakpointCondition.cyclesReached(10)));
+        simulation.init();
+
+        simulation.run();
+        assertEquals("row after tenth cycle", 4, simulation.getCurrentSignalRow());
+        assertEquals("cycle of breakpoint", 10, simulation.getCyclesCount());
+
+        // runs on to the breakpoint of the store row
+        simulation.run();
+        assertEquals("row of store breakpoint", 7, simulation.getCurrentSignalRow());
+        assertEquals("cycle of store breakpoint", 29, simulation.getCyclesCount());
+
+        simulation.stop();
+    }
+
+    /**
+     * Tests that a {@link Breakpoint} with a register condition only pauses the simulation if the condition is met.
+     */
+    @Test
+    public void testConditionalBreakpoint() {
+        final Project project = new NewProjectBuilder().buildProject();
+        Simulation simulation = project.getSimulation();
+        // the loop decrements the PC from 8 to 0, the PC is 3 when row 4 is entered after cycle 19
+        simulation.addBreakpoint(new Breakpoint(4, BreakpointCondition.registerEquals("PC", 3)));
+        simulation.init();
+
+        simulation.run();
+        assertEquals("row of conditional breakpoint", 4, simulation.getCurrentSignalRow());
+        assertEquals("cycle of conditional breakpoint", 19, simulation.getCyclesCount());
+
+        simulation.stop();
+    }
+
+    /**
+     * Tests that a write {@link Watchpoint} pauses the simulation after the cycle writing to the watched address.
+     */
+    @Test
+    public void testWatchpoint() {
+        final Project project = new NewProjectBuilder().buildProject();
+        SignalTable table = project.getSignalTable();
+
+        // replace the breakpoint of the store row by a watchpoint on its address
+        SignalRow store = new SignalRow(table.getRow(7));
+        store.setBreakpoint(false);
+        table.setSignalRow(7, store);
+        table.addSignalRow(new SignalRow());
+        project.getMachine().getMemory().addWatchpoint(new Watchpoint(0, 0, Watchpoint.Access.WRITE));
+
+        Simulation simulation = project.getSimulation();
+        simulation.init();
+
+        simulation.run();
+        assertEquals("row after write", 8, simulation.getCurrentSignalRow());
+        assertEquals("cycle of write", 30, simulation.getCyclesCount());
+        assertEquals("written value", 2048, project.getMachine().getMemory().getMemoryState().getInt(0));
+
+        simulation.stop();
+    }
 }
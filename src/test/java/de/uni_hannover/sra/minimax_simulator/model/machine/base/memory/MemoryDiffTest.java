@@ -0,0 +1,100 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link MemoryDiff} and of the marked memory state it compares.
+ *
+ * @author agent
+ */
+public class MemoryDiffTest {
+
+    /**
+     * Tests that the marked state shares the pages until they are written and is not changed by writes.
+     */
+    @Test
+    public void testMarkedState() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        PagedMemoryState state = (PagedMemoryState) mem.getMemoryState();
+        state.setInt(10, 1);
+        state.setInt(5000, 2);
+        assertNull(mem.getMarkedMemoryState());
+
+        mem.markMemoryState();
+        PagedMemoryState marked = (PagedMemoryState) mem.getMarkedMemoryState();
+        assertTrue(marked.isPageShared(0, state));
+        assertTrue(marked.isPageShared(1, state));
+
+        state.setInt(11, 3);
+        assertFalse(marked.isPageShared(0, state));
+        assertTrue(marked.isPageShared(1, state));
+        assertEquals(0, marked.getInt(11));
+        assertEquals(3, state.getInt(11));
+        assertEquals(marked.getContentHash() + hashDelta(11, 3), state.getContentHash());
+
+        mem.resetMemoryState();
+        assertNull(mem.getMarkedMemoryState());
+        assertEquals(0, mem.getMemoryState().getInt(11));
+        // the restored state copies the shared page before writing it
+        mem.getMemoryState().setInt(5000, 4);
+        assertEquals(4, mem.getMemoryState().getInt(5000));
+    }
+
+    /**
+     * Tests the changed ranges of a diff.
+     */
+    @Test
+    public void testCompare() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        MemoryState state = mem.getMemoryState();
+        state.setInt(100, 1);
+        mem.markMemoryState();
+        MemoryState marked = mem.getMarkedMemoryState();
+
+        assertTrue(MemoryDiff.compare(marked, state).isEmpty());
+
+        // writing the same value is no change
+        state.setInt(100, 1);
+        state.setInt(5, 7);
+        state.setInt(6, 7);
+        // range across the border of the first and second page
+        state.setInt(4094, 1);
+        state.setInt(4095, 1);
+        state.setInt(4096, 1);
+        state.setInt(0xFFFFFF, 1);
+        // an allocated page holding only zeros
+        state.getInt(20000);
+
+        MemoryDiff diff = MemoryDiff.compare(marked, state);
+        assertEquals(Arrays.asList(new MemoryDiff.Range(5, 6), new MemoryDiff.Range(4094, 4096),
+                new MemoryDiff.Range(0xFFFFFF, 0xFFFFFF)), diff.getRanges());
+        assertEquals(6, diff.getChangedWordCount());
+
+        state.setInt(5, 0);
+        state.setInt(6, 0);
+        assertEquals(4, MemoryDiff.compare(marked, state).getChangedWordCount());
+    }
+
+    /**
+     * Computes the change of the content hash caused by writing a word that was zero.
+     *
+     * @param address
+     *          the written address
+     * @param value
+     *          the written value
+     * @return
+     *          the change of the content hash
+     */
+    private static long hashDelta(int address, int value) {
+        PagedArrayMemory other = new PagedArrayMemory(24, 12);
+        other.getMemoryState().setInt(address, value);
+        return other.getMemoryState().getContentHash();
+    }
+}
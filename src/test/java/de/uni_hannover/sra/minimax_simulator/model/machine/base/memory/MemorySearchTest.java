@@ -0,0 +1,99 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.base.memory;
+
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link MemorySearch}.
+ *
+ * @author agent
+ */
+public class MemorySearchTest {
+
+    /**
+     * Tests searching values, masked values and sequences, also across page borders.
+     */
+    @Test
+    public void testSearch() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        MemoryState state = mem.getMemoryState();
+        state.setInt(10, 0x1234);
+        state.setInt(5000, 0x1234);
+        state.setInt(5001, 0x5678);
+        state.setInt(0xFFFFFF, 0x1299);
+        // sequence across the border of the first and second page
+        state.setInt(4095, 0x1234);
+        state.setInt(4096, 0x5678);
+
+        List<Integer> streamed = Collections.synchronizedList(new ArrayList<>());
+        MemorySearchListener listener = addresses -> {
+            for (int address : addresses) {
+                streamed.add(address);
+            }
+        };
+
+        MemorySearch search = new MemorySearch(state, MemoryQuery.value(0x1234));
+        assertArrayEquals(new int[] { 10, 4095, 5000 }, search.search(listener, ProgressMonitor.NONE));
+        assertFalse(search.isTruncated());
+        Collections.sort(streamed);
+        assertEquals(3, streamed.size());
+        assertEquals(4095, (int) streamed.get(1));
+
+        search = new MemorySearch(state, MemoryQuery.maskedValue(0x1200, 0xFF00));
+        assertArrayEquals(new int[] { 10, 4095, 5000, 0xFFFFFF }, search.search(addresses -> { }, ProgressMonitor.NONE));
+
+        search = new MemorySearch(state, MemoryQuery.sequence(0x1234, 0x5678));
+        assertArrayEquals(new int[] { 4095, 5000 }, search.search(addresses -> { }, ProgressMonitor.NONE));
+
+        // a sequence must not reach beyond the last address
+        search = new MemorySearch(state, MemoryQuery.sequence(0x1299, 0));
+        assertArrayEquals(new int[0], search.search(addresses -> { }, ProgressMonitor.NONE));
+    }
+
+    /**
+     * Tests that queries matching zeros search the unallocated pages and stop at the maximum count of results.
+     */
+    @Test
+    public void testZerosAndLimit() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        MemoryState state = mem.getMemoryState();
+        state.setInt(0, 1);
+
+        MemorySearch search = new MemorySearch(state, MemoryQuery.maskedValue(0, 0xF), 100);
+        int[] found = search.search(addresses -> { }, ProgressMonitor.NONE);
+        assertEquals(100, found.length);
+        assertTrue(search.isTruncated());
+        for (int address : found) {
+            assertTrue(address != 0);
+        }
+    }
+
+    /**
+     * Tests canceling the search.
+     */
+    @Test(expected = CancellationException.class)
+    public void testCancel() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        MemorySearch search = new MemorySearch(mem.getMemoryState(), MemoryQuery.value(0));
+        search.search(addresses -> { }, new ProgressMonitor() {
+            @Override
+            public void progress(long done, long total) {
+            }
+
+            @Override
+            public boolean isCanceled() {
+                return true;
+            }
+        });
+    }
+}
@@ -4,6 +4,10 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Tests the implementation of a paged array memory.
  *
@@ -33,4 +37,153 @@ public class PagedArrayMemoryTest {
         val = state.getInt(4096);
         assertEquals(2, val);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that watchpoints only report accesses of watched addresses.
+     */
+    @Test
+    public void checkWatchpoints() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        MemoryState state = mem.getMemoryState();
+
+        List<Integer> hits = new ArrayList<>();
+        mem.addWatchpointListener((watchpoint, address, value, write) -> hits.add(write ? address : -address));
+
+        Watchpoint writes = new Watchpoint(4000, 4200, Watchpoint.Access.WRITE);
+        mem.addWatchpoint(writes);
+        mem.addWatchpoint(new Watchpoint(8192, Watchpoint.Access.READ));
+
+        // unwatched page
+        state.setInt(100, 1);
+        state.getInt(100);
+        // watched page, but outside of the range
+        state.setInt(4300, 1);
+        // watched range, but wrong access
+        state.getInt(4100);
+        assertTrue(hits.isEmpty());
+
+        state.setInt(4100, 5);
+        state.getInt(8192);
+        state.setInt(8192, 3);
+        assertEquals(2, hits.size());
+        assertEquals(4100, (int) hits.get(0));
+        assertEquals(-8192, (int) hits.get(1));
+
+        // watchpoints are still checked if the memory does not notify its listeners
+        mem.setNotifiesListeners(false);
+        mem.removeWatchpoint(writes);
+        state.setInt(4100, 6);
+        state.getInt(8192);
+        assertEquals(3, hits.size());
+        assertEquals(-8192, (int) hits.get(2));
+
+        // reads of the user interface do not trigger watchpoints or allocate pages
+        assertEquals(3, state.peekInt(8192));
+        assertEquals(0, state.peekInt(12288));
+        assertEquals(3, hits.size());
+        assertFalse(((PagedMemoryState) state).isPageAllocated(3));
+    }
+
+    /**
+     * Tests the bulk page access and that it keeps the content hash consistent with single word writes.
+     */
+    @Test
+    public void checkPageAccess() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        PagedMemoryState state = (PagedMemoryState) mem.getMemoryState();
+
+        assertEquals(4096, state.getPageSize());
+        assertEquals(4096, state.getPageCount());
+        assertFalse(state.isPageAllocated(1));
+
+        int[] page = new int[state.getPageSize()];
+        page[0] = 7;
+        page[4095] = -1;
+        state.writePage(1, page);
+        assertTrue(state.isPageAllocated(1));
+        assertEquals(7, state.getInt(4096));
+        assertEquals(-1, state.getInt(8191));
+
+        PagedArrayMemory other = new PagedArrayMemory(24, 12);
+        MemoryState otherState = other.getMemoryState();
+        otherState.setInt(4096, 7);
+        otherState.setInt(8191, -1);
+        assertEquals(otherState.getContentHash(), state.getContentHash());
+
+        int[] read = new int[state.getPageSize()];
+        state.readPage(1, read);
+        assertArrayEquals(page, read);
+        state.readPage(2, read);
+        assertArrayEquals(new int[state.getPageSize()], read);
+    }
+
+    /**
+     * Tests that a snapshot shares the pages but is not affected by later writes of the memory.
+     */
+    @Test
+    public void checkSnapshot() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        MemoryState state = mem.getMemoryState();
+        state.setInt(4096, 7);
+
+        PagedMemoryState snapshot = (PagedMemoryState) mem.snapshotMemoryState();
+        state.setInt(4096, 8);
+        state.setInt(8192, 9);
+
+        assertEquals(7, snapshot.peekInt(4096));
+        assertFalse(snapshot.isPageAllocated(2));
+        assertEquals(8, state.getInt(4096));
+    }
+
+    /**
+     * Tests that the changes made while the listeners were not notified are reported as a single range.
+     */
+    @Test
+    public void checkDeferredNotifications() {
+        PagedArrayMemory mem = new PagedArrayMemory(24, 12);
+        PagedMemoryState state = (PagedMemoryState) mem.getMemoryState();
+
+        List<String> events = new ArrayList<>();
+        mem.addMemoryAccessListener(new MemoryAccessListener() {
+            @Override
+            public void memoryReadAccess(int address, int value) {
+            }
+
+            @Override
+            public void memoryWriteAccess(int address, int value) {
+                events.add("write " + address);
+            }
+
+            @Override
+            public void memoryReset() {
+                events.add("reset");
+            }
+
+            @Override
+            public void memoryChanged() {
+                events.add("changed");
+            }
+
+            @Override
+            public void memoryRangeChanged(int fromAddress, int toAddress) {
+                events.add("range " + fromAddress + "-" + toAddress);
+            }
+        });
+
+        mem.setNotifiesListeners(false);
+        state.setInt(300, 1);
+        state.setInt(20, 2);
+        state.setInt(100, 3);
+        mem.setNotifiesListeners(true);
+        // nothing changed meanwhile
+        mem.setNotifiesListeners(false);
+        mem.setNotifiesListeners(true);
+        state.writePage(1, new int[state.getPageSize()]);
+        mem.setNotifiesListeners(false);
+        state.setInt(1, 1);
+        state.zero();
+        mem.setNotifiesListeners(true);
+
+        assertEquals(Arrays.asList("range 20-300", "range 4096-8191", "changed"), events);
+    }
+}
@@ -0,0 +1,57 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link Breakpoint}.
+ *
+ * @author agent
+ */
+public class BreakpointTest {
+
+    /**
+     * Tests that a {@code Breakpoint} ignores the hits before its hit count and pauses on every hit from then on.
+     */
+    @Test
+    public void testHitCount() {
+        boolean[] met = { true };
+        Breakpoint breakpoint = new Breakpoint(3, simulation -> met[0], 3);
+
+        assertFalse("first hit", breakpoint.check(null));
+        assertFalse("second hit", breakpoint.check(null));
+        assertTrue("third hit", breakpoint.check(null));
+        assertTrue("fourth hit", breakpoint.check(null));
+        assertEquals("hits stop counting at the hit count", 3, breakpoint.getHits());
+
+        met[0] = false;
+        assertFalse("condition not met", breakpoint.check(null));
+
+        breakpoint.resetHits();
+        met[0] = true;
+        assertFalse("first hit after reset", breakpoint.check(null));
+        assertEquals("hits after reset", 1, breakpoint.getHits());
+    }
+
+    /**
+     * Tests that an unconditional {@code Breakpoint} pauses at every hit.
+     */
+    @Test
+    public void testUnconditional() {
+        Breakpoint breakpoint = new Breakpoint(0, null);
+
+        assertTrue("first hit", breakpoint.check(null));
+        assertTrue("second hit", breakpoint.check(null));
+    }
+
+    /**
+     * Tests that a {@code Breakpoint} for any row requires a condition.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAnyRowWithoutCondition() {
+        new Breakpoint(Breakpoint.ANY_ROW, null);
+    }
+}
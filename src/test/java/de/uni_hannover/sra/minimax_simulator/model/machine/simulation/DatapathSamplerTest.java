@@ -0,0 +1,75 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.topology.Circuit;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Constant;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Multiplexer;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Register;
+import de.uni_hannover.sra.minimax_simulator.model.machine.part.Wire;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link DatapathSampler}.
+ *
+ * @author agent
+ */
+public class DatapathSamplerTest {
+
+    /**
+     * Tests sampling the values of the parts and handing over the frames.
+     */
+    @Test
+    public void testSample() {
+        Constant select = new Constant(1);
+        Constant value = new Constant(42);
+        Multiplexer mux = new Multiplexer(2);
+        Register register = new Register("R");
+        Wire selectWire = new Wire(2, select.getDataOut(), mux.getSelectPin());
+        Wire valueWire = new Wire(2, value.getDataOut(), mux.getDataInputs().get(1));
+        Wire enabledWire = new Wire(2, select.getDataOut(), register.getWriteEnabled());
+
+        DatapathSampler sampler = new DatapathSampler(Arrays.<Circuit>asList(select, value, mux, register,
+                selectWire, valueWire, enabledWire));
+        assertEquals(3, sampler.getWires().size());
+        assertEquals(1, sampler.getMultiplexers().size());
+        assertEquals(1, sampler.getRegisters().size());
+        assertEquals(0, sampler.getMemories().size());
+
+        DatapathSampler.Frame empty = sampler.acquireFrame();
+        assertEquals(0, empty.getMuxSelect(0));
+        assertFalse(empty.isRegisterWritten(0));
+
+        for (Circuit circuit : Arrays.<Circuit>asList(select, value, selectWire, valueWire, enabledWire)) {
+            circuit.update();
+        }
+        sampler.sample(7, 3);
+
+        DatapathSampler.Frame frame = sampler.acquireFrame();
+        assertEquals(7, frame.getCycle());
+        assertEquals(3, frame.getRow());
+        assertEquals(1, frame.getMuxSelect(0));
+        assertTrue(frame.isRegisterWritten(0));
+        assertEquals(42, frame.getWireValue(sampler.getWires().indexOf(valueWire)));
+        // without a new sample the consumer keeps its frame
+        assertSame(frame, sampler.acquireFrame());
+
+        // samples taken meanwhile do not change the acquired frame
+        Constant other = new Constant(43);
+        valueWire.attachSource(other.getDataOut());
+        other.update();
+        valueWire.update();
+        sampler.sample(8, 4);
+        sampler.sample(9, 5);
+        assertEquals(42, frame.getWireValue(sampler.getWires().indexOf(valueWire)));
+
+        DatapathSampler.Frame latest = sampler.acquireFrame();
+        assertEquals(9, latest.getCycle());
+        assertEquals(43, latest.getWireValue(sampler.getWires().indexOf(valueWire)));
+    }
+}
@@ -0,0 +1,73 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import de.uni_hannover.sra.minimax_simulator.model.configuration.alu.AluOperation;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.PagedArrayMemory;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the implementation of {@link ExecutionProfile}.
+ *
+ * @author agent
+ */
+public class ExecutionProfileTest {
+
+    /**
+     * Tests the counters of the profile.
+     */
+    @Test
+    public void testCounters() {
+        ExecutionProfile profile = new ExecutionProfile(3, Arrays.asList(AluOperation.TRANS_A, AluOperation.A_ADD_B), 4, 16);
+
+        profile.countRow(0);
+        profile.countRow(2);
+        profile.countRow(2);
+        profile.countBranch(2, 0);
+        profile.countBranch(2, 1);
+        profile.countBranch(2, 1);
+        profile.countAluOperation(1);
+        // unknown operations are ignored
+        profile.countAluOperation(5);
+
+        assertEquals(1, profile.getRowHits(0));
+        assertEquals(0, profile.getRowHits(1));
+        assertEquals(2, profile.getRowHits(2));
+        assertEquals(1, profile.getBranchCount(2, 0));
+        assertEquals(2, profile.getBranchCount(2, 1));
+        assertEquals(0, profile.getAluOperationCount(0));
+        assertEquals(1, profile.getAluOperationCount(1));
+
+        profile.reset();
+        assertEquals(0, profile.getRowHits(2));
+        assertEquals(0, profile.getBranchCount(2, 1));
+        assertEquals(0, profile.getAluOperationCount(1));
+    }
+
+    /**
+     * Tests that the memory counts its page accesses into the profile.
+     */
+    @Test
+    public void testPageAccessCounts() {
+        PagedArrayMemory memory = new PagedArrayMemory(8, 4);
+        ExecutionProfile profile = new ExecutionProfile(1, Arrays.asList(AluOperation.values()), memory.getPageCount(), memory.getPageSize());
+        MemoryState state = memory.getMemoryState();
+
+        state.setInt(0x00, 1);
+        memory.setPageAccessCounters(profile.getPageReadCounters(), profile.getPageWriteCounters());
+        state.setInt(0x11, 1);
+        state.getInt(0x11);
+        state.getInt(0x1F);
+        state.getInt(0xF0);
+        memory.setPageAccessCounters(null, null);
+        state.getInt(0x10);
+
+        assertEquals(0, profile.getPageWrites(0));
+        assertEquals(1, profile.getPageWrites(1));
+        assertEquals(2, profile.getPageReads(1));
+        assertEquals(1, profile.getPageReads(15));
+    }
+}
@@ -0,0 +1,62 @@
+package de.uni_hannover.sra.minimax_simulator.model.machine.simulation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link LoopDetector}.
+ *
+ * @author agent
+ */
+public class LoopDetectorTest {
+
+    /**
+     * Simulates a machine that counts up to 100 and then loops over rows 3 to 5 without changing its state.
+     */
+    @Test
+    public void testLoopDetected() {
+        LoopDetector detector = new LoopDetector(4);
+
+        int counter = 0;
+        boolean detected = false;
+        long cycle;
+        for (cycle = 1; cycle < 10_000 && !detected; cycle++) {
+            int row;
+            if (counter < 100) {
+                counter++;
+                row = counter % 3;
+            }
+            else {
+                row = 3 + (int) (cycle % 3);
+            }
+
+            if (detector.isSampleDue(row)) {
+                detected = detector.sample(LoopDetector.mix(counter), row);
+            }
+        }
+
+        assertTrue("loop should have been detected", detected);
+        InfiniteLoop loop = detector.getLoop(cycle);
+        assertEquals("first row of loop", 3, loop.getFirstRow());
+        assertEquals("last row of loop", 5, loop.getLastRow());
+        assertEquals("period is a multiple of the loop length", 0, loop.getPeriod() % 3);
+    }
+
+    /**
+     * Tests that a machine whose state keeps changing is not reported.
+     */
+    @Test
+    public void testNoLoop() {
+        LoopDetector detector = new LoopDetector(1);
+
+        for (int counter = 0; counter < 100_000; counter++) {
+            int row = counter % 4;
+            if (detector.isSampleDue(row)) {
+                assertFalse(detector.sample(LoopDetector.mix(counter), row));
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package de.uni_hannover.sra.minimax_simulator.model.signal;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link ColumnarSignalTable}.
+ *
+ * @author agent
+ */
+public class ColumnarSignalTableTest {
+
+    /**
+     * Creates a {@link SignalRow} with the specified label and value of the signal {@code ALU_CTRL}.
+     *
+     * @param label
+     *          the label of the row
+     * @param aluCtrl
+     *          the value of {@code ALU_CTRL}
+     * @return
+     *          the created {@code SignalRow}
+     */
+    private static SignalRow createRow(String label, int aluCtrl) {
+        SignalRow row = new SignalRow();
+        row.setLabel(label);
+        row.setSignalValue("ALU_CTRL", aluCtrl);
+        return row;
+    }
+
+    /**
+     * Tests setting, reading and resetting signals of rows stored in the table.
+     */
+    @Test
+    public void testSignals() {
+        ColumnarSignalTable table = new ColumnarSignalTable();
+        SignalRow row = createRow("r0", 3);
+        row.setSignal("MDR_SEL", SignalValue.DONT_CARE);
+        table.addSignalRow(row);
+
+        assertEquals("ALU_CTRL", 3, row.getSignalValue("ALU_CTRL"));
+        assertSame("MDR_SEL", SignalValue.DONT_CARE, row.getSignal("MDR_SEL", null));
+        assertNull("not set", row.getSignal("MEM_CS", null));
+
+        table.setRowSignal(0, "MEM_CS", SignalValue.valueOf(1));
+        assertEquals("MEM_CS", 1, table.getRow(0).getSignalValue("MEM_CS"));
+        assertEquals("count of signals", 3, row.getSignalValues().size());
+
+        row.resetSignal("ALU_CTRL");
+        assertNull("reset", row.getSignal("ALU_CTRL", null));
+        assertEquals("signal names", 2, table.getSignalNames().size());
+    }
+
+    /**
+     * Tests that the map of the signal values is a live view, also after the row left the table.
+     */
+    @Test
+    public void testSignalValuesView() {
+        ColumnarSignalTable table = new ColumnarSignalTable();
+        SignalRow row = createRow("r0", 3);
+        table.addSignalRow(row);
+        table.addSignalRow(createRow("r1", 5));
+
+        Map<String, SignalValue> values = row.getSignalValues();
+        assertEquals("initial values", Collections.singletonMap("ALU_CTRL", SignalValue.valueOf(3)), values);
+
+        row.setSignalValue("MEM_CS", 1);
+        assertTrue("added signal", values.containsKey("MEM_CS"));
+        assertEquals("count of signals", 2, values.size());
+
+        table.removeSignalRow(0);
+        row.resetSignal("ALU_CTRL");
+        assertEquals("values of the removed row", Collections.singletonMap("MEM_CS", SignalValue.valueOf(1)), values);
+    }
+
+    /**
+     * Tests that removed rows keep their values and that their slots are reused.
+     */
+    @Test
+    public void testRemove() {
+        ColumnarSignalTable table = new ColumnarSignalTable();
+        for (int i = 0; i < 100; i++) {
+            table.addSignalRow(createRow("r" + i, i));
+        }
+
+        SignalRow removed = table.getRow(42);
+        table.removeSignalRow(42);
+        assertEquals("row count", 99, table.getRowCount());
+        assertEquals("removed value", 42, removed.getSignalValue("ALU_CTRL"));
+
+        // the removed row is independent of the table now
+        table.addSignalRow(createRow("new", 7));
+        assertEquals("removed value after reuse", 42, removed.getSignalValue("ALU_CTRL"));
+        assertEquals("new value", 7, table.getRow(99).getSignalValue("ALU_CTRL"));
+
+        // and can be added again
+        table.addSignalRow(42, removed);
+        for (int i = 0; i < 99; i++) {
+            assertEquals("value of row " + i, i, table.getRow(i).getSignalValue("ALU_CTRL"));
+        }
+    }
+
+    /**
+     * Tests {@link ColumnarSignalTable#moveSignalRows(int, int, int)}, {@link ColumnarSignalTable#exchangeSignalRows(int, int)}
+     * and {@link ColumnarSignalTable#setSignalRow(int, SignalRow)}.
+     */
+    @Test
+    public void testReorder() {
+        ColumnarSignalTable table = new ColumnarSignalTable();
+        for (int i = 0; i < 5; i++) {
+            table.addSignalRow(createRow("r" + i, i));
+        }
+
+        table.moveSignalRows(1, 2, 1);
+        assertEquals("r0 r3 r1 r2 r4", labels(table));
+        table.moveSignalRows(2, 3, -1);
+        assertEquals("r0 r1 r2 r3 r4", labels(table));
+        table.exchangeSignalRows(0, 4);
+        assertEquals("r4 r1 r2 r3 r0", labels(table));
+        assertEquals("value after exchange", 4, table.getRow(0).getSignalValue("ALU_CTRL"));
+
+        SignalRow oldRow = table.getRow(2);
+        table.setSignalRow(2, createRow("x", 9));
+        assertEquals("replaced value", 9, table.getRow(2).getSignalValue("ALU_CTRL"));
+        assertEquals("old value", 2, oldRow.getSignalValue("ALU_CTRL"));
+        assertTrue("old row independent", oldRow.getSignalValues().containsKey("ALU_CTRL"));
+    }
+
+    /**
+     * Tests that a row cannot be part of the table twice.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddTwice() {
+        ColumnarSignalTable table = new ColumnarSignalTable();
+        SignalRow row = createRow("r0", 0);
+        table.addSignalRow(row);
+        table.addSignalRow(row);
+    }
+
+    /**
+     * Joins the labels of all rows of the specified table.
+     *
+     * @param table
+     *          the table
+     * @return
+     *          the labels separated by blanks
+     */
+    private static String labels(SignalTable table) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < table.getRowCount(); i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(table.getRow(i).getLabel());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview;
+
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.MemoryState;
+import de.uni_hannover.sra.minimax_simulator.model.machine.base.memory.PagedArrayMemory;
+import javafx.collections.ListChangeListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link MemoryTableModel}.
+ *
+ * @author agent
+ */
+public class MemoryTableModelTest {
+
+    /**
+     * Tests the formatted entries and the bounded cache.
+     */
+    @Test
+    public void testEntries() {
+        PagedArrayMemory memory = new PagedArrayMemory(24, 12);
+        memory.getMemoryState().setInt(0xFFFFFF, -1);
+        MemoryTableModel model = new MemoryTableModel(memory, 4);
+
+        assertEquals(1 << 24, model.size());
+        assertEquals(0, model.getCachedCount());
+
+        MemoryTableModel.Entry last = model.get(model.size() - 1);
+        assertEquals("FFFFFF", last.getAddress());
+        assertEquals("-1", last.getDecimal());
+        assertEquals("0xFFFFFFFF", last.getHex());
+        assertEquals("11111111 11111111 11111111 11111111", last.getBin());
+        assertTrue(last == model.get(model.size() - 1));
+
+        for (int i = 0; i < 10; i++) {
+            model.get(i);
+        }
+        assertEquals(4, model.getCachedCount());
+    }
+
+    /**
+     * Tests that only the rows of cached changed words are reported as updated.
+     */
+    @Test
+    public void testUpdates() {
+        PagedArrayMemory memory = new PagedArrayMemory(24, 12);
+        MemoryState state = memory.getMemoryState();
+        MemoryTableModel model = new MemoryTableModel(memory);
+
+        List<Integer> updated = new ArrayList<>();
+        model.addListener((ListChangeListener<MemoryTableModel.Entry>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasUpdated());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    updated.add(i);
+                }
+            }
+        });
+
+        MemoryTableModel.Entry entry = model.get(5);
+        model.get(6);
+        model.get(5000);
+
+        state.setInt(5, 42);
+        model.wordChanged(5);
+        // not cached, so there is no visible row to update
+        model.wordChanged(7);
+        assertEquals(Arrays.asList(5), updated);
+        assertFalse(entry == model.get(5));
+        assertEquals("42", model.get(5).getDecimal());
+
+        updated.clear();
+        model.rangeChanged(0, 4999);
+        assertEquals(Arrays.asList(5, 6), updated);
+
+        updated.clear();
+        model.memoryChanged();
+        assertEquals(Arrays.asList(5000), updated);
+        assertEquals(0, model.getCachedCount());
+    }
+}
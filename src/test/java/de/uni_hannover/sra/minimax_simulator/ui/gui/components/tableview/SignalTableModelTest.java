@@ -0,0 +1,144 @@
+package de.uni_hannover.sra.minimax_simulator.ui.gui.components.tableview;
+
+import de.uni_hannover.sra.minimax_simulator.model.signal.DefaultSignalTable;
+import de.uni_hannover.sra.minimax_simulator.model.signal.SignalRow;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.ConditionalJump;
+import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link SignalTableModel}.
+ *
+ * @author agent
+ */
+public class SignalTableModelTest {
+
+    /**
+     * Tests the cell texts of the items.
+     */
+    @Test
+    public void testItems() {
+        DefaultSignalTable table = new DefaultSignalTable();
+        SignalRow row = new SignalRow();
+        row.setLabel("start");
+        row.setSignalValue("ALU_CTRL", 2);
+        table.addSignalRow(row);
+        SignalRow jump = new SignalRow();
+        jump.setJump(new ConditionalJump(0, 1));
+        table.addSignalRow(jump);
+
+        SignalTableModel model = new SignalTableModel(table, Arrays.asList("ALU_CTRL", "MEM_CS"));
+        assertEquals(2, model.size());
+        assertEquals(Arrays.asList("false", "start", "0", "2", "0", "-", "1", null), model.get(0));
+        assertEquals(Arrays.asList("false", null, "1", "-", "0", "1\n0", "1\n0", null), model.get(1));
+    }
+
+    /**
+     * Tests the translation of the events of the signal table into list changes.
+     */
+    @Test
+    public void testChanges() {
+        DefaultSignalTable table = new DefaultSignalTable();
+        for (int i = 0; i < 3; i++) {
+            table.addSignalRow(new SignalRow());
+        }
+        SignalTableModel model = new SignalTableModel(table, Arrays.asList("MEM_CS"));
+        table.addSignalTableListener(model);
+
+        List<String> changes = new ArrayList<>();
+        model.addListener((ListChangeListener<ObservableList<String>>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    changes.add("update " + change.getFrom() + "-" + change.getTo());
+                }
+                else if (change.wasAdded()) {
+                    changes.add("add " + change.getFrom() + "-" + change.getTo());
+                }
+                else if (change.wasRemoved()) {
+                    changes.add("remove " + change.getFrom() + " " + change.getRemovedSize());
+                }
+            }
+        });
+
+        model.get(2);
+        table.addSignalRow(1, new SignalRow());
+        assertEquals(4, model.size());
+        // the rows after the new row show their new address
+        assertEquals("3", model.get(3).get(2));
+
+        SignalRow modified = new SignalRow();
+        modified.setSignalValue("MEM_CS", 1);
+        table.setSignalRow(0, modified);
+        assertEquals("1", model.get(0).get(3));
+
+        table.removeSignalRows(1, 2);
+        assertEquals(2, model.size());
+        assertEquals("1", model.get(1).get(2));
+
+        assertEquals(Arrays.asList("add 1-2", "update 0-1", "remove 1 2"), changes);
+    }
+
+    /**
+     * Tests that the rows in front of a structural change are updated if their jump targets were shifted
+     * without an event, as done by {@link de.uni_hannover.sra.minimax_simulator.model.machine.MachineSignalTable}.
+     */
+    @Test
+    public void testRemappedJumps() {
+        DefaultSignalTable table = new DefaultSignalTable();
+        SignalRow jump = new SignalRow();
+        jump.setJump(new UnconditionalJump(2));
+        table.addSignalRow(jump);
+        SignalRow plain = new SignalRow();
+        table.addSignalRow(plain);
+        for (int i = 0; i < 2; i++) {
+            table.addSignalRow(new SignalRow());
+        }
+        SignalTableModel model = new SignalTableModel(table, Arrays.asList("MEM_CS"));
+        table.addSignalTableListener(model);
+
+        assertEquals("2", model.get(0).get(5));
+        ObservableList<String> plainItem = model.get(1);
+
+        jump.setJump(new UnconditionalJump(3));
+        table.addSignalRow(2, new SignalRow());
+        assertEquals("3", model.get(0).get(5));
+        assertTrue(plainItem == model.get(1));
+
+        // rows 3 and 4 move up, so the target moves to row 2
+        jump.setJump(new UnconditionalJump(2));
+        table.moveSignalRows(3, 4, -1);
+        assertEquals("2", model.get(0).get(5));
+
+        jump.setJump(new UnconditionalJump(1));
+        table.removeSignalRow(1);
+        assertEquals("1", model.get(0).get(5));
+    }
+
+    /**
+     * Tests that the items are only created when they are requested.
+     */
+    @Test
+    public void testLazyItems() {
+        DefaultSignalTable table = new DefaultSignalTable();
+        table.addSignalRow(new SignalRow());
+        SignalTableModel model = new SignalTableModel(table, Arrays.asList("MEM_CS"));
+        table.addSignalTableListener(model);
+
+        ObservableList<String> item = model.get(0);
+        assertTrue(item == model.get(0));
+
+        table.exchangeSignalRows(0, 0);
+        assertFalse(item == model.get(0));
+        assertEquals(item, model.get(0));
+    }
+}
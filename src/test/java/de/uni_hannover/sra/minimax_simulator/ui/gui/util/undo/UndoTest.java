@@ -1,6 +1,7 @@
 package de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo;
 
 import de.uni_hannover.sra.minimax_simulator.Main;
+import de.uni_hannover.sra.minimax_simulator.io.ProgressMonitor;
 import de.uni_hannover.sra.minimax_simulator.io.exporter.ProjectExportException;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.MachineConfiguration;
 import de.uni_hannover.sra.minimax_simulator.model.configuration.alu.AluOperation;
@@ -15,6 +16,7 @@ import de.uni_hannover.sra.minimax_simulator.model.signal.jump.DefaultJump;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.Jump;
 import de.uni_hannover.sra.minimax_simulator.model.signal.jump.UnconditionalJump;
 import de.uni_hannover.sra.minimax_simulator.model.user.Project;
+import de.uni_hannover.sra.minimax_simulator.model.user.ProjectSnapshot;
 import de.uni_hannover.sra.minimax_simulator.model.user.Workspace;
 import de.uni_hannover.sra.minimax_simulator.ui.gui.util.undo.commands.*;
 import org.junit.Before;
@@ -31,6 +33,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 /**
  * Tests the complete undo/redo system of the application.
@@ -160,6 +163,39 @@ public class UndoTest {
         assertEquals("[UndoManager] project is unsaved after redone command", false, undoManager.isProjectSaved());
     }
 
+    /**
+     * Tests saving a {@link ProjectSnapshot} while the {@code Project} is changed, like the background save does.
+     *
+     * @throws IOException
+     *          thrown if the temporary file could not be created or modified
+     * @throws ProjectExportException
+     *          thrown if the {@code Project} could not be exported
+     */
+    @Test
+    public void testSaveSnapshot() throws IOException, ProjectExportException {
+        File file = tmpDir.newFile("snapshot.zip");
+
+        undoManager.addCommand(new MuxInputMovedCommand(MuxType.A, 0, 1, mConfig));
+        ProjectSnapshot snapshot = workspace.createSnapshot(file);
+        assertEquals("[Snapshot] not affected by changes", mConfig.getMuxSources(MuxType.A), snapshot.getMachineConfiguration().getMuxSources(MuxType.A));
+
+        // changed while saving
+        undoManager.addCommand(new MuxInputMovedCommand(MuxType.B, 0, 1, mConfig));
+        workspace.writeProject(snapshot, file, ProgressMonitor.NONE);
+        workspace.markProjectSaved(snapshot, file);
+        assertEquals("[Snapshot] project unsaved after change during saving", false, undoManager.isProjectSaved());
+        assertEquals("[Snapshot] project file", file, workspace.getCurrentProjectFile());
+
+        undoManager.undo();
+        assertEquals("[Snapshot] project saved at state of snapshot", true, undoManager.isProjectSaved());
+
+        snapshot = workspace.createSnapshot(file);
+        workspace.writeProject(snapshot, file, ProgressMonitor.NONE);
+        workspace.markProjectSaved(snapshot, file);
+        assertEquals("[Snapshot] project saved without change during saving", true, undoManager.isProjectSaved());
+        assertEquals("[Snapshot] no temporary file left", 1, file.getParentFile().listFiles().length);
+    }
+
     /**
      * Tests the implementation of {@link AluOpAddedCommand}.
      */
@@ -700,6 +736,57 @@ public class UndoTest {
         checkSignalRows("[SignalRowRemoved] redo", postcondition);
     }
 
+    /**
+     * Tests the implementation of {@link SignalRowMovedCommand} for several blocks of rows.
+     */
+    @Test
+    public void testSignalRowRangesMoved() {
+        // test case setup
+        List<SignalRow> precondition = createSignalRowList();
+        signalTable.moveSignalRows(1, 1, -1);
+        signalTable.moveSignalRows(3, 4, -1);
+        List<SignalRow> postcondition = createSignalRowList();
+        resetProject();
+
+        // execute command
+        undoManager.addCommand(new SignalRowMovedCommand(Arrays.asList(new int[] { 1, 1 }, new int[] { 3, 4 }), -1, signalTable));
+        checkSignalRows("[SignalRowRangesMoved] executed", postcondition);
+
+        // undo command
+        undoManager.undo();
+        checkSignalRows("[SignalRowRangesMoved] undo", precondition);
+
+        // redo command
+        undoManager.redo();
+        checkSignalRows("[SignalRowRangesMoved] redo", postcondition);
+    }
+
+    /**
+     * Tests the implementation of {@link SignalRowRemovedCommand} for several ranges of rows in a single undo step.
+     */
+    @Test
+    public void testSignalRowRangesRemoved() {
+        // test case setup
+        List<SignalRow> precondition = createSignalRowList();
+        signalTable.removeSignalRows(3, 4);
+        signalTable.removeSignalRow(1);
+        List<SignalRow> postcondition = createSignalRowList();
+        resetProject();
+
+        // execute command
+        undoManager.addCommand(new SignalRowRemovedCommand(Arrays.asList(new int[] { 1, 1 }, new int[] { 3, 4 }), signalTable));
+        checkSignalRows("[SignalRowRangesRemoved] executed", postcondition);
+
+        // undo command
+        undoManager.undo();
+        checkSignalRows("[SignalRowRangesRemoved] undo", precondition);
+        assertFalse(undoManager.isUndoAvailableProperty().get());
+
+        // redo command
+        undoManager.redo();
+        checkSignalRows("[SignalRowRangesRemoved] redo", postcondition);
+    }
+
     /**
      * Creates a list of the current {@code SignalRow}s.
      *
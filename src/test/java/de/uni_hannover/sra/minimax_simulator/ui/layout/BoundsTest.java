@@ -5,6 +5,8 @@ import org.junit.Test;
 import java.lang.reflect.Field;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -90,6 +92,26 @@ public class BoundsTest {
         }
     }
 
+    /**
+     * Tests the implementation of {@link Bounds#union(Bounds)}, {@link Bounds#intersects(Bounds)} and
+     * {@link Bounds#grow(int)}.
+     */
+    @Test
+    public void testRegions() {
+        Bounds b1 = new Bounds(0, 0, 10, 5);
+        Bounds b2 = new Bounds(20, -5, 5, 5);
+        assertEquals("union", "[0,-5 / 25,10]", b1.union(b2).toString());
+        assertEquals("union with contained", b1.toString(), b1.union(new Bounds(2, 2, 1, 1)).toString());
+
+        assertTrue("overlapping", b1.intersects(new Bounds(9, 4, 5, 5)));
+        assertTrue("contained", b1.intersects(new Bounds(2, 2, 1, 1)));
+        assertFalse("apart", b1.intersects(b2));
+        assertFalse("touching", b1.intersects(new Bounds(10, 0, 5, 5)));
+
+        assertEquals("grow", "[-2,-2 / 14,9]", b1.grow(2).toString());
+        assertTrue("grown touching", b1.grow(1).intersects(new Bounds(10, 0, 5, 5)));
+    }
+
     /**
      * Tests the implementation of {@link Bounds#toString()}.
      */
@@ -0,0 +1,74 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
+
+import de.uni_hannover.sra.minimax_simulator.ui.layout.Bounds;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link SpriteIndex}.
+ *
+ * @author agent
+ */
+public class SpriteIndexTest {
+
+    /**
+     * Creates a set of the specified owners.
+     *
+     * @param owners
+     *          the owners
+     * @return
+     *          the set of owners
+     */
+    private static Set<String> setOf(String... owners) {
+        return new HashSet<>(Arrays.asList(owners));
+    }
+
+    /**
+     * Tests finding owners in a region.
+     */
+    @Test
+    public void testQuery() {
+        SpriteIndex<String> index = new SpriteIndex<>(100);
+        index.put("alu", new Bounds(10, 10, 50, 50));
+        index.put("wire", new Bounds(50, 0, 300, 20));
+        index.put("register", new Bounds(-150, 400, 40, 20));
+        index.put("label", null);
+
+        assertEquals("size", 4, index.size());
+        assertEquals("top left", setOf("alu", "wire", "label"), index.query(new Bounds(0, 0, 60, 30)));
+        assertEquals("same cell, no overlap", setOf("wire", "label"), index.query(new Bounds(70, 10, 20, 20)));
+        assertEquals("far right", setOf("wire", "label"), index.query(new Bounds(320, 5, 10, 10)));
+        assertEquals("negative coordinates", setOf("register", "label"), index.query(new Bounds(-200, 350, 100, 100)));
+        assertEquals("empty region", setOf("label"), index.query(new Bounds(1000, 1000, 10, 10)));
+    }
+
+    /**
+     * Tests replacing and removing owners.
+     */
+    @Test
+    public void testUpdate() {
+        SpriteIndex<String> index = new SpriteIndex<>(100);
+        Bounds old = new Bounds(10, 10, 50, 50);
+        index.put("alu", old);
+
+        Bounds moved = new Bounds(510, 510, 50, 50);
+        assertEquals("previous bounds", old, index.put("alu", moved));
+        assertEquals("bounds", moved, index.get("alu"));
+        assertTrue("old region", index.query(new Bounds(0, 0, 100, 100)).isEmpty());
+        assertEquals("new region", setOf("alu"), index.query(new Bounds(500, 500, 100, 100)));
+
+        assertEquals("bounds before", moved, index.put("alu", null));
+        assertTrue("unbounded", index.isUnbounded("alu"));
+        assertEquals("unbounded everywhere", setOf("alu"), index.query(new Bounds(0, 0, 1, 1)));
+
+        index.remove("alu");
+        assertEquals("size", 0, index.size());
+        assertTrue("removed", index.query(new Bounds(500, 500, 100, 100)).isEmpty());
+    }
+}
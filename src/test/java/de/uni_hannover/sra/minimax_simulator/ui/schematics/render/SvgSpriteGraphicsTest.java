@@ -0,0 +1,68 @@
+package de.uni_hannover.sra.minimax_simulator.ui.schematics.render;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import org.junit.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the implementation of {@link SvgSpriteGraphics}.
+ *
+ * @author agent
+ */
+public class SvgSpriteGraphicsTest {
+
+    /**
+     * Tests the written shapes and their attributes.
+     */
+    @Test
+    public void testShapes() {
+        StringWriter out = new StringWriter();
+        SvgSpriteGraphics g = new SvgSpriteGraphics(out);
+
+        g.strokeLine(0.5, 1, 10.25, 1);
+        g.setFill(new Color(1, 0, 0, 0.5));
+        g.fillRect(1, 2, 3, 4);
+        g.setLineCap(StrokeLineCap.BUTT);
+        g.setLineDashes(10);
+        g.strokeRect(0, 0, 5, 5);
+        g.strokeArc(0, 0, 20, 20, 0, 180, ArcType.OPEN);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals("line", "<line x1=\"0.5\" y1=\"1\" x2=\"10.25\" y2=\"1\" fill=\"none\" stroke=\"rgb(0,0,0)\" "
+                + "stroke-width=\"1\" stroke-linecap=\"square\"/>", lines[0]);
+        assertEquals("filled rect", "<rect x=\"1\" y=\"2\" width=\"3\" height=\"4\" fill=\"rgb(255,0,0)\" "
+                + "fill-opacity=\"0.5\"/>", lines[1]);
+        assertEquals("dashed rect", "<rect x=\"0\" y=\"0\" width=\"5\" height=\"5\" fill=\"none\" stroke=\"rgb(0,0,0)\" "
+                + "stroke-width=\"1\" stroke-dasharray=\"10\"/>", lines[2]);
+        assertEquals("upper half circle", "<path d=\"M20 10 A10 10 0 0 0 0 10\" fill=\"none\" stroke=\"rgb(0,0,0)\" "
+                + "stroke-width=\"1\" stroke-dasharray=\"10\"/>", lines[3]);
+    }
+
+    /**
+     * Tests that transformations are applied to the following shapes and restored.
+     */
+    @Test
+    public void testTransform() {
+        StringWriter out = new StringWriter();
+        SvgSpriteGraphics g = new SvgSpriteGraphics(out);
+
+        g.save();
+        g.translate(10, 20);
+        g.rotate(90);
+        g.fillPolygon(new double[] {0, -3, 3}, new double[] {0, -5, -5}, 3);
+        g.restore();
+        g.fillText("a < b & c", 1, 2);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals("rotated polygon", "<polygon points=\"0,0 -3,-5 3,-5\" fill=\"rgb(0,0,0)\" "
+                + "transform=\"matrix(0 1 -1 0 10 20)\"/>", lines[0]);
+        assertTrue("restored transform", !lines[1].contains("transform"));
+        assertTrue("escaped text", lines[1].endsWith(">a &lt; b &amp; c</text>"));
+    }
+}